@@ -0,0 +1,95 @@
+package com.wagglex2.waggle.common.mail;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증번호 메일 발송 처리량 비교 벤치마크 (로컬 GreenMail SMTP 대상, 초당 발송 건수).
+ *
+ * <ul>
+ *   <li>synchronousSend : 기존 경로 (요청마다 JavaMailSender.send, 메일마다 새 SMTP 연결)</li>
+ *   <li>dispatcherSend : {@link MailDispatcher} (대기열 + 연결 재사용 + 배치 발송), 전부 발송될 때까지 대기</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class MailDispatchBenchmark {
+
+    private static final int MESSAGES = 100;
+    private static final int SMTP_PORT = 3125;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private MailDispatcher dispatcher;
+    private Counter sentCounter;
+    private MimeMessagePreparator preparator;
+
+    @Setup
+    public void setUp() {
+        greenMail = new GreenMail(new ServerSetup(SMTP_PORT, "localhost", ServerSetup.PROTOCOL_SMTP));
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(SMTP_PORT);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        dispatcher = new MailDispatcher(mailSender, null, meterRegistry,
+                MESSAGES * 2, 2, 20, 3, 100, 30_000);
+        dispatcher.start();
+        sentCounter = meterRegistry.counter("mail.dispatch.sent");
+
+        preparator = message -> {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("noreply@waggle.com");
+            helper.setTo("student@waggle.com");
+            helper.setSubject("와글와글 회원가입 이메일 인증");
+            helper.setText("<html><body><div>123456</div></body></html>", true);
+        };
+    }
+
+    @Setup(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatcher.stop();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void synchronousSend() throws Exception {
+        for (int i = 0; i < MESSAGES; i++) {
+            MimeMessage message = mailSender.createMimeMessage();
+            preparator.prepare(message);
+            mailSender.send(message);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void dispatcherSend() throws InterruptedException {
+        double target = sentCounter.count() + MESSAGES;
+        for (int i = 0; i < MESSAGES; i++) {
+            dispatcher.enqueue(MailJob.of("student@waggle.com", "와글와글 회원가입 이메일 인증", preparator));
+        }
+        while (sentCounter.count() < target) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.wagglex2.waggle.common.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter의 AccessToken 검증 경로 비교 벤치마크.
+ *
+ * <ul>
+ *   <li>legacyParseTwice : 기존 경로 (parseToken + isAccessToken, 매번 parserBuilder 생성)</li>
+ *   <li>verifyOnce : 공유 파서로 한 번만 검증 ({@link JwtUtil#verify(String)})</li>
+ *   <li>verifyCached : 검증 캐시 히트 ({@link JwtUtil#verifyAccessToken(String)})</li>
+ * </ul>
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 1_209_600_000L, 10_000L);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        accessToken = jwtUtil.createAccessToken(1L, "waggle", "와글와글", "ROLE_USER");
+
+        // 캐시 워밍업
+        jwtUtil.verifyAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean legacyParseTwice() {
+        Claims claims = legacyParse(accessToken);
+        boolean isAccess = "access".equals(legacyParse(accessToken).get("token_type"));
+        return isAccess && claims.get("uid") != null;
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return jwtUtil.verify(accessToken);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtUtil.verifyAccessToken(accessToken);
+    }
+
+    // 변경 전 JwtUtil.parseToken 구현
+    private Claims legacyParse(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,81 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.type.GradeMask;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모집 중인 공고 5만 건 스냅샷의 추천 벤치마크. (목표: 한 번에 5ms 이하)
+ *
+ * <ul>
+ *   <li>top10 / top50 : 전체 카테고리에서 상위 10건, 50건</li>
+ *   <li>projectTop10 : 프로젝트 공고만 상위 10건</li>
+ * </ul>
+ *
+ * <p>공고마다 기술 스택 1 ~ 5개, 포지션 1 ~ 3개, 학년 0 ~ 4개를 무작위로 정한다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RecommendationBenchmark {
+
+    private static final int RECRUITMENT_COUNT = 50_000;
+
+    private static final Skill[] SKILLS = Skill.values();
+    private static final PositionType[] POSITIONS = PositionType.values();
+    private static final RecruitmentCategory[] CATEGORIES = RecruitmentCategory.values();
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 10, 1, 12, 0);
+    private final long skillMask = SkillMask.of(Set.of(Skill.JAVA, Skill.SPRING_BOOT, Skill.MYSQL, Skill.DOCKER));
+    private final int positionMask = PositionType.BACK_END.mask();
+    private final int gradeMask = GradeMask.of(3);
+
+    private RecommendationSnapshot snapshot;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        RecommendationSnapshot.Builder builder = new RecommendationSnapshot.Builder(RECRUITMENT_COUNT);
+        for (int id = 1; id <= RECRUITMENT_COUNT; id++) {
+            long skills = 0;
+            for (int i = 1 + random.nextInt(5); i > 0; i--) {
+                skills |= SKILLS[random.nextInt(SKILLS.length)].mask();
+            }
+            int positions = 0;
+            for (int i = 1 + random.nextInt(3); i > 0; i--) {
+                positions |= POSITIONS[random.nextInt(POSITIONS.length)].mask();
+            }
+            int grades = random.nextInt(1 << 4);
+            builder.add(new RecommendationSource((long) id, CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    RecruitmentStatus.RECRUITING, skills, grades, positions, now.plusDays(1 + random.nextInt(30))));
+        }
+        snapshot = builder.build();
+    }
+
+    @Benchmark
+    public List<Recommendation> top10() {
+        return snapshot.recommend(skillMask, positionMask, gradeMask, null, now, 10);
+    }
+
+    @Benchmark
+    public List<Recommendation> top50() {
+        return snapshot.recommend(skillMask, positionMask, gradeMask, null, now, 50);
+    }
+
+    @Benchmark
+    public List<Recommendation> projectTop10() {
+        return snapshot.recommend(skillMask, positionMask, gradeMask, RecruitmentCategory.PROJECT, now, 10);
+    }
+}
@@ -0,0 +1,107 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.search.type.SearchOperator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 10만 건 색인의 BM25 검색 벤치마크.
+ *
+ * <ul>
+ *   <li>andTop10 / orTop10 : 한 페이지(10건)만 힙으로 고르는 경우</li>
+ *   <li>orRankAll : 일치한 공고 전체를 순위대로 꺼내는 경우 (상위 K 선택과 비교용)</li>
+ * </ul>
+ *
+ * <p>검색어는 Zipf 분포에 가까운 어휘(자주 쓰는 단어일수록 posting list가 긴)에서 뽑으며,
+ * 공고당 제목 명사 5개, 본문 명사 80개를 가정한다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmh}</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class Bm25SearchBenchmark {
+
+    private static final int DOCUMENT_COUNT = 100_000;
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int TITLE_NOUNS = 5;
+    private static final int CONTENT_NOUNS = 80;
+
+    private static final RecruitmentCategory[] CATEGORIES = RecruitmentCategory.values();
+    private static final RecruitmentStatus[] STATUSES = {RecruitmentStatus.RECRUITING, RecruitmentStatus.CLOSED};
+
+    private final SearchRankingOptions ranking = SearchRankingOptions.defaults();
+
+    private InvertedIndex index;
+    private List<String> query;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        double[] cumulative = zipf(VOCABULARY_SIZE);
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        for (int id = 1; id <= DOCUMENT_COUNT; id++) {
+            LocalDateTime createdAt = base.plusMinutes(id);
+            RecruitmentDocument document = new RecruitmentDocument((long) id,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], STATUSES[random.nextInt(STATUSES.length)],
+                    "", "", createdAt, createdAt, random.nextInt(1_000));
+            builder.add(document, nouns(random, cumulative, TITLE_NOUNS), nouns(random, cumulative, CONTENT_NOUNS));
+        }
+        index = builder.build();
+
+        // 자주 쓰이는 단어 하나와 중간 빈도 단어 하나
+        query = List.of(term(3), term(40));
+    }
+
+    @Benchmark
+    public SearchResult andTop10() {
+        return index.search(query, SearchOperator.AND, null, null, ranking, 10);
+    }
+
+    @Benchmark
+    public SearchResult orTop10() {
+        return index.search(query, SearchOperator.OR, null, null, ranking, 10);
+    }
+
+    @Benchmark
+    public SearchResult orRankAll() {
+        return index.search(query, SearchOperator.OR, null, null, ranking, Integer.MAX_VALUE);
+    }
+
+    private static List<String> nouns(Random random, double[] cumulative, int count) {
+        List<String> nouns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            nouns.add(term(rank < 0 ? -rank - 1 : rank));
+        }
+        return nouns;
+    }
+
+    // 순위 r인 단어의 출현 확률이 1/(r+1)에 비례하는 누적 분포
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int r = 0; r < size; r++) {
+            sum += 1.0 / (r + 1);
+            cumulative[r] = sum;
+        }
+        for (int r = 0; r < size; r++) {
+            cumulative[r] /= sum;
+        }
+        return cumulative;
+    }
+
+    private static String term(int rank) {
+        return "term" + rank;
+    }
+}
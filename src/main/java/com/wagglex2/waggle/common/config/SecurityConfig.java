@@ -3,7 +3,11 @@ package com.wagglex2.waggle.common.config;
 import com.wagglex2.waggle.common.security.filter.JwtFilter;
 import com.wagglex2.waggle.common.security.handler.CustomAccessDeniedHandler;
 import com.wagglex2.waggle.common.security.handler.CustomAuthenticationEntryPoint;
+import com.wagglex2.waggle.common.security.password.BCryptStrengthCalibrator;
+import com.wagglex2.waggle.common.security.password.BoundedPasswordEncoder;
+import com.wagglex2.waggle.common.security.password.PasswordHashingExecutor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,9 +33,25 @@ public class SecurityConfig {
     private final CustomAccessDeniedHandler customAccessDeniedHandler;
     private final CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
 
+    /**
+     * BCrypt 연산을 전용 해시 풀에서 실행하는 PasswordEncoder.
+     *
+     * <p>{@code security.password.strength}가 지정되지 않으면(0) 기동 시 보정 실행으로
+     * {@code security.password.target-hash-millis}(기본 100ms)에 맞는 strength를 고른다.
+     * strength가 바뀌면 기존 해시는 로그인 성공 시 새 strength로 다시 저장된다.
+     * ({@link com.wagglex2.waggle.common.security.CustomUserDetailsService#updatePassword})</p>
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                           @Value("${security.password.strength:0}") int strength,
+                                           @Value("${security.password.target-hash-millis:100}") long targetHashMillis,
+                                           @Value("${security.password.min-strength:10}") int minStrength,
+                                           @Value("${security.password.max-strength:14}") int maxStrength) {
+        int resolvedStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(targetHashMillis, minStrength, maxStrength);
+
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(resolvedStrength), passwordHashingExecutor);
     }
 
     @Bean
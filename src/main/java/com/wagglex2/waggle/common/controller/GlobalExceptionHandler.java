@@ -2,8 +2,10 @@ package com.wagglex2.waggle.common.controller;
 
 import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
 import com.wagglex2.waggle.common.response.ApiResponse;
 import com.wagglex2.waggle.common.response.ValidationError;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -35,6 +37,24 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(code, message));
     }
 
+    /**
+     * 재시도 가능한 비즈니스 예외 처리
+     * <p>
+     * 일시적인 과부하(429, 503 등)로 요청을 거절한 경우,
+     * {@code Retry-After} 헤더에 재시도까지 기다릴 시간(초)을 함께 전달한다.
+     *
+     * @param ex {@link RetryableBusinessException}
+     * @return {@link ResponseEntity} - {@code Retry-After} 헤더와 {@link ApiResponse}를 포함한 에러 응답
+     */
+    @ExceptionHandler(RetryableBusinessException.class)
+    public ResponseEntity<ApiResponse<Void>> handleRetryableBusinessException(RetryableBusinessException ex) {
+        long retryAfterSeconds = Math.max(1, ex.getRetryAfter().toSeconds());
+
+        return ResponseEntity.status(ex.getErrorCode().getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(ApiResponse.error(ex.getErrorCode().getCode(), ex.getMessage()));
+    }
+
     /**
      * Validation 예외 처리
      * <p>
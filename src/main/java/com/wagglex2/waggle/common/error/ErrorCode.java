@@ -25,6 +25,7 @@ public enum ErrorCode {
     MAX_PARTICIPANTS_EXCEEDED(HttpStatus.BAD_REQUEST, "MAX_PARTICIPANTS_EXCEEDED", "참가 인원이 최대 모집 인원을 초과했습니다."),
     SELF_REVIEW_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "SELF_REVIEW_NOT_ALLOWED", "자기 자신에 대한 리뷰는 작성할 수 없습니다."),
     INVALID_PAGE_NUMBER(HttpStatus.BAD_REQUEST, "INVALID_PAGE_NUMBER", "페이지 번호는 1 이상이어야 합니다"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 커서입니다."),
 
     // 401
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "UNAUTHORIZED", "인증이 필요합니다."),
@@ -71,7 +72,14 @@ public enum ErrorCode {
     DATABASE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "DATABASE_ERROR", "데이터베이스 오류가 발생했습니다."),
     REDIS_CONNECTION_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "REDIS_CONNECTION_ERROR", "Redis 연결에 실패했습니다."),
     EMAIL_CREATE_MESSAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL_CREATE_MESSAGE_FAILED", "이메일 메시지를 생성하는데 실패했습니다"),
-    EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL_SEND_FAILED", "이메일 발송에 실패했습니다.");
+    EMAIL_SEND_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "EMAIL_SEND_FAILED", "이메일 발송에 실패했습니다."),
+
+    // 503
+    ANALYZER_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "ANALYZER_NOT_READY", "검색 기능을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    RECOMMENDATION_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "RECOMMENDATION_NOT_READY", "추천 기능을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    SUGGESTION_NOT_READY(HttpStatus.SERVICE_UNAVAILABLE, "SUGGESTION_NOT_READY", "자동 완성 기능을 준비 중입니다. 잠시 후 다시 시도해주세요."),
+    EMAIL_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "EMAIL_QUEUE_FULL", "메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+    PASSWORD_HASHING_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "PASSWORD_HASHING_BUSY", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
 
     private final HttpStatus httpStatus;
     private final String code;
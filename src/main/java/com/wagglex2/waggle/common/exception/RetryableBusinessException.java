@@ -0,0 +1,22 @@
+package com.wagglex2.waggle.common.exception;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * 일시적인 과부하로 요청을 처리하지 못했을 때 발생하는 비즈니스 예외.
+ *
+ * <p>{@link com.wagglex2.waggle.common.controller.GlobalExceptionHandler}가
+ * 응답에 {@code Retry-After} 헤더를 추가하여 클라이언트가 재시도 시점을 알 수 있게 한다.</p>
+ */
+@Getter
+public class RetryableBusinessException extends BusinessException {
+    private final Duration retryAfter;
+
+    public RetryableBusinessException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+}
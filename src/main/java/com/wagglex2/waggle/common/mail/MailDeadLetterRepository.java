@@ -0,0 +1,41 @@
+package com.wagglex2.waggle.common.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 재시도 후에도 발송하지 못한 메일을 Redis List({@code MAIL:DLQ})에 기록한다.
+ *
+ * <p>메일 본문(인증번호)은 저장하지 않고, 받는 사람/제목/시도 횟수/실패 사유만 남긴다.
+ * 최근 {@value #MAX_SIZE}건만 보관한다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailDeadLetterRepository {
+
+    private static final String DEAD_LETTER_KEY = "MAIL:DLQ";
+    private static final int MAX_SIZE = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void save(MailJob job, String reason) {
+        String record = String.join("|",
+                Instant.now().toString(),
+                job.recipient(),
+                job.subject(),
+                String.valueOf(job.attempt() + 1),
+                reason != null ? reason : "unknown"
+        );
+
+        redisTemplate.opsForList().leftPush(DEAD_LETTER_KEY, record);
+        redisTemplate.opsForList().trim(DEAD_LETTER_KEY, 0, MAX_SIZE - 1);
+    }
+
+    public List<String> findRecent(int count) {
+        return redisTemplate.opsForList().range(DEAD_LETTER_KEY, 0, count - 1);
+    }
+}
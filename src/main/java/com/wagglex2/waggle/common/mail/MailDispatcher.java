@@ -0,0 +1,322 @@
+package com.wagglex2.waggle.common.mail;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일을 비동기로 발송하는 디스패처.
+ *
+ * <p>HTTP 요청 스레드는 {@link #enqueue(MailJob)}로 대기열에 넣고 바로 반환되며,
+ * 실제 SMTP 통신은 워커 스레드가 처리한다.</p>
+ *
+ * <ul>
+ *   <li>대기열 : 크기 제한({@code mail.dispatch.queue-capacity}, 기본 1000), 가득 차면 503 EMAIL_QUEUE_FULL</li>
+ *   <li>워커 : {@code mail.dispatch.workers}(기본 2)개, 워커마다 SMTP 연결(Transport)을 열어 둔 채 재사용.
+ *       메일마다 연결을 확인(NOOP)하지 않고, 발송이 연결 오류로 실패했을 때만 다시 연결한다.</li>
+ *   <li>배치 : 한 번에 최대 {@code mail.dispatch.batch-size}(기본 20)건을 같은 연결로 발송</li>
+ *   <li>재시도 : 최대 {@code mail.dispatch.max-attempts}(기본 3)회, 지수 백오프({@code mail.dispatch.backoff-millis}, 기본 1000ms)</li>
+ *   <li>Dead Letter : 재시도 후에도 실패한 메일은 {@link MailDeadLetterRepository}에 기록</li>
+ * </ul>
+ *
+ * <p>{@code mail.dispatch.idle-close-millis}(기본 30초) 동안 보낼 메일이 없으면 SMTP 연결을 닫는다.
+ * 종료 시에는 대기열에 남은 메일을 보낸 뒤 워커를 정리하고, 유예 시간 안에 보내지 못한 메일과 예약된 재시도는
+ * {@code "dispatcher stopped"} 사유로 Dead Letter에 기록한다.</p>
+ */
+@Slf4j
+@Component
+public class MailDispatcher {
+
+    private static final long POLL_MILLIS = 500;
+    private static final long SHUTDOWN_GRACE_MILLIS = 10_000;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+    private static final String STOPPED_REASON = "dispatcher stopped";
+
+    private final JavaMailSenderImpl mailSender;
+    private final MailDeadLetterRepository deadLetterRepository;
+
+    private final BlockingQueue<MailJob> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final long idleCloseMillis;
+
+    private final ScheduledExecutorService retryScheduler;
+    private final Set<RetryTask> pendingRetries = ConcurrentHashMap.newKeySet();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetterCounter;
+
+    public MailDispatcher(JavaMailSenderImpl mailSender,
+                          MailDeadLetterRepository deadLetterRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+                          @Value("${mail.dispatch.workers:2}") int workerCount,
+                          @Value("${mail.dispatch.batch-size:20}") int batchSize,
+                          @Value("${mail.dispatch.max-attempts:3}") int maxAttempts,
+                          @Value("${mail.dispatch.backoff-millis:1000}") long backoffMillis,
+                          @Value("${mail.dispatch.idle-close-millis:30000}") long idleCloseMillis) {
+        this.mailSender = mailSender;
+        this.deadLetterRepository = deadLetterRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.idleCloseMillis = idleCloseMillis;
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("mail.dispatch.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.sentCounter = meterRegistry.counter("mail.dispatch.sent");
+        this.retriedCounter = meterRegistry.counter("mail.dispatch.retried");
+        this.deadLetterCounter = meterRegistry.counter("mail.dispatch.dead_letter");
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 1; i <= workerCount; i++) {
+            Thread worker = new Thread(this::runWorker, "mail-dispatcher-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        log.info("메일 디스패처 시작 : workers = {}, batchSize = {}", workerCount, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        retryScheduler.shutdownNow();
+
+        long deadline = System.currentTimeMillis() + SHUTDOWN_GRACE_MILLIS;
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        List<MailJob> remaining = new ArrayList<>();
+        for (RetryTask task : pendingRetries) {
+            if (pendingRetries.remove(task)) {
+                remaining.add(task.job);
+            }
+        }
+        queue.drainTo(remaining);
+
+        if (!remaining.isEmpty()) {
+            log.warn("메일 디스패처 종료 : 발송하지 못한 메일 {}건을 Dead Letter로 기록", remaining.size());
+            remaining.forEach(job -> deadLetter(job, STOPPED_REASON));
+        }
+    }
+
+    /**
+     * 메일을 발송 대기열에 넣는다. SMTP 통신을 기다리지 않고 바로 반환된다.
+     *
+     * @param job 발송할 메일
+     * @throws RetryableBusinessException EMAIL_QUEUE_FULL 대기열이 가득 찬 경우
+     */
+    public void enqueue(MailJob job) {
+        if (!queue.offer(job)) {
+            log.warn("메일 발송 대기열 초과 : recipient = {}", job.recipient());
+            throw new RetryableBusinessException(ErrorCode.EMAIL_QUEUE_FULL, RETRY_AFTER);
+        }
+    }
+
+    private void runWorker() {
+        List<MailJob> batch = new ArrayList<>(batchSize);
+        Transport transport = null;
+        long lastUsedAt = System.currentTimeMillis();
+
+        try {
+            while (running || !queue.isEmpty()) {
+                MailJob first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    if (transport != null && System.currentTimeMillis() - lastUsedAt > idleCloseMillis) {
+                        transport = close(transport);
+                    }
+                    continue;
+                }
+
+                batch.clear();
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+
+                transport = sendBatch(transport, batch);
+                lastUsedAt = System.currentTimeMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close(transport);
+        }
+    }
+
+    // 같은 SMTP 연결로 배치를 발송한다.
+    private Transport sendBatch(Transport transport, List<MailJob> batch) {
+        for (MailJob job : batch) {
+            MimeMessage message;
+            try {
+                message = mailSender.createMimeMessage();
+                job.preparator().prepare(message);
+                message.saveChanges();
+            } catch (Exception e) {
+                log.error("메일 메시지 생성 실패 : recipient = {}", job.recipient(), e);
+                deadLetter(job, "prepare: " + e.getMessage());
+                continue;
+            }
+
+            transport = deliver(transport, job, message);
+        }
+        return transport;
+    }
+
+    // 연결이 없을 때만 새로 연결한다. 열어 둔 연결이 끊겨 있었다면 한 번만 다시 연결해 보내고, 그래도 실패하면 재시도로 넘긴다.
+    private Transport deliver(Transport transport, MailJob job, MimeMessage message) {
+        boolean reconnectable = transport != null;
+        while (true) {
+            try {
+                if (transport == null) {
+                    transport = connect();
+                }
+                transport.sendMessage(message, message.getAllRecipients());
+                sentCounter.increment();
+                log.info("이메일 발송 성공: {}", job.recipient());
+                return transport;
+            } catch (SendFailedException e) {
+                retry(job, e);
+                return transport;
+            } catch (MessagingException | IllegalStateException e) {
+                // IllegalStateException : 서버가 앞선 응답과 함께 연결을 닫아 Transport가 이미 닫힌 경우
+                transport = close(transport);
+                if (!reconnectable) {
+                    retry(job, e);
+                    return null;
+                }
+                reconnectable = false;
+                log.debug("SMTP 연결이 끊겨 다시 연결 : {}", e.getMessage());
+            }
+        }
+    }
+
+    private Transport connect() throws MessagingException {
+        // JavaMailSenderImpl#getTransport와 같은 규칙으로 프로토콜을 정한다. (미지정 시 smtp)
+        String protocol = mailSender.getProtocol();
+        if (protocol == null) {
+            protocol = mailSender.getSession().getProperty("mail.transport.protocol");
+        }
+        Transport transport = mailSender.getSession()
+                .getTransport(protocol != null ? protocol : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+
+        transport.connect(
+                mailSender.getHost(),
+                mailSender.getPort(),
+                StringUtils.hasLength(username) ? username : null,
+                StringUtils.hasLength(password) ? password : null
+        );
+        return transport;
+    }
+
+    private Transport close(Transport transport) {
+        if (transport != null) {
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("SMTP 연결 종료 실패 : {}", e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    private void retry(MailJob job, Exception e) {
+        if (job.attempt() + 1 >= maxAttempts) {
+            log.error("이메일 발송 실패 (재시도 초과) : recipient = {}, attempts = {}", job.recipient(), job.attempt() + 1, e);
+            deadLetter(job, e.getMessage());
+            return;
+        }
+
+        long delay = backoffMillis << job.attempt();
+        log.warn("이메일 발송 실패, {}ms 후 재시도 : recipient = {}, 오류 : {}", delay, job.recipient(), e.getMessage());
+
+        RetryTask task = new RetryTask(job);
+        pendingRetries.add(task);
+        try {
+            retryScheduler.schedule(task, delay, TimeUnit.MILLISECONDS);
+            retriedCounter.increment();
+        } catch (RejectedExecutionException rejected) {
+            pendingRetries.remove(task);
+            deadLetter(job, STOPPED_REASON);
+        }
+    }
+
+    private void deadLetter(MailJob job, String reason) {
+        deadLetterCounter.increment();
+        try {
+            deadLetterRepository.save(job, reason);
+        } catch (DataAccessException e) {
+            log.error("Dead Letter 기록 실패 : recipient = {}, 오류 : {}", job.recipient(), e.getMessage());
+        }
+    }
+
+    // 예약된 재시도. 종료할 때 실행되지 못한 재시도를 Dead Letter로 옮길 수 있도록 pendingRetries에 남겨 둔다.
+    private final class RetryTask implements Runnable {
+
+        private final MailJob job;
+
+        private RetryTask(MailJob job) {
+            this.job = job;
+        }
+
+        @Override
+        public void run() {
+            if (!pendingRetries.remove(this)) {
+                return;
+            }
+            if (!queue.offer(job.nextAttempt())) {
+                deadLetter(job, "retry queue full");
+            }
+        }
+    }
+}
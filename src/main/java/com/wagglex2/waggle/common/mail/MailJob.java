@@ -0,0 +1,28 @@
+package com.wagglex2.waggle.common.mail;
+
+import org.springframework.mail.javamail.MimeMessagePreparator;
+
+/**
+ * 발송 대기열에 들어가는 메일 한 건.
+ *
+ * <ul>
+ *   <li>recipient : 받는 사람 (로그, Dead Letter 기록용)</li>
+ *   <li>subject : 메일 제목 (로그, Dead Letter 기록용)</li>
+ *   <li>preparator : 워커 스레드에서 MimeMessage 내용을 채우는 콜백</li>
+ *   <li>attempt : 지금까지 시도한 횟수</li>
+ * </ul>
+ */
+public record MailJob(
+        String recipient,
+        String subject,
+        MimeMessagePreparator preparator,
+        int attempt
+) {
+    public static MailJob of(String recipient, String subject, MimeMessagePreparator preparator) {
+        return new MailJob(recipient, subject, preparator, 0);
+    }
+
+    public MailJob nextAttempt() {
+        return new MailJob(recipient, subject, preparator, attempt + 1);
+    }
+}
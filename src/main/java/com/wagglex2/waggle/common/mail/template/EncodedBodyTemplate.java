@@ -0,0 +1,125 @@
+package com.wagglex2.waggle.common.mail.template;
+
+import com.wagglex2.waggle.common.mail.template.MailTemplate.Literal;
+import com.wagglex2.waggle.common.mail.template.MailTemplate.Segment;
+import com.wagglex2.waggle.common.mail.template.MailTemplate.Slot;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정 길이 슬롯만 가진 템플릿의 Base64(MIME) 인코딩 결과를 미리 만들어 두고,
+ * 메일마다 슬롯이 걸친 4글자 묶음만 다시 인코딩한다.
+ *
+ * <p>슬롯 길이가 고정이므로 모든 바이트의 위치가 메일마다 같다. Base64는 3바이트를 4글자로 바꾸고
+ * 76글자(4의 배수)마다 줄을 바꾸므로, 슬롯 바이트가 속한 3바이트 묶음의 출력 위치도 항상 같다.</p>
+ */
+final class EncodedBodyTemplate {
+
+    private static final int LINE_LENGTH = 76;
+    private static final byte[] LINE_SEPARATOR = {'\r', '\n'};
+    private static final byte[] ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/".getBytes(StandardCharsets.US_ASCII);
+
+    private final String templateName;
+    private final byte[] raw;       // 슬롯 자리를 '0'으로 채운 UTF-8 본문
+    private final byte[] encoded;   // raw의 Base64 (76글자 줄바꿈)
+    private final List<SlotPosition> slots;
+
+    private EncodedBodyTemplate(String templateName, byte[] raw, List<SlotPosition> slots) {
+        this.templateName = templateName;
+        this.raw = raw;
+        this.encoded = Base64.getMimeEncoder(LINE_LENGTH, LINE_SEPARATOR).encode(raw);
+        this.slots = List.copyOf(slots);
+    }
+
+    static EncodedBodyTemplate of(MailTemplate template) {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        List<SlotPosition> slots = new ArrayList<>();
+
+        for (Segment segment : template.segments()) {
+            if (segment instanceof Literal literal) {
+                raw.writeBytes(literal.text().getBytes(StandardCharsets.UTF_8));
+            } else if (segment instanceof Slot slot) {
+                if (!slot.isFixedWidth()) {
+                    throw new IllegalArgumentException(
+                            "고정 길이가 아닌 슬롯은 미리 인코딩할 수 없습니다 : " + template.name() + "." + slot.name());
+                }
+                slots.add(new SlotPosition(slot, raw.size()));
+                for (int i = 0; i < slot.width(); i++) {
+                    raw.write('0');
+                }
+            }
+        }
+
+        return new EncodedBodyTemplate(template.name(), raw.toByteArray(), slots);
+    }
+
+    /**
+     * 슬롯 값을 채운 Base64 본문을 만든다.
+     *
+     * @param values 슬롯 이름 → 값 (ASCII, 고정 길이)
+     * @return MIME Base64 인코딩된 본문
+     */
+    byte[] render(Map<String, String> values) {
+        byte[][] slotValues = new byte[slots.size()][];
+        for (int i = 0; i < slots.size(); i++) {
+            slotValues[i] = asciiValue(slots.get(i).slot(), values);
+        }
+
+        byte[] out = encoded.clone();
+        for (SlotPosition position : slots) {
+            int firstGroup = position.offset() / 3;
+            int lastGroup = (position.offset() + position.slot().width() - 1) / 3;
+            for (int group = firstGroup; group <= lastGroup; group++) {
+                encodeGroup(group, slotValues, out);
+            }
+        }
+        return out;
+    }
+
+    private void encodeGroup(int group, byte[][] slotValues, byte[] out) {
+        int start = group * 3;
+        int length = Math.min(3, raw.length - start);
+        int bits = 0;
+        for (int i = 0; i < 3; i++) {
+            int b = i < length ? byteAt(start + i, slotValues) & 0xff : 0;
+            bits = (bits << 8) | b;
+        }
+
+        int chars = group * 4;
+        int index = chars + (chars / LINE_LENGTH) * LINE_SEPARATOR.length;
+        out[index] = ALPHABET[(bits >>> 18) & 0x3f];
+        out[index + 1] = ALPHABET[(bits >>> 12) & 0x3f];
+        out[index + 2] = length > 1 ? ALPHABET[(bits >>> 6) & 0x3f] : (byte) '=';
+        out[index + 3] = length > 2 ? ALPHABET[bits & 0x3f] : (byte) '=';
+    }
+
+    private byte byteAt(int index, byte[][] slotValues) {
+        for (int i = 0; i < slots.size(); i++) {
+            SlotPosition position = slots.get(i);
+            int relative = index - position.offset();
+            if (relative >= 0 && relative < position.slot().width()) {
+                return slotValues[i][relative];
+            }
+        }
+        return raw[index];
+    }
+
+    private byte[] asciiValue(Slot slot, Map<String, String> values) {
+        String value = slot.resolve(templateName, values);
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7f) {
+                throw new IllegalArgumentException("고정 길이 슬롯은 ASCII만 허용합니다 : " + templateName + "." + slot.name());
+            }
+        }
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private record SlotPosition(Slot slot, int offset) {
+    }
+}
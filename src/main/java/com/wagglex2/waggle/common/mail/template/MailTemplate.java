@@ -0,0 +1,113 @@
+package com.wagglex2.waggle.common.mail.template;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시 한 번 파싱해 두는 메일 본문 템플릿.
+ *
+ * <p>원본 문자열을 고정 문자열(Literal)과 슬롯(Slot)의 목록으로 나누어 보관하고,
+ * 렌더링할 때는 스레드별로 재사용하는 버퍼에 순서대로 이어 붙인다.</p>
+ *
+ * <p>슬롯 문법 : {@code {{name}}} 또는 길이가 고정된 값이면 {@code {{name:width}}} (예: {@code {{code:6}}}).
+ * 모든 슬롯의 길이가 고정된 템플릿은 {@link PrecompiledMail}로 인코딩 결과까지 미리 만들어 둘 수 있다.</p>
+ */
+public final class MailTemplate {
+
+    private static final Pattern SLOT_PATTERN = Pattern.compile("\\{\\{\\s*([A-Za-z0-9_-]+)(?::(\\d+))?\\s*}}");
+
+    // 렌더링용 버퍼 (스레드별 재사용). 너무 커진 버퍼는 보관하지 않는다.
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String name;
+    private final List<Segment> segments;
+
+    private MailTemplate(String name, List<Segment> segments) {
+        this.name = name;
+        this.segments = List.copyOf(segments);
+    }
+
+    public static MailTemplate compile(String name, String source) {
+        List<Segment> segments = new ArrayList<>();
+        Matcher matcher = SLOT_PATTERN.matcher(source);
+        int position = 0;
+
+        while (matcher.find()) {
+            if (matcher.start() > position) {
+                segments.add(new Literal(source.substring(position, matcher.start())));
+            }
+            int width = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : Slot.VARIABLE;
+            segments.add(new Slot(matcher.group(1), width));
+            position = matcher.end();
+        }
+
+        if (position < source.length()) {
+            segments.add(new Literal(source.substring(position)));
+        }
+
+        return new MailTemplate(name, segments);
+    }
+
+    /**
+     * 슬롯에 값을 채운 문자열을 만든다.
+     *
+     * @param values 슬롯 이름 → 값
+     * @throws IllegalArgumentException 값이 없거나 고정 길이와 다른 경우
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+
+        for (Segment segment : segments) {
+            if (segment instanceof Literal literal) {
+                buffer.append(literal.text());
+            } else if (segment instanceof Slot slot) {
+                buffer.append(slot.resolve(name, values));
+            }
+        }
+
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_CAPACITY) {
+            BUFFER.remove();
+        }
+        return rendered;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    List<Segment> segments() {
+        return segments;
+    }
+
+    sealed interface Segment permits Literal, Slot {
+    }
+
+    record Literal(String text) implements Segment {
+    }
+
+    record Slot(String name, int width) implements Segment {
+        static final int VARIABLE = -1;
+
+        boolean isFixedWidth() {
+            return width != VARIABLE;
+        }
+
+        String resolve(String templateName, Map<String, String> values) {
+            String value = values.get(name);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 값 누락 : " + templateName + "." + name);
+            }
+            if (isFixedWidth() && value.length() != width) {
+                throw new IllegalArgumentException(
+                        "템플릿 값 길이 불일치 : " + templateName + "." + name + " (expected " + width + ")");
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.wagglex2.waggle.common.mail.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code classpath:templates/mail/*.html}의 메일 템플릿을 기동 시 한 번 읽고 파싱해 보관한다.
+ *
+ * <p>템플릿 이름은 확장자를 뺀 파일명이다. (예: {@code verification-code.html} → {@code verification-code})</p>
+ */
+@Slf4j
+@Component
+public class MailTemplateRegistry {
+
+    private static final String TEMPLATE_LOCATION = "classpath:templates/mail/*.html";
+
+    private final Map<String, MailTemplate> templates;
+
+    public MailTemplateRegistry() {
+        Map<String, MailTemplate> loaded = new HashMap<>();
+
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String name = filename.substring(0, filename.length() - ".html".length());
+                String source = resource.getContentAsString(StandardCharsets.UTF_8);
+                loaded.put(name, MailTemplate.compile(name, source));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿 로딩 실패", e);
+        }
+
+        this.templates = Map.copyOf(loaded);
+        log.info("메일 템플릿 로딩 완료 : {}", templates.keySet());
+    }
+
+    /**
+     * @param name 템플릿 이름
+     * @throws IllegalArgumentException 해당 이름의 템플릿이 없는 경우
+     */
+    public MailTemplate get(String name) {
+        MailTemplate template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("메일 템플릿 없음 : " + name);
+        }
+        return template;
+    }
+}
@@ -0,0 +1,80 @@
+package com.wagglex2.waggle.common.mail.template;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.internet.MimeUtility;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+import jakarta.mail.util.ByteArrayDataSource;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Map;
+
+/**
+ * 보내는 사람, 제목, 본문 인코딩을 미리 만들어 둔 HTML 메일.
+ *
+ * <p>메일마다 바뀌는 것은 받는 사람과 슬롯 값(인증번호 등)뿐이므로,
+ * 주소 파싱과 제목 인코딩은 생성 시 한 번만 하고 본문은 {@link EncodedBodyTemplate}으로 Base64 결과를 재사용한다.</p>
+ */
+public final class PrecompiledMail {
+
+    private static final String CONTENT_TYPE = "text/html; charset=UTF-8";
+
+    private final InternetAddress from;
+    private final String subject;
+    private final String encodedSubject;
+    private final EncodedBodyTemplate body;
+
+    private PrecompiledMail(InternetAddress from, String subject, String encodedSubject, EncodedBodyTemplate body) {
+        this.from = from;
+        this.subject = subject;
+        this.encodedSubject = encodedSubject;
+        this.body = body;
+    }
+
+    /**
+     * @param template 고정 길이 슬롯만 가진 템플릿
+     * @param from     보내는 사람 주소
+     * @param subject  메일 제목
+     * @throws IllegalArgumentException 주소 형식이 잘못되었거나 가변 길이 슬롯이 있는 경우
+     */
+    public static PrecompiledMail of(MailTemplate template, String from, String subject) {
+        try {
+            return new PrecompiledMail(
+                    new InternetAddress(from),
+                    subject,
+                    MimeUtility.encodeText(subject, "UTF-8", "B"),
+                    EncodedBodyTemplate.of(template)
+            );
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new IllegalArgumentException("메일 템플릿 초기화 실패 : " + template.name(), e);
+        }
+    }
+
+    /**
+     * MimeMessage에 헤더와 미리 인코딩된 본문을 채운다.
+     *
+     * @param message 채울 메시지
+     * @param to      받는 사람
+     * @param values  슬롯 이름 → 값
+     */
+    public void prepare(MimeMessage message, String to, Map<String, String> values) throws MessagingException {
+        message.setFrom(from);
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+        message.setHeader("Subject", encodedSubject);
+
+        PreencodedMimeBodyPart part = new PreencodedMimeBodyPart("base64");
+        part.setDataHandler(new DataHandler(new ByteArrayDataSource(body.render(values), CONTENT_TYPE)));
+
+        MimeMultipart multipart = new MimeMultipart();
+        multipart.addBodyPart(part);
+        message.setContent(multipart);
+    }
+
+    public String subject() {
+        return subject;
+    }
+}
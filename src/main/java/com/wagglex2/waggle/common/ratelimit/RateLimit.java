@@ -0,0 +1,50 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드에 토큰 버킷 방식의 요청 수 제한을 선언한다.
+ *
+ * <p>한 메서드에 여러 개를 선언하면 모든 제한을 통과해야 요청이 처리된다.
+ * 제한을 초과하면 {@code 429 TOO_MANY_REQUESTS}와 {@code Retry-After} 헤더로 응답한다.</p>
+ *
+ * <pre>{@code
+ * @RateLimit(name = "sign-in:ip", capacity = 20, periodSeconds = 60)
+ * @RateLimit(name = "sign-in:username", key = "#dto.username()", capacity = 5, periodSeconds = 60)
+ * }</pre>
+ *
+ * @see RateLimitAspect
+ * @see TokenBucketRateLimiter
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Repeatable(RateLimits.class)
+public @interface RateLimit {
+
+    /**
+     * 버킷 이름. Redis Key({@code RL:name:key})와 로그에 사용된다.
+     */
+    String name();
+
+    /**
+     * 버킷을 구분할 값을 구하는 SpEL 식 (메서드 파라미터를 {@code #이름}으로 참조).
+     * 비어 있으면 클라이언트 IP를 사용한다.
+     */
+    String key() default "";
+
+    /**
+     * 버킷 최대 토큰 수 (순간적으로 허용하는 최대 요청 수)
+     */
+    long capacity();
+
+    /**
+     * 버킷이 비어 있다가 가득 차기까지 걸리는 시간 (초)
+     */
+    long periodSeconds();
+}
@@ -0,0 +1,127 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RateLimit}이 선언된 메서드 실행 전에 요청 수 제한을 검사한다.
+ *
+ * <p>요청 바디 검증(@Valid)이 끝난 뒤 실행되므로, SpEL로 DTO 필드(username, email 등)를 키로 사용할 수 있다.
+ * 키는 대소문자를 구분하지 않으며, 값이 비어 있으면 해당 제한은 건너뛴다.</p>
+ *
+ * <p>여러 제한이 선언되어 있으면 이미 거절 중인 제한이 있는지 먼저 확인한 뒤 토큰을 소비한다.
+ * 뒤쪽 제한에서 거절되면 앞서 소비한 토큰은 돌려주므로, 거절된 요청이 다른 버킷의 토큰을 쓰지 않는다.</p>
+ *
+ * <p>제한을 초과하면 {@link RetryableBusinessException}(TOO_MANY_REQUESTS)을 던지며,
+ * 응답에는 초 단위로 올림한 Retry-After 헤더가 포함된다.</p>
+ *
+ * <p>키를 지정하지 않은 제한은 클라이언트 IP를 키로 쓴다. 프록시 뒤에서는
+ * {@code server.forward-headers-strategy=native}로 신뢰하는 프록시가 보낸 X-Forwarded-For를
+ * {@link HttpServletRequest#getRemoteAddr()}에 반영한다.</p>
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class RateLimitAspect {
+
+    private final TokenBucketRateLimiter rateLimiter;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    @Around("@annotation(com.wagglex2.waggle.common.ratelimit.RateLimit) "
+            + "|| @annotation(com.wagglex2.waggle.common.ratelimit.RateLimits)")
+    public Object checkRateLimit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Set<RateLimit> limits = AnnotatedElementUtils.findMergedRepeatableAnnotations(method, RateLimit.class);
+
+        List<Bucket> buckets = new ArrayList<>(limits.size());
+        for (RateLimit limit : limits) {
+            String key = resolveKey(limit, method, joinPoint);
+            if (StringUtils.hasText(key)) {
+                buckets.add(new Bucket(limit, key));
+            }
+        }
+
+        // 이미 거절 중인 제한이 있으면 다른 제한의 토큰을 쓰지 않고 바로 거절한다.
+        for (Bucket bucket : buckets) {
+            long blockedMillis = rateLimiter.blockedFor(bucket.limit(), bucket.key());
+            if (blockedMillis > 0) {
+                throw tooManyRequests(bucket, blockedMillis);
+            }
+        }
+
+        // 소비 중에 거절되면 앞서 소비한 토큰을 돌려준다.
+        List<Bucket> acquired = new ArrayList<>(buckets.size());
+        for (Bucket bucket : buckets) {
+            long retryAfterMillis = rateLimiter.tryAcquire(bucket.limit(), bucket.key());
+            if (retryAfterMillis > 0) {
+                acquired.forEach(spent -> rateLimiter.release(spent.limit(), spent.key()));
+                throw tooManyRequests(bucket, retryAfterMillis);
+            }
+            acquired.add(bucket);
+        }
+
+        return joinPoint.proceed();
+    }
+
+    private RetryableBusinessException tooManyRequests(Bucket bucket, long retryAfterMillis) {
+        log.warn("요청 수 제한 초과 : limit = {}, key = {}", bucket.limit().name(), bucket.key());
+        return new RetryableBusinessException(
+                ErrorCode.TOO_MANY_REQUESTS,
+                Duration.ofMillis(retryAfterMillis).plusMillis(999)
+        );
+    }
+
+    private String resolveKey(RateLimit limit, Method method, ProceedingJoinPoint joinPoint) {
+        if (!StringUtils.hasText(limit.key())) {
+            return clientIp();
+        }
+
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, method, joinPoint.getArgs(), parameterNameDiscoverer);
+        Object value = expressions.computeIfAbsent(limit.key(), parser::parseExpression).getValue(context);
+
+        return value != null ? value.toString().trim().toLowerCase(Locale.ROOT) : null;
+    }
+
+    private String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    private record Bucket(RateLimit limit, String key) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link RateLimit}를 한 메서드에 여러 번 선언하기 위한 컨테이너 어노테이션.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimits {
+    RateLimit[] value();
+}
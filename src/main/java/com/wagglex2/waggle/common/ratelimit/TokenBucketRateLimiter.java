@@ -0,0 +1,187 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 전역 버킷과 노드 로컬 버킷을 함께 사용하는 토큰 버킷 Rate Limiter.
+ *
+ * <p>전역 버킷(Redis)이 실제 한도를 관리하고, 각 노드는 전역 버킷에서 토큰을 묶음(lease)으로 가져와
+ * 로컬에서 소비한다. 대부분의 요청은 네트워크 I/O 없이 로컬에서 판정된다.</p>
+ * <ul>
+ *   <li>로컬 토큰이 남아 있으면 : 로컬에서 차감하고 허용</li>
+ *   <li>로컬 토큰이 없으면 : Lua 스크립트로 전역 버킷에서 lease를 가져온다 (노드 간 동기화 지점)</li>
+ *   <li>전역 버킷도 비어 있으면 : 다음 토큰이 충전될 때까지 로컬에서 바로 거절한다</li>
+ * </ul>
+ *
+ * <p>노드가 가져간 토큰은 전역 버킷에서 이미 빠졌으므로 여러 노드가 있어도 한도를 넘지 않는다.
+ * lease 크기는 {@code capacity / ratelimit.lease-divisor}(기본 10, 최소 1)이다.</p>
+ *
+ * <p>Redis 장애 시에는 인증 API 전체가 막히지 않도록 요청을 허용하고 경고 로그를 남긴다.</p>
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final String RATE_LIMIT_PREFIX = "RL:";
+
+    private static final RedisScript<Long> LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/acquire_rate_limit_lease.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final long leaseDivisor;
+    private final Cache<String, LocalBucket> localBuckets;
+
+    public TokenBucketRateLimiter(RedisTemplate<String, String> redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${ratelimit.lease-divisor:10}") long leaseDivisor,
+                                  @Value("${ratelimit.local.max-size:100000}") long maxLocalBuckets) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.leaseDivisor = Math.max(1, leaseDivisor);
+        this.localBuckets = Caffeine.newBuilder()
+                .maximumSize(maxLocalBuckets)
+                .expireAfter(new IdleExpiry())
+                .build();
+    }
+
+    /**
+     * 토큰 1개를 소비한다.
+     *
+     * @param limit 적용할 제한
+     * @param key   버킷 구분 값 (IP, username, email 등)
+     * @return 허용 시 0, 거절 시 다음 토큰까지 남은 시간 (ms)
+     */
+    public long tryAcquire(RateLimit limit, String key) {
+        String bucketKey = bucketKey(limit, key);
+        LocalBucket bucket = localBuckets.get(bucketKey,
+                k -> new LocalBucket(TimeUnit.SECONDS.toNanos(limit.periodSeconds())));
+
+        synchronized (bucket) {
+            long now = System.currentTimeMillis();
+
+            if (now < bucket.blockedUntil) {
+                record(limit, "local_rejected");
+                return bucket.blockedUntil - now;
+            }
+
+            if (bucket.tokens > 0) {
+                bucket.tokens--;
+                record(limit, "local_allowed");
+                return 0;
+            }
+
+            long leased = lease(limit, bucketKey, now);
+            if (leased > 0) {
+                bucket.tokens = leased - 1;
+                record(limit, "lease_allowed");
+                return 0;
+            }
+
+            bucket.blockedUntil = now - leased;
+            record(limit, "remote_rejected");
+            return -leased;
+        }
+    }
+
+    /**
+     * 토큰을 소비하지 않고, 이 노드가 이미 거절 중인 버킷인지 확인한다.
+     *
+     * @return 거절 중이면 다음 토큰까지 남은 시간 (ms), 아니면 0
+     */
+    public long blockedFor(RateLimit limit, String key) {
+        LocalBucket bucket = localBuckets.getIfPresent(bucketKey(limit, key));
+        if (bucket == null) {
+            return 0;
+        }
+
+        synchronized (bucket) {
+            return Math.max(0, bucket.blockedUntil - System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * {@link #tryAcquire}로 소비한 토큰 1개를 로컬 버킷에 돌려준다.
+     * 함께 검사한 다른 제한에 걸려 요청을 처리하지 않을 때 사용한다.
+     */
+    public void release(RateLimit limit, String key) {
+        LocalBucket bucket = localBuckets.getIfPresent(bucketKey(limit, key));
+        if (bucket == null) {
+            return;
+        }
+
+        synchronized (bucket) {
+            bucket.tokens++;
+        }
+    }
+
+    private static String bucketKey(RateLimit limit, String key) {
+        return RATE_LIMIT_PREFIX + limit.name() + ":" + key;
+    }
+
+    // 전역 버킷에서 lease를 가져온다. 양수 : 가져간 토큰 수, 음수 : -(다음 토큰까지 남은 ms)
+    private long lease(RateLimit limit, String bucketKey, long now) {
+        long leaseSize = Math.max(1, limit.capacity() / leaseDivisor);
+        double refillPerMs = (double) limit.capacity() / TimeUnit.SECONDS.toMillis(limit.periodSeconds());
+
+        try {
+            Long result = redisTemplate.execute(
+                    LEASE_SCRIPT,
+                    List.of(bucketKey),
+                    String.valueOf(limit.capacity()),
+                    String.valueOf(refillPerMs),
+                    String.valueOf(now),
+                    String.valueOf(leaseSize)
+            );
+            return result != null ? result : 1;
+        } catch (DataAccessException e) {
+            log.warn("Rate limit 전역 버킷 조회 실패, 요청 허용 : key = {}, 오류 : {}", bucketKey, e.getMessage());
+            return 1;
+        }
+    }
+
+    private void record(RateLimit limit, String outcome) {
+        meterRegistry.counter("ratelimit.checks", "name", limit.name(), "outcome", outcome).increment();
+    }
+
+    private static final class LocalBucket {
+        private final long idleNanos;
+        private long tokens;
+        private long blockedUntil;
+
+        private LocalBucket(long idleNanos) {
+            this.idleNanos = idleNanos;
+        }
+    }
+
+    // 버킷이 가득 차는 시간 동안 사용되지 않은 로컬 버킷은 제거한다.
+    private static final class IdleExpiry implements Expiry<String, LocalBucket> {
+        @Override
+        public long expireAfterCreate(String key, LocalBucket bucket, long currentTime) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, LocalBucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, LocalBucket bucket, long currentTime, long currentDuration) {
+            return bucket.idleNanos;
+        }
+    }
+}
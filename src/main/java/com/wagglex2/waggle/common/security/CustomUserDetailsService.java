@@ -5,6 +5,7 @@ import com.wagglex2.waggle.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import org.springframework.stereotype.Service;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserService userService;
 
@@ -24,4 +25,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         }
         return new CustomUserDetails(user);
     }
+
+    /**
+     * 로그인 성공 시 저장된 해시의 strength가 현재 설정과 다르면 DaoAuthenticationProvider가 호출한다.
+     * 방금 검증한 평문 비밀번호로 만든 새 해시를 저장한다.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User updated = userService.upgradePassword(user.getUsername(), newPassword);
+        log.info("비밀번호 해시 갱신 : userId = {}", updated.getId());
+        return new CustomUserDetails(updated);
+    }
 }
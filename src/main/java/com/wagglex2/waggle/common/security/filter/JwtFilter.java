@@ -2,7 +2,7 @@ package com.wagglex2.waggle.common.security.filter;
 
 import com.wagglex2.waggle.common.security.jwt.JwtUtil;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
-import io.jsonwebtoken.Claims;
+import com.wagglex2.waggle.common.security.jwt.VerifiedToken;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
@@ -73,10 +73,10 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 한 번만 파싱해서 검증 / Claims 확보
-            Claims claims;
+            // 캐시 조회 후, 미스일 때만 한 번 파싱해서 검증
+            VerifiedToken token;
             try {
-                claims = jwtUtil.parseToken(accessToken);
+                token = jwtUtil.verifyAccessToken(accessToken);
             } catch (ExpiredJwtException ex) {
                 log.debug("Access Token 만료 : {}", uri);
                 request.setAttribute("token.error", "expired");
@@ -91,14 +91,14 @@ public class JwtFilter extends OncePerRequestFilter {
                 return;
             }
 
-            if (!jwtUtil.isAccessToken(accessToken)) {
+            if (!token.isAccessToken()) {
                 log.debug("Access Token이 아닙니다: {}", uri);
                 SecurityContextHolder.clearContext();
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            setAuthenticationFromClaims(claims);
+            setAuthentication(token);
             log.debug("유효한 Access Token입니다. 요청한 URL : {}", uri);
 
             filterChain.doFilter(request, response);
@@ -130,16 +130,14 @@ public class JwtFilter extends OncePerRequestFilter {
     }
 
     /**
-     * JWT Token으로 인증 객체 생성 및 SecurityContext에 저장
+     * 검증된 JWT Token으로 인증 객체 생성 및 SecurityContext에 저장
      */
-    private void setAuthenticationFromClaims(Claims claims) {
+    private void setAuthentication(VerifiedToken token) {
         try {
-            // JJWT는 정수형을 Integer로 줄 때가 있음 -> ClassCastException 가능성
-            Number uidNum = claims.get("uid", Number.class);
-            Long userId = uidNum != null ? uidNum.longValue() : null;
-            String username = claims.get("username", String.class);
-            String nickname = claims.get("nickname", String.class);
-            String role = claims.get("role", String.class);
+            Long userId = token.userId();
+            String username = token.username();
+            String nickname = token.nickname();
+            String role = token.role();
 
             // CustomUserDetails 생성
             CustomUserDetails userDetails = new CustomUserDetails(userId, username, nickname, role);
@@ -20,18 +20,26 @@ public class JwtUtil {
     private static final String CLAIM_NICKNAME = "nickname";    // 닉네임
     private static final String CLAIM_ROLE = "role";            // 권한
     private static final String CLAIM_TYPE = "token_type";      // 토큰 종류
-    private static final String TYPE_ACCESS = "access";         // AccessToken
-    private static final String TYPE_REFRESH = "refresh";       // RefreshToken
+    private static final String CLAIM_SESSION = "sid";          // 세션(기기) ID, RefreshToken에만 존재
+    static final String TYPE_ACCESS = "access";                 // AccessToken
+    static final String TYPE_REFRESH = "refresh";               // RefreshToken
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;  // 불변 + thread-safe 이므로 한 번만 생성하여 재사용
+    private final VerifiedTokenCache verifiedTokenCache;
     private final long accessExp;
     private final long refreshExp;
 
     public JwtUtil(@Value("${jwt.secret}") String secretKey,
                    @Value("${jwt.access-exp}") long accessExp,
-                   @Value("${jwt.refresh-exp}") long refreshExp) {
+                   @Value("${jwt.refresh-exp}") long refreshExp,
+                   @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
 
         this.secretKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(this.secretKey)
+                .build();
+        this.verifiedTokenCache = new VerifiedTokenCache(verifiedCacheMaxSize);
         this.accessExp = accessExp;
         this.refreshExp = refreshExp;
     }
@@ -56,8 +64,8 @@ public class JwtUtil {
                 .compact();
     }
 
-    // RefreshToken 생성 메서드
-    public String createRefreshToken(Long userId) {
+    // RefreshToken 생성 메서드 (sessionId : 기기별 세션 식별자)
+    public String createRefreshToken(Long userId, String sessionId) {
         long now = System.currentTimeMillis();
         Date iat = new Date(now);
         Date exp = new Date(now + refreshExp);
@@ -69,18 +77,63 @@ public class JwtUtil {
                 .setExpiration(exp)
                 .claim(CLAIM_UID, userId)
                 .claim(CLAIM_TYPE, TYPE_REFRESH)
+                .claim(CLAIM_SESSION, sessionId)
                 .signWith(secretKey)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱/검증하여 {@link VerifiedToken}으로 변환한다.
+     *
+     * <p>{@link #parseToken(String)}과 달리 {@link ExpiredJwtException}을 감싸지 않고 그대로 던지므로,
+     * 호출 측에서 만료와 위조를 구분할 수 있다.</p>
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증이 끝난 토큰 뷰
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     * @throws JwtException        서명 불일치, 형식 오류 등 유효하지 않은 토큰인 경우
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims;
+        try {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+        } catch (IllegalArgumentException e) {
+            throw new JwtException("유효하지 않은 토큰입니다.", e);
+        }
+
+        // JJWT는 정수형을 Integer로 줄 때가 있음 -> Number로 받아 변환
+        Number uid = claims.get(CLAIM_UID, Number.class);
+
+        return new VerifiedToken(
+                uid != null ? uid.longValue() : null,
+                claims.get(CLAIM_USERNAME, String.class),
+                claims.get(CLAIM_NICKNAME, String.class),
+                claims.get(CLAIM_ROLE, String.class),
+                claims.get(CLAIM_TYPE, String.class),
+                claims.get(CLAIM_SESSION, String.class),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    /**
+     * 최근 검증된 AccessToken 캐시를 먼저 조회하고, 미스일 때만 {@link #verify(String)}를 수행한다.
+     *
+     * <p>캐시 히트 시 HMAC 서명 검증과 Claims 파싱을 모두 생략한다.
+     * 캐시 엔트리는 토큰의 exp 시각에 함께 만료되므로 만료된 토큰이 캐시로 통과되지 않는다.</p>
+     *
+     * @param token 요청 헤더에서 추출한 AccessToken
+     * @return 검증이 끝난 토큰 뷰 (AccessToken이 아닐 수 있으므로 호출 측에서 타입 확인 필요)
+     * @throws ExpiredJwtException 토큰이 만료된 경우
+     * @throws JwtException        유효하지 않은 토큰인 경우
+     */
+    public VerifiedToken verifyAccessToken(String token) {
+        return verifiedTokenCache.getOrVerify(token, this::verify);
+    }
+
     // JWT Token 파싱 및 검증
     public Claims parseToken(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             log.warn("토큰이 만료되었습니다: {}", e.getMessage());
             throw new JwtException("토큰이 만료되었습니다.", e);
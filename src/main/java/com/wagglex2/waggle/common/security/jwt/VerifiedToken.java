@@ -0,0 +1,47 @@
+package com.wagglex2.waggle.common.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT의 불변 뷰.
+ *
+ * <p>{@link JwtUtil#verify(String)}가 토큰을 한 번만 파싱하여 생성하며,
+ * 이후 필터/서비스 계층은 Claims를 다시 파싱하지 않고 이 객체의 값을 사용한다.</p>
+ *
+ * <ul>
+ *   <li>userId : 사용자 ID (uid 클레임)</li>
+ *   <li>username, nickname, role : AccessToken에만 존재 (RefreshToken은 null)</li>
+ *   <li>type : 토큰 종류 (access / refresh)</li>
+ *   <li>sessionId : 기기별 세션 ID (RefreshToken에만 존재)</li>
+ *   <li>expiresAt : 만료 시각 (exp 클레임)</li>
+ * </ul>
+ *
+ * @see JwtUtil#verify(String)
+ * @see VerifiedTokenCache
+ */
+public record VerifiedToken(
+        Long userId,
+        String username,
+        String nickname,
+        String role,
+        String type,
+        String sessionId,
+        Instant expiresAt
+) {
+    public boolean isAccessToken() {
+        return JwtUtil.TYPE_ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return JwtUtil.TYPE_REFRESH.equals(type);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    // 만료까지 남은 시간 (ms), 이미 만료되었으면 0
+    public long timeToExpirationMillis() {
+        return Math.max(0, expiresAt.toEpochMilli() - System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,105 @@
+package com.wagglex2.waggle.common.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * 최근 검증에 성공한 AccessToken을 보관하는 캐시.
+ *
+ * <p>같은 클라이언트가 동일한 AccessToken으로 반복 요청하는 경우,
+ * 만료 시각(exp) 전까지는 HMAC 서명 검증과 Claims 파싱을 생략한다.</p>
+ *
+ * <ul>
+ *   <li>Key : 토큰 원문의 SHA-256 다이제스트 (토큰 원문은 메모리에 보관하지 않음)</li>
+ *   <li>Value : {@link VerifiedToken}</li>
+ *   <li>만료 : 엔트리마다 토큰의 exp 시각에 맞춰 개별 만료</li>
+ *   <li>크기 : 생성 시 지정한 최대 엔트리 수로 제한</li>
+ * </ul>
+ *
+ * @see JwtUtil#verifyAccessToken(String)
+ */
+class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final Cache<String, VerifiedToken> cache;
+
+    VerifiedTokenCache(long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시에서 AccessToken을 조회하고, 없으면 verifier로 검증 후 저장한다.
+     *
+     * <p>AccessToken이 아닌 토큰은 검증 결과만 반환하고 캐시에 저장하지 않는다.</p>
+     *
+     * @param token    요청에 포함된 토큰 원문
+     * @param verifier 캐시 미스 시 사용할 검증 함수
+     * @return 검증이 끝난 토큰 뷰
+     * @throws io.jsonwebtoken.JwtException 캐시 미스 후 검증에 실패한 경우
+     */
+    public VerifiedToken getOrVerify(String token, Function<String, VerifiedToken> verifier) {
+        String key = digest(token);
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = verifier.apply(token);
+        if (verified.isAccessToken()) {
+            cache.put(key, verified);
+        }
+
+        return verified;
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    // 엔트리별 만료 시각 = 토큰의 exp
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = value.expiresAt().toEpochMilli() - Instant.now().toEpochMilli();
+            return Math.max(0, remainingMillis) * 1_000_000L;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
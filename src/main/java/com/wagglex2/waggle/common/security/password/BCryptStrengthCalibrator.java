@@ -0,0 +1,49 @@
+package com.wagglex2.waggle.common.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 서버 성능에 맞는 BCrypt strength(cost)를 기동 시점에 결정한다.
+ *
+ * <p>최소 strength로 몇 차례 해시를 측정한 뒤, strength가 1 오를 때마다 연산 시간이 2배가 되는 성질을 이용해
+ * 목표 시간을 넘지 않는 가장 큰 strength를 고른다. 결과는 [min, max] 범위로 제한된다.</p>
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "waggle-calibration";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    /**
+     * @param targetMillis 해시 1회의 목표 시간 (ms)
+     * @param minStrength  허용하는 최소 strength
+     * @param maxStrength  허용하는 최대 strength
+     * @return 목표 시간에 맞춘 strength
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        probe.encode(SAMPLE_PASSWORD); // JIT 워밍업
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            probe.encode(SAMPLE_PASSWORD);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+        }
+
+        double expectedMillis = bestNanos / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < maxStrength && expectedMillis * 2 <= targetMillis) {
+            strength++;
+            expectedMillis *= 2;
+        }
+
+        log.info("BCrypt strength 보정 : measured(strength {}) = {}ms, target = {}ms → strength = {}",
+                minStrength, String.format("%.1f", bestNanos / 1_000_000.0), targetMillis, strength);
+        return strength;
+    }
+}
@@ -0,0 +1,34 @@
+package com.wagglex2.waggle.common.security.password;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 해시 연산을 {@link PasswordHashingExecutor}에서 실행하는 {@link PasswordEncoder}.
+ *
+ * <p>로그인(DaoAuthenticationProvider), 회원가입, 비밀번호 변경, 회원 탈퇴가 모두 같은 PasswordEncoder 빈을 사용하므로,
+ * 이 래퍼 하나로 모든 BCrypt 연산이 전용 풀을 거치게 된다.</p>
+ *
+ * <p>{@link #upgradeEncoding(String)}은 해시 문자열의 cost만 비교하는 가벼운 연산이므로 호출 스레드에서 바로 처리한다.</p>
+ */
+@RequiredArgsConstructor
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,158 @@
+package com.wagglex2.waggle.common.security.password;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(BCrypt) 연산 전용 스레드 풀.
+ *
+ * <p>BCrypt는 의도적으로 느린 CPU 연산이므로, 로그인 요청이 몰리면 Tomcat 워커 스레드가 모두 해시 계산에 묶여
+ * 가벼운 조회 요청까지 처리하지 못하게 된다. 해시 연산을 크기가 제한된 별도 풀에서 실행하고,
+ * 대기열이 가득 차면 즉시 {@link ErrorCode#PASSWORD_HASHING_BUSY}(503, Retry-After)로 거절한다.</p>
+ *
+ * <ul>
+ *   <li>스레드 수 : {@code security.password.hashing.threads} (기본 0 = CPU 코어 수)</li>
+ *   <li>대기열 크기 : {@code security.password.hashing.queue-capacity} (기본 64)</li>
+ *   <li>최대 대기 시간 : {@code security.password.hashing.timeout-millis} (기본 5000ms)</li>
+ *   <li>Retry-After : {@code security.password.hashing.retry-after-seconds} (기본 1초)</li>
+ * </ul>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code password.hashing.queue.size} : 대기 중인 작업 수</li>
+ *   <li>{@code password.hashing.active} : 실행 중인 작업 수</li>
+ *   <li>{@code password.hashing.duration} (operation 태그) : 해시 연산 시간</li>
+ *   <li>{@code password.hashing.wait} : 대기열에서 기다린 시간</li>
+ *   <li>{@code password.hashing.rejected} : 거절된 요청 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Duration retryAfter;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(@Value("${security.password.hashing.threads:0}") int threads,
+                                   @Value("${security.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${security.password.hashing.timeout-millis:5000}") long timeoutMillis,
+                                   @Value("${security.password.hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.timeoutMillis = timeoutMillis;
+        this.retryAfter = Duration.ofSeconds(retryAfterSeconds);
+
+        this.meterRegistry = meterRegistry;
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("비밀번호 해시 작업의 대기열 대기 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("대기열 초과 또는 시간 초과로 거절된 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("대기 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해시 풀 초기화 : threads = {}, queueCapacity = {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 연산을 전용 풀에서 실행하고 결과를 기다린다.
+     *
+     * @param operation 메트릭 태그로 사용할 연산 이름 (encode, matches)
+     * @param task      실행할 해시 연산
+     * @return 연산 결과
+     * @throws RetryableBusinessException PASSWORD_HASHING_BUSY 대기열이 가득 찼거나 제한 시간 내에 끝나지 않은 경우
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer durationTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", operation)
+                .register(meterRegistry);
+        long enqueuedAt = System.nanoTime();
+
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                return durationTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 초과 : operation = {}, queued = {}", operation, executor.getQueue().size());
+            throw busy();
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해시 대기 시간 초과 : operation = {}, timeout = {}ms", operation, timeoutMillis);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private RetryableBusinessException busy() {
+        rejectedCounter.increment();
+        return new RetryableBusinessException(ErrorCode.PASSWORD_HASHING_BUSY, retryAfter);
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
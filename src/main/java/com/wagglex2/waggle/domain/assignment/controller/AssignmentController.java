@@ -32,8 +32,11 @@ public class AssignmentController {
 
     @GetMapping("/{assignmentId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<AssignmentResponseDto>> getAssignment(@PathVariable Long assignmentId) {
-        AssignmentResponseDto responseDto = assignmentService.getAssignment(assignmentId);
+    public ResponseEntity<ApiResponse<AssignmentResponseDto>> getAssignment(
+            @PathVariable Long assignmentId,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        AssignmentResponseDto responseDto = assignmentService.getAssignment(assignmentId, userDetails.getUserId());
 
         return ResponseEntity.ok(
                 ApiResponse.ok("과제 공고를 성공적으로 조회하였습니다.", responseDto)
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.wagglex2.waggle.domain.assignment.entity.Assignment;
 import com.wagglex2.waggle.domain.common.dto.response.BaseRecruitmentResponseDto;
 import com.wagglex2.waggle.domain.common.dto.response.ParticipantInfoResponseDto;
+import com.wagglex2.waggle.domain.common.type.GradeMask;
 import com.wagglex2.waggle.domain.common.type.ParticipantInfo;
 import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
 import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
@@ -11,12 +12,16 @@ import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.entity.type.University;
 import lombok.Getter;
 
+import java.io.Serial;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class AssignmentResponseDto extends BaseRecruitmentResponseDto {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final String department;
     private final String lecture;
     private final String lectureCode;
@@ -38,15 +43,34 @@ public class AssignmentResponseDto extends BaseRecruitmentResponseDto {
     }
 
     public static AssignmentResponseDto fromEntity(Assignment assignment) {
+        return fromEntity(assignment, assignment.getViewCount());
+    }
+
+    /**
+     * @param viewCount 아직 DB에 반영되지 않은 조회수를 더한 조회수
+     */
+    public static AssignmentResponseDto fromEntity(Assignment assignment, int viewCount) {
         User author = assignment.getUser();
         ParticipantInfoResponseDto participants = ParticipantInfoResponseDto.from(assignment.getParticipants());
-
+        // 학년 컬렉션을 추가로 조회하지 않고 grade_mask에서 복원한다.
+        Set<Integer> grades = GradeMask.toSet(assignment.getGradeMask());
 
         return new AssignmentResponseDto(
                 assignment.getId(), author.getId(), author.getNickname(), assignment.getCategory(), author.getUniversity(),
                 assignment.getTitle(), assignment.getContent(), assignment.getDeadline(), assignment.getCreatedAt(),
-                assignment.getStatus(), assignment.getViewCount(), assignment.getDepartment(), assignment.getLecture(),
-                assignment.getLectureCode(), participants, assignment.getGrades()
+                assignment.getStatus(), viewCount, assignment.getDepartment(), assignment.getLecture(),
+                assignment.getLectureCode(), participants, grades
+        );
+    }
+
+    /**
+     * 캐시된 응답은 공유되므로 조회수만 바꾼 사본을 만든다.
+     */
+    public AssignmentResponseDto withViewCount(int viewCount) {
+        return new AssignmentResponseDto(
+                getId(), getAuthorId(), getAuthorNickname(), getCategory(), getUniversity(),
+                getTitle(), getContent(), getDeadline(), getCreatedAt(),
+                getStatus(), viewCount, department, lecture, lectureCode, participants, grades
         );
     }
 }
@@ -51,7 +51,8 @@ public class Assignment extends BaseRecruitment {
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
             name = "recruitment_grades",
-            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id")
+            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id"),
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
     )
     private Set<Integer> grades = new HashSet<>();
 
@@ -67,5 +68,6 @@ public class Assignment extends BaseRecruitment {
         this.lectureCode = lectureCode;
         this.participants = participants;
         this.grades = grades;
+        changeGradeMask(grades);
     }
 }
@@ -5,5 +5,5 @@ import com.wagglex2.waggle.domain.assignment.dto.response.AssignmentResponseDto;
 
 public interface AssignmentService {
     Long createAssignment(AssignmentCreationRequestDto assignmentCreationRequestDto, Long userId);
-    AssignmentResponseDto getAssignment(Long assignmentId);
+    AssignmentResponseDto getAssignment(Long assignmentId, Long userId);
 }
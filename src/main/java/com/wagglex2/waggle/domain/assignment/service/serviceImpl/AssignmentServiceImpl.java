@@ -7,9 +7,15 @@ import com.wagglex2.waggle.domain.assignment.dto.response.AssignmentResponseDto;
 import com.wagglex2.waggle.domain.assignment.entity.Assignment;
 import com.wagglex2.waggle.domain.assignment.repository.AssignmentRepository;
 import com.wagglex2.waggle.domain.assignment.service.AssignmentService;
+import com.wagglex2.waggle.domain.common.cache.RecruitmentDetailCache;
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.util.UniqueViewCounter;
+import com.wagglex2.waggle.domain.trending.index.TrendingRecorder;
 import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +25,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class AssignmentServiceImpl implements AssignmentService {
     private final AssignmentRepository assignmentRepository;
     private final UserService userService;
+    private final RecruitmentDetailCache recruitmentDetailCache;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final TrendingRecorder trendingRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -27,20 +37,29 @@ public class AssignmentServiceImpl implements AssignmentService {
         User user = userService.findById(userId);
         Assignment newAssignment = AssignmentCreationRequestDto.toEntity(user, requestDto);
 
-        return assignmentRepository.save(newAssignment).getId();
+        Long assignmentId = assignmentRepository.save(newAssignment).getId();
+        eventPublisher.publishEvent(RecruitmentChangedEvent.created(assignmentId, RecruitmentCategory.ASSIGNMENT));
+
+        return assignmentId;
     }
 
-    @Transactional
+    /**
+     * 조립한 상세 응답은 {@link RecruitmentDetailCache}에서 읽고, 캐시에 없을 때만 DB에서 조립한다.
+     * 조회수는 {@link UniqueViewCounter}로 사용자별 중복을 걸러 주기적으로 반영하며, 캐시된 응답의 조회수 대신
+     * 현재 DB 값에 아직 반영되지 않은 조회수를 더해 응답한다.
+     * 처음 본 조회는 인기 공고 점수에도 더한다.
+     */
     @Override
-    public AssignmentResponseDto getAssignment(Long assignmentId) {
-        int updated = assignmentRepository.increaseViewCount(assignmentId);
-        if (updated == 0) {
-            throw new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND);
-        }
+    public AssignmentResponseDto getAssignment(Long assignmentId, Long userId) {
+        AssignmentResponseDto cached = recruitmentDetailCache.get(
+                RecruitmentCategory.ASSIGNMENT, assignmentId, AssignmentResponseDto.class,
+                () -> assignmentRepository.findById(assignmentId)
+                        .map(AssignmentResponseDto::fromEntity)
+                        .orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND)));
 
-        Assignment assignment = assignmentRepository.findById(assignmentId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ASSIGNMENT_NOT_FOUND));
-
-        return AssignmentResponseDto.fromEntity(assignment);
+        if (uniqueViewCounter.record(userId, assignmentId)) {
+            trendingRecorder.recordView(RecruitmentCategory.ASSIGNMENT, assignmentId);
+        }
+        return cached.withViewCount(uniqueViewCounter.viewCount(assignmentId));
     }
 }
@@ -1,5 +1,6 @@
 package com.wagglex2.waggle.domain.auth.controller;
 
+import com.wagglex2.waggle.common.ratelimit.RateLimit;
 import com.wagglex2.waggle.common.response.ApiResponse;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
 import com.wagglex2.waggle.common.security.jwt.JwtUtil;
@@ -41,6 +42,8 @@ public class AuthController {
      * @return ApiResponse(Void) — 성공 시 "이메일 전송에 성공했습니다."
      */
     @PostMapping("/email/code")
+    @RateLimit(name = "email-code:ip", capacity = 10, periodSeconds = 600)
+    @RateLimit(name = "email-code:email", key = "#dto.email()", capacity = 3, periodSeconds = 600)
     public ResponseEntity<ApiResponse<Void>> sendEmailAuthCode(
             @Valid @RequestBody EmailRequestDto dto
             ) {
@@ -109,6 +112,8 @@ public class AuthController {
      * @see AuthService#login(SignInRequestDto)
      */
     @PostMapping("/sign-in")
+    @RateLimit(name = "sign-in:ip", capacity = 20, periodSeconds = 60)
+    @RateLimit(name = "sign-in:username", key = "#dto.username()", capacity = 5, periodSeconds = 60)
     public ResponseEntity<ApiResponse<Void>> signIn(
             @Valid @RequestBody SignInRequestDto dto,
             HttpServletResponse response
@@ -172,6 +177,7 @@ public class AuthController {
      * @return ApiResponse(Void) — 성공 시 "토큰 재발급에 성공했습니다."
      */
     @PostMapping("/refresh")
+    @RateLimit(name = "refresh:ip", capacity = 30, periodSeconds = 60)
     public ResponseEntity<ApiResponse<Void>> refreshToken(
             @CookieValue(name = REFRESH_TOKEN_COOKIE_NAME, required = false) String refreshToken,
             HttpServletResponse response
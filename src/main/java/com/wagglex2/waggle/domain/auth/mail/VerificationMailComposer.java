@@ -0,0 +1,39 @@
+package com.wagglex2.waggle.domain.auth.mail;
+
+import com.wagglex2.waggle.common.mail.MailJob;
+import com.wagglex2.waggle.common.mail.template.MailTemplateRegistry;
+import com.wagglex2.waggle.common.mail.template.PrecompiledMail;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 회원가입 인증번호 메일을 만든다.
+ *
+ * <p>템플릿({@code templates/mail/verification-code.html})과 보내는 사람, 제목은 기동 시 한 번 준비하고,
+ * 메일마다 받는 사람과 6자리 인증번호만 채운다.</p>
+ */
+@Component
+public class VerificationMailComposer {
+
+    private static final String TEMPLATE_NAME = "verification-code";
+    private static final String SUBJECT = "와글와글 회원가입 이메일 인증";
+
+    private final PrecompiledMail mail;
+
+    public VerificationMailComposer(MailTemplateRegistry templateRegistry,
+                                    @Value("${spring.mail.username}") String fromEmail) {
+        this.mail = PrecompiledMail.of(templateRegistry.get(TEMPLATE_NAME), fromEmail, SUBJECT);
+    }
+
+    /**
+     * @param toEmail          받는 사람 이메일
+     * @param verificationCode 6자리 인증번호
+     * @return 발송 대기열에 넣을 메일
+     */
+    public MailJob compose(String toEmail, String verificationCode) {
+        Map<String, String> values = Map.of("code", verificationCode);
+        return MailJob.of(toEmail, SUBJECT, message -> mail.prepare(message, toEmail, values));
+    }
+}
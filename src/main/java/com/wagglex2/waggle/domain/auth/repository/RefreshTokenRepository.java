@@ -0,0 +1,118 @@
+package com.wagglex2.waggle.domain.auth.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Redis에 저장되는 기기(세션)별 Refresh Token 저장소.
+ *
+ * <p>사용자마다 두 개의 Key를 사용하며, 중괄호 해시 태그로 같은 슬롯에 배치된다.</p>
+ * <ul>
+ *   <li>{@code RT:{userId}:tokens} (Hash) : sessionId → Refresh Token</li>
+ *   <li>{@code RT:{userId}:index} (Sorted Set) : sessionId → 마지막 사용 시각(ms)</li>
+ * </ul>
+ *
+ * <p>sessionId는 로그인 시 발급되어 Refresh Token의 {@code sid} 클레임에 담기므로,
+ * 조회와 교체는 사용자 세션 수와 무관하게 Key 하나, 필드 하나만 다룬다.
+ * 세션 수는 {@code auth.session.max-per-user}(기본 5)로 제한되며, 초과 시 가장 오래 사용되지 않은 세션이 제거된다.</p>
+ *
+ * <p>저장과 교체는 Lua 스크립트로 서버 측에서 한 번에 수행하므로,
+ * 동시에 들어온 두 재발급 요청 중 하나만 성공하며 네트워크 왕복도 1회로 끝난다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
+
+    private static final String REFRESH_TOKEN_PREFIX = "RT:";
+
+    // EVALSHA로 실행되도록 스크립트 SHA1을 캐싱한다.
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/save_refresh_session.lua"), Long.class);
+    private static final RedisScript<Long> ROTATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rotate_refresh_session.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${auth.session.max-per-user:5}")
+    private int maxSessionsPerUser;
+
+    /**
+     * 새 세션을 저장한다. 최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 제거한다.
+     *
+     * @param userId       사용자 ID
+     * @param sessionId    Refresh Token의 sid 클레임
+     * @param refreshToken 새로 발급한 Refresh Token
+     * @param ttlMillis    Refresh Token TTL (ms)
+     * @return 정리 또는 초과로 제거된 세션 수
+     */
+    public long save(Long userId, String sessionId, String refreshToken, long ttlMillis) {
+        Long evicted = redisTemplate.execute(
+                SAVE_SCRIPT,
+                keys(userId),
+                sessionId, refreshToken,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttlMillis),
+                String.valueOf(maxSessionsPerUser)
+        );
+
+        return evicted != null ? evicted : 0;
+    }
+
+    /**
+     * 해당 세션에 저장된 토큰이 제출된 토큰과 일치할 때만 새 토큰으로 교체한다.
+     *
+     * @param userId       사용자 ID
+     * @param sessionId    Refresh Token의 sid 클레임
+     * @param currentToken 클라이언트가 제출한 기존 Refresh Token
+     * @param newToken     새로 발급한 Refresh Token
+     * @param ttlMillis    새 토큰 TTL (ms)
+     * @return 교체 결과
+     */
+    public RotationResult rotate(Long userId, String sessionId, String currentToken, String newToken, long ttlMillis) {
+        Long result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                keys(userId),
+                sessionId, currentToken, newToken,
+                String.valueOf(System.currentTimeMillis()),
+                String.valueOf(ttlMillis)
+        );
+
+        return RotationResult.of(result);
+    }
+
+    /**
+     * 사용자의 모든 세션을 한 번에 제거한다. (로그아웃, 회원 탈퇴)
+     *
+     * <p>이전 형식의 단일 Key({@code RT:userId})도 함께 제거한다.</p>
+     *
+     * @param userId 사용자 ID
+     */
+    public void deleteAll(Long userId) {
+        List<String> keys = keys(userId);
+        redisTemplate.delete(List.of(keys.get(0), keys.get(1), REFRESH_TOKEN_PREFIX + userId));
+    }
+
+    private List<String> keys(Long userId) {
+        String tag = REFRESH_TOKEN_PREFIX + "{" + userId + "}";
+        return List.of(tag + ":tokens", tag + ":index");
+    }
+
+    public enum RotationResult {
+        ROTATED,    // 교체 성공
+        MISMATCH,   // 저장된 토큰과 불일치 (이미 사용된 토큰)
+        NOT_FOUND;  // 세션 없음 (만료, 로그아웃 또는 최대 세션 수 초과로 제거)
+
+        private static RotationResult of(Long scriptResult) {
+            if (scriptResult == null || scriptResult < 0) {
+                return NOT_FOUND;
+            }
+            return scriptResult == 1 ? ROTATED : MISMATCH;
+        }
+    }
+}
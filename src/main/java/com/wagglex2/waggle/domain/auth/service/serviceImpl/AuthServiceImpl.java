@@ -2,34 +2,36 @@ package com.wagglex2.waggle.domain.auth.service.serviceImpl;
 
 import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.common.mail.MailDispatcher;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
 import com.wagglex2.waggle.common.security.jwt.JwtUtil;
+import com.wagglex2.waggle.common.security.jwt.VerifiedToken;
 import com.wagglex2.waggle.domain.auth.dto.request.SignInRequestDto;
 import com.wagglex2.waggle.domain.auth.dto.response.TokenPair;
+import com.wagglex2.waggle.domain.auth.mail.VerificationMailComposer;
+import com.wagglex2.waggle.domain.auth.repository.RefreshTokenRepository;
+import com.wagglex2.waggle.domain.auth.repository.RefreshTokenRepository.RotationResult;
 import com.wagglex2.waggle.domain.auth.service.AuthService;
-import com.wagglex2.waggle.domain.user.entity.User;
-import com.wagglex2.waggle.domain.user.service.UserService;
+import com.wagglex2.waggle.domain.user.cache.UserAuthInfoCache;
+import com.wagglex2.waggle.domain.user.dto.response.UserAuthInfo;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.lettuce.core.RedisConnectionException;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.security.SecureRandom;
 import java.time.Duration;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -37,19 +39,16 @@ import java.util.concurrent.TimeUnit;
 @Slf4j
 public class AuthServiceImpl implements AuthService {
 
-    // Token
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
-
     // Email
-    @Value("${spring.mail.username}")
-    private String fromEmail;
     private static final String EMAIL_VERIFICATION_PREFIX = "EMAIL:";
     private static final int EXPIRATION_MINUTES = 3;
 
     private final JwtUtil jwtUtil;
-    private final UserService userService;
-    private final JavaMailSender mailSender;
+    private final UserAuthInfoCache userAuthInfoCache;
+    private final MailDispatcher mailDispatcher;
+    private final VerificationMailComposer verificationMailComposer;
     private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
     private final AuthenticationManager authenticationManager;
 
     /**
@@ -59,11 +58,11 @@ public class AuthServiceImpl implements AuthService {
      * <ol>
      *     <li>랜덤 6자리 인증번호 생성</li>
      *     <li>Redis에 {@code EMAIL:이메일} 키로 인증번호 저장 (TTL: 3분)</li>
-     *     <li>사용자 이메일로 인증번호 발송</li>
+     *     <li>인증번호 메일을 발송 대기열에 등록 (SMTP 발송을 기다리지 않고 반환)</li>
      * </ol>
      *
      * @param toEmail 인증번호를 받을 사용자 이메일
-     * @throws BusinessException 이메일 발송 실패 시 {@link ErrorCode#EMAIL_SEND_FAILED}
+     * @throws BusinessException 발송 대기열이 가득 찬 경우 {@link ErrorCode#EMAIL_QUEUE_FULL}
      */
     @Override
     public void sendAuthCode(String toEmail) {
@@ -76,16 +75,15 @@ public class AuthServiceImpl implements AuthService {
             String key = EMAIL_VERIFICATION_PREFIX + toEmail;
             redisTemplate.opsForValue().set(key, verificationCode, Duration.ofMinutes(EXPIRATION_MINUTES));
 
-            // 3. 사용자 이메일로 인증번호 발송
+            // 3. 인증번호 메일 발송 요청 (비동기)
             sendEmailAuthCode(toEmail, verificationCode);
-            log.info("인증번호 발송 완료: {}", toEmail);
+            log.info("인증번호 발송 요청 완료: {}", toEmail);
 
+        } catch (BusinessException e) {
+            throw e;
         } catch (RedisConnectionException e) {
             log.error("Redis 연결 실패 : {}", e.getMessage());
             throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
-        } catch (MailException e) {
-            log.error("이메일 발송 실패 - 이메일 : {}, 오류 : {}", toEmail, e.getMessage());
-            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED);
         } catch (Exception e) {
             log.error("인증번호 발송 처리 중 오류 발생 : {}", e.getMessage());
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -93,47 +91,25 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 실제 이메일 발송 로직을 처리한다.
+     * 인증번호 메일을 발송 대기열({@link MailDispatcher})에 넣는다.
+     *
+     * <p>SMTP 통신은 메일 워커 스레드에서 처리되며, 실패 시 재시도 후 Dead Letter로 기록된다.</p>
      *
      * <p>내용:</p>
      * <ul>
-     *     <li>보내는 사람: {@code fromEmail} (application-dev.properties에서 설정된 값)</li>
+     *     <li>보내는 사람: {@code spring.mail.username} (application-dev.properties에서 설정된 값)</li>
      *     <li>받는 사람: {@code toEmail}</li>
      *     <li>제목: "와글와글 회원가입 이메일 인증"</li>
-     *     <li>본문: 인증번호 포함 HTML 템플릿</li>
+     *     <li>본문: 인증번호 포함 HTML 템플릿 ({@link VerificationMailComposer})</li>
      * </ul>
      *
      * @param toEmail          인증번호를 받을 이메일
      * @param verificationCode 랜덤으로 생성된 6자리 인증번호
-     * @throws BusinessException 이메일 발송 실패 시 {@link ErrorCode#EMAIL_SEND_FAILED}
+     * @throws BusinessException 발송 대기열이 가득 찬 경우 {@link ErrorCode#EMAIL_QUEUE_FULL}
      */
     @Override
     public void sendEmailAuthCode(String toEmail, String verificationCode) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setFrom(fromEmail);
-            helper.setTo(toEmail);
-            helper.setSubject("와글와글 회원가입 이메일 인증");
-
-            String htmlContent = createEmailTemplate(verificationCode);
-
-            helper.setText(htmlContent, true);
-            mailSender.send(message);
-
-            log.info("이메일 발송 성공: {}", toEmail);
-
-        } catch (MessagingException e) {
-            log.error("이메일 발송 실패: {}", toEmail, e);
-            throw new BusinessException(ErrorCode.EMAIL_SEND_FAILED);
-        } catch (MailException e) {
-            log.error("이메일 메시지 생성 실패 : {}", toEmail, e);
-            throw new BusinessException(ErrorCode.EMAIL_CREATE_MESSAGE_FAILED);
-        } catch (Exception e) {
-            log.error("이메일 처리 중 오류 발생 : {}", e.getMessage());
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-        }
+        mailDispatcher.enqueue(verificationMailComposer.compose(toEmail, verificationCode));
     }
 
     /**
@@ -199,9 +175,8 @@ public class AuthServiceImpl implements AuthService {
      * <ol>
      *   <li>AuthenticationManager를 통해 사용자 인증 시도</li>
      *   <li>인증 성공 시 CustomUserDetails 추출</li>
-     *   <li>Access Token 및 Refresh Token 생성</li>
-     *   <li>기존 Redis에 저장된 Refresh Token 삭제 (중복 로그인 방지)</li>
-     *   <li>새로운 Refresh Token을 해싱하여 Redis에 저장</li>
+     *   <li>기기별 세션 ID를 발급하고 Access Token 및 Refresh Token 생성</li>
+     *   <li>새로운 세션을 Redis에 저장 (다른 기기의 세션은 유지, 최대 세션 수 초과 시 가장 오래된 세션 제거)</li>
      * </ol>
      *
      * @param dto 로그인 요청 DTO (username, password)
@@ -231,19 +206,14 @@ public class AuthServiceImpl implements AuthService {
                     userDetails.getNickname(),
                     userDetails.getRole()
             );
-            String refreshToken = jwtUtil.createRefreshToken(userId);
-
-            // 4. 기존 Refresh Token 삭제 (중복 로그인 방지)
-            String redisKey = REFRESH_TOKEN_PREFIX + userId;
-            redisTemplate.delete(redisKey);
-
-            // 5. 새로운 Refresh Token을 Redis에 저장
-            redisTemplate.opsForValue().set(
-                    redisKey,
-                    refreshToken,
-                    jwtUtil.getRefreshExpMills(),
-                    TimeUnit.MILLISECONDS
-            );
+            String sessionId = UUID.randomUUID().toString();
+            String refreshToken = jwtUtil.createRefreshToken(userId, sessionId);
+
+            // 4. 새로운 세션을 Redis에 저장 (다른 기기의 세션은 유지)
+            long evicted = refreshTokenRepository.save(userId, sessionId, refreshToken, jwtUtil.getRefreshExpMills());
+            if (evicted > 0) {
+                log.info("오래된 리프레시 세션 제거 : userId = {}, count = {}", userId, evicted);
+            }
 
             log.info("리프레시 토큰 Redis에 저장 성공 : {}", userId);
 
@@ -256,12 +226,11 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * Redis에서 특정 사용자의 Refresh Token을 삭제한다.
+     * Redis에서 특정 사용자의 모든 기기 Refresh 세션을 삭제한다.
      *
      * <p>처리 순서:</p>
      * <ol>
-     *   <li>사용자의 Redis Key를 생성한다. (형식: REFRESH_TOKEN_PREFIX + userId)</li>
-     *   <li>Redis에서 해당 Key를 삭제한다.</li>
+     *   <li>사용자의 세션 Hash와 인덱스 Key를 한 번에 삭제한다. (세션 수와 무관하게 O(1) 명령 1회)</li>
      *   <li>삭제 성공 시 로그를 기록한다.</li>
      *   <li>삭제 과정에서 예외가 발생하면 BusinessException을 발생시킨다.</li>
      * </ol>
@@ -272,8 +241,7 @@ public class AuthServiceImpl implements AuthService {
      */
     @Override
     public void deleteRefreshToken(Long userId) {
-        String redisKey = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.delete(redisKey);
+        refreshTokenRepository.deleteAll(userId);
 
         log.info("Refresh Token 삭제 완료 : {}", userId);
     }
@@ -283,65 +251,59 @@ public class AuthServiceImpl implements AuthService {
      *
      * <p>처리 순서:</p>
      * <ol>
-     *   <li>Refresh Token 유효성 및 타입 확인</li>
-     *   <li>Redis에 저장된 토큰과 일치 여부 검증</li>
-     *   <li>사용자 존재 여부 확인</li>
+     *   <li>Refresh Token을 한 번만 파싱하여 서명, 만료, 타입 확인</li>
+     *   <li>토큰 발급용 사용자 정보를 단기 캐시에서 조회 (미스 시에만 DB 조회)</li>
      *   <li>새로운 Access Token 및 Refresh Token 발급</li>
-     *   <li>Redis에 새로운 Refresh Token 갱신</li>
+     *   <li>Redis 스크립트로 같은 세션(sid)의 저장된 토큰 비교 및 새 토큰 저장을 원자적으로 수행 (왕복 1회)</li>
      * </ol>
      *
+     * <p>DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행한다.</p>
+     *
      * @param refreshToken 클라이언트가 보낸 Refresh Token (쿠키에서 추출)
      * @return 새롭게 발급된 Access/Refresh Token 쌍
-     * @throws BusinessException REFRESH_TOKEN_NOT_FOUND, REFRESH_TOKEN_INVALID, REFRESH_TOKEN_TYPE_INVALID, REFRESH_TOKEN_MISMATCH, USER_NOT_FOUND
+     * @throws BusinessException REFRESH_TOKEN_NOT_FOUND, REFRESH_TOKEN_INVALID, REFRESH_TOKEN_EXPIRED,
+     *                           REFRESH_TOKEN_TYPE_INVALID, REFRESH_TOKEN_MISMATCH, USER_NOT_FOUND
      */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenPair reissueTokens(String refreshToken) {
 
         try {
-            // 1. 토큰 유효성 및 타입 확인
+            // 1. 토큰 유효성 및 타입 확인 (파싱 1회)
             if (!StringUtils.hasText(refreshToken)) {
                 log.warn("리프레시 토큰을 찾을 수 없습니다.");
                 throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
             }
 
-            if (!jwtUtil.validateToken(refreshToken)) {
-                log.warn("리프레시 토큰이 유효하지 않습니다.");
-                throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
-            }
+            VerifiedToken token = verifyRefreshToken(refreshToken);
+            Long userId = token.userId();
 
-            if (!jwtUtil.isRefreshToken(refreshToken)) {
-                log.warn("리프레시 토큰 타입이 일치하지 않습니다.");
-                throw new BusinessException(ErrorCode.REFRESH_TOKEN_TYPE_INVALID);
-            }
+            // 2. 토큰 발급용 사용자 정보 조회 (캐시)
+            UserAuthInfo user = userAuthInfoCache.get(userId);
 
-            // 2. Redis에 저장된 토큰과 일치 여부 검증
-            Long userId = jwtUtil.getUserId(refreshToken);
-            String redisKey = REFRESH_TOKEN_PREFIX + userId;
-            String storedRefreshToken = redisTemplate.opsForValue().get(redisKey);
+            // 3. 새로운 Access Token 및 Refresh Token 발급
+            String newAccessToken = jwtUtil.createAccessToken(
+                    userId, user.username(), user.nickname(), user.role());
+            String newRefreshToken = jwtUtil.createRefreshToken(userId, token.sessionId());
+
+            // 4. 같은 세션에 저장된 토큰 비교 + 새 토큰 저장 (Compare-And-Swap)
+            RotationResult result = refreshTokenRepository.rotate(
+                    userId, token.sessionId(), refreshToken, newRefreshToken, jwtUtil.getRefreshExpMills());
 
-            if (!StringUtils.hasText(storedRefreshToken)) {
+            if (result == RotationResult.NOT_FOUND) {
                 log.warn("리프레시 토큰이 만료되었습니다: {}", userId);
                 throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
             }
 
-            if (!refreshToken.equals(storedRefreshToken)) {
+            if (result == RotationResult.MISMATCH) {
                 log.warn("리프레시 토큰이 일치하지 않습니다: {}", userId);
                 throw new BusinessException(ErrorCode.REFRESH_TOKEN_MISMATCH);
             }
 
-            // 3. 사용자 존재 여부 확인
-            User user = userService.findById(userId);
-
-            // 4. 새로운 Access Token 및 Refresh Token 발급
-            String newAccessToken = jwtUtil.createAccessToken(
-                    userId, user.getUsername(), user.getNickname(), user.getRole().name());
-            String newRefreshToken = jwtUtil.createRefreshToken(userId);
-
-            // 5. Redis 새로운 Refresh Token 갱신
-            redisTemplate.opsForValue().set(redisKey, newRefreshToken, jwtUtil.getRefreshExpMills(), TimeUnit.MILLISECONDS);
-
             return new TokenPair(newAccessToken, newRefreshToken);
 
+        } catch (BusinessException e) {
+            throw e;
         } catch (RedisConnectionException e) {
             log.warn("Redis 연결 실패 - Token 재발급 로직: {}", e.getMessage());
             throw new BusinessException(ErrorCode.REDIS_CONNECTION_ERROR);
@@ -352,45 +314,45 @@ public class AuthServiceImpl implements AuthService {
     }
 
     /**
-     * 6자리 숫자 형식의 랜덤 인증번호를 생성한다.
+     * Refresh Token을 한 번 파싱하여 서명, 만료, 타입을 검증한다.
      *
-     * @return "000000" ~ "999999" 범위의 문자열 인증번호
+     * @param refreshToken 클라이언트가 보낸 Refresh Token
+     * @return 검증이 끝난 토큰 뷰
+     * @throws BusinessException REFRESH_TOKEN_EXPIRED, REFRESH_TOKEN_INVALID, REFRESH_TOKEN_TYPE_INVALID
      */
-    private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
-        return String.format("%06d", random.nextInt(1_000_000));
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        VerifiedToken token;
+        try {
+            token = jwtUtil.verify(refreshToken);
+        } catch (ExpiredJwtException e) {
+            log.warn("리프레시 토큰이 만료되었습니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_EXPIRED);
+        } catch (JwtException e) {
+            log.warn("리프레시 토큰이 유효하지 않습니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        if (!token.isRefreshToken() || token.userId() == null) {
+            log.warn("리프레시 토큰 타입이 일치하지 않습니다.");
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_TYPE_INVALID);
+        }
+
+        // 세션 ID가 없는 이전 형식의 토큰은 재로그인 필요
+        if (!StringUtils.hasText(token.sessionId())) {
+            log.warn("세션 정보가 없는 리프레시 토큰입니다: {}", token.userId());
+            throw new BusinessException(ErrorCode.REFRESH_TOKEN_INVALID);
+        }
+
+        return token;
     }
 
     /**
-     * 이메일 본문으로 사용될 HTML 템플릿을 생성한다.
-     *
-     * <p>구성:</p>
-     * <ul>
-     *     <li>제목: "회원가입 이메일 인증"</li>
-     *     <li>본문: 인증번호를 크게 표시</li>
-     *     <li>주의 문구: "3분 이내에 입력해주세요"</li>
-     *     <li>하단 안내: 요청하지 않았다면 무시</li>
-     * </ul>
+     * 6자리 숫자 형식의 랜덤 인증번호를 생성한다.
      *
-     * @param verificationCode 이메일에 삽입할 6자리 인증번호
-     * @return HTML 문자열
+     * @return "000000" ~ "999999" 범위의 문자열 인증번호
      */
-    private String createEmailTemplate(String verificationCode) {
-        return String.format(
-                "<html><body style='font-family: Arial, sans-serif;'>" +
-                        "<div style='max-width: 600px; margin: 0 auto; padding: 20px;'>" +
-                        "<h2 style='color: #333; text-align: center;'>회원가입 이메일 인증</h2>" +
-                        "<div style='background-color: #f8f9fa; padding: 20px; border-radius: 8px; text-align: center;'>" +
-                        "<p style='font-size: 16px; margin-bottom: 20px;'>아래 인증번호를 입력해주세요:</p>" +
-                        "<div style='font-size: 32px; font-weight: bold; color: #007bff; letter-spacing: 5px; margin: 20px 0;'>%s</div>" +
-                        "<p style='color: #dc3545; font-weight: bold;'>3분 이내에 입력해주세요!</p>" +
-                        "</div>" +
-                        "<p style='font-size: 14px; color: #666; text-align: center; margin-top: 20px;'>" +
-                        "본인이 요청하지 않았다면 이 이메일을 무시해주세요." +
-                        "</p>" +
-                        "</div>" +
-                        "</body></html>",
-                verificationCode
-        );
+    private String generateVerificationCode() {
+        SecureRandom random = new SecureRandom();
+        return String.format("%06d", random.nextInt(1_000_000));
     }
 }
@@ -0,0 +1,177 @@
+package com.wagglex2.waggle.domain.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 캐시의 무효화를 Redis pub/sub 채널({@code cache.invalidation.channel})로 다른 노드에 전달한다.
+ *
+ * <p>로컬 캐시는 {@link #register(String, Consumer, Runnable)}로 캐시 이름과 제거 방법을 등록하고,
+ * 커밋 후 자기 노드의 항목을 지운 뒤 {@link #publish(String, String)}로 알린다. 키는 바로 보내지 않고
+ * {@code cache.invalidation.coalesce-millis}(기본 50ms) 동안 캐시별로 모아 {@code 노드 id|캐시 이름|키,키,...}
+ * 형식의 메시지 하나로 보낸다. 메시지를 받은 노드는 등록된 캐시에서 해당 키를 지우고, 자기가 보낸 메시지는 무시한다.
+ * 키에는 {@code ,}와 {@code |}를 쓰지 않는다.</p>
+ *
+ * <p>pub/sub은 연결이 끊긴 동안의 메시지를 다시 보내 주지 않는다. 그래서 재연결로 채널을 다시 구독하면
+ * 놓친 무효화가 있다고 보고 등록된 로컬 캐시를 모두 비운다. 보내지 못한 키는 다음 주기에 재시도한다.</p>
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private static final String SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = ",";
+    private static final int MAX_KEYS_PER_MESSAGE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final long coalesceMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisMessageListenerContainer container;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, LocalCache> caches = new ConcurrentHashMap<>();
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private volatile Map<String, Set<String>> pending = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedisTemplate<String, String> redisTemplate,
+                                RedisConnectionFactory redisConnectionFactory,
+                                @Value("${cache.invalidation.channel:cache-invalidation}") String channel,
+                                @Value("${cache.invalidation.coalesce-millis:50}") long coalesceMillis) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.coalesceMillis = coalesceMillis;
+        this.container = new RedisMessageListenerContainer();
+        this.container.setConnectionFactory(redisConnectionFactory);
+        this.container.addMessageListener(new Subscriber(), new ChannelTopic(channel));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-invalidation-bus");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMillis, coalesceMillis, TimeUnit.MILLISECONDS);
+        container.afterPropertiesSet();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            // 구독에 실패해도 컨테이너가 재시도하며, 구독되면 로컬 캐시를 비운다.
+            log.warn("캐시 무효화 채널 구독 실패, 재시도 예정 : channel = {}, 오류 : {}", channel, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws Exception {
+        scheduler.shutdown();
+        scheduler.awaitTermination(coalesceMillis, TimeUnit.MILLISECONDS);
+        flush();
+        container.destroy();
+    }
+
+    /**
+     * @param evict    키 하나를 로컬에서 지운다.
+     * @param evictAll 로컬 캐시를 모두 비운다.
+     */
+    public void register(String cacheName, Consumer<String> evict, Runnable evictAll) {
+        caches.put(cacheName, new LocalCache(evict, evictAll));
+    }
+
+    /**
+     * 다른 노드에 로컬 항목 제거를 알린다. 자기 노드의 항목은 호출하는 쪽에서 먼저 지운다.
+     */
+    public void publish(String cacheName, String key) {
+        pending.computeIfAbsent(cacheName, name -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    /**
+     * 모인 키를 캐시별 메시지로 보낸다.
+     */
+    synchronized void flush() {
+        Map<String, Set<String>> batch = pending;
+        pending = new ConcurrentHashMap<>();
+
+        batch.forEach((cacheName, keys) -> {
+            List<String> keyList = new ArrayList<>(keys);
+            for (int from = 0; from < keyList.size(); from += MAX_KEYS_PER_MESSAGE) {
+                List<String> chunk = keyList.subList(from, Math.min(from + MAX_KEYS_PER_MESSAGE, keyList.size()));
+                try {
+                    redisTemplate.convertAndSend(channel,
+                            nodeId + SEPARATOR + cacheName + SEPARATOR + String.join(KEY_SEPARATOR, chunk));
+                } catch (DataAccessException e) {
+                    List<String> remaining = keyList.subList(from, keyList.size());
+                    remaining.forEach(key -> publish(cacheName, key));
+                    log.warn("캐시 무효화 전송 실패, 다음 주기에 재시도 : cacheName = {}, count = {}, 오류 : {}",
+                            cacheName, remaining.size(), e.getMessage());
+                    return;
+                }
+            }
+        });
+    }
+
+    void onMessage(String message) {
+        String[] parts = message.split("\\" + SEPARATOR, 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+
+        LocalCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+        for (String key : parts[2].split(KEY_SEPARATOR)) {
+            cache.evict().accept(key);
+        }
+    }
+
+    // 기동 중 구독이 늦어진 경우에도 그 사이 채운 항목이 남지 않도록 첫 구독에서도 비운다.
+    void onSubscribed() {
+        caches.values().forEach(cache -> cache.evictAll().run());
+        if (subscribed.getAndSet(true)) {
+            log.warn("캐시 무효화 채널 재구독, 연결이 끊긴 동안의 무효화를 놓쳤을 수 있어 로컬 캐시를 비움 : count = {}",
+                    caches.size());
+        }
+    }
+
+    private record LocalCache(Consumer<String> evict, Runnable evictAll) {
+    }
+
+    private class Subscriber implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            CacheInvalidationBus.this.onMessage(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            onSubscribed();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.wagglex2.waggle.domain.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wagglex2.waggle.domain.common.dto.response.BaseRecruitmentResponseDto;
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 조립이 끝난 공고 상세 응답을 노드 로컬 캐시와 Redis 두 단계로 보관한다.
+ *
+ * <ol>
+ *   <li>로컬 : Caffeine 캐시. 항목 수와 직렬화 크기 합계로 크기를 제한하고,
+ *       {@code detail-cache.local.ttl-seconds}(기본 60초) 뒤 만료된다.</li>
+ *   <li>Redis : 노드끼리 공유하는 {@code RD:{category:id}} 키. {@code detail-cache.redis.ttl-seconds}(기본 600초) 뒤 만료된다.</li>
+ * </ol>
+ * <p>둘 다 없으면 DB에서 읽어 두 단계에 모두 저장한다. 같은 키를 동시에 읽는 요청은 로컬 캐시에서 한 번의 조회로 합쳐진다.</p>
+ *
+ * <p>공고가 수정, 취소되면 커밋 후 이벤트를 받아 Redis 키를 지우고 무효화 버전({@code RD:{category:id}:ver})을 올린 뒤
+ * 로컬 항목을 지우고, {@link CacheInvalidationBus}로 다른 노드의 로컬 항목도 지운다. DB를 읽기 전에 확인한 버전이
+ * 저장 시점에도 같을 때만 Redis에 쓰므로, 무효화와 경합한 수정 전 응답은 저장되지 않는다. 로컬 항목은 진행 중인 조회가
+ * 끝난 뒤에 지워지므로 같은 경합이 생기지 않는다.</p>
+ *
+ * <p>캐시하는 응답의 조회수는 DB 값이다. 아직 반영되지 않은 조회수는 호출하는 쪽에서 응답할 때 더한다.
+ * Redis 장애 시에는 로컬 캐시와 DB만으로 응답한다.</p>
+ *
+ * <p>지표</p>
+ * <ul>
+ *   <li>{@code recruitment.detail.cache.hit.ratio{level=local|redis}} : 단계별 적중률</li>
+ *   <li>{@code recruitment.detail.cache.load{category, source=redis|db}} : 로컬 캐시에 없을 때 읽어 오는 시간</li>
+ *   <li>{@code cache.*{cache=recruitment.detail.local}} : 로컬 캐시 크기, 축출 수 등 Caffeine 통계</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RecruitmentDetailCache {
+
+    static final String CACHE_NAME = "recruitment-detail";
+    private static final String DETAIL_PREFIX = "RD:";
+    private static final String INITIAL_VERSION = "0";
+
+    private static final RedisScript<Long> PUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/put_detail_cache.lua"), Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/invalidate_detail_cache.lua"), Long.class);
+
+    // Redis 값은 이 애플리케이션의 응답 DTO와 JDK 타입으로만 역직렬화한다.
+    private static final ObjectInputFilter DESERIALIZATION_FILTER =
+            ObjectInputFilter.Config.createFilter("com.wagglex2.waggle.domain.**;java.**;!*");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Cache<Key, Cached> local;
+    private final String redisTtlSeconds;
+    private final Map<RecruitmentCategory, Meters> meters = new EnumMap<>(RecruitmentCategory.class);
+
+    public RecruitmentDetailCache(RedisTemplate<String, String> redisTemplate,
+                                  CacheInvalidationBus cacheInvalidationBus,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${detail-cache.local.ttl-seconds:60}") long localTtlSeconds,
+                                  @Value("${detail-cache.local.max-size:10000}") long localMaxSize,
+                                  @Value("${detail-cache.local.max-weight-bytes:67108864}") long localMaxWeightBytes,
+                                  @Value("${detail-cache.redis.ttl-seconds:600}") long redisTtlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.meterRegistry = meterRegistry;
+        this.redisTtlSeconds = String.valueOf(redisTtlSeconds);
+
+        // Caffeine은 항목 수와 무게 제한을 함께 둘 수 없으므로, 항목마다 최소 무게를 둬 항목 수도 max-size 이하로 묶는다.
+        int minimumWeight = (int) Math.min(Integer.MAX_VALUE, Math.max(1, localMaxWeightBytes / localMaxSize));
+        this.local = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .maximumWeight(localMaxWeightBytes)
+                .<Key, Cached>weigher((key, cached) -> Math.max(minimumWeight, cached.weight()))
+                .recordStats()
+                .build();
+        cacheInvalidationBus.register(CACHE_NAME, key -> local.invalidate(Key.parse(key)), local::invalidateAll);
+
+        for (RecruitmentCategory category : RecruitmentCategory.values()) {
+            meters.put(category, Meters.register(meterRegistry, category));
+        }
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "recruitment.detail.local");
+        meterRegistry.gauge("recruitment.detail.cache.hit.ratio", Tags.of("level", "local"),
+                local, cache -> cache.stats().hitRate());
+        meterRegistry.gauge("recruitment.detail.cache.hit.ratio", Tags.of("level", "redis"),
+                meters, RecruitmentDetailCache::redisHitRatio);
+    }
+
+    /**
+     * 로컬 캐시, Redis, DB 순서로 상세 응답을 찾는다.
+     *
+     * @param loader DB에서 상세 응답을 조립한다. 조회수는 DB 값을 그대로 담아야 한다.
+     * @throws com.wagglex2.waggle.common.exception.BusinessException loader가 던진 예외 (캐시되지 않음)
+     */
+    public <T extends BaseRecruitmentResponseDto> T get(RecruitmentCategory category, long recruitmentId,
+                                                        Class<T> type, Supplier<T> loader) {
+        Cached cached = local.get(new Key(category, recruitmentId), key -> load(key, loader));
+        return type.cast(cached.value());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecruitmentChanged(RecruitmentChangedEvent event) {
+        if (event.type() != RecruitmentChangedEvent.Type.CREATED) {
+            invalidate(event.category(), event.recruitmentId());
+        }
+    }
+
+    /**
+     * Redis 키를 먼저 지워야 로컬 항목을 지운 직후의 조회가 Redis에서 수정 전 응답을 다시 가져오지 않는다.
+     */
+    public void invalidate(RecruitmentCategory category, long recruitmentId) {
+        Key key = new Key(category, recruitmentId);
+        try {
+            redisTemplate.execute(INVALIDATE_SCRIPT, List.of(key.value(), key.version()), redisTtlSeconds);
+        } catch (DataAccessException e) {
+            log.warn("상세 캐시 무효화 실패, Redis TTL 동안 이전 응답이 남을 수 있음 : category = {}, recruitmentId = {}, 오류 : {}",
+                    category, recruitmentId, e.getMessage());
+        }
+        local.invalidate(key);
+        cacheInvalidationBus.publish(CACHE_NAME, key.busKey());
+    }
+
+    private Cached load(Key key, Supplier<? extends BaseRecruitmentResponseDto> loader) {
+        Meters categoryMeters = meters.get(key.category());
+
+        String version = null;
+        Timer.Sample redisSample = Timer.start(meterRegistry);
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(List.of(key.value(), key.version()));
+            String payload = values == null ? null : values.get(0);
+            version = values == null || values.get(1) == null ? INITIAL_VERSION : values.get(1);
+
+            BaseRecruitmentResponseDto value = payload == null ? null : decode(payload);
+            if (value != null) {
+                redisSample.stop(categoryMeters.redisLoad());
+                categoryMeters.redisHit().increment();
+                return new Cached(value, payload.length());
+            }
+            categoryMeters.redisMiss().increment();
+        } catch (DataAccessException e) {
+            log.warn("상세 캐시 조회 실패, DB에서 읽음 : category = {}, recruitmentId = {}, 오류 : {}",
+                    key.category(), key.recruitmentId(), e.getMessage());
+        }
+
+        Timer.Sample dbSample = Timer.start(meterRegistry);
+        BaseRecruitmentResponseDto value = loader.get();
+        dbSample.stop(categoryMeters.dbLoad());
+
+        String payload = encode(value);
+        if (version != null) {
+            store(key, version, payload);
+        }
+        return new Cached(value, payload.length());
+    }
+
+    private void store(Key key, String version, String payload) {
+        try {
+            redisTemplate.execute(PUT_SCRIPT, List.of(key.value(), key.version()), version, payload, redisTtlSeconds);
+        } catch (DataAccessException e) {
+            log.warn("상세 캐시 저장 실패 : category = {}, recruitmentId = {}, 오류 : {}",
+                    key.category(), key.recruitmentId(), e.getMessage());
+        }
+    }
+
+    private static String encode(BaseRecruitmentResponseDto value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    // 배포로 DTO 구조가 바뀌어 읽을 수 없는 값은 없는 것으로 보고 DB에서 다시 읽어 덮어쓴다.
+    private static BaseRecruitmentResponseDto decode(String payload) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(payload)))) {
+            in.setObjectInputFilter(DESERIALIZATION_FILTER);
+            return (BaseRecruitmentResponseDto) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException | IllegalArgumentException e) {
+            log.warn("상세 캐시 역직렬화 실패, DB에서 다시 읽음 : 오류 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static double redisHitRatio(Map<RecruitmentCategory, Meters> meters) {
+        double hits = 0;
+        double requests = 0;
+        for (Meters categoryMeters : meters.values()) {
+            hits += categoryMeters.redisHit().count();
+            requests += categoryMeters.redisHit().count() + categoryMeters.redisMiss().count();
+        }
+        return requests == 0 ? Double.NaN : hits / requests;
+    }
+
+    private record Key(RecruitmentCategory category, long recruitmentId) {
+
+        static Key parse(String busKey) {
+            int separator = busKey.indexOf(':');
+            return new Key(RecruitmentCategory.valueOf(busKey.substring(0, separator)),
+                    Long.parseLong(busKey.substring(separator + 1)));
+        }
+
+        String busKey() {
+            return category.name() + ":" + recruitmentId;
+        }
+
+        // 두 키가 같은 해시 슬롯에 놓이도록 hash tag로 묶는다.
+        String value() {
+            return DETAIL_PREFIX + "{" + category.name() + ":" + recruitmentId + "}";
+        }
+
+        String version() {
+            return value() + ":ver";
+        }
+    }
+
+    /**
+     * @param weight 직렬화한 크기로 근사한 메모리 사용량
+     */
+    private record Cached(BaseRecruitmentResponseDto value, int weight) {
+    }
+
+    private record Meters(Counter redisHit, Counter redisMiss, Timer redisLoad, Timer dbLoad) {
+
+        static Meters register(MeterRegistry registry, RecruitmentCategory category) {
+            String name = category.name();
+            return new Meters(
+                    registry.counter("recruitment.detail.cache.redis", "category", name, "result", "hit"),
+                    registry.counter("recruitment.detail.cache.redis", "category", name, "result", "miss"),
+                    registry.timer("recruitment.detail.cache.load", "category", name, "source", "redis"),
+                    registry.timer("recruitment.detail.cache.load", "category", name, "source", "db")
+            );
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.wagglex2.waggle.domain.common.dto.request;
+
+import com.wagglex2.waggle.domain.common.type.Cursor;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.util.StringUtils;
+
+/**
+ * 커서 기반 페이지네이션 요청.
+ *
+ * <ul>
+ *   <li>cursor : 이전 응답의 {@code nextCursor} (없으면 첫 페이지)</li>
+ *   <li>size : 한 번에 조회할 개수 (1 이상 50 이하, 없으면 API별 기본값)</li>
+ * </ul>
+ *
+ * @see Cursor
+ */
+public record CursorRequestDto(
+        String cursor,
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 50, message = "조회 개수는 50 이하여야 합니다.")
+        Integer size
+) {
+    public boolean hasCursor() {
+        return StringUtils.hasText(cursor);
+    }
+
+    public Cursor decodedCursor() {
+        return Cursor.decode(cursor);
+    }
+
+    public int sizeOrDefault(int defaultSize) {
+        return size != null ? size : defaultSize;
+    }
+}
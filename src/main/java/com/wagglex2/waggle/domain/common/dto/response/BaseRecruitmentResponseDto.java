@@ -8,11 +8,20 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
+/**
+ * 공고 상세 응답의 공통 필드.
+ * 상세 응답은 {@link com.wagglex2.waggle.domain.common.cache.RecruitmentDetailCache}가 직렬화해 Redis에 보관한다.
+ */
 @Getter
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
-public class BaseRecruitmentResponseDto {
+public class BaseRecruitmentResponseDto implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final Long id;
     private final Long authorId;
     private final String authorNickname;
@@ -0,0 +1,47 @@
+package com.wagglex2.waggle.domain.common.dto.response;
+
+import com.wagglex2.waggle.domain.common.type.Cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지네이션 결과를 표현하는 공통 응답 DTO.
+ *
+ * <p>{@link PageResponse}와 달리 전체 개수를 세지 않고, OFFSET 없이 마지막으로 읽은 위치부터 이어서 조회한다.
+ * 따라서 목록이 길어져도 페이지마다 읽는 행 수가 일정하다. 대신 임의의 페이지로 바로 이동할 수는 없다.</p>
+ *
+ * <p><b>예시 응답(JSON):</b></p>
+ * <pre>
+ * {
+ *   "content": [ { "content": "좋아요" } ],
+ *   "nextCursor": "AAAAAGcbM4AAAAAAAAAAAAAAAAc",
+ *   "hasNext": true
+ * }
+ * </pre>
+ *
+ * @param <T> 목록에 포함될 데이터 타입 (예: {@code ReviewResponseDto})
+ */
+public record CursorResponse<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * {@code size + 1}개까지 조회한 결과로 응답을 만든다. 한 개가 더 있으면 다음 페이지가 있는 것이다.
+     *
+     * @param rows     {@code (createdAt DESC, id DESC)} 순서로 최대 {@code size + 1}개 조회한 행
+     * @param size     요청한 개수
+     * @param cursorOf 행의 위치
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+        return new CursorResponse<>(content, nextCursor, hasNext);
+    }
+
+    public <R> CursorResponse<R> map(Function<T, R> mapper) {
+        return new CursorResponse<>(content.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -1,6 +1,9 @@
 package com.wagglex2.waggle.domain.common.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.wagglex2.waggle.domain.common.type.PageMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -18,6 +21,14 @@ import java.util.List;
  *   <li>Swagger/OpenAPI 문서에서 응답 구조를 명확히 표시</li>
  * </ul>
  *
+ * <p><b>전체 개수 계산 방식({@link PageMode}):</b></p>
+ * <ul>
+ *   <li>{@link #from(Page)} : EXACT. COUNT 쿼리로 센 정확한 값</li>
+ *   <li>{@link #fromSlice(Slice)} : SLICE. {@code totalElements}, {@code totalPages}를 응답하지 않는다.</li>
+ *   <li>{@link #approximate(Slice, long)} : APPROXIMATE. 캐시된 근사값 (현재 페이지까지 읽은 개수보다 작지는 않음)</li>
+ * </ul>
+ * <p>어느 방식이든 {@code last}는 실제 조회 결과로 판단하므로 정확하다.</p>
+ *
  * <p><b>예시 응답(JSON):</b></p>
  * <pre>
  * {
@@ -26,19 +37,22 @@ import java.util.List;
  *   "pageSize": 5,
  *   "totalElements": 10,
  *   "totalPages": 2,
- *   "last": false
+ *   "last": false,
+ *   "mode": "EXACT"
  * }
  * </pre>
  *
  * @param <T> 페이지 내에 포함될 데이터 타입 (예: {@code ReviewResponseDto})
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
         List<T> content,
         int pageNumber,
         int pageSize,
-        long totalElements,
-        int totalPages,
-        boolean last
+        Long totalElements,
+        Integer totalPages,
+        boolean last,
+        PageMode mode
 ) {
     public static <T> PageResponse<T> from(Page<T> page) {
         return new PageResponse<>(
@@ -47,7 +61,41 @@ public record PageResponse<T>(
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
-                page.isLast()
+                page.isLast(),
+                PageMode.EXACT
+        );
+    }
+
+    public static <T> PageResponse<T> fromSlice(Slice<T> slice) {
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                null,
+                null,
+                slice.isLast(),
+                PageMode.SLICE
+        );
+    }
+
+    /**
+     * @param slice            조회한 페이지
+     * @param approximateTotal   캐시된 전체 개수
+     */
+    public static <T> PageResponse<T> approximate(Slice<T> slice, long approximateTotal) {
+        // 캐시가 오래되어 실제보다 작으면, 지금까지 확인한 개수를 하한으로 쓴다.
+        long seen = (long) slice.getNumber() * slice.getSize() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0);
+        long total = Math.max(approximateTotal, seen);
+        int totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) total / slice.getSize());
+
+        return new PageResponse<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                total,
+                totalPages,
+                slice.isLast(),
+                PageMode.APPROXIMATE
         );
     }
 }
@@ -2,10 +2,12 @@ package com.wagglex2.waggle.domain.common.dto.response;
 
 import com.wagglex2.waggle.domain.common.type.ParticipantInfo;
 
+import java.io.Serializable;
+
 public record ParticipantInfoResponseDto(
         int maxParticipants,
         int currParticipants
-) {
+) implements Serializable {
     public static ParticipantInfoResponseDto from(ParticipantInfo info) {
         return new ParticipantInfoResponseDto(info.getMaxParticipants(), info.getCurrParticipants());
     }
@@ -3,6 +3,7 @@ package com.wagglex2.waggle.domain.common.dto.response;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.wagglex2.waggle.domain.common.type.Period;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 
 public record PeriodResponseDto(
@@ -11,7 +12,7 @@ public record PeriodResponseDto(
 
         @JsonFormat(pattern = "yyyy-MM-dd")
         LocalDate endDate
-) {
+) implements Serializable {
     public static PeriodResponseDto from(Period period) {
         return new PeriodResponseDto(period.startDate(), period.endDate());
     }
@@ -3,10 +3,12 @@ package com.wagglex2.waggle.domain.common.dto.response;
 import com.wagglex2.waggle.domain.common.type.PositionParticipantInfo;
 import com.wagglex2.waggle.domain.common.type.PositionType;
 
+import java.io.Serializable;
+
 public record PositionInfoResponseDto(
         PositionType position,
         ParticipantInfoResponseDto participantInfo
-) {
+) implements Serializable {
     public static PositionInfoResponseDto from(PositionParticipantInfo info) {
         return new PositionInfoResponseDto(
                 info.getPosition(),
@@ -1,7 +1,10 @@
 package com.wagglex2.waggle.domain.common.entity;
 
+import com.wagglex2.waggle.domain.common.type.GradeMask;
 import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
 import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMaskConverter;
 import com.wagglex2.waggle.domain.project.entity.Project;
 import com.wagglex2.waggle.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -11,6 +14,8 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 
 /**
  * 모든 공고(Entity)의 부모 클래스.
@@ -28,8 +33,14 @@ import java.time.LocalDateTime;
  *   <li>createdAt : 공고 생성 시각 (JPA Auditing)</li>
  *   <li>updatedAt : 공고 수정 시각 (JPA Auditing)</li>
  *   <li>viewCount : 조회수 (기본값: 0)</li>
+ *   <li>skillMask : 요구 기술 스택의 비트마스크 (skill_mask, 목록 필터 전용 비정규화 컬럼)</li>
+ *   <li>gradeMask : 지원 가능 학년의 비트마스크 (grade_mask, 목록 필터와 화면 표시용 비정규화 컬럼)</li>
  * </ul>
  *
+ * <p>하위 공고의 기술 스택/학년 컬렉션 테이블(recruitment_skills, recruitment_grades)은 모든 공고 타입이
+ * recruitment_id로 함께 쓴다. 하위 테이블 하나를 참조하는 FK를 만들면 다른 타입의 행을 넣을 수 없으므로,
+ * 각 하위 엔티티의 {@code @CollectionTable}은 FK를 만들지 않는다. ({@link ConstraintMode#NO_CONSTRAINT})</p>
+ *
  * @see Project
  * @author 오재민
  */
@@ -79,6 +90,15 @@ public abstract class BaseRecruitment {
     @Column(name = "view_count", nullable = false)
     private int viewCount = 0;
 
+    // 하위 공고의 기술 스택 컬렉션과 항상 함께 바꾼다. (기술 스택이 없는 공고는 0)
+    @Column(name = "skill_mask", nullable = false)
+    @Convert(converter = SkillMaskConverter.class)
+    private EnumSet<Skill> skillMask = EnumSet.noneOf(Skill.class);
+
+    // 하위 공고의 학년 컬렉션과 항상 함께 바꾼다. (학년 조건이 없는 공고는 0)
+    @Column(name = "grade_mask", nullable = false)
+    private int gradeMask = GradeMask.EMPTY;
+
     protected BaseRecruitment(
             User user, RecruitmentCategory category,
             String title, String content, LocalDateTime deadline
@@ -96,6 +116,17 @@ public abstract class BaseRecruitment {
         this.deadline = deadline;
     }
 
+    // 변경 감지가 동작하도록 기존 집합을 수정하지 않고 새 집합으로 바꾼다.
+    protected void changeSkillMask(Set<Skill> skills) {
+        this.skillMask = skills == null || skills.isEmpty()
+                ? EnumSet.noneOf(Skill.class)
+                : EnumSet.copyOf(skills);
+    }
+
+    protected void changeGradeMask(Set<Integer> grades) {
+        this.gradeMask = GradeMask.of(grades);
+    }
+
     protected void changeStatusByDeadline() {
         if (this.status == RecruitmentStatus.CANCELED) {
             return;
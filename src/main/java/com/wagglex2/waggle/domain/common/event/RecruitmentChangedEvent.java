@@ -0,0 +1,34 @@
+package com.wagglex2.waggle.domain.common.event;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+
+/**
+ * 공고가 생성, 수정, 취소되었음을 알리는 도메인 이벤트.
+ *
+ * <p>공고 서비스가 트랜잭션 안에서 발행하며, 구독자는 {@code @TransactionalEventListener(phase = AFTER_COMMIT)}로
+ * 커밋이 끝난 뒤에만 받는다. 따라서 롤백된 변경은 전달되지 않고, 구독자의 처리 시간이 요청 응답에 더해지지 않는다.</p>
+ *
+ * <p>이벤트에는 id만 담는다. 구독자는 필요한 시점에 최신 상태를 다시 조회하므로
+ * 같은 공고의 이벤트가 여러 번 와도 마지막 상태 하나만 반영하면 된다.</p>
+ */
+public record RecruitmentChangedEvent(
+        Long recruitmentId,
+        RecruitmentCategory category,
+        Type type
+) {
+    public enum Type {
+        CREATED, UPDATED, CANCELLED
+    }
+
+    public static RecruitmentChangedEvent created(Long recruitmentId, RecruitmentCategory category) {
+        return new RecruitmentChangedEvent(recruitmentId, category, Type.CREATED);
+    }
+
+    public static RecruitmentChangedEvent updated(Long recruitmentId, RecruitmentCategory category) {
+        return new RecruitmentChangedEvent(recruitmentId, category, Type.UPDATED);
+    }
+
+    public static RecruitmentChangedEvent cancelled(Long recruitmentId, RecruitmentCategory category) {
+        return new RecruitmentChangedEvent(recruitmentId, category, Type.CANCELLED);
+    }
+}
@@ -0,0 +1,82 @@
+package com.wagglex2.waggle.domain.common.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 모아 둔 공고 조회수를 base_recruitments에 한 번에 더하고, 상세 응답에 쓸 현재 조회수를 읽는다.
+ *
+ * <p>공고 {@code view-count.chunk-size}(기본 500)개마다 UPDATE 한 번으로 반영한다.
+ * 모든 청크를 한 트랜잭션으로 반영하므로, 중간 청크가 실패하면 앞서 반영한 청크도 함께 롤백된다.
+ * 실패한 조회수를 통째로 다시 반영하는 {@code ViewCountBuffer}가 같은 조회수를 두 번 더하지 않기 위해서다.</p>
+ * <pre>
+ * UPDATE base_recruitments
+ *    SET view_count = view_count + CASE id WHEN ? THEN ? WHEN ? THEN ? ... END
+ *  WHERE id IN (?, ?, ...)
+ * </pre>
+ */
+@Repository
+public class ViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public ViewCountRepository(JdbcTemplate jdbcTemplate,
+                               @Value("${view-count.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @param deltas 공고 id → 더할 조회수
+     * @return 반영된 공고 수 (삭제되어 없는 공고는 제외)
+     */
+    @Transactional
+    public int addViewCounts(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        int updated = 0;
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            updated += update(entries.subList(from, Math.min(from + chunkSize, entries.size())));
+        }
+        return updated;
+    }
+
+    /**
+     * 상세 응답 캐시와 별개로 현재 조회수만 기본 키로 읽는다.
+     *
+     * @return DB의 조회수 (없는 공고면 0)
+     */
+    public long findViewCount(long recruitmentId) {
+        List<Long> viewCounts = jdbcTemplate.query(
+                "SELECT view_count FROM base_recruitments WHERE id = ?",
+                (rs, rowNum) -> rs.getLong(1),
+                recruitmentId);
+        return viewCounts.isEmpty() ? 0 : viewCounts.get(0);
+    }
+
+    private int update(List<Map.Entry<Long, Long>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE base_recruitments SET view_count = view_count + CASE id");
+        Object[] args = new Object[chunk.size() * 3];
+        int i = 0;
+        for (Map.Entry<Long, Long> entry : chunk) {
+            sql.append(" WHEN ? THEN ?");
+            args[i++] = entry.getKey();
+            args[i++] = entry.getValue();
+        }
+        sql.append(" ELSE 0 END WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(chunk.size(), "?")))
+                .append(')');
+        for (Map.Entry<Long, Long> entry : chunk) {
+            args[i++] = entry.getKey();
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
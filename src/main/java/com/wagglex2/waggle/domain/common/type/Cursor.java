@@ -0,0 +1,57 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.BusinessException;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션에서 마지막으로 읽은 행의 위치 (작성 시각, id).
+ *
+ * <p>목록은 {@code (createdAt DESC, id DESC)}로 정렬하며, 다음 페이지는
+ * {@code WHERE (created_at, id) < (cursor.createdAt, cursor.id)}로 이어서 읽는다.
+ * 작성 시각이 같은 행은 id로 구분하므로 건너뛰거나 중복되는 행이 없다.</p>
+ *
+ * <p>클라이언트에는 내부 구조를 드러내지 않도록 URL-safe Base64 토큰({@link #encode()})으로 전달한다.</p>
+ *
+ * @param createdAt 마지막 행의 작성 시각
+ * @param id        마지막 행의 id
+ */
+public record Cursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    // epoch 초(8) + 나노초(4) + id(8)
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES)
+                .putLong(createdAt.toEpochSecond(ZoneOffset.UTC))
+                .putInt(createdAt.getNano())
+                .putLong(id);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * @param token {@link #encode()}로 만든 토큰
+     * @throws BusinessException 토큰 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR}
+     */
+    public static Cursor decode(String token) {
+        try {
+            byte[] bytes = Base64.getUrlDecoder().decode(token);
+            if (bytes.length != ENCODED_BYTES) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+            return new Cursor(createdAt, buffer.getLong());
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 지원 가능 학년 집합과 {@code grade_mask} 컬럼 값 사이의 변환.
+ *
+ * <p>학년 n(1 ~ 4)은 n-1번째 비트로 표현한다. 예) {2, 3} → 0b0110</p>
+ *
+ * @see SkillMask
+ */
+public final class GradeMask {
+
+    public static final int EMPTY = 0;
+
+    private GradeMask() {
+    }
+
+    public static int of(int grade) {
+        return 1 << (grade - 1);
+    }
+
+    public static int of(Collection<Integer> grades) {
+        int mask = EMPTY;
+        if (grades == null) {
+            return mask;
+        }
+        for (int grade : grades) {
+            mask |= of(grade);
+        }
+        return mask;
+    }
+
+    // 학년 오름차순
+    public static Set<Integer> toSet(int mask) {
+        Set<Integer> grades = new TreeSet<>();
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            grades.add(Integer.numberOfTrailingZeros(bits) + 1);
+        }
+        return grades;
+    }
+}
@@ -0,0 +1,27 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 페이지 응답의 전체 개수 계산 방식.
+ *
+ * <ul>
+ *   <li>EXACT : 페이지마다 COUNT 쿼리로 정확한 전체 개수를 센다.</li>
+ *   <li>SLICE : 한 개를 더 조회해 다음 페이지 여부만 판단하며, 전체 개수는 응답하지 않는다.</li>
+ *   <li>APPROXIMATE : SLICE로 조회하고, 전체 개수는 주기적으로 백그라운드에서 다시 세는 캐시 값을 응답한다.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+@Getter
+public enum PageMode {
+    EXACT("정확한 전체 개수"),
+    SLICE("전체 개수 없음"),
+    APPROXIMATE("근사 전체 개수");
+
+    private final String desc;
+
+    public String getName() {
+        return this.name();
+    }
+}
@@ -35,4 +35,9 @@ public class ParticipantInfo {
     public ParticipantInfo(int maxParticipants) {
         this.maxParticipants = maxParticipants;
     }
+
+    // 아직 모집 인원이 남아 있는지
+    public boolean isOpen() {
+        return currParticipants < maxParticipants;
+    }
 }
@@ -0,0 +1,56 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * 포지션 집합과 {@code open_position_mask} 컬럼 값 사이의 변환.
+ *
+ * <p>각 {@link PositionType}은 {@link PositionType#getBit()} 위치의 비트 하나를 가진다.</p>
+ *
+ * @see SkillMask
+ */
+public final class PositionMask {
+
+    public static final int EMPTY = 0;
+
+    private PositionMask() {
+    }
+
+    public static int of(Collection<PositionType> positions) {
+        int mask = EMPTY;
+        if (positions == null) {
+            return mask;
+        }
+        for (PositionType position : positions) {
+            mask |= position.mask();
+        }
+        return mask;
+    }
+
+    /**
+     * 모집 인원이 남아 있는 포지션만 비트로 표현한다.
+     */
+    public static int openOf(Collection<PositionParticipantInfo> positions) {
+        int mask = EMPTY;
+        if (positions == null) {
+            return mask;
+        }
+        for (PositionParticipantInfo info : positions) {
+            if (info.getParticipantInfo().isOpen()) {
+                mask |= info.getPosition().mask();
+            }
+        }
+        return mask;
+    }
+
+    public static EnumSet<PositionType> toSet(int mask) {
+        EnumSet<PositionType> positions = EnumSet.noneOf(PositionType.class);
+        for (PositionType position : PositionType.values()) {
+            if ((mask & position.mask()) != 0) {
+                positions.add(position);
+            }
+        }
+        return positions;
+    }
+}
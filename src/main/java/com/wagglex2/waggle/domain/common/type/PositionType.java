@@ -1,6 +1,7 @@
 package com.wagglex2.waggle.domain.common.type;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -8,17 +9,25 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @JsonFormat(shape=JsonFormat.Shape.OBJECT)
 public enum PositionType {
-    FULL_STACK("풀스택"),
-    FRONT_END("프론트엔드"),
-    BACK_END("백엔드"),
-    DATA("데이터"),
-    AI("AI"),
-    GAME("게임"),
-    PLANNER("기획"),
-    DESIGNER("디자인");
+    FULL_STACK("풀스택", 0),
+    FRONT_END("프론트엔드", 1),
+    BACK_END("백엔드", 2),
+    DATA("데이터", 3),
+    AI("AI", 4),
+    GAME("게임", 5),
+    PLANNER("기획", 6),
+    DESIGNER("디자인", 7);
 
     private final String desc;
 
+    // open_position_mask 컬럼의 비트 위치. 저장된 값과 맞아야 하므로 기존 상수의 값은 바꾸지 않는다. (최대 31)
+    @JsonIgnore
+    private final int bit;
+
+    public int mask() {
+        return 1 << bit;
+    }
+
     public String getName() {
         return this.name();
     }
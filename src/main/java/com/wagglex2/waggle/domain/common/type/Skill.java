@@ -1,6 +1,7 @@
 package com.wagglex2.waggle.domain.common.type;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -9,51 +10,59 @@ import lombok.RequiredArgsConstructor;
 @JsonFormat(shape = JsonFormat.Shape.OBJECT)
 public enum Skill {
     // 언어
-    HTML("HTML"),
-    CSS("CSS"),
-    JAVASCRIPT("JavaScript"),
-    JAVA("Java"),
-    KOTLIN("Kotlin"),
-    PYTHON("Python"),
-    SWIFT("Swift"),
-    C_CPP("C/C++"),
-    CSHARP("C#"),
-    TYPESCRIPT("TypeScript"),
+    HTML("HTML", 0),
+    CSS("CSS", 1),
+    JAVASCRIPT("JavaScript", 2),
+    JAVA("Java", 3),
+    KOTLIN("Kotlin", 4),
+    PYTHON("Python", 5),
+    SWIFT("Swift", 6),
+    C_CPP("C/C++", 7),
+    CSHARP("C#", 8),
+    TYPESCRIPT("TypeScript", 9),
 
     // 라이브러리 / 프레임워크
-    REACT("React"),
-    NODE_JS("Node.js"),
-    EXPRESS("Express"),
-    VUE_JS("Vue.js"),
-    NEXT_JS("Next.js"),
-    SPRING_BOOT("Spring Boot"),
-    DJANGO("Django"),
-    PANDAS("Pandas"),
-    SCIKIT_LEARN("scikit-learn"),
-    PYTORCH("PyTorch"),
-    TENSORFLOW("TensorFlow"),
-    FLUTTER("Flutter"),
+    REACT("React", 10),
+    NODE_JS("Node.js", 11),
+    EXPRESS("Express", 12),
+    VUE_JS("Vue.js", 13),
+    NEXT_JS("Next.js", 14),
+    SPRING_BOOT("Spring Boot", 15),
+    DJANGO("Django", 16),
+    PANDAS("Pandas", 17),
+    SCIKIT_LEARN("scikit-learn", 18),
+    PYTORCH("PyTorch", 19),
+    TENSORFLOW("TensorFlow", 20),
+    FLUTTER("Flutter", 21),
 
     // 데이터베이스
-    MYSQL("MySQL"),
-    REDIS("Redis"),
-    MONGODB("MongoDB"),
-    POSTGRESQL("PostgreSQL"),
+    MYSQL("MySQL", 22),
+    REDIS("Redis", 23),
+    MONGODB("MongoDB", 24),
+    POSTGRESQL("PostgreSQL", 25),
 
     // 협업 / 툴
-    GIT_GITHUB("Git/GitHub"),
-    GITHUB_ACTIONS("GitHub Actions"),
-    FIGMA("Figma"),
-    NOTION("Notion"),
-    JIRA("Jira"),
+    GIT_GITHUB("Git/GitHub", 26),
+    GITHUB_ACTIONS("GitHub Actions", 27),
+    FIGMA("Figma", 28),
+    NOTION("Notion", 29),
+    JIRA("Jira", 30),
 
     // 기타
-    DOCKER("Docker"),
-    UNITY("Unity"),
-    UNREAL("Unreal");
+    DOCKER("Docker", 31),
+    UNITY("Unity", 32),
+    UNREAL("Unreal", 33);
 
     private final String desc;
 
+    // skill_mask 컬럼의 비트 위치. 저장된 값과 맞아야 하므로 기존 상수의 값은 바꾸지 않고, 새 상수는 빈 위치(최대 63)를 쓴다.
+    @JsonIgnore
+    private final int bit;
+
+    public long mask() {
+        return 1L << bit;
+    }
+
     public String getName() {
         return name();
     }
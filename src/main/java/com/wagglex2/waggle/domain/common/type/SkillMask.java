@@ -0,0 +1,50 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import java.util.Collection;
+import java.util.EnumSet;
+
+/**
+ * 기술 스택 집합과 {@code skill_mask} 컬럼 값(64비트) 사이의 변환.
+ *
+ * <p>각 {@link Skill}은 {@link Skill#getBit()} 위치의 비트 하나를 가지므로, 집합 연산을 비트 연산으로 할 수 있다.</p>
+ * <ul>
+ *   <li>모두 포함 : {@code (mask & required) = required}</li>
+ *   <li>하나라도 포함 : {@code (mask & required) <> 0}</li>
+ * </ul>
+ */
+public final class SkillMask {
+
+    public static final long EMPTY = 0L;
+
+    private SkillMask() {
+    }
+
+    public static long of(Collection<Skill> skills) {
+        long mask = EMPTY;
+        if (skills == null) {
+            return mask;
+        }
+        for (Skill skill : skills) {
+            mask |= skill.mask();
+        }
+        return mask;
+    }
+
+    public static EnumSet<Skill> toSet(long mask) {
+        EnumSet<Skill> skills = EnumSet.noneOf(Skill.class);
+        for (Skill skill : Skill.values()) {
+            if ((mask & skill.mask()) != 0) {
+                skills.add(skill);
+            }
+        }
+        return skills;
+    }
+
+    public static boolean containsAll(long mask, long required) {
+        return (mask & required) == required;
+    }
+
+    public static boolean containsAny(long mask, long required) {
+        return (mask & required) != 0;
+    }
+}
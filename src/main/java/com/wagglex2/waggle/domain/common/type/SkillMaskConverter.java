@@ -0,0 +1,25 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.EnumSet;
+
+/**
+ * 엔티티에서는 {@link EnumSet}으로 다루고, DB에는 {@code skill_mask} BIGINT 하나로 저장한다.
+ *
+ * @see SkillMask
+ */
+@Converter
+public class SkillMaskConverter implements AttributeConverter<EnumSet<Skill>, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(EnumSet<Skill> skills) {
+        return SkillMask.of(skills);
+    }
+
+    @Override
+    public EnumSet<Skill> convertToEntityAttribute(Long mask) {
+        return SkillMask.toSet(mask != null ? mask : SkillMask.EMPTY);
+    }
+}
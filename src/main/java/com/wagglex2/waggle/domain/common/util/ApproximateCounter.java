@@ -0,0 +1,103 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록의 전체 개수를 캐시해 두고 백그라운드에서 주기적으로 다시 세는 카운터.
+ *
+ * <p>{@code PageMode.APPROXIMATE} 목록은 페이지마다 COUNT 쿼리를 실행하지 않고 이 값을 응답한다.</p>
+ * <ul>
+ *   <li>처음 조회하는 키는 그 자리에서 한 번 센다.</li>
+ *   <li>센 지 {@code page.approximate-count.refresh-seconds}(기본 60초)가 지난 키는 기존 값을 바로 반환하고,
+ *       백그라운드 스레드에서 다시 센다. 같은 키를 동시에 여러 번 세지 않는다.</li>
+ *   <li>목록에 행이 추가/삭제되면 {@link #add(String, long)}로 캐시 값을 바로 보정할 수 있다.</li>
+ *   <li>키는 최대 {@code page.approximate-count.max-keys}(기본 10,000)개까지 보관한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ApproximateCounter {
+
+    private final long refreshNanos;
+    private final Cache<String, Count> counts;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refresher;
+
+    public ApproximateCounter(@Value("${page.approximate-count.refresh-seconds:60}") long refreshSeconds,
+                              @Value("${page.approximate-count.max-keys:10000}") long maxKeys) {
+        this.refreshNanos = Duration.ofSeconds(refreshSeconds).toNanos();
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .build();
+        this.refresher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approximate-counter");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * @param key     목록 식별자 (예: {@code reviews:reviewee:3})
+     * @param counter 정확한 개수를 세는 함수 (COUNT 쿼리)
+     * @return 캐시된 전체 개수
+     */
+    public long get(String key, LongSupplier counter) {
+        Count count = counts.getIfPresent(key);
+        if (count == null) {
+            return counts.get(key, k -> new Count(counter.getAsLong(), System.nanoTime())).value();
+        }
+
+        if (System.nanoTime() - count.countedAt() >= refreshNanos) {
+            refreshAsync(key, counter);
+        }
+        return count.value();
+    }
+
+    /**
+     * 캐시된 개수에 delta를 더한다. 아직 센 적이 없는 키는 무시한다.
+     */
+    public void add(String key, long delta) {
+        counts.asMap().computeIfPresent(key, (k, count) -> new Count(Math.max(0, count.value() + delta), count.countedAt()));
+    }
+
+    private void refreshAsync(String key, LongSupplier counter) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refresher.execute(() -> {
+                try {
+                    counts.put(key, new Count(counter.getAsLong(), System.nanoTime()));
+                } catch (RuntimeException e) {
+                    log.warn("목록 개수 갱신 실패 : key = {}, 오류 : {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private record Count(long value, long countedAt) {
+    }
+}
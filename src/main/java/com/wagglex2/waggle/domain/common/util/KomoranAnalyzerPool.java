@@ -0,0 +1,50 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import kr.co.shineware.nlp.komoran.core.Komoran;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 같은 사용자 사전으로 만든 Komoran 인스턴스 묶음 (한 세대).
+ *
+ * <p>사전이 바뀌면 {@link KomoranUtil}이 새 풀을 만들어 통째로 교체한다.
+ * 분석 중이던 요청은 빌린 풀에 분석기를 돌려주므로 교체와 무관하게 끝까지 진행된다.</p>
+ */
+class KomoranAnalyzerPool {
+
+    private final int generation;
+    private final BlockingQueue<Komoran> analyzers;
+
+    private KomoranAnalyzerPool(int generation, BlockingQueue<Komoran> analyzers) {
+        this.generation = generation;
+        this.analyzers = analyzers;
+    }
+
+    static KomoranAnalyzerPool create(int generation, int size, String userDicPath) {
+        BlockingQueue<Komoran> analyzers = new ArrayBlockingQueue<>(size);
+        for (int i = 0; i < size; i++) {
+            Komoran komoran = new Komoran(DEFAULT_MODEL.LIGHT);
+            komoran.setUserDic(userDicPath);
+            analyzers.add(komoran);
+        }
+        return new KomoranAnalyzerPool(generation, analyzers);
+    }
+
+    Komoran checkout() throws InterruptedException {
+        return analyzers.take();
+    }
+
+    void release(Komoran komoran) {
+        analyzers.offer(komoran);
+    }
+
+    int available() {
+        return analyzers.size();
+    }
+
+    int generation() {
+        return generation;
+    }
+}
@@ -1,25 +1,388 @@
 package com.wagglex2.waggle.domain.common.util;
 
-import kr.co.shineware.nlp.komoran.constant.DEFAULT_MODEL;
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import kr.co.shineware.nlp.komoran.core.Komoran;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * Komoran 형태소 분석기 풀.
+ *
+ * <p>Komoran 인스턴스를 {@code komoran.pool-size}개(기본 0 = CPU 코어 수) 만들어 두고,
+ * 분석할 때마다 하나를 빌려(checkout) 쓰고 돌려준다(release). 하나의 분석기에 모든 요청이 몰리지 않으므로
+ * 색인처럼 대량의 본문을 분석하는 작업이 코어 수에 비례해 빨라진다.</p>
+ *
+ * <ul>
+ *   <li>{@link #getNouns(String)} : 문자열 하나에서 명사 추출</li>
+ *   <li>{@link #getNouns(List)} : 여러 문자열을 Fork/Join으로 나누어 병렬 분석, 입력 순서대로 결과 반환</li>
+ * </ul>
+ *
+ * <p>사용자 사전과 모델 로딩</p>
+ * <ul>
+ *   <li>사전 위치 : {@code komoran.user-dic} (기본 {@code classpath:komoran/dic.user}, 외부 파일은 {@code file:/경로})</li>
+ *   <li>모델은 백그라운드 스레드에서 로딩하며, 로딩이 끝나기 전 호출은 최대 {@code komoran.ready-timeout-millis}(기본 30초)
+ *       동안 기다린 뒤 ANALYZER_NOT_READY(503)로 응답한다.</li>
+ *   <li>외부 사전 파일이 바뀌면({@code komoran.watch-dictionary}, 기본 true) 새 분석기 풀을 따로 만든 뒤 원자적으로 교체한다.
+ *       교체 중에도 기존 풀로 분석이 계속되며, 로딩에 실패하면 기존 풀을 유지한다.</li>
+ * </ul>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code komoran.analyze} : 문자열 하나의 분석 시간</li>
+ *   <li>{@code komoran.pool.wait} : 분석기를 빌리기까지 기다린 시간</li>
+ *   <li>{@code komoran.pool.available} : 사용 가능한 분석기 수</li>
+ *   <li>{@code komoran.dictionary.reloads} : 사전 변경으로 분석기 풀을 교체한 횟수</li>
+ * </ul>
+ */
+@Slf4j
 @Component
 public class KomoranUtil {
 
-    private static final String USER_DIC_PATH = "src/main/resources/komoran/dic.user";
-    private static final Komoran komoran = createKomoran();
+    private static final String DEFAULT_USER_DIC = "classpath:komoran/dic.user";
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final long DEFAULT_READY_TIMEOUT_MILLIS = 30_000;
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
 
-    private static Komoran createKomoran() {
-        Komoran k = new Komoran(DEFAULT_MODEL.LIGHT);
-        k.setUserDic(USER_DIC_PATH);
+    // 편집기가 파일을 여러 번 나누어 저장하는 경우를 하나의 변경으로 묶는다.
+    private static final long RELOAD_DEBOUNCE_MILLIS = 500;
 
-        return k;
+    // 한 작업 단위가 너무 잘게 쪼개지지 않도록 분석기당 최대 4개 작업으로 나눈다.
+    private static final int TASKS_PER_ANALYZER = 4;
+
+    private final int poolSize;
+    private final String userDicLocation;
+    private final long readyTimeoutMillis;
+
+    private final AtomicReference<KomoranAnalyzerPool> current = new AtomicReference<>();
+    private final CompletableFuture<KomoranAnalyzerPool> initialLoad;
+    private final ForkJoinPool forkJoinPool;
+    private final WatchService watchService;
+
+    private final Timer analyzeTimer;
+    private final Timer waitTimer;
+    private final Counter reloadCounter;
+
+    public KomoranUtil() {
+        this(0, DEFAULT_USER_DIC, false, DEFAULT_READY_TIMEOUT_MILLIS, Metrics.globalRegistry);
+    }
+
+    @Autowired
+    public KomoranUtil(@Value("${komoran.pool-size:0}") int poolSize,
+                       @Value("${komoran.user-dic:" + DEFAULT_USER_DIC + "}") String userDicLocation,
+                       @Value("${komoran.watch-dictionary:true}") boolean watchDictionary,
+                       @Value("${komoran.ready-timeout-millis:" + DEFAULT_READY_TIMEOUT_MILLIS + "}") long readyTimeoutMillis,
+                       MeterRegistry meterRegistry) {
+        this.poolSize = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.userDicLocation = userDicLocation;
+        this.readyTimeoutMillis = readyTimeoutMillis;
+        this.forkJoinPool = new ForkJoinPool(this.poolSize);
+
+        this.analyzeTimer = Timer.builder("komoran.analyze")
+                .description("문자열 하나의 형태소 분석 시간")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("komoran.pool.wait")
+                .description("Komoran 분석기를 빌리기까지 기다린 시간")
+                .register(meterRegistry);
+        this.reloadCounter = Counter.builder("komoran.dictionary.reloads")
+                .description("사전 변경으로 분석기 풀을 교체한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("komoran.pool.available", current, ref -> ref.get() != null ? ref.get().available() : 0)
+                .description("사용 가능한 Komoran 분석기 수")
+                .register(meterRegistry);
+
+        this.initialLoad = CompletableFuture.supplyAsync(() -> loadPool(1), runnable -> {
+            Thread thread = new Thread(runnable, "komoran-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        initialLoad.whenComplete((pool, e) -> {
+            if (e != null) {
+                log.error("Komoran 분석기 초기화 실패 : userDic = {}", userDicLocation, e);
+            } else {
+                current.compareAndSet(null, pool);
+            }
+        });
+
+        this.watchService = watchDictionary ? startWatcher() : null;
     }
 
     public List<String> getNouns(String target) {
-        return komoran.analyze(target).getNouns();
+        if (!StringUtils.hasText(target)) {
+            return List.of();
+        }
+
+        KomoranAnalyzerPool pool = readyPool();
+        Komoran komoran = checkout(pool);
+        try {
+            return analyze(komoran, target);
+        } finally {
+            pool.release(komoran);
+        }
+    }
+
+    /**
+     * 여러 문자열의 명사를 병렬로 추출한다.
+     *
+     * @param targets 분석할 문자열 목록
+     * @return targets와 같은 순서의 명사 목록
+     */
+    public List<List<String>> getNouns(List<String> targets) {
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        // 배치 전체를 같은 세대의 분석기로 처리한다.
+        KomoranAnalyzerPool pool = readyPool();
+
+        @SuppressWarnings("unchecked")
+        List<String>[] results = new List[targets.size()];
+        int threshold = Math.max(1, targets.size() / (poolSize * TASKS_PER_ANALYZER));
+
+        forkJoinPool.invoke(new AnalyzeTask(pool, targets, results, 0, targets.size(), threshold));
+
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    /**
+     * 모델 로딩이 끝나 분석할 수 있는 상태인지 여부
+     */
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        forkJoinPool.shutdown();
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                log.debug("사전 감시 종료 실패 : {}", e.getMessage());
+            }
+        }
+    }
+
+    // 현재 분석기 세대 (테스트용)
+    int generation() {
+        KomoranAnalyzerPool pool = current.get();
+        return pool != null ? pool.generation() : 0;
+    }
+
+    private KomoranAnalyzerPool readyPool() {
+        KomoranAnalyzerPool pool = current.get();
+        if (pool != null) {
+            return pool;
+        }
+
+        try {
+            return initialLoad.get(readyTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Komoran 분석기 로딩 대기 시간 초과 : {}ms", readyTimeoutMillis);
+            throw new RetryableBusinessException(ErrorCode.ANALYZER_NOT_READY, RETRY_AFTER);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryableBusinessException(ErrorCode.ANALYZER_NOT_READY, RETRY_AFTER);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Komoran 분석기 초기화 실패", e.getCause());
+        }
+    }
+
+    private KomoranAnalyzerPool loadPool(int generation) {
+        long start = System.currentTimeMillis();
+        KomoranAnalyzerPool pool = KomoranAnalyzerPool.create(generation, poolSize, resolveUserDicPath());
+
+        log.info("Komoran 분석기 풀 로딩 완료 : generation = {}, poolSize = {}, {}ms",
+                generation, poolSize, System.currentTimeMillis() - start);
+        return pool;
+    }
+
+    // Komoran은 파일 경로만 받으므로, classpath 사전(jar 내부)은 임시 파일로 복사해 넘긴다.
+    private String resolveUserDicPath() {
+        Resource resource = new DefaultResourceLoader().getResource(userDicLocation);
+
+        try {
+            if (!userDicLocation.startsWith(CLASSPATH_PREFIX) && resource.isFile()) {
+                return resource.getFile().getAbsolutePath();
+            }
+
+            Path copied = Files.createTempFile("komoran-", ".user");
+            copied.toFile().deleteOnExit();
+            try (InputStream in = resource.getInputStream()) {
+                Files.copy(in, copied, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return copied.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Komoran 사용자 사전을 읽을 수 없습니다 : " + userDicLocation, e);
+        }
+    }
+
+    // 외부 사전 파일이 있는 디렉토리를 감시한다. classpath 사전은 배포 후 바뀌지 않으므로 감시하지 않는다.
+    private WatchService startWatcher() {
+        if (userDicLocation.startsWith(CLASSPATH_PREFIX)) {
+            return null;
+        }
+
+        try {
+            Path dictionary = new DefaultResourceLoader().getResource(userDicLocation).getFile().toPath().toAbsolutePath();
+            WatchService service = FileSystems.getDefault().newWatchService();
+            dictionary.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            Thread watcher = new Thread(() -> watch(service, dictionary), "komoran-dic-watcher");
+            watcher.setDaemon(true);
+            watcher.start();
+
+            log.info("Komoran 사용자 사전 감시 시작 : {}", dictionary);
+            return service;
+        } catch (IOException e) {
+            log.warn("Komoran 사용자 사전 감시를 시작할 수 없습니다 : {}, 오류 : {}", userDicLocation, e.getMessage());
+            return null;
+        }
+    }
+
+    private void watch(WatchService service, Path dictionary) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = isDictionaryEvent(key, dictionary);
+                key.reset();
+
+                if (!changed) {
+                    continue;
+                }
+
+                // 연속된 변경 이벤트를 흘려보낸 뒤 한 번만 다시 로딩한다.
+                WatchKey next;
+                while ((next = service.poll(RELOAD_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    next.pollEvents();
+                    next.reset();
+                }
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Komoran 사용자 사전 감시 종료");
+        }
+    }
+
+    private boolean isDictionaryEvent(WatchKey key, Path dictionary) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.context() instanceof Path path && path.equals(dictionary.getFileName())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private void reload() {
+        KomoranAnalyzerPool previous = current.get();
+        int nextGeneration = previous != null ? previous.generation() + 1 : 1;
+
+        try {
+            KomoranAnalyzerPool next = loadPool(nextGeneration);
+            current.set(next);
+            reloadCounter.increment();
+            log.info("Komoran 사용자 사전 변경 반영 : generation = {}", nextGeneration);
+        } catch (RuntimeException e) {
+            log.error("Komoran 사용자 사전 다시 로딩 실패, 기존 분석기 유지 : {}", userDicLocation, e);
+        }
+    }
+
+    private List<String> analyze(Komoran komoran, String target) {
+        if (!StringUtils.hasText(target)) {
+            return List.of();
+        }
+        return analyzeTimer.record(() -> komoran.analyze(target).getNouns());
+    }
+
+    private Komoran checkout(KomoranAnalyzerPool pool) {
+        long start = System.nanoTime();
+        try {
+            return pool.checkout();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Komoran 분석기 대기 중 인터럽트", e);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // [from, to) 구간을 나누어 분석하고, 잎 작업은 분석기 하나로 구간 전체를 처리한다.
+    private class AnalyzeTask extends RecursiveAction {
+        private final KomoranAnalyzerPool pool;
+        private final List<String> targets;
+        private final List<String>[] results;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        AnalyzeTask(KomoranAnalyzerPool pool, List<String> targets, List<String>[] results,
+                    int from, int to, int threshold) {
+            this.pool = pool;
+            this.targets = targets;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                Komoran komoran = checkout(pool);
+                try {
+                    for (int i = from; i < to; i++) {
+                        results[i] = analyze(komoran, targets.get(i));
+                    }
+                } finally {
+                    pool.release(komoran);
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new AnalyzeTask(pool, targets, results, from, mid, threshold),
+                    new AnalyzeTask(pool, targets, results, mid, to, threshold)
+            );
+        }
     }
 }
@@ -0,0 +1,149 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * (첫 번째 값, 두 번째 값) 쌍의 중복을 걸러내는, 시간 구간별로 교체되는 Bloom filter.
+ *
+ * <p>현재 구간과 직전 구간, 두 세대의 비트 배열을 둔다. {@link #rotate()}를 호출하면 직전 세대를 버리고
+ * 현재 세대를 직전 세대로 넘긴 뒤 빈 세대를 새로 만든다. 따라서 한 번 넣은 쌍은 구간 길이의 1~2배 동안 걸러진다.</p>
+ *
+ * <p>세대 하나의 크기는 구간마다 들어올 것으로 예상한 개수 n과 목표 오탐률 p로 정한다.</p>
+ * <ul>
+ *   <li>비트 수 m = -n·ln(p) / (ln 2)²</li>
+ *   <li>해시 함수 수 k = round(m / n · ln 2)</li>
+ * </ul>
+ * <p>메모리는 항상 2m 비트로 고정되며, 예상보다 많이 들어오면 오탐률만 올라간다.
+ * 현재 오탐률은 채워진 비트 비율로 {@link #expectedFpp()}에서 추정한다.</p>
+ *
+ * <p>오탐은 처음 보는 쌍을 이미 본 것으로 판단하는 경우뿐이며, 넣은 쌍을 놓치는 경우(미탐)는 없다.</p>
+ */
+public final class TimeBucketedBloomFilter {
+
+    private final int bitSize;
+    private final int hashCount;
+
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    /**
+     * @param expectedInsertions 구간마다 들어올 것으로 예상한 개수
+     * @param fpp                목표 오탐률 (0 초과 1 미만)
+     */
+    public TimeBucketedBloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("expectedInsertions는 양수, fpp는 0과 1 사이여야 합니다.");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bitSize = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+        this.current = new Generation(bitSize);
+        this.previous = new Generation(bitSize);
+    }
+
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * @return 현재 또는 직전 구간에 넣은 쌍이면(또는 오탐이면) true
+     */
+    public boolean mightContain(long first, long second) {
+        long hash = hash(first, second);
+        return previous.mightContain(hash, hashCount, bitSize) || current.mightContain(hash, hashCount, bitSize);
+    }
+
+    /**
+     * 처음 보는 쌍이면 현재 세대에 넣는다.
+     *
+     * @return 처음 보는 쌍이면 true, 이미 본 쌍(또는 오탐)이면 false
+     */
+    public boolean add(long first, long second) {
+        long hash = hash(first, second);
+        Generation active = current;
+        Generation older = previous;
+        if (older.mightContain(hash, hashCount, bitSize) || active.mightContain(hash, hashCount, bitSize)) {
+            return false;
+        }
+        return active.put(hash, hashCount, bitSize);
+    }
+
+    /**
+     * 직전 세대를 버리고 새 구간을 시작한다.
+     */
+    public synchronized void rotate() {
+        previous = current;
+        current = new Generation(bitSize);
+    }
+
+    /**
+     * 처음 보는 쌍을 이미 본 것으로 판단할 확률의 추정값.
+     * 두 세대 중 하나라도 오탐이면 오탐이므로 {@code 1 - (1 - p현재)(1 - p직전)}이다.
+     */
+    public double expectedFpp() {
+        double active = current.fpp(hashCount, bitSize);
+        double older = previous.fpp(hashCount, bitSize);
+        return 1 - (1 - active) * (1 - older);
+    }
+
+    // 두 값을 섞은 64비트 해시 (MurmurHash3 fmix64)
+    private static long hash(long first, long second) {
+        long h = first * 0x9E3779B97F4A7C15L ^ second;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    private static final class Generation {
+        private final AtomicLongArray words;
+        private final LongAdder setBits = new LongAdder();
+
+        private Generation(int bitSize) {
+            this.words = new AtomicLongArray((bitSize + 63) >>> 6);
+        }
+
+        // 해시 하나를 둘로 나눠 k개의 위치를 만든다. (Kirsch-Mitzenmacher)
+        private static int index(long hash, int i, int bitSize) {
+            int combined = (int) hash + i * (int) (hash >>> 32);
+            return (combined & Integer.MAX_VALUE) % bitSize;
+        }
+
+        private boolean mightContain(long hash, int hashCount, int bitSize) {
+            for (int i = 1; i <= hashCount; i++) {
+                int index = index(hash, i, bitSize);
+                if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 하나라도 새로 켠 비트가 있으면 true
+        private boolean put(long hash, int hashCount, int bitSize) {
+            boolean changed = false;
+            for (int i = 1; i <= hashCount; i++) {
+                int index = index(hash, i, bitSize);
+                long mask = 1L << index;
+                long previous = words.getAndUpdate(index >>> 6, word -> word | mask);
+                if ((previous & mask) == 0) {
+                    setBits.increment();
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private double fpp(int hashCount, int bitSize) {
+            return Math.pow((double) setBits.sum() / bitSize, hashCount);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 상세 조회수를 사용자 기준 고유 조회자 수로 센다.
+ *
+ * <p>같은 사용자가 같은 공고를 새로고침할 때마다 조회수가 오르지 않도록 두 단계로 걸러낸다.</p>
+ * <ol>
+ *   <li>노드 로컬 : {@link TimeBucketedBloomFilter}로 {@code view-count.unique.window-minutes}(기본 60분) 안에
+ *       이미 본 (사용자, 공고) 쌍을 I/O 없이 버린다.</li>
+ *   <li>전역 : 처음 본 조회자만 모아 두었다가 {@code view-count.unique.reconcile-interval-millis}(기본 1초)마다
+ *       공고별로 Redis HyperLogLog에 추가하고, 마지막 보고 이후 늘어난 고유 조회자 수만 {@link ViewCountBuffer}에 더한다.
+ *       늘어난 수는 Lua 스크립트로 한 노드에만 돌려주므로 여러 노드에서 같은 사용자가 조회해도 한 번만 반영된다.</li>
+ * </ol>
+ *
+ * <p>쓰기 횟수는 Redis가 주기마다 조회된 공고 수만큼, DB가 {@link ViewCountBuffer}의 청크 UPDATE 수만큼으로 제한되고,
+ * 메모리는 Bloom filter의 고정 크기와 공고당 HyperLogLog(최대 12KB, {@code view-count.unique.ttl-days} 뒤 만료)로 제한된다.
+ * Bloom filter의 추정 오탐률은 {@code view.unique.bloom.fpp} 게이지로 노출한다.</p>
+ *
+ * <p>Redis 장애 시에는 조회수를 잃지 않도록 노드 로컬에서 걸러낸 조회자 수를 그대로 더하고 경고 로그를 남긴다.</p>
+ */
+@Slf4j
+@Component
+public class UniqueViewCounter {
+
+    private static final String VIEWER_PREFIX = "VW:";
+    private static final int MAX_VIEWERS_PER_CALL = 1000;
+
+    private static final RedisScript<Long> ADD_VIEWERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/add_unique_viewers.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountBuffer viewCountBuffer;
+    private final MeterRegistry meterRegistry;
+    private final TimeBucketedBloomFilter seen;
+    private final long windowMillis;
+    private final long reconcileIntervalMillis;
+    private final String ttlSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<Long, Set<Long>> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<Long>> retired = Map.of();
+
+    public UniqueViewCounter(RedisTemplate<String, String> redisTemplate,
+                             ViewCountBuffer viewCountBuffer,
+                             MeterRegistry meterRegistry,
+                             @Value("${view-count.unique.window-minutes:60}") long windowMinutes,
+                             @Value("${view-count.unique.expected-views:1000000}") long expectedViews,
+                             @Value("${view-count.unique.fpp:0.01}") double fpp,
+                             @Value("${view-count.unique.reconcile-interval-millis:1000}") long reconcileIntervalMillis,
+                             @Value("${view-count.unique.ttl-days:30}") long ttlDays) {
+        this.redisTemplate = redisTemplate;
+        this.viewCountBuffer = viewCountBuffer;
+        this.meterRegistry = meterRegistry;
+        this.seen = new TimeBucketedBloomFilter(expectedViews, fpp);
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.ttlSeconds = String.valueOf(Duration.ofDays(ttlDays).toSeconds());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "unique-view-counter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("view.unique.bloom.fpp", seen, TimeBucketedBloomFilter::expectedFpp);
+        log.info("조회자 Bloom filter 생성 : bits = {}, hashes = {}", seen.bitSize(), seen.hashCount());
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleAtFixedRate(seen::rotate, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::reconcile,
+                reconcileIntervalMillis, reconcileIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스케줄러를 멈추고 모아 둔 조회자를 모두 보고한다. {@link ViewCountBuffer}보다 먼저 종료되므로
+     * 보고한 조회수는 {@link ViewCountBuffer}가 종료될 때 DB에 반영된다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(reconcileIntervalMillis, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            Map<Long, Set<Long>> remaining = current;
+            current = new ConcurrentHashMap<>();
+            report(retired);
+            report(remaining);
+            retired = Map.of();
+        }
+    }
+
+    /**
+     * @return 이 노드에서 처음 본 (사용자, 공고) 쌍이면 true
+     */
+    public boolean record(long userId, long recruitmentId) {
+        if (!seen.add(userId, recruitmentId)) {
+            meterRegistry.counter("view.unique.records", "outcome", "duplicate").increment();
+            return false;
+        }
+
+        current.computeIfAbsent(recruitmentId, id -> ConcurrentHashMap.newKeySet()).add(userId);
+        meterRegistry.counter("view.unique.records", "outcome", "accepted").increment();
+        return true;
+    }
+
+    /**
+     * 아직 Redis에 보고하지 않은 조회자는 더하지 않는다. 상당수는 HyperLogLog가 중복으로 거르는 조회자여서,
+     * 더해 두면 보고한 뒤 조회수가 도로 줄어든다.
+     *
+     * @return DB 값에 Redis가 새 조회자로 확인해 아직 DB에 반영하지 않은 조회수를 더한 값
+     */
+    public int viewCount(long recruitmentId) {
+        return viewCountBuffer.viewCount(recruitmentId);
+    }
+
+    public double expectedFpp() {
+        return seen.expectedFpp();
+    }
+
+    /**
+     * 한 주기 전에 교체된 조회자 맵을 보고하고, 현재 맵을 새 맵으로 교체한다.
+     */
+    synchronized void reconcile() {
+        Map<Long, Set<Long>> expired = retired;
+        retired = current;
+        current = new ConcurrentHashMap<>();
+        report(expired);
+    }
+
+    private void report(Map<Long, Set<Long>> viewers) {
+        viewers.forEach((recruitmentId, userIds) -> {
+            if (userIds.isEmpty()) {
+                return;
+            }
+            try {
+                long added = addViewers(recruitmentId, new ArrayList<>(userIds));
+                if (added > 0) {
+                    viewCountBuffer.add(recruitmentId, added);
+                }
+            } catch (DataAccessException e) {
+                viewCountBuffer.add(recruitmentId, userIds.size());
+                log.warn("고유 조회자 보고 실패, 로컬 집계로 반영 : recruitmentId = {}, 오류 : {}",
+                        recruitmentId, e.getMessage());
+            }
+        });
+    }
+
+    private long addViewers(long recruitmentId, List<Long> userIds) {
+        List<String> keys = List.of(
+                VIEWER_PREFIX + recruitmentId + ":hll",
+                VIEWER_PREFIX + recruitmentId + ":reported"
+        );
+
+        long added = 0;
+        for (int from = 0; from < userIds.size(); from += MAX_VIEWERS_PER_CALL) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + MAX_VIEWERS_PER_CALL, userIds.size()));
+            String[] args = new String[chunk.size() + 1];
+            args[0] = ttlSeconds;
+            for (int i = 0; i < chunk.size(); i++) {
+                args[i + 1] = String.valueOf(chunk.get(i));
+            }
+
+            Long result = redisTemplate.execute(ADD_VIEWERS_SCRIPT, keys, (Object[]) args);
+            added += result != null ? result : 0;
+        }
+        return added;
+    }
+}
@@ -0,0 +1,149 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wagglex2.waggle.domain.common.repository.ViewCountRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공고 상세 조회수를 메모리에 모았다가 주기적으로 DB에 반영하는 write-behind 카운터.
+ *
+ * <p>조회할 때마다 UPDATE를 실행하지 않고, 공고 id별 {@link LongAdder}(스레드별로 나뉜 카운터)에 더해 둔다.
+ * {@code view-count.flush-interval-millis}(기본 1초)마다 모인 조회수를 {@link ViewCountRepository}로 한 번에 반영하고,
+ * 애플리케이션이 정상 종료될 때 남은 조회수를 모두 반영한다.</p>
+ *
+ * <p>카운터는 주기마다 새 맵으로 교체하고, 교체된 맵은 한 주기를 더 기다린 뒤 반영한다.
+ * 교체 직전에 옛 맵의 카운터를 꺼낸 스레드가 뒤늦게 더한 값도 빠지지 않게 하기 위해서다.</p>
+ *
+ * <p>반영에 실패한 조회수는 현재 맵에 다시 더해 다음 주기에 재시도한다. 상세 조회는
+ * {@link #viewCount(long)}로 DB 값에 아직 반영되지 않은 조회수를 더해 응답한다.</p>
+ *
+ * <p>DB 값은 상세 응답 캐시에 담지 않고 기본 키로 따로 읽어 {@code view-count.persisted-ttl-seconds}(기본 10초) 동안만
+ * 노드 로컬에 둔다. 반영에 성공한 공고의 DB 값은 바로 버리고 다시 읽으므로, 반영된 조회수가 대기 중인 조회수에서
+ * 빠지더라도 응답하는 조회수가 줄어들지 않는다.</p>
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final ViewCountRepository viewCountRepository;
+    private final long flushIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Cache<Long, Long> persisted;
+
+    private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, LongAdder> retired = Map.of();
+    private volatile Map<Long, Long> flushing = Map.of();
+
+    public ViewCountBuffer(ViewCountRepository viewCountRepository,
+                           @Value("${view-count.flush-interval-millis:1000}") long flushIntervalMillis,
+                           @Value("${view-count.persisted-ttl-seconds:10}") long persistedTtlSeconds) {
+        this.viewCountRepository = viewCountRepository;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.persisted = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(persistedTtlSeconds))
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "view-count-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스케줄러를 멈추고 남은 조회수를 모두 반영한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            Map<Long, LongAdder> remaining = current;
+            current = new ConcurrentHashMap<>();
+            write(merge(retired, remaining));
+            retired = Map.of();
+        }
+    }
+
+    public void increment(long recruitmentId) {
+        add(recruitmentId, 1);
+    }
+
+    public void add(long recruitmentId, long delta) {
+        current.computeIfAbsent(recruitmentId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * @return 아직 DB에 반영되지 않은 조회수
+     */
+    public long pending(long recruitmentId) {
+        return sum(current, recruitmentId) + sum(retired, recruitmentId) + flushing.getOrDefault(recruitmentId, 0L);
+    }
+
+    /**
+     * @return DB 값과 아직 반영되지 않은 조회수의 합
+     */
+    public int viewCount(long recruitmentId) {
+        long base = persisted.get(recruitmentId, viewCountRepository::findViewCount);
+        return (int) Math.min(Integer.MAX_VALUE, base + pending(recruitmentId));
+    }
+
+    /**
+     * 한 주기 전에 교체된 맵을 반영하고, 현재 맵을 새 맵으로 교체한다.
+     */
+    synchronized void flush() {
+        Map<Long, LongAdder> expired = retired;
+        retired = current;
+        current = new ConcurrentHashMap<>();
+        write(merge(expired, Map.of()));
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        flushing = deltas;
+        try {
+            viewCountRepository.addViewCounts(deltas);
+            persisted.invalidateAll(deltas.keySet());
+        } catch (RuntimeException e) {
+            deltas.forEach(this::add);
+            log.warn("조회수 반영 실패, 다음 주기에 재시도 : count = {}, 오류 : {}", deltas.size(), e.getMessage());
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    private static Map<Long, Long> merge(Map<Long, LongAdder> first, Map<Long, LongAdder> second) {
+        Map<Long, Long> deltas = new HashMap<>();
+        first.forEach((id, adder) -> deltas.merge(id, adder.sum(), Long::sum));
+        second.forEach((id, adder) -> deltas.merge(id, adder.sum(), Long::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    private static long sum(Map<Long, LongAdder> counters, long recruitmentId) {
+        LongAdder adder = counters.get(recruitmentId);
+        return adder == null ? 0 : adder.sum();
+    }
+}
@@ -2,12 +2,18 @@ package com.wagglex2.waggle.domain.project.controller;
 
 import com.wagglex2.waggle.common.response.ApiResponse;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectCreationRequestDto;
+import com.wagglex2.waggle.domain.project.dto.request.ProjectSearchRequestDto;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectUpdateRequestDto;
 import com.wagglex2.waggle.domain.project.dto.response.ProjectResponseDto;
+import com.wagglex2.waggle.domain.project.dto.response.ProjectSummaryResponseDto;
 import com.wagglex2.waggle.domain.project.service.ProjectService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -31,10 +37,45 @@ public class ProjectController {
                 .body(ApiResponse.ok("프로젝트 공고를 성공적으로 등록하였습니다.", projectId));
     }
 
+    /**
+     * 조건에 맞는 프로젝트 공고 목록을 조회한다. 모든 조건은 선택이다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /api/v1/projects?skills=JAVA,SPRING_BOOT&skillMatch=ALL&positions=BACK_END&grades=2,3}</li>
+     *   <li>{@code GET /api/v1/projects?purpose=CONTEST&meetingType=ONLINE&status=RECRUITING}</li>
+     *   <li>{@code GET /api/v1/projects?deadlineFrom=2025-11-01T00:00:00&deadlineTo=2025-11-30T23:59:59&sort=deadline,asc}</li>
+     *   <li>정렬 기준은 createdAt, deadline, viewCount만 허용한다.</li>
+     * </ul>
+     *
+     * @param requestDto 조회 조건
+     * @param pageable   페이지 정보 (기본값: size=10, sort=createdAt, direction=DESC)
+     * @return 프로젝트 공고 목록을 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<PageResponse<ProjectSummaryResponseDto>>> getProjects(
+            @ModelAttribute @Valid ProjectSearchRequestDto requestDto,
+            @PageableDefault(
+                    size = 10,
+                    sort = "createdAt",
+                    direction = Sort.Direction.DESC
+            ) Pageable pageable
+    ) {
+        PageResponse<ProjectSummaryResponseDto> data = projectService.getProjects(requestDto, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok("프로젝트 공고 목록을 성공적으로 조회하였습니다.", data)
+        );
+    }
+
     @GetMapping("/{projectId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<ApiResponse<ProjectResponseDto>> getProject(@PathVariable Long projectId) {
-        ProjectResponseDto responseDto = projectService.getProject(projectId);
+    public ResponseEntity<ApiResponse<ProjectResponseDto>> getProject(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @PathVariable Long projectId
+    ) {
+        ProjectResponseDto responseDto = projectService.getProject(userDetails.getUserId(), projectId);
 
         return ResponseEntity.ok(
                 ApiResponse.ok("프로젝트 공고를 성공적으로 조회하였습니다.", responseDto)
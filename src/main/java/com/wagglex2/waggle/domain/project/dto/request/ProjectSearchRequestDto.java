@@ -0,0 +1,58 @@
+package com.wagglex2.waggle.domain.project.dto.request;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.project.type.SkillMatchType;
+import org.hibernate.validator.constraints.Range;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 프로젝트 공고 목록 조회 조건. 모든 조건은 선택이며, 주어진 조건은 모두 만족해야 한다.
+ *
+ * <ul>
+ *   <li>skills : 요구 기술 스택 필터</li>
+ *   <li>skillMatch : skills 결합 방식 (기본값: ANY, ALL이면 모든 기술 스택을 요구하는 공고만)</li>
+ *   <li>positions : 모집 포지션 필터 (하나 이상 모집하면 일치)</li>
+ *   <li>grades : 지원 가능 학년 필터 (하나 이상 허용하면 일치)</li>
+ *   <li>purpose : 프로젝트 목적</li>
+ *   <li>meetingType : 모임 방식</li>
+ *   <li>status : 모집 상태 (없으면 취소된 공고를 제외한 전체)</li>
+ *   <li>deadlineFrom, deadlineTo : 마감일 범위 (양 끝 포함)</li>
+ * </ul>
+ */
+public record ProjectSearchRequestDto(
+        Set<Skill> skills,
+        SkillMatchType skillMatch,
+        Set<PositionType> positions,
+        Set<@Range(min = 1, max = 4, message = "모집 학년은 1 이상 4 이하여야 합니다.") Integer> grades,
+        ProjectPurpose purpose,
+        MeetingType meetingType,
+        RecruitmentStatus status,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime deadlineFrom,
+
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+        LocalDateTime deadlineTo
+) {
+    public SkillMatchType skillMatchOrDefault() {
+        return skillMatch != null ? skillMatch : SkillMatchType.ANY;
+    }
+
+    public void validate() {
+        if (deadlineFrom != null && deadlineTo != null && deadlineFrom.isAfter(deadlineTo)) {
+            throw new BusinessException(
+                    ErrorCode.INVALID_DATE_RANGE,
+                    "마감일 범위의 시작은 끝 이전이어야 합니다."
+            );
+        }
+    }
+}
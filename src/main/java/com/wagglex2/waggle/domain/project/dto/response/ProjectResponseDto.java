@@ -13,45 +13,75 @@ import com.wagglex2.waggle.domain.user.entity.type.University;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.Serial;
 import java.time.LocalDateTime;
 import java.util.Set;
 
 @Getter
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class ProjectResponseDto extends BaseRecruitmentResponseDto {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
     private final ProjectPurpose purpose;
     private final MeetingType meetingType;
 
     @Setter
     private Set<PositionInfoResponseDto> positions;
 
-    @Setter
-    private Set<Skill> skills;
+    private final Set<Skill> skills;
 
-    @Setter
-    private Set<Integer> grades;
+    private final Set<Integer> grades;
 
     private final PeriodResponseDto period;
 
     private ProjectResponseDto(
             Long id, Long authorId, String authorNickname, RecruitmentCategory category, University university,
             String title, String content, LocalDateTime deadline, LocalDateTime createdAt,
-            RecruitmentStatus status, int viewCount, ProjectPurpose purpose, MeetingType meetingType, PeriodResponseDto period
+            RecruitmentStatus status, int viewCount, ProjectPurpose purpose, MeetingType meetingType,
+            Set<Skill> skills, Set<Integer> grades, PeriodResponseDto period
     ) {
         super(id, authorId, authorNickname, category, university, title, content, deadline, createdAt, status, viewCount);
         this.purpose = purpose;
         this.meetingType = meetingType;
+        this.skills = skills;
+        this.grades = grades;
         this.period = period;
     }
 
+    /**
+     * 기술 스택과 학년은 컬렉션을 조회하지 않고 비트마스크 컬럼에서 복원한다.
+     * 포지션별 모집 인원은 {@link #setPositions(Set)}로 따로 채운다.
+     */
     public static ProjectResponseDto fromEntity(Project project) {
+        return fromEntity(project, project.getViewCount());
+    }
+
+    /**
+     * @param viewCount 아직 DB에 반영되지 않은 조회수를 더한 조회수
+     */
+    public static ProjectResponseDto fromEntity(Project project, int viewCount) {
         User author = project.getUser();
         PeriodResponseDto period = PeriodResponseDto.from(project.getPeriod());
 
         return new ProjectResponseDto(
                 project.getId(), author.getId(), author.getNickname(), project.getCategory(), author.getUniversity(),
                 project.getTitle(), project.getContent(), project.getDeadline(), project.getCreatedAt(),
-                project.getStatus(), project.getViewCount(), project.getPurpose(), project.getMeetingType(), period
+                project.getStatus(), viewCount, project.getPurpose(), project.getMeetingType(),
+                project.getSkillMask(), GradeMask.toSet(project.getGradeMask()), period
+        );
+    }
+
+    /**
+     * 캐시된 응답은 공유되므로 조회수만 바꾼 사본을 만든다.
+     */
+    public ProjectResponseDto withViewCount(int viewCount) {
+        ProjectResponseDto copy = new ProjectResponseDto(
+                getId(), getAuthorId(), getAuthorNickname(), getCategory(), getUniversity(),
+                getTitle(), getContent(), getDeadline(), getCreatedAt(),
+                getStatus(), viewCount, purpose, meetingType, skills, grades, period
         );
+        copy.setPositions(positions);
+        return copy;
     }
 }
@@ -0,0 +1,53 @@
+package com.wagglex2.waggle.domain.project.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.wagglex2.waggle.domain.common.type.GradeMask;
+import com.wagglex2.waggle.domain.common.type.PositionMask;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import com.wagglex2.waggle.domain.project.repository.ProjectSummaryRow;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 프로젝트 공고 목록의 한 건.
+ *
+ * <p>목록 화면에 필요한 필드만 담으며, 본문과 기간, 포지션별 모집 인원은 상세 조회에서 가져온다.</p>
+ * <p>openPositions는 모집 인원이 남아 있는 포지션이다.</p>
+ */
+public record ProjectSummaryResponseDto(
+        Long id,
+        Long authorId,
+        String authorNickname,
+        University university,
+        String title,
+        RecruitmentStatus status,
+        ProjectPurpose purpose,
+        MeetingType meetingType,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime deadline,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdAt,
+
+        int viewCount,
+        Set<PositionType> openPositions,
+        Set<Skill> skills,
+        Set<Integer> grades
+) {
+    public static ProjectSummaryResponseDto from(ProjectSummaryRow row) {
+        return new ProjectSummaryResponseDto(
+                row.id(), row.authorId(), row.authorNickname(), row.university(), row.title(),
+                row.status(), row.purpose(), row.meetingType(), row.deadline(), row.createdAt(), row.viewCount(),
+                PositionMask.toSet(row.openPositionMask()), SkillMask.toSet(row.skillMask()),
+                GradeMask.toSet(row.gradeMask())
+        );
+    }
+}
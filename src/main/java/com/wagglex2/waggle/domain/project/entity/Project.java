@@ -5,6 +5,7 @@ import com.wagglex2.waggle.domain.common.dto.request.PeriodRequestDto;
 import com.wagglex2.waggle.domain.common.dto.request.PositionInfoUpdateRequestDto;
 import com.wagglex2.waggle.domain.common.entity.BaseRecruitment;
 import com.wagglex2.waggle.domain.common.type.Period;
+import com.wagglex2.waggle.domain.common.type.PositionMask;
 import com.wagglex2.waggle.domain.common.type.PositionParticipantInfo;
 import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
 import com.wagglex2.waggle.domain.common.type.Skill;
@@ -33,6 +34,7 @@ import java.util.stream.Collectors;
  *   <li>{@link PositionParticipantInfo} : 모집 포지션 리스트 (ElementCollection)</li>
  *   <li>{@link Skill} : 요구 기술 스택 (ElementCollection)</li>
  *   <li>grades : 지원 가능 학년 (ElementCollection)</li>
+ *   <li>openPositionMask : 모집 인원이 남은 포지션의 비트마스크 (open_position_mask, 목록 필터와 카드 표시용)</li>
  *   <li>{@link Period} : 프로젝트 기간</li>
  * </ul>
  *
@@ -63,17 +65,23 @@ public class Project extends BaseRecruitment {
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
             name = "recruitment_skills",
-            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id")
+            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id"),
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
     )
     private Set<Skill> skills = new HashSet<>();
 
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
             name = "recruitment_grades",
-            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id")
+            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id"),
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
     )
     private Set<Integer> grades = new HashSet<>();
 
+    // 포지션별 인원은 상세 조회에서만 컬렉션으로 읽고, 목록은 이 값으로 필터링하고 표시한다.
+    @Column(name = "open_position_mask", nullable = false)
+    private int openPositionMask = PositionMask.EMPTY;
+
     @Embedded
     private Period period;
 
@@ -88,8 +96,11 @@ public class Project extends BaseRecruitment {
         this.purpose = purpose;
         this.meetingType = meetingType;
         this.positions = positions;
+        this.openPositionMask = PositionMask.openOf(positions);
         this.skills = skills;
+        changeSkillMask(skills);
         this.grades = grades;
+        changeGradeMask(grades);
         this.period = period;
     }
 
@@ -108,11 +119,25 @@ public class Project extends BaseRecruitment {
         this.meetingType = dto.getMeetingType();
         this.skills.clear();
         this.skills.addAll(dto.getSkills());
-        this.positions.clear();
-        this.positions.addAll(positions);
+        changeSkillMask(this.skills);
+        changePositions(positions);
         this.grades.clear();
         this.grades.addAll(grades);
+        changeGradeMask(grades);
         this.period = PeriodRequestDto.to(dto.getPeriod());
         changeStatusByDeadline();
     }
+
+    /**
+     * 포지션별 모집 인원을 바꾸고 openPositionMask를 함께 갱신한다.
+     * <p>
+     * 목록은 컬렉션 대신 openPositionMask로 필터링하므로, 현재 인원이 바뀌는 경우를 포함해
+     * 포지션 정보를 바꾸는 곳은 모두 이 메서드를 거쳐야 한다.
+     * </p>
+     */
+    public void changePositions(Set<PositionParticipantInfo> positions) {
+        this.positions.clear();
+        this.positions.addAll(positions);
+        this.openPositionMask = PositionMask.openOf(this.positions);
+    }
 }
@@ -0,0 +1,179 @@
+package com.wagglex2.waggle.domain.project.repository;
+
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.domain.common.type.GradeMask;
+import com.wagglex2.waggle.domain.common.type.PositionMask;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import com.wagglex2.waggle.domain.project.dto.request.ProjectSearchRequestDto;
+import com.wagglex2.waggle.domain.project.dto.response.ProjectSummaryResponseDto;
+import com.wagglex2.waggle.domain.project.entity.QProject;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.project.type.SkillMatchType;
+import com.wagglex2.waggle.domain.user.entity.QUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.CollectionUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * QueryDSL로 조건이 동적으로 바뀌는 프로젝트 공고 목록을 조회한다.
+ *
+ * <p>페이지 크기와 관계없이 한 페이지를 최대 2개의 SQL로 조회한다.</p>
+ * <ol>
+ *   <li>조건에 맞는 공고와 작성자의 단일 값 컬럼을 {@link ProjectSummaryRow}로 바로 조회 (엔티티를 만들지 않는다.)</li>
+ *   <li>전체 개수 (첫 페이지가 다 차지 않으면 생략)</li>
+ * </ol>
+ *
+ * <p>기술 스택, 학년, 모집 중인 포지션은 비정규화한 비트마스크 컬럼(skill_mask, grade_mask, open_position_mask)의
+ * 비트 연산으로 걸러내고 그대로 화면에 표시하므로, ElementCollection 테이블을 조인하거나 따로 조회하지 않는다.
+ * 포지션별 모집 인원은 상세 조회에서만 읽는다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProjectQueryRepository {
+
+    private static final QProject project = QProject.project;
+    private static final QUser user = QUser.user;
+
+    // 컨버터가 붙은 속성(EnumSet)은 그대로 비트 연산하거나 숫자로 읽을 수 없으므로 BIGINT로 캐스팅해 다룬다.
+    private static final NumberExpression<Long> skillMask =
+            Expressions.numberTemplate(Long.class, "cast({0} as Long)", project.skillMask);
+
+    private final JPAQueryFactory queryFactory;
+
+    public Page<ProjectSummaryResponseDto> findProjects(ProjectSearchRequestDto condition, Pageable pageable) {
+        BooleanExpression[] where = {
+                skillsMatch(condition.skills(), condition.skillMatchOrDefault()),
+                positionsIn(condition.positions()),
+                gradesIn(condition.grades()),
+                purposeEq(condition.purpose()),
+                meetingTypeEq(condition.meetingType()),
+                statusEq(condition.status()),
+                deadlineFrom(condition.deadlineFrom()),
+                deadlineTo(condition.deadlineTo())
+        };
+
+        List<ProjectSummaryRow> rows = queryFactory
+                .select(Projections.constructor(ProjectSummaryRow.class,
+                        project.id, user.id, user.nickname, user.university, project.title,
+                        project.status, project.purpose, project.meetingType,
+                        project.deadline, project.createdAt, project.viewCount,
+                        skillMask, project.gradeMask, project.openPositionMask))
+                .from(project)
+                .join(project.user, user)
+                .where(where)
+                .orderBy(orderBy(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        List<ProjectSummaryResponseDto> content = rows.stream().map(ProjectSummaryResponseDto::from).toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> queryFactory
+                .select(project.count())
+                .from(project)
+                .where(where)
+                .fetchOne());
+    }
+
+    /**
+     * 요구 기술 스택은 skill_mask 컬럼의 비트 연산으로 걸러낸다. (컬렉션 테이블 조인, GROUP BY 없음)
+     * <ul>
+     *   <li>ANY : {@code (skill_mask & :mask) <> 0}</li>
+     *   <li>ALL : {@code (skill_mask & :mask) = :mask}</li>
+     * </ul>
+     */
+    private BooleanExpression skillsMatch(Set<Skill> skills, SkillMatchType matchType) {
+        if (CollectionUtils.isEmpty(skills)) {
+            return null;
+        }
+
+        long mask = SkillMask.of(skills);
+        NumberExpression<Long> matched = Expressions.numberTemplate(
+                Long.class, "bitand({0}, cast({1} as Long))", skillMask, mask);
+        return matchType == SkillMatchType.ANY ? matched.ne(SkillMask.EMPTY) : matched.eq(mask);
+    }
+
+    // 모집 인원이 남은 포지션 중 하나라도 일치하면 포함한다.
+    private BooleanExpression positionsIn(Set<PositionType> positions) {
+        if (CollectionUtils.isEmpty(positions)) {
+            return null;
+        }
+        return bitand(project.openPositionMask, PositionMask.of(positions)).ne(PositionMask.EMPTY);
+    }
+
+    private BooleanExpression gradesIn(Set<Integer> grades) {
+        if (CollectionUtils.isEmpty(grades)) {
+            return null;
+        }
+        return bitand(project.gradeMask, GradeMask.of(grades)).ne(GradeMask.EMPTY);
+    }
+
+    // 비트마스크 파라미터를 그대로 넘기면 DB가 타입을 추론하지 못하므로 파라미터도 캐스팅한다.
+    private NumberExpression<Integer> bitand(NumberPath<Integer> maskColumn, int mask) {
+        return Expressions.numberTemplate(Integer.class, "bitand({0}, cast({1} as Integer))", maskColumn, mask);
+    }
+
+    private BooleanExpression purposeEq(ProjectPurpose purpose) {
+        return purpose != null ? project.purpose.eq(purpose) : null;
+    }
+
+    private BooleanExpression meetingTypeEq(MeetingType meetingType) {
+        return meetingType != null ? project.meetingType.eq(meetingType) : null;
+    }
+
+    // 상태 조건이 없으면 논리적으로 삭제된 공고만 뺀다.
+    private BooleanExpression statusEq(RecruitmentStatus status) {
+        return status != null ? project.status.eq(status) : project.status.ne(RecruitmentStatus.CANCELED);
+    }
+
+    private BooleanExpression deadlineFrom(LocalDateTime from) {
+        return from != null ? project.deadline.goe(from) : null;
+    }
+
+    private BooleanExpression deadlineTo(LocalDateTime to) {
+        return to != null ? project.deadline.loe(to) : null;
+    }
+
+    /**
+     * 작성 시각, 마감일, 조회수 정렬만 허용하며, 같은 값이면 최근에 등록된 공고가 앞선다.
+     */
+    private OrderSpecifier<?>[] orderBy(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Order direction = order.isAscending() ? Order.ASC : Order.DESC;
+            switch (order.getProperty()) {
+                case "createdAt" -> orders.add(new OrderSpecifier<>(direction, project.createdAt));
+                case "deadline" -> orders.add(new OrderSpecifier<>(direction, project.deadline));
+                case "viewCount" -> orders.add(new OrderSpecifier<>(direction, project.viewCount));
+                default -> throw new BusinessException(
+                        ErrorCode.INVALID_REQUEST,
+                        "지원하지 않는 정렬 기준입니다: " + order.getProperty()
+                );
+            }
+        }
+        orders.add(project.id.desc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+}
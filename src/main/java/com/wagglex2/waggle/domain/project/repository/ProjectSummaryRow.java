@@ -0,0 +1,30 @@
+package com.wagglex2.waggle.domain.project.repository;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 공고 목록 조회 시 공고 한 건의 단일 값 컬럼 (작성자 포함).
+ * 모집 중인 포지션, 기술 스택, 학년은 컬렉션 테이블 대신 비트마스크 컬럼으로 함께 읽는다.
+ */
+public record ProjectSummaryRow(
+        Long id,
+        Long authorId,
+        String authorNickname,
+        University university,
+        String title,
+        RecruitmentStatus status,
+        ProjectPurpose purpose,
+        MeetingType meetingType,
+        LocalDateTime deadline,
+        LocalDateTime createdAt,
+        int viewCount,
+        long skillMask,
+        int gradeMask,
+        int openPositionMask
+) {
+}
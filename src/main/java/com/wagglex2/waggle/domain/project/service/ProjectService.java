@@ -1,12 +1,17 @@
 package com.wagglex2.waggle.domain.project.service;
 
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectCreationRequestDto;
+import com.wagglex2.waggle.domain.project.dto.request.ProjectSearchRequestDto;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectUpdateRequestDto;
 import com.wagglex2.waggle.domain.project.dto.response.ProjectResponseDto;
+import com.wagglex2.waggle.domain.project.dto.response.ProjectSummaryResponseDto;
+import org.springframework.data.domain.Pageable;
 
 public interface ProjectService {
     Long createProject(Long userId, ProjectCreationRequestDto projectCreationRequestDto);
-    ProjectResponseDto getProject(Long projectId);
+    ProjectResponseDto getProject(Long userId, Long projectId);
+    PageResponse<ProjectSummaryResponseDto> getProjects(ProjectSearchRequestDto requestDto, Pageable pageable);
     void updateProject(Long userId, Long projectId, ProjectUpdateRequestDto updateDto);
     void deleteProject(Long userId, Long projectId);
 }
@@ -2,18 +2,28 @@ package com.wagglex2.waggle.domain.project.service.serviceImpl;
 
 import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.domain.common.cache.RecruitmentDetailCache;
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
 import com.wagglex2.waggle.domain.common.dto.response.PositionInfoResponseDto;
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
 import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
-import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.util.UniqueViewCounter;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectCreationRequestDto;
+import com.wagglex2.waggle.domain.project.dto.request.ProjectSearchRequestDto;
 import com.wagglex2.waggle.domain.project.dto.request.ProjectUpdateRequestDto;
 import com.wagglex2.waggle.domain.project.dto.response.ProjectResponseDto;
+import com.wagglex2.waggle.domain.project.dto.response.ProjectSummaryResponseDto;
 import com.wagglex2.waggle.domain.project.entity.Project;
+import com.wagglex2.waggle.domain.project.repository.ProjectQueryRepository;
 import com.wagglex2.waggle.domain.project.repository.ProjectRepository;
 import com.wagglex2.waggle.domain.project.service.ProjectService;
+import com.wagglex2.waggle.domain.trending.index.TrendingRecorder;
 import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.parameters.P;
 import org.springframework.stereotype.Service;
@@ -27,7 +37,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository;
+    private final ProjectQueryRepository projectQueryRepository;
     private final UserService userService;
+    private final RecruitmentDetailCache recruitmentDetailCache;
+    private final UniqueViewCounter uniqueViewCounter;
+    private final TrendingRecorder trendingRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -36,42 +51,52 @@ public class ProjectServiceImpl implements ProjectService {
         User user = userService.findById(userId);
         Project newProject = ProjectCreationRequestDto.toEntity(user, requestDto);
 
-        return projectRepository.save(newProject).getId();
+        Long projectId = projectRepository.save(newProject).getId();
+        eventPublisher.publishEvent(RecruitmentChangedEvent.created(projectId, RecruitmentCategory.PROJECT));
+
+        return projectId;
     }
 
-    @Transactional
+    /**
+     * 조립한 상세 응답은 {@link RecruitmentDetailCache}에서 읽고, 캐시에 없을 때만 DB에서 조립한다.
+     * 조회수는 {@link UniqueViewCounter}로 사용자별 중복을 걸러 주기적으로 반영하며, 캐시된 응답의 조회수 대신
+     * 현재 DB 값에 아직 반영되지 않은 조회수를 더해 응답한다.
+     * 처음 본 조회는 인기 공고 점수에도 더한다.
+     */
     @Override
-    public ProjectResponseDto getProject(Long projectId) {
-        int updated = projectRepository.increaseViewCount(projectId);
+    public ProjectResponseDto getProject(Long userId, Long projectId) {
+        ProjectResponseDto cached = recruitmentDetailCache.get(
+                RecruitmentCategory.PROJECT, projectId, ProjectResponseDto.class, () -> loadProject(projectId));
 
-        if (updated == 0) {
-            throw new BusinessException(ErrorCode.PROJECT_NOT_FOUND);
+        if (uniqueViewCounter.record(userId, projectId)) {
+            trendingRecorder.recordView(RecruitmentCategory.PROJECT, projectId);
         }
+        return cached.withViewCount(uniqueViewCounter.viewCount(projectId));
+    }
 
-        // 각 collection 정보는 추가 쿼리로 조회 후 dto에 추가
-        // Project 정보와 User 정보
-        ProjectResponseDto responseDto = projectRepository.findByIdWithUser(projectId)
-                .map(ProjectResponseDto::fromEntity)
+    private ProjectResponseDto loadProject(Long projectId) {
+        // Project 정보와 User 정보 (기술 스택과 학년은 비트마스크 컬럼에서 복원)
+        Project project = projectRepository.findByIdWithUser(projectId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_NOT_FOUND));
 
-        // Position 정보
+        ProjectResponseDto responseDto = ProjectResponseDto.fromEntity(project);
+
+        // 포지션별 모집 인원은 상세 조회에서만 추가 쿼리로 조회
         Set<PositionInfoResponseDto> positions = projectRepository.findPositionsByProjectId(projectId).stream()
                 .map(PositionInfoResponseDto::from)
                 .collect(Collectors.toSet());
 
-        // Skill 정보
-        Set<Skill> skills = projectRepository.findSkillsByProjectId(projectId);
-
-        // Grade 정보
-        Set<Integer> grades = projectRepository.findGradesByProjectId(projectId);
-
         responseDto.setPositions(positions);
-        responseDto.setSkills(skills);
-        responseDto.setGrades(grades);
 
         return responseDto;
     }
 
+    @Override
+    public PageResponse<ProjectSummaryResponseDto> getProjects(ProjectSearchRequestDto requestDto, Pageable pageable) {
+        requestDto.validate();
+        return PageResponse.from(projectQueryRepository.findProjects(requestDto, pageable));
+    }
+
     @PreAuthorize("#userId == authentication.principal.userId")
     @Transactional
     @Override
@@ -91,6 +116,7 @@ public class ProjectServiceImpl implements ProjectService {
         }
 
         project.update(updateDto);
+        eventPublisher.publishEvent(RecruitmentChangedEvent.updated(projectId, RecruitmentCategory.PROJECT));
     }
 
     @PreAuthorize("#userId == authentication.principal.userId")
@@ -107,5 +133,6 @@ public class ProjectServiceImpl implements ProjectService {
 
         // 논리적 삭제
         project.cancel();
+        eventPublisher.publishEvent(RecruitmentChangedEvent.cancelled(projectId, RecruitmentCategory.PROJECT));
     }
 }
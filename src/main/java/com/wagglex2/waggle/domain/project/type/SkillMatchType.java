@@ -0,0 +1,17 @@
+package com.wagglex2.waggle.domain.project.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SkillMatchType {
+    ANY("하나 이상의 기술 스택 요구"),
+    ALL("모든 기술 스택 요구");
+
+    private final String desc;
+
+    public String getName() {
+        return this.name();
+    }
+}
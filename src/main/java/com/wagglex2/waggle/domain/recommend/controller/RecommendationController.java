@@ -0,0 +1,52 @@
+package com.wagglex2.waggle.domain.recommend.controller;
+
+import com.wagglex2.waggle.common.response.ApiResponse;
+import com.wagglex2.waggle.common.security.CustomUserDetails;
+import com.wagglex2.waggle.domain.recommend.dto.request.RecommendationRequestDto;
+import com.wagglex2.waggle.domain.recommend.dto.response.RecommendationResponseDto;
+import com.wagglex2.waggle.domain.recommend.service.RecommendationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/recruitments")
+@RequiredArgsConstructor
+public class RecommendationController {
+    private final RecommendationService recommendationService;
+
+    /**
+     * 로그인한 사용자의 기술 스택, 포지션, 학년에 맞는 모집 중인 공고를 추천한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /api/v1/recruitments/recommended} → 전체 카테고리에서 10건</li>
+     *   <li>{@code GET /api/v1/recruitments/recommended?category=PROJECT&size=20}</li>
+     * </ul>
+     *
+     * @param requestDto  조회 조건
+     * @param userDetails 인증된 사용자 정보
+     * @return 점수 순 추천 공고를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping("/recommended")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<RecommendationResponseDto>>> getRecommendations(
+            @ModelAttribute @Valid RecommendationRequestDto requestDto,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        List<RecommendationResponseDto> data =
+                recommendationService.getRecommendations(userDetails.getUserId(), requestDto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok("추천 공고 조회에 성공했습니다.", data)
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.wagglex2.waggle.domain.recommend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import com.wagglex2.waggle.domain.recommend.index.Recommendation;
+import com.wagglex2.waggle.domain.recommend.repository.RecommendedRecruitmentRow;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 추천 공고 한 건.
+ *
+ * <p>matchedSkills는 사용자와 공고가 함께 가진 기술 스택, positionMatched는 사용자의 포지션을 아직 모집 중인지를 나타낸다.</p>
+ */
+public record RecommendationResponseDto(
+        Long id,
+        RecruitmentCategory category,
+        String title,
+        Long authorId,
+        String authorNickname,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime deadline,
+
+        int viewCount,
+        int score,
+        Set<Skill> matchedSkills,
+        boolean positionMatched
+) {
+    public static RecommendationResponseDto of(Recommendation recommendation, RecommendedRecruitmentRow row) {
+        return new RecommendationResponseDto(
+                row.id(), row.category(), row.title(), row.authorId(), row.authorNickname(),
+                row.deadline(), row.viewCount(), recommendation.score(),
+                SkillMask.toSet(recommendation.matchedSkills()), recommendation.positionMatched()
+        );
+    }
+}
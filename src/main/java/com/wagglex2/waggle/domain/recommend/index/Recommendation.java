@@ -0,0 +1,21 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+
+/**
+ * 추천 공고 한 건과 점수.
+ *
+ * @param id              공고 id
+ * @param category        공고 카테고리
+ * @param score           추천 점수 (높을수록 앞선다)
+ * @param matchedSkills   사용자와 공고가 함께 가진 기술 스택의 비트마스크
+ * @param positionMatched 사용자의 포지션을 아직 모집 중인지
+ */
+public record Recommendation(
+        long id,
+        RecruitmentCategory category,
+        int score,
+        long matchedSkills,
+        boolean positionMatched
+) {
+}
@@ -0,0 +1,112 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import com.wagglex2.waggle.domain.recommend.repository.RecommendationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 현재 사용 중인 추천 스냅샷을 보관하고 갱신한다.
+ *
+ * <p>애플리케이션 기동이 끝나면 백그라운드 스레드에서 모집 중인 공고를 {@code recommend.index.batch-size}(기본 1000)개씩
+ * 읽어 스냅샷을 만든다. 이후 {@link #refresh(Collection)}는 바뀐 공고만 다시 읽어 병합한 새 스냅샷으로 교체한다.</p>
+ *
+ * <p>스냅샷은 volatile 필드 하나로 교체하므로 조회 스레드는 잠금 없이 읽는다. 갱신 작업끼리만 잠금으로 보호한다.</p>
+ */
+@Slf4j
+@Component
+public class RecommendationIndex {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final RecommendationRepository recommendationRepository;
+    private final int batchSize;
+
+    private final Object writeLock = new Object();
+    private volatile RecommendationSnapshot snapshot;
+
+    public RecommendationIndex(RecommendationRepository recommendationRepository,
+                               @Value("${recommend.index.batch-size:1000}") int batchSize) {
+        this.recommendationRepository = recommendationRepository;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("추천 스냅샷 준비 실패", e);
+            }
+        }, "recommendation-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 모집 중인 공고를 모두 다시 읽어 스냅샷을 새로 만들고 교체한다.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            RecommendationSnapshot.Builder builder = new RecommendationSnapshot.Builder(batchSize);
+
+            long lastId = 0L;
+            while (true) {
+                List<RecommendationSource> sources =
+                        recommendationRepository.findSourcesAfter(lastId, PageRequest.of(0, batchSize));
+                if (sources.isEmpty()) {
+                    break;
+                }
+                sources.forEach(builder::add);
+                lastId = sources.get(sources.size() - 1).id();
+            }
+
+            snapshot = builder.build();
+            log.info("추천 스냅샷 생성 완료 : recruitments = {}, {}ms",
+                    snapshot.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 주어진 공고들을 DB에서 다시 읽어 스냅샷에 반영한다.
+     * 모집 중이 아니게 되었거나 더 이상 없는 공고는 뺀다.
+     *
+     * @param recruitmentIds 바뀐 공고 id
+     */
+    public void refresh(Collection<Long> recruitmentIds) {
+        if (recruitmentIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            List<RecommendationSource> sources = recommendationRepository.findSourcesByIdIn(recruitmentIds);
+            snapshot = snapshot.apply(recruitmentIds, sources);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return 현재 스냅샷
+     */
+    public RecommendationSnapshot current() {
+        RecommendationSnapshot current = snapshot;
+        if (current == null) {
+            throw new RetryableBusinessException(ErrorCode.RECOMMENDATION_NOT_READY, RETRY_AFTER);
+        }
+        return current;
+    }
+}
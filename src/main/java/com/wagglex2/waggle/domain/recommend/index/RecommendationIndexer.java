@@ -0,0 +1,79 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 변경 이벤트를 모아 추천 스냅샷에 반영하는 백그라운드 색인기.
+ *
+ * <p>커밋된 변경의 공고 id만 모아 두었다가 {@code recommend.indexer.coalesce-millis}(기본 500ms)마다 한 번에 반영한다.
+ * 반영에 실패한 id는 다시 넣어 다음 주기에 재시도한다.</p>
+ */
+@Slf4j
+@Component
+public class RecommendationIndexer {
+
+    private final RecommendationIndex recommendationIndex;
+    private final long coalesceMillis;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    public RecommendationIndexer(RecommendationIndex recommendationIndex,
+                                 @Value("${recommend.indexer.coalesce-millis:500}") long coalesceMillis) {
+        this.recommendationIndex = recommendationIndex;
+        this.coalesceMillis = coalesceMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMillis, coalesceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecruitmentChanged(RecruitmentChangedEvent event) {
+        pending.add(event.recruitmentId());
+    }
+
+    /**
+     * 쌓인 변경을 스냅샷에 반영한다. 스냅샷이 아직 준비되지 않았으면 다음 주기로 미룬다.
+     */
+    void flush() {
+        if (pending.isEmpty() || !recommendationIndex.isReady()) {
+            return;
+        }
+
+        List<Long> batch = new ArrayList<>(pending);
+        pending.removeAll(batch);
+        try {
+            recommendationIndex.refresh(batch);
+        } catch (RuntimeException e) {
+            pending.addAll(batch);
+            log.warn("추천 스냅샷 반영 실패, 다음 주기에 재시도 : count = {}, 오류 : {}", batch.size(), e.getMessage());
+        }
+    }
+}
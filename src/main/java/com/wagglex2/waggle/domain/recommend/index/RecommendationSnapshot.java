@@ -0,0 +1,257 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 모집 중(RECRUITING)인 공고의 추천용 스냅샷.
+ *
+ * <p>공고마다 id, 카테고리, 기술 스택/학년/모집 중인 포지션 비트마스크, 마감 시각만 id 오름차순의 primitive 배열로 가진다.
+ * 공고 한 건에 33바이트이므로 5만 건이어도 2MB가 되지 않고, 객체 그래프 없이 배열을 순서대로 훑는다.</p>
+ *
+ * <p>점수</p>
+ * <ul>
+ *   <li>기술 스택 : 사용자와 공고가 함께 가진 기술 스택 수(popcount) x {@value #SKILL_WEIGHT}</li>
+ *   <li>포지션 : 사용자의 포지션을 아직 모집 중이면 {@value #POSITION_WEIGHT}</li>
+ *   <li>학년 : 공고가 학년을 정했는데 사용자의 학년이 없으면 제외하고, 있으면 {@value #GRADE_WEIGHT}
+ *       (기술 스택과 포지션이 없는 과제 공고도 대상 학년이면 추천되도록 하는 기본 점수)</li>
+ * </ul>
+ * <p>점수가 0인 공고와 마감 시각이 지난 공고는 제외하며, 점수가 같으면 최근에 등록된(id가 큰) 공고가 앞선다.</p>
+ *
+ * <p>상위 K개는 (점수, 위치)를 long 하나로 묶은 크기 K의 최소 힙으로 고르므로 O(N log K)에 끝나고 객체를 만들지 않는다.</p>
+ *
+ * <p>한 번 만든 스냅샷은 바뀌지 않으며, {@link #apply}는 바뀐 공고를 반영한 새 스냅샷을 만든다.</p>
+ */
+public final class RecommendationSnapshot {
+
+    static final int SKILL_WEIGHT = 2;
+    static final int POSITION_WEIGHT = 3;
+    static final int GRADE_WEIGHT = 1;
+
+    static final RecommendationSnapshot EMPTY = new Builder(0).build();
+
+    private static final RecruitmentCategory[] CATEGORIES = RecruitmentCategory.values();
+
+    private final int size;
+    private final long[] ids;
+    private final byte[] categories;
+    private final long[] skillMasks;
+    private final int[] gradeMasks;
+    private final int[] positionMasks;
+    private final long[] deadlines;
+
+    private RecommendationSnapshot(int size, long[] ids, byte[] categories, long[] skillMasks,
+                                   int[] gradeMasks, int[] positionMasks, long[] deadlines) {
+        this.size = size;
+        this.ids = ids;
+        this.categories = categories;
+        this.skillMasks = skillMasks;
+        this.gradeMasks = gradeMasks;
+        this.positionMasks = positionMasks;
+        this.deadlines = deadlines;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param skillMask    사용자의 기술 스택 비트마스크
+     * @param positionMask 사용자의 포지션 비트
+     * @param gradeMask    사용자의 학년 비트
+     * @param category     카테고리 조건 (null이면 전체)
+     * @param now          기준 시각 (마감 시각이 이 시각 이전인 공고는 제외)
+     * @param k            최대 개수
+     * @return 점수 내림차순 추천 공고
+     */
+    public List<Recommendation> recommend(long skillMask, int positionMask, int gradeMask,
+                                          RecruitmentCategory category, LocalDateTime now, int k) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        long nowEpochSecond = now.toEpochSecond(ZoneOffset.UTC);
+        int categoryOrdinal = category != null ? category.ordinal() : -1;
+
+        // 상위 비트에 점수, 하위 비트에 위치를 두므로 값이 클수록 (점수, id)가 크다.
+        long[] heap = new long[Math.min(k, size)];
+        int heapSize = 0;
+
+        for (int slot = 0; slot < size; slot++) {
+            if (categoryOrdinal >= 0 && categories[slot] != categoryOrdinal) {
+                continue;
+            }
+            int grades = gradeMasks[slot];
+            if (grades != 0 && (grades & gradeMask) == 0) {
+                continue;
+            }
+            int score = Long.bitCount(skillMasks[slot] & skillMask) * SKILL_WEIGHT
+                    + ((positionMasks[slot] & positionMask) != 0 ? POSITION_WEIGHT : 0)
+                    + (grades != 0 ? GRADE_WEIGHT : 0);
+            if (score == 0 || deadlines[slot] < nowEpochSecond) {
+                continue;
+            }
+
+            long key = ((long) score << 32) | slot;
+            if (heapSize < heap.length) {
+                heap[heapSize] = key;
+                siftUp(heap, heapSize++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        long[] ranked = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(ranked);
+        List<Recommendation> recommendations = new ArrayList<>(heapSize);
+        for (int i = heapSize - 1; i >= 0; i--) {
+            int slot = (int) ranked[i];
+            recommendations.add(new Recommendation(
+                    ids[slot],
+                    CATEGORIES[categories[slot]],
+                    (int) (ranked[i] >>> 32),
+                    skillMasks[slot] & skillMask,
+                    (positionMasks[slot] & positionMask) != 0
+            ));
+        }
+        return recommendations;
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        long key = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent] <= key) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = key;
+    }
+
+    private static void siftDown(long[] heap, int heapSize) {
+        long key = heap[0];
+        int index = 0;
+        int half = heapSize >>> 1;
+        while (index < half) {
+            int child = 2 * index + 1;
+            if (child + 1 < heapSize && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (key <= heap[child]) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = key;
+    }
+
+    /**
+     * 바뀐 공고를 반영한 새 스냅샷을 만든다.
+     * 두 배열 모두 id 오름차순이므로 한 번의 병합으로 끝난다.
+     *
+     * @param changedIds 다시 읽은 공고 id (삭제되었거나 더 이상 모집 중이 아닌 공고 포함)
+     * @param sources    다시 읽은 공고 중 DB에 남아 있는 공고
+     */
+    RecommendationSnapshot apply(Collection<Long> changedIds, Collection<RecommendationSource> sources) {
+        long[] changed = changedIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        List<RecommendationSource> upserts = sources.stream()
+                .filter(source -> source.status() == RecruitmentStatus.RECRUITING)
+                .sorted(Comparator.comparingLong(RecommendationSource::id))
+                .toList();
+
+        Builder builder = new Builder(size + upserts.size());
+        int next = 0;
+        for (int slot = 0; slot < size; slot++) {
+            while (next < upserts.size() && upserts.get(next).id() < ids[slot]) {
+                builder.add(upserts.get(next++));
+            }
+            if (Arrays.binarySearch(changed, ids[slot]) < 0) {
+                builder.copy(this, slot);
+            }
+        }
+        while (next < upserts.size()) {
+            builder.add(upserts.get(next++));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 공고를 id 오름차순으로 추가해 스냅샷을 만든다. 모집 중이 아닌 공고는 넣지 않는다.
+     */
+    static final class Builder {
+        private int size;
+        private long[] ids;
+        private byte[] categories;
+        private long[] skillMasks;
+        private int[] gradeMasks;
+        private int[] positionMasks;
+        private long[] deadlines;
+
+        Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.ids = new long[capacity];
+            this.categories = new byte[capacity];
+            this.skillMasks = new long[capacity];
+            this.gradeMasks = new int[capacity];
+            this.positionMasks = new int[capacity];
+            this.deadlines = new long[capacity];
+        }
+
+        Builder add(RecommendationSource source) {
+            if (source.status() != RecruitmentStatus.RECRUITING) {
+                return this;
+            }
+            ensureCapacity();
+            ids[size] = source.id();
+            categories[size] = (byte) source.category().ordinal();
+            skillMasks[size] = source.skillMask();
+            gradeMasks[size] = source.gradeMask();
+            positionMasks[size] = source.openPositionMask();
+            deadlines[size] = source.deadline().toEpochSecond(ZoneOffset.UTC);
+            size++;
+            return this;
+        }
+
+        private void copy(RecommendationSnapshot snapshot, int slot) {
+            ensureCapacity();
+            ids[size] = snapshot.ids[slot];
+            categories[size] = snapshot.categories[slot];
+            skillMasks[size] = snapshot.skillMasks[slot];
+            gradeMasks[size] = snapshot.gradeMasks[slot];
+            positionMasks[size] = snapshot.positionMasks[slot];
+            deadlines[size] = snapshot.deadlines[slot];
+            size++;
+        }
+
+        private void ensureCapacity() {
+            if (size < ids.length) {
+                return;
+            }
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            categories = Arrays.copyOf(categories, capacity);
+            skillMasks = Arrays.copyOf(skillMasks, capacity);
+            gradeMasks = Arrays.copyOf(gradeMasks, capacity);
+            positionMasks = Arrays.copyOf(positionMasks, capacity);
+            deadlines = Arrays.copyOf(deadlines, capacity);
+        }
+
+        RecommendationSnapshot build() {
+            return new RecommendationSnapshot(size,
+                    Arrays.copyOf(ids, size), Arrays.copyOf(categories, size), Arrays.copyOf(skillMasks, size),
+                    Arrays.copyOf(gradeMasks, size), Arrays.copyOf(positionMasks, size), Arrays.copyOf(deadlines, size));
+        }
+    }
+}
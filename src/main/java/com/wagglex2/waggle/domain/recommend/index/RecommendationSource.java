@@ -0,0 +1,22 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 스냅샷에 넣을 공고 한 건의 비트마스크 컬럼.
+ *
+ * <p>포지션이 없는 공고(스터디, 과제)는 openPositionMask가 0, 기술 스택이 없는 공고(과제)는 skillMask가 0이다.</p>
+ */
+public record RecommendationSource(
+        Long id,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        long skillMask,
+        int gradeMask,
+        int openPositionMask,
+        LocalDateTime deadline
+) {
+}
@@ -0,0 +1,46 @@
+package com.wagglex2.waggle.domain.recommend.repository;
+
+import com.wagglex2.waggle.domain.common.entity.BaseRecruitment;
+import com.wagglex2.waggle.domain.recommend.index.RecommendationSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 추천 스냅샷에 넣을 공고의 비트마스크 컬럼과, 추천 결과의 표시용 컬럼을 읽는 Repository.
+ *
+ * <p>skill_mask는 컨버터가 붙은 속성이므로 BIGINT로 캐스팅해 숫자로 읽는다.
+ * 포지션은 프로젝트 공고에만 있으므로 나머지 공고는 0으로 읽는다.</p>
+ */
+@Repository
+public interface RecommendationRepository extends JpaRepository<BaseRecruitment, Long> {
+
+    // 전체 생성용 keyset 페이지 조회 (id > lastId), 모집 중인 공고만
+    @Query("SELECT new com.wagglex2.waggle.domain.recommend.index.RecommendationSource(" +
+            "r.id, r.category, r.status, cast(r.skillMask as Long), r.gradeMask, " +
+            "coalesce(p.openPositionMask, 0), r.deadline) " +
+            "FROM BaseRecruitment r LEFT JOIN Project p ON p.id = r.id " +
+            "WHERE r.id > :lastId " +
+            "AND r.status = com.wagglex2.waggle.domain.common.type.RecruitmentStatus.RECRUITING " +
+            "ORDER BY r.id")
+    List<RecommendationSource> findSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 변경 이벤트로 모인 공고 재반영 (상태와 관계없이 읽고, 모집 중이 아니면 스냅샷에서 뺀다.)
+    @Query("SELECT new com.wagglex2.waggle.domain.recommend.index.RecommendationSource(" +
+            "r.id, r.category, r.status, cast(r.skillMask as Long), r.gradeMask, " +
+            "coalesce(p.openPositionMask, 0), r.deadline) " +
+            "FROM BaseRecruitment r LEFT JOIN Project p ON p.id = r.id " +
+            "WHERE r.id IN :ids")
+    List<RecommendationSource> findSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.wagglex2.waggle.domain.recommend.repository.RecommendedRecruitmentRow(" +
+            "r.id, r.category, r.status, r.title, u.id, u.nickname, r.deadline, r.viewCount) " +
+            "FROM BaseRecruitment r JOIN r.user u " +
+            "WHERE r.id IN :ids")
+    List<RecommendedRecruitmentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,21 @@
+package com.wagglex2.waggle.domain.recommend.repository;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천된 공고의 화면 표시용 단일 값 컬럼 (작성자 포함).
+ */
+public record RecommendedRecruitmentRow(
+        Long id,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        String title,
+        Long authorId,
+        String authorNickname,
+        LocalDateTime deadline,
+        int viewCount
+) {
+}
@@ -0,0 +1,10 @@
+package com.wagglex2.waggle.domain.recommend.service;
+
+import com.wagglex2.waggle.domain.recommend.dto.request.RecommendationRequestDto;
+import com.wagglex2.waggle.domain.recommend.dto.response.RecommendationResponseDto;
+
+import java.util.List;
+
+public interface RecommendationService {
+    List<RecommendationResponseDto> getRecommendations(Long userId, RecommendationRequestDto requestDto);
+}
@@ -0,0 +1,79 @@
+package com.wagglex2.waggle.domain.recommend.service.serviceImpl;
+
+import com.wagglex2.waggle.domain.common.type.GradeMask;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import com.wagglex2.waggle.domain.recommend.dto.request.RecommendationRequestDto;
+import com.wagglex2.waggle.domain.recommend.dto.response.RecommendationResponseDto;
+import com.wagglex2.waggle.domain.recommend.index.Recommendation;
+import com.wagglex2.waggle.domain.recommend.index.RecommendationIndex;
+import com.wagglex2.waggle.domain.recommend.repository.RecommendationRepository;
+import com.wagglex2.waggle.domain.recommend.repository.RecommendedRecruitmentRow;
+import com.wagglex2.waggle.domain.recommend.service.RecommendationService;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RecommendationServiceImpl implements RecommendationService {
+    private final RecommendationIndex recommendationIndex;
+    private final RecommendationRepository recommendationRepository;
+    private final UserService userService;
+
+    /**
+     * 사용자의 기술 스택, 포지션, 학년에 맞는 모집 중인 공고를 점수 순으로 조회한다.
+     *
+     * <p><b>처리 흐름:</b></p>
+     * <ol>
+     *   <li>사용자 프로필을 비트마스크로 바꾼다. (skill_mask, 포지션 비트, 학년 비트)</li>
+     *   <li>메모리의 추천 스냅샷에서 상위 K개를 고른다. 스냅샷이 아직 준비되지 않았으면 RECOMMENDATION_NOT_READY(503)</li>
+     *   <li>고른 공고의 제목, 작성자 등을 IN 쿼리 한 번으로 읽어 점수 순서대로 채운다.
+     *       스냅샷 반영 전에 취소되었거나 사라진 공고는 뺀다.</li>
+     * </ol>
+     *
+     * @param userId     요청한 사용자 id
+     * @param requestDto 조회 조건
+     * @return 점수 내림차순 추천 공고
+     */
+    @Override
+    public List<RecommendationResponseDto> getRecommendations(Long userId, RecommendationRequestDto requestDto) {
+        User user = userService.findById(userId);
+
+        List<Recommendation> recommendations = recommendationIndex.current().recommend(
+                SkillMask.of(user.getSkillMask()),
+                user.getPosition().mask(),
+                GradeMask.of(user.getGrade()),
+                requestDto.category(),
+                LocalDateTime.now(),
+                requestDto.sizeOrDefault()
+        );
+        if (recommendations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RecommendedRecruitmentRow> rows = recommendationRepository
+                .findRowsByIdIn(recommendations.stream().map(Recommendation::id).toList())
+                .stream()
+                .collect(Collectors.toMap(RecommendedRecruitmentRow::id, Function.identity()));
+
+        List<RecommendationResponseDto> content = new ArrayList<>(recommendations.size());
+        for (Recommendation recommendation : recommendations) {
+            RecommendedRecruitmentRow row = rows.get(recommendation.id());
+            if (row != null && row.status() == RecruitmentStatus.RECRUITING) {
+                content.add(RecommendationResponseDto.of(recommendation, row));
+            }
+        }
+        return content;
+    }
+}
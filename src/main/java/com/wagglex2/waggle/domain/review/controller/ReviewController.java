@@ -2,7 +2,10 @@ package com.wagglex2.waggle.domain.review.controller;
 
 import com.wagglex2.waggle.common.response.ApiResponse;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
+import com.wagglex2.waggle.domain.common.dto.request.CursorRequestDto;
+import com.wagglex2.waggle.domain.common.dto.response.CursorResponse;
 import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.type.PageMode;
 import com.wagglex2.waggle.domain.review.dto.request.ReviewCreationRequestDto;
 import com.wagglex2.waggle.domain.review.dto.response.ReviewResponseDto;
 import com.wagglex2.waggle.domain.review.service.ReviewService;
@@ -61,7 +64,8 @@ public class ReviewController {
      * <ol>
      *   <li>Spring MVC가 요청 파라미터({@code page}, {@code size}, {@code sort})를 {@link Pageable} 객체로 자동 변환한다.</li>
      *   <li>인증된 사용자 정보에서 작성자 ID({@code reviewerId})를 추출한다.</li>
-     *   <li>{@code reviewService.getReviewsByReviewerId()} 호출 시 {@link Pageable}을 전달하여 조회를 수행한다.</li>
+     *   <li>{@code reviewService.getReviewsByReviewerId()} 호출 시 {@link Pageable}을 전달하여 조회를 수행한다.
+     *       전체 개수는 COUNT 쿼리 없이 캐시된 근사값({@link PageMode#APPROXIMATE})을 사용한다.</li>
      *   <li>서비스 계층에서 조회 결과를 {@link PageResponse}<{@link ReviewResponseDto}> 형태로 변환하여 반환한다.</li>
      *   <li>컨트롤러는 이를 {@link ApiResponse}로 감싸 200 OK 응답을 반환한다.</li>
      * </ol>
@@ -88,7 +92,8 @@ public class ReviewController {
     ) {
         PageResponse<ReviewResponseDto> data = reviewService.getReviewsByReviewerId(
                 userDetails.getUserId(),
-                pageable
+                pageable,
+                PageMode.APPROXIMATE
         );
 
         return ResponseEntity.status(HttpStatus.OK)
@@ -102,7 +107,8 @@ public class ReviewController {
      * <ol>
      *   <li>Spring MVC가 요청 파라미터({@code page}, {@code size}, {@code sort})를 {@link Pageable} 객체로 자동 변환한다.</li>
      *   <li>인증 정보에서 리뷰 대상 사용자 ID({@code revieweeId})를 추출한다.</li>
-     *   <li>{@code reviewService.getReviewsByRevieweeId()} 호출 시 {@link Pageable}을 전달하여 조회를 수행한다.</li>
+     *   <li>{@code reviewService.getReviewsByRevieweeId()} 호출 시 {@link Pageable}을 전달하여 조회를 수행한다.
+     *       전체 개수는 COUNT 쿼리 없이 캐시된 근사값({@link PageMode#APPROXIMATE})을 사용한다.</li>
      *   <li>서비스 계층에서 조회 결과를 {@link PageResponse}<{@link ReviewResponseDto}> 형태로 변환하여 반환한다.</li>
      *   <li>컨트롤러는 이를 {@link ApiResponse}로 감싸 200 OK 응답을 반환한다.</li>
      * </ol>
@@ -129,7 +135,64 @@ public class ReviewController {
     ) {
         PageResponse<ReviewResponseDto> data = reviewService.getReviewsByRevieweeId(
                 userDetails.getUserId(),
-                pageable
+                pageable,
+                PageMode.APPROXIMATE
+        );
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.ok("내가 받은 리뷰 조회에 성공했습니다.", data));
+    }
+
+    /**
+     * 로그인한 사용자가 <b>작성한 리뷰 목록</b>을 커서 기반으로 조회한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /me/written/cursor?size=5} (첫 페이지)</li>
+     *   <li>{@code GET /me/written/cursor?cursor={nextCursor}&size=5} (다음 페이지)</li>
+     * </ul>
+     *
+     * @param userDetails   현재 인증된 사용자 정보
+     * @param cursorRequest 커서와 조회 개수 (기본값: size=5)
+     * @return 내가 작성한 리뷰 목록과 다음 커서를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping("/me/written/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CursorResponse<ReviewResponseDto>>> scrollMyWrittenReviews(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ModelAttribute @Valid CursorRequestDto cursorRequest
+    ) {
+        CursorResponse<ReviewResponseDto> data = reviewService.scrollReviewsByReviewerId(
+                userDetails.getUserId(),
+                cursorRequest
+        );
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.ok("내가 작성한 리뷰 조회에 성공했습니다.", data));
+    }
+
+    /**
+     * 로그인한 사용자가 <b>받은 리뷰 목록</b>을 커서 기반으로 조회한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /me/received/cursor?size=5} (첫 페이지)</li>
+     *   <li>{@code GET /me/received/cursor?cursor={nextCursor}&size=5} (다음 페이지)</li>
+     * </ul>
+     *
+     * @param userDetails   현재 인증된 사용자 정보
+     * @param cursorRequest 커서와 조회 개수 (기본값: size=5)
+     * @return 받은 리뷰 목록과 다음 커서를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping("/me/received/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CursorResponse<ReviewResponseDto>>> scrollMyReceivedReviews(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @ModelAttribute @Valid CursorRequestDto cursorRequest
+    ) {
+        CursorResponse<ReviewResponseDto> data = reviewService.scrollReviewsByRevieweeId(
+                userDetails.getUserId(),
+                cursorRequest
         );
 
         return ResponseEntity.status(HttpStatus.OK)
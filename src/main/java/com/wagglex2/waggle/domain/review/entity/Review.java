@@ -28,11 +28,19 @@ import java.time.LocalDateTime;
  *   <li>기본키: {@code id}</li>
  *   <li>작성자 외래키: {@code reviewer_id}</li>
  *   <li>대상자 외래키: {@code reviewee_id}</li>
+ *   <li>인덱스: {@code (reviewee_id, created_at, id)}, {@code (reviewer_id, created_at, id)}
+ *       (사용자별 최신순 목록과 커서 조회용)</li>
  * </ul>
  */
 
 @Entity
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        indexes = {
+                @Index(name = "idx_reviews_reviewee_created_at", columnList = "reviewee_id, created_at, id"),
+                @Index(name = "idx_reviews_reviewer_created_at", columnList = "reviewer_id, created_at, id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -54,7 +62,7 @@ public class Review {
     private String content;
 
     @CreatedDate
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @LastModifiedDate
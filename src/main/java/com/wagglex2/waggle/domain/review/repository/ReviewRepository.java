@@ -1,13 +1,58 @@
 package com.wagglex2.waggle.domain.review.repository;
 
 import com.wagglex2.waggle.domain.review.entity.Review;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
     Page<Review> findByRevieweeId(Long revieweeId, Pageable pageable);
     Page<Review> findByReviewerId(Long reviewerId, Pageable pageable);
+
+    // COUNT 쿼리 없이 size + 1개를 조회한다.
+    Slice<Review> findSliceByRevieweeId(Long revieweeId, Pageable pageable);
+    Slice<Review> findSliceByReviewerId(Long reviewerId, Pageable pageable);
+
+    long countByRevieweeId(Long revieweeId);
+    long countByReviewerId(Long reviewerId);
+
+    // 커서 기반 조회 : (reviewee_id, created_at, id) / (reviewer_id, created_at, id) 인덱스를 역순으로 읽는다.
+    List<Review> findByRevieweeIdOrderByCreatedAtDescIdDesc(Long revieweeId, Limit limit);
+
+    @Query("""
+            SELECT r FROM Review r
+            WHERE r.reviewee.id = :revieweeId
+              AND (r.createdAt, r.id) < (:createdAt, :id)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<Review> findByRevieweeIdBefore(
+            @Param("revieweeId") Long revieweeId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    List<Review> findByReviewerIdOrderByCreatedAtDescIdDesc(Long reviewerId, Limit limit);
+
+    @Query("""
+            SELECT r FROM Review r
+            WHERE r.reviewer.id = :reviewerId
+              AND (r.createdAt, r.id) < (:createdAt, :id)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<Review> findByReviewerIdBefore(
+            @Param("reviewerId") Long reviewerId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Limit limit
+    );
 }
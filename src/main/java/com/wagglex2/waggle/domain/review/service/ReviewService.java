@@ -1,12 +1,17 @@
 package com.wagglex2.waggle.domain.review.service;
 
+import com.wagglex2.waggle.domain.common.dto.request.CursorRequestDto;
+import com.wagglex2.waggle.domain.common.dto.response.CursorResponse;
 import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.type.PageMode;
 import com.wagglex2.waggle.domain.review.dto.request.ReviewCreationRequestDto;
 import com.wagglex2.waggle.domain.review.dto.response.ReviewResponseDto;
 import org.springframework.data.domain.Pageable;
 
 public interface ReviewService {
     Long createReview(Long reviewerId, ReviewCreationRequestDto dto);
-    PageResponse<ReviewResponseDto> getReviewsByRevieweeId(Long revieweeId, Pageable pageable);
-    PageResponse<ReviewResponseDto> getReviewsByReviewerId(Long reviewerId, Pageable pageable);
+    PageResponse<ReviewResponseDto> getReviewsByRevieweeId(Long revieweeId, Pageable pageable, PageMode mode);
+    PageResponse<ReviewResponseDto> getReviewsByReviewerId(Long reviewerId, Pageable pageable, PageMode mode);
+    CursorResponse<ReviewResponseDto> scrollReviewsByRevieweeId(Long revieweeId, CursorRequestDto cursorRequest);
+    CursorResponse<ReviewResponseDto> scrollReviewsByReviewerId(Long reviewerId, CursorRequestDto cursorRequest);
 }
@@ -2,7 +2,12 @@ package com.wagglex2.waggle.domain.review.service.serviceImpl;
 
 import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.domain.common.dto.request.CursorRequestDto;
+import com.wagglex2.waggle.domain.common.dto.response.CursorResponse;
 import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.type.Cursor;
+import com.wagglex2.waggle.domain.common.type.PageMode;
+import com.wagglex2.waggle.domain.common.util.ApproximateCounter;
 import com.wagglex2.waggle.domain.review.dto.request.ReviewCreationRequestDto;
 import com.wagglex2.waggle.domain.review.dto.response.ReviewResponseDto;
 import com.wagglex2.waggle.domain.review.entity.Review;
@@ -12,10 +17,14 @@ import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +36,7 @@ public class ReviewServiceImpl implements ReviewService {
 
     private final ReviewRepository reviewRepository;
     private final UserService userService;
+    private final ApproximateCounter approximateCounter;
 
     /**
      * 리뷰를 생성하는 서비스 로직.
@@ -56,7 +66,30 @@ public class ReviewServiceImpl implements ReviewService {
         User reviewee = userService.findById(dto.revieweeId());
 
         Review review = dto.toEntity(reviewer, reviewee, dto.content());
-        return reviewRepository.save(review).getId();
+        Long reviewId = reviewRepository.save(review).getId();
+
+        addCountsAfterCommit(reviewerId, dto.revieweeId());
+        return reviewId;
+    }
+
+    // 근사 개수는 다음 갱신 전까지 바로 보정한다. 롤백된 리뷰가 세어지지 않도록 커밋된 뒤에 더한다.
+    private void addCountsAfterCommit(Long reviewerId, Long revieweeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addCounts(reviewerId, revieweeId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addCounts(reviewerId, revieweeId);
+            }
+        });
+    }
+
+    private void addCounts(Long reviewerId, Long revieweeId) {
+        approximateCounter.add(reviewerCountKey(reviewerId), 1);
+        approximateCounter.add(revieweeCountKey(revieweeId), 1);
     }
 
     /**
@@ -65,43 +98,126 @@ public class ReviewServiceImpl implements ReviewService {
      * <p><b>처리 흐름:</b></p>
      * <ol>
      *   <li>컨트롤러에서 전달된 {@link Pageable} 객체를 기반으로 페이징 및 정렬 조건을 설정한다.</li>
-     *   <li>{@code revieweeId}에 해당하는 리뷰를 {@link ReviewRepository#findByRevieweeId(Long, Pageable)}로 조회한다.</li>
-     *   <li>조회된 {@link Review} 엔티티를 {@link ReviewResponseDto}로 변환한다.</li>
-     *   <li>변환된 결과({@link Page}<{@link ReviewResponseDto}>)를 {@link PageResponse} 형태로 감싸 반환한다.</li>
+     *   <li>{@code mode}에 따라 리뷰를 조회한다.
+     *     <ul>
+     *       <li>EXACT : {@link ReviewRepository#findByRevieweeId(Long, Pageable)} (목록 + COUNT 쿼리)</li>
+     *       <li>SLICE : {@link ReviewRepository#findSliceByRevieweeId(Long, Pageable)} (목록 쿼리만)</li>
+     *       <li>APPROXIMATE : SLICE로 조회하고, 전체 개수는 {@link ApproximateCounter}의 캐시 값을 사용</li>
+     *     </ul>
+     *   </li>
+     *   <li>조회된 {@link Review} 엔티티를 {@link ReviewResponseDto}로 변환해 {@link PageResponse} 형태로 감싸 반환한다.</li>
      * </ol>
      *
      * @param revieweeId 리뷰 대상 사용자의 고유 ID
      * @param pageable   페이징 및 정렬 정보 (page, size, sort 등)
+     * @param mode       전체 개수 계산 방식
      * @return 페이지 정보와 함께 {@link ReviewResponseDto} 목록을 담은 {@link PageResponse} 객체
      */
     @Override
-    public PageResponse<ReviewResponseDto> getReviewsByRevieweeId(Long revieweeId, Pageable pageable) {
-        Page<ReviewResponseDto> page = reviewRepository.findByRevieweeId(revieweeId, pageable)
-                .map(ReviewResponseDto::from);
-
-        return PageResponse.from(page);
+    public PageResponse<ReviewResponseDto> getReviewsByRevieweeId(Long revieweeId, Pageable pageable, PageMode mode) {
+        return switch (mode) {
+            case EXACT -> PageResponse.from(
+                    reviewRepository.findByRevieweeId(revieweeId, pageable).map(ReviewResponseDto::from));
+            case SLICE -> PageResponse.fromSlice(
+                    reviewRepository.findSliceByRevieweeId(revieweeId, pageable).map(ReviewResponseDto::from));
+            case APPROXIMATE -> PageResponse.approximate(
+                    reviewRepository.findSliceByRevieweeId(revieweeId, pageable).map(ReviewResponseDto::from),
+                    approximateCounter.get(revieweeCountKey(revieweeId),
+                            () -> reviewRepository.countByRevieweeId(revieweeId)));
+        };
     }
 
     /**
      * 특정 사용자가 <b>작성한 리뷰 목록</b>을 {@link Pageable} 조건에 따라 페이지네이션 방식으로 조회한다.
      *
+     * @param reviewerId 리뷰 작성 사용자의 고유 ID
+     * @param pageable   페이징 및 정렬 정보 (page, size, sort 등)
+     * @param mode       전체 개수 계산 방식
+     * @return 페이지 정보와 함께 {@link ReviewResponseDto} 목록을 담은 {@link PageResponse} 객체
+     * @see #getReviewsByRevieweeId(Long, Pageable, PageMode)
+     */
+    @Override
+    public PageResponse<ReviewResponseDto> getReviewsByReviewerId(Long reviewerId, Pageable pageable, PageMode mode) {
+        return switch (mode) {
+            case EXACT -> PageResponse.from(
+                    reviewRepository.findByReviewerId(reviewerId, pageable).map(ReviewResponseDto::from));
+            case SLICE -> PageResponse.fromSlice(
+                    reviewRepository.findSliceByReviewerId(reviewerId, pageable).map(ReviewResponseDto::from));
+            case APPROXIMATE -> PageResponse.approximate(
+                    reviewRepository.findSliceByReviewerId(reviewerId, pageable).map(ReviewResponseDto::from),
+                    approximateCounter.get(reviewerCountKey(reviewerId),
+                            () -> reviewRepository.countByReviewerId(reviewerId)));
+        };
+    }
+
+    /**
+     * 특정 사용자가 <b>받은 리뷰 목록</b>을 커서 기반으로 최신순 조회한다.
+     *
      * <p><b>처리 흐름:</b></p>
      * <ol>
-     *   <li>컨트롤러에서 전달된 {@link Pageable} 객체를 기반으로 페이징 및 정렬 조건을 설정한다.</li>
-     *   <li>{@code reviewerId}에 해당하는 리뷰를 {@link ReviewRepository#findByReviewerId(Long, Pageable)}로 조회한다.</li>
-     *   <li>조회된 {@link Review} 엔티티를 {@link ReviewResponseDto}로 변환한다.</li>
-     *   <li>변환된 결과({@link Page}<{@link ReviewResponseDto}>)를 {@link PageResponse} 형태로 감싸 반환한다.</li>
+     *   <li>커서가 없으면 최신 리뷰부터, 있으면 커서 위치 {@code (createdAt, id)}보다 앞선 리뷰부터 {@code size + 1}개 조회한다.</li>
+     *   <li>{@code size}개보다 많이 조회되면 다음 페이지가 있으므로 마지막 행의 위치를 {@code nextCursor}로 반환한다.</li>
      * </ol>
      *
-     * @param reviewerId 리뷰 작성 사용자의 고유 ID
-     * @param pageable   페이징 및 정렬 정보 (page, size, sort 등)
-     * @return 페이지 정보와 함께 {@link ReviewResponseDto} 목록을 담은 {@link PageResponse} 객체
+     * <p>OFFSET과 COUNT 쿼리 없이 인덱스를 커서 위치부터 읽으므로, 리뷰가 많아도 페이지마다 비용이 일정하다.</p>
+     *
+     * @param revieweeId    리뷰 대상 사용자의 고유 ID
+     * @param cursorRequest 커서와 조회 개수 (기본값: size=5)
+     * @return 리뷰 목록과 다음 커서를 담은 {@link CursorResponse} 객체
+     * @throws BusinessException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR} 발생
      */
     @Override
-    public PageResponse<ReviewResponseDto> getReviewsByReviewerId(Long reviewerId, Pageable pageable) {
-        Page<ReviewResponseDto> page = reviewRepository.findByReviewerId(reviewerId, pageable)
+    public CursorResponse<ReviewResponseDto> scrollReviewsByRevieweeId(Long revieweeId, CursorRequestDto cursorRequest) {
+        int size = cursorRequest.sizeOrDefault(DEFAULT_PAGE_SIZE);
+        Limit limit = Limit.of(size + 1);
+
+        List<Review> reviews;
+        if (cursorRequest.hasCursor()) {
+            Cursor cursor = cursorRequest.decodedCursor();
+            reviews = reviewRepository.findByRevieweeIdBefore(revieweeId, cursor.createdAt(), cursor.id(), limit);
+        } else {
+            reviews = reviewRepository.findByRevieweeIdOrderByCreatedAtDescIdDesc(revieweeId, limit);
+        }
+
+        return CursorResponse.of(reviews, size, ReviewServiceImpl::cursorOf)
                 .map(ReviewResponseDto::from);
+    }
+
+    /**
+     * 특정 사용자가 <b>작성한 리뷰 목록</b>을 커서 기반으로 최신순 조회한다.
+     *
+     * @param reviewerId    리뷰 작성 사용자의 고유 ID
+     * @param cursorRequest 커서와 조회 개수 (기본값: size=5)
+     * @return 리뷰 목록과 다음 커서를 담은 {@link CursorResponse} 객체
+     * @throws BusinessException 커서 형식이 잘못된 경우 {@link ErrorCode#INVALID_CURSOR} 발생
+     * @see #scrollReviewsByRevieweeId(Long, CursorRequestDto)
+     */
+    @Override
+    public CursorResponse<ReviewResponseDto> scrollReviewsByReviewerId(Long reviewerId, CursorRequestDto cursorRequest) {
+        int size = cursorRequest.sizeOrDefault(DEFAULT_PAGE_SIZE);
+        Limit limit = Limit.of(size + 1);
+
+        List<Review> reviews;
+        if (cursorRequest.hasCursor()) {
+            Cursor cursor = cursorRequest.decodedCursor();
+            reviews = reviewRepository.findByReviewerIdBefore(reviewerId, cursor.createdAt(), cursor.id(), limit);
+        } else {
+            reviews = reviewRepository.findByReviewerIdOrderByCreatedAtDescIdDesc(reviewerId, limit);
+        }
+
+        return CursorResponse.of(reviews, size, ReviewServiceImpl::cursorOf)
+                .map(ReviewResponseDto::from);
+    }
+
+    private static String revieweeCountKey(Long revieweeId) {
+        return "reviews:reviewee:" + revieweeId;
+    }
+
+    private static String reviewerCountKey(Long reviewerId) {
+        return "reviews:reviewer:" + reviewerId;
+    }
 
-        return PageResponse.from(page);
+    private static Cursor cursorOf(Review review) {
+        return new Cursor(review.getCreatedAt(), review.getId());
     }
 }
@@ -0,0 +1,51 @@
+package com.wagglex2.waggle.domain.search.controller;
+
+import com.wagglex2.waggle.common.response.ApiResponse;
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.search.dto.request.RecruitmentSearchRequestDto;
+import com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto;
+import com.wagglex2.waggle.domain.search.service.RecruitmentSearchService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/recruitments")
+@RequiredArgsConstructor
+public class RecruitmentSearchController {
+    private final RecruitmentSearchService recruitmentSearchService;
+
+    /**
+     * 프로젝트, 과제, 스터디 공고를 키워드로 검색한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /api/v1/recruitments/search?q=스프링 백엔드&operator=OR&category=PROJECT&status=RECRUITING&page=0&size=10}</li>
+     *   <li>{@code GET /api/v1/recruitments/search?q=스프링부트&mode=NGRAM} (오타, 띄어쓰기 차이를 허용하는 글자 n-gram 검색)</li>
+     *   <li>페이지 번호는 0부터 시작 (Spring Data JPA의 기본 규칙)</li>
+     * </ul>
+     *
+     * @param requestDto 검색 조건
+     * @param pageable   페이지 정보 (기본값: size=10)
+     * @return 관련도 순 검색 결과를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<PageResponse<RecruitmentSearchResponseDto>>> search(
+            @ModelAttribute @Valid RecruitmentSearchRequestDto requestDto,
+            @PageableDefault(size = 10) Pageable pageable
+    ) {
+        PageResponse<RecruitmentSearchResponseDto> data = recruitmentSearchService.search(requestDto, pageable);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok("공고 검색에 성공했습니다.", data)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.wagglex2.waggle.domain.search.dto.request;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.search.type.SearchMode;
+import com.wagglex2.waggle.domain.search.type.SearchOperator;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 공고 검색 조건.
+ *
+ * <ul>
+ *   <li>q : 검색어 (필수, 최대 100자)</li>
+ *   <li>operator : 검색어 결합 방식 (기본값: AND)</li>
+ *   <li>category : 카테고리 필터 (없으면 전체)</li>
+ *   <li>status : 모집 상태 필터 (없으면 전체)</li>
+ *   <li>mode : 검색 방식 (기본값: AUTO, 형태소 결과가 적으면 글자 n-gram 결과를 덧붙임)</li>
+ * </ul>
+ */
+public record RecruitmentSearchRequestDto(
+        @NotBlank(message = "검색어를 입력해주세요.")
+        @Size(max = 100, message = "검색어는 100자 이하로 입력해주세요.")
+        String q,
+
+        SearchOperator operator,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        SearchMode mode
+) {
+    public SearchOperator operatorOrDefault() {
+        return operator != null ? operator : SearchOperator.AND;
+    }
+
+    public SearchMode modeOrDefault() {
+        return mode != null ? mode : SearchMode.AUTO;
+    }
+}
@@ -0,0 +1,28 @@
+package com.wagglex2.waggle.domain.search.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공고 검색 결과 한 건.
+ *
+ * <p>목록 화면에 필요한 필드만 담으며, 본문은 상세 조회에서 가져온다.</p>
+ */
+public record RecruitmentSearchResponseDto(
+        Long id,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        String title,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime deadline,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdAt,
+
+        int viewCount
+) {
+}
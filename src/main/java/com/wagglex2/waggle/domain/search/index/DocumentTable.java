@@ -0,0 +1,188 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 공고 id를 인덱스로 하는 공고별 속성 배열.
+ *
+ * <p>검색 중 공고마다 필요한 값(필터, 길이 정규화, 정렬 기준)을 객체 없이 배열 접근 한 번으로 읽기 위해
+ * 속성마다 primitive 배열 하나를 둔다. 공고 id는 IDENTITY로 촘촘하게 증가하므로 배열 낭비가 적다.</p>
+ *
+ * <ul>
+ *   <li>categories, statuses : {@code ordinal + 1} (0 = 색인되지 않은 id)</li>
+ *   <li>titleLengths, contentLengths : 제목/본문 명사 수 (BM25 길이 정규화)</li>
+ *   <li>createdAt : 작성 시각 (epoch 초), viewCounts : 조회수 (동점 정렬)</li>
+ * </ul>
+ *
+ * <p>색인을 만드는 동안에만 값을 바꾸고, 색인이 공개된 뒤에는 읽기만 한다.
+ * 변경은 {@link #copy(int)}로 복사본을 만들어 적용한다.</p>
+ */
+final class DocumentTable {
+
+    private static final RecruitmentCategory[] CATEGORIES = RecruitmentCategory.values();
+    private static final RecruitmentStatus[] STATUSES = RecruitmentStatus.values();
+
+    private byte[] categories;
+    private byte[] statuses;
+    private TermVector[] termVectors;
+    private int[] titleLengths;
+    private int[] contentLengths;
+    private long[] createdAt;
+    private int[] viewCounts;
+
+    private int documentCount;
+    private long totalTitleLength;
+    private long totalContentLength;
+
+    DocumentTable(int capacity) {
+        this.categories = new byte[capacity];
+        this.statuses = new byte[capacity];
+        this.termVectors = new TermVector[capacity];
+        this.titleLengths = new int[capacity];
+        this.contentLengths = new int[capacity];
+        this.createdAt = new long[capacity];
+        this.viewCounts = new int[capacity];
+    }
+
+    /**
+     * @param length 복사본 배열 길이 (현재보다 작으면 현재 길이)
+     */
+    DocumentTable copy(int length) {
+        return resized(Math.max(length, categories.length));
+    }
+
+    // 빌더가 다 쓴 뒤 남는 뒤쪽 공간을 잘라낸다.
+    DocumentTable trim(int length) {
+        return resized(length);
+    }
+
+    private DocumentTable resized(int capacity) {
+        DocumentTable resized = new DocumentTable(0);
+        resized.categories = Arrays.copyOf(categories, capacity);
+        resized.statuses = Arrays.copyOf(statuses, capacity);
+        resized.termVectors = Arrays.copyOf(termVectors, capacity);
+        resized.titleLengths = Arrays.copyOf(titleLengths, capacity);
+        resized.contentLengths = Arrays.copyOf(contentLengths, capacity);
+        resized.createdAt = Arrays.copyOf(createdAt, capacity);
+        resized.viewCounts = Arrays.copyOf(viewCounts, capacity);
+        resized.documentCount = documentCount;
+        resized.totalTitleLength = totalTitleLength;
+        resized.totalContentLength = totalContentLength;
+        return resized;
+    }
+
+    void put(int id, RecruitmentDocument document, TermVector termVector) {
+        put(id, document.category(), document.status(),
+                document.createdAt() != null ? document.createdAt().toEpochSecond(ZoneOffset.UTC) : 0L,
+                document.viewCount(), termVector);
+    }
+
+    void put(int id, RecruitmentCategory category, RecruitmentStatus status,
+             long createdAtEpochSecond, int viewCount, TermVector termVector) {
+        ensureCapacity(id);
+        remove(id);
+
+        categories[id] = (byte) (category.ordinal() + 1);
+        statuses[id] = (byte) (status.ordinal() + 1);
+        termVectors[id] = termVector;
+        titleLengths[id] = termVector.titleLength();
+        contentLengths[id] = termVector.contentLength();
+        createdAt[id] = createdAtEpochSecond;
+        viewCounts[id] = viewCount;
+
+        documentCount++;
+        totalTitleLength += titleLengths[id];
+        totalContentLength += contentLengths[id];
+    }
+
+    void remove(int id) {
+        if (!contains(id)) {
+            return;
+        }
+
+        documentCount--;
+        totalTitleLength -= titleLengths[id];
+        totalContentLength -= contentLengths[id];
+
+        categories[id] = 0;
+        statuses[id] = 0;
+        termVectors[id] = null;
+        titleLengths[id] = 0;
+        contentLengths[id] = 0;
+        createdAt[id] = 0;
+        viewCounts[id] = 0;
+    }
+
+    boolean contains(int id) {
+        return id >= 0 && id < categories.length && categories[id] != 0;
+    }
+
+    int capacity() {
+        return categories.length;
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    byte categoryCode(int id) {
+        return categories[id];
+    }
+
+    byte statusCode(int id) {
+        return statuses[id];
+    }
+
+    RecruitmentCategory category(int id) {
+        return contains(id) ? CATEGORIES[categories[id] - 1] : null;
+    }
+
+    RecruitmentStatus status(int id) {
+        return contains(id) ? STATUSES[statuses[id] - 1] : null;
+    }
+
+    TermVector termVector(int id) {
+        return contains(id) ? termVectors[id] : null;
+    }
+
+    int titleLength(int id) {
+        return titleLengths[id];
+    }
+
+    int contentLength(int id) {
+        return contentLengths[id];
+    }
+
+    long createdAt(int id) {
+        return createdAt[id];
+    }
+
+    int viewCount(int id) {
+        return viewCounts[id];
+    }
+
+    double averageTitleLength() {
+        return documentCount == 0 ? 0 : (double) totalTitleLength / documentCount;
+    }
+
+    double averageContentLength() {
+        return documentCount == 0 ? 0 : (double) totalContentLength / documentCount;
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= categories.length) {
+            int capacity = Math.max(id + 1, categories.length * 2);
+            categories = Arrays.copyOf(categories, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            termVectors = Arrays.copyOf(termVectors, capacity);
+            titleLengths = Arrays.copyOf(titleLengths, capacity);
+            contentLengths = Arrays.copyOf(contentLengths, capacity);
+            createdAt = Arrays.copyOf(createdAt, capacity);
+            viewCounts = Arrays.copyOf(viewCounts, capacity);
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.search.type.SearchOperator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 공고 제목/본문 명사의 역색인 (검색어 → {@link PostingList}).
+ *
+ * <p>공고별 카테고리, 모집 상태, 제목/본문 길이, 작성 시각, 조회수는 {@link DocumentTable}의 primitive 배열에 두어
+ * 필터링과 점수 계산 시 객체 조회 없이 배열 접근만으로 읽는다.</p>
+ *
+ * <p>검색 결과는 BM25로 정렬한다. 제목과 본문의 등장 횟수를 각각 길이로 정규화하고 가중치를 곱해 더한 뒤
+ * BM25 포화 함수를 적용한다. (BM25F) 상위 결과는 {@link TopKCollector}로 필요한 개수만 고른다.</p>
+ *
+ * <p>형태소 분석이 놓치는 오타와 띄어쓰기 차이는 함께 들고 있는 글자 n-gram 색인({@link NgramIndex})으로
+ * {@link #searchNgrams}에서 찾는다.</p>
+ *
+ * <p>한 번 만든 색인은 바뀌지 않는다. 처음에는 {@link Builder}로 전체를 만들고, 이후 변경은 {@link Delta}로
+ * 바뀐 공고의 검색어 posting list만 새로 만든 색인을 얻어 통째로 교체한다. 바뀌지 않은 posting list 객체는
+ * 이전 색인과 공유하지만, 검색어 맵과 {@link DocumentTable} 배열은 적용할 때마다 통째로 복사하므로
+ * 적용 한 번에 색인 크기에 비례하는 비용이 든다. 따라서 변경은 공고 하나씩이 아니라 묶어서 적용한다.
+ * ({@link RecruitmentIndexer}는 주기마다 한 번만 적용한다.)</p>
+ */
+public final class InvertedIndex {
+
+    private static final int[] NO_MATCH = new int[0];
+    private static final float[] NO_SCORE = new float[0];
+
+    private static final InvertedIndex EMPTY = new InvertedIndex(Map.of(), new DocumentTable(0), NgramIndex.EMPTY);
+
+    private final Map<String, PostingList> postings;
+    private final DocumentTable documents;
+    private final NgramIndex ngrams;
+
+    private InvertedIndex(Map<String, PostingList> postings, DocumentTable documents, NgramIndex ngrams) {
+        this.postings = postings;
+        this.documents = documents;
+        this.ngrams = ngrams;
+    }
+
+    public static InvertedIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 이 색인에 공고 추가, 수정, 삭제를 반영한 새 색인을 만든다.
+     */
+    public Delta delta() {
+        return new Delta();
+    }
+
+    /**
+     * 색인과 검색어에 같은 규칙을 적용하기 위한 정규화 (앞뒤 공백 제거, 영문 소문자)
+     */
+    public static String normalize(String term) {
+        return term.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public int documentCount() {
+        return documents.documentCount();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    public int ngramCount() {
+        return ngrams.gramCount();
+    }
+
+    public PostingList postings(String term) {
+        return postings.getOrDefault(normalize(term), PostingList.EMPTY);
+    }
+
+    public boolean contains(int id) {
+        return documents.contains(id);
+    }
+
+    public RecruitmentCategory category(int id) {
+        return documents.category(id);
+    }
+
+    public RecruitmentStatus status(int id) {
+        return documents.status(id);
+    }
+
+    // 스냅샷 저장용
+    DocumentTable documents() {
+        return documents;
+    }
+
+    // 스냅샷 저장용
+    NgramIndex ngrams() {
+        return ngrams;
+    }
+
+    /**
+     * 검색어가 등장한 공고 중 관련도 상위 {@code limit}개를 반환한다.
+     *
+     * @param terms    검색어 (정규화 전)
+     * @param operator AND : 모든 검색어 포함, OR : 하나 이상 포함
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param status   모집 상태 필터 (null이면 전체)
+     * @param ranking  정렬 설정
+     * @param limit    반환할 최대 개수
+     */
+    public SearchResult search(Collection<String> terms, SearchOperator operator,
+                               RecruitmentCategory category, RecruitmentStatus status,
+                               SearchRankingOptions ranking, int limit) {
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String term : terms) {
+            String normalized = normalize(term);
+            if (!normalized.isEmpty()) {
+                distinct.add(normalized);
+            }
+        }
+        if (distinct.isEmpty()) {
+            return SearchResult.EMPTY;
+        }
+
+        PostingList[] lists = new PostingList[distinct.size()];
+        int i = 0;
+        for (String term : distinct) {
+            lists[i++] = postings.getOrDefault(term, PostingList.EMPTY);
+        }
+
+        Bm25 bm25 = new Bm25(ranking);
+        Matches matches = operator == SearchOperator.OR ? union(lists, bm25) : intersect(lists, bm25);
+        return collect(matches, category, status, ranking, limit, null);
+    }
+
+    /**
+     * 검색어의 글자 n-gram이 충분히 겹치는 공고 중 상위 {@code limit}개를 반환한다. (오타, 띄어쓰기 차이 허용)
+     *
+     * @param query    검색어 원문
+     * @param category 카테고리 필터 (null이면 전체)
+     * @param status   모집 상태 필터 (null이면 전체)
+     * @param ranking  정렬 설정 ({@code ngramMinimumMatch} 포함)
+     * @param limit    반환할 최대 개수
+     * @param excluded 결과와 전체 일치 수에서 뺄 공고 id (예: 이미 형태소 검색으로 찾은 공고)
+     */
+    public SearchResult searchNgrams(String query, RecruitmentCategory category, RecruitmentStatus status,
+                                     SearchRankingOptions ranking, int limit, int[] excluded) {
+        Matches matches = ngrams.match(query, ranking.getNgramMinimumMatch());
+        return collect(matches, category, status, ranking, limit,
+                excluded.length > 0 ? RoaringBitmap.bitmapOf(excluded) : null);
+    }
+
+    // 짧은 목록부터 교집합을 구해 비교 횟수를 줄인다.
+    private Matches intersect(PostingList[] lists, Bm25 bm25) {
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+        if (lists[0].size() == 0) {
+            return Matches.EMPTY;
+        }
+
+        Matches matches = Matches.EMPTY.union(lists[0], bm25);
+        for (int i = 1; i < lists.length && matches.size > 0; i++) {
+            matches = matches.intersect(lists[i], bm25);
+        }
+        return matches;
+    }
+
+    private Matches union(PostingList[] lists, Bm25 bm25) {
+        Matches matches = Matches.EMPTY;
+        for (PostingList list : lists) {
+            matches = matches.union(list, bm25);
+        }
+        return matches;
+    }
+
+    private SearchResult collect(Matches matches, RecruitmentCategory category, RecruitmentStatus status,
+                                 SearchRankingOptions ranking, int limit, RoaringBitmap excluded) {
+        byte categoryCode = category != null ? (byte) (category.ordinal() + 1) : 0;
+        byte statusCode = status != null ? (byte) (status.ordinal() + 1) : 0;
+        float viewCountWeight = ranking.getViewCountWeight();
+
+        TopKCollector collector = new TopKCollector(limit, matches.size);
+        for (int i = 0; i < matches.size; i++) {
+            int id = matches.ids[i];
+            if (!documents.contains(id)
+                    || (categoryCode != 0 && documents.categoryCode(id) != categoryCode)
+                    || (statusCode != 0 && documents.statusCode(id) != statusCode)
+                    || (excluded != null && excluded.contains(id))) {
+                continue;
+            }
+
+            float score = matches.scores[i];
+            if (viewCountWeight != 0) {
+                score += (float) (viewCountWeight * Math.log1p(documents.viewCount(id)));
+            }
+            collector.collect(id, score, documents.createdAt(id));
+        }
+        return new SearchResult(collector.drainRanked(), collector.totalHits());
+    }
+
+    // 검색 한 번 동안 고정되는 BM25 계산 값
+    private final class Bm25 {
+        private final float titleBoost;
+        private final float contentBoost;
+        private final float k1;
+        private final float b;
+        private final double averageTitleLength;
+        private final double averageContentLength;
+        private final int documentCount;
+
+        Bm25(SearchRankingOptions options) {
+            this.titleBoost = options.getTitleBoost();
+            this.contentBoost = options.getContentBoost();
+            this.k1 = options.getK1();
+            this.b = options.getB();
+            this.averageTitleLength = documents.averageTitleLength();
+            this.averageContentLength = documents.averageContentLength();
+            this.documentCount = documents.documentCount();
+        }
+
+        // 적은 공고에 나오는 검색어일수록 크다.
+        float idf(PostingList list) {
+            int df = list.size();
+            return (float) Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        float score(PostingList list, int index, int id, float idf) {
+            double tf = titleBoost * list.titleFrequency(index) / norm(documents.titleLength(id), averageTitleLength)
+                    + contentBoost * list.contentFrequency(index) / norm(documents.contentLength(id), averageContentLength);
+            return (float) (idf * tf * (k1 + 1) / (tf + k1));
+        }
+
+        private double norm(int length, double averageLength) {
+            return averageLength == 0 ? 1 : 1 - b + b * length / averageLength;
+        }
+    }
+
+    // 오름차순 id와 누적 점수의 중간 결과
+    static final class Matches {
+        static final Matches EMPTY = new Matches(NO_MATCH, NO_SCORE, 0);
+
+        final int[] ids;
+        final float[] scores;
+        final int size;
+
+        Matches(int[] ids, float[] scores, int size) {
+            this.ids = ids;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        Matches intersect(PostingList list, Bm25 bm25) {
+            int otherSize = list.size();
+            float idf = bm25.idf(list);
+            int[] ids = new int[Math.min(size, otherSize)];
+            float[] scores = new float[ids.length];
+            int n = 0;
+
+            for (int i = 0, j = 0; i < size && j < otherSize; ) {
+                int other = list.id(j);
+                if (this.ids[i] < other) {
+                    i++;
+                } else if (this.ids[i] > other) {
+                    j++;
+                } else {
+                    ids[n] = this.ids[i];
+                    scores[n++] = this.scores[i] + bm25.score(list, j, other, idf);
+                    i++;
+                    j++;
+                }
+            }
+            return new Matches(ids, scores, n);
+        }
+
+        Matches union(PostingList list, Bm25 bm25) {
+            int otherSize = list.size();
+            float idf = bm25.idf(list);
+            int[] ids = new int[size + otherSize];
+            float[] scores = new float[ids.length];
+            int n = 0;
+            int i = 0;
+            int j = 0;
+
+            while (i < size || j < otherSize) {
+                int other = j < otherSize ? list.id(j) : Integer.MAX_VALUE;
+                if (j == otherSize || (i < size && this.ids[i] < other)) {
+                    ids[n] = this.ids[i];
+                    scores[n++] = this.scores[i++];
+                } else if (i == size || this.ids[i] > other) {
+                    ids[n] = other;
+                    scores[n++] = bm25.score(list, j, other, idf);
+                    j++;
+                } else {
+                    ids[n] = this.ids[i];
+                    scores[n++] = this.scores[i++] + bm25.score(list, j, other, idf);
+                    j++;
+                }
+            }
+            return new Matches(ids, scores, n);
+        }
+    }
+
+    /**
+     * 공고를 id 오름차순으로 추가해 색인을 만든다.
+     *
+     * <p>keyset 페이지 단위로 id 순서대로 읽은 결과를 그대로 넣는 것을 전제로 하며,
+     * 덕분에 검색어별 id 목록이 따로 정렬할 필요 없이 오름차순으로 쌓인다.</p>
+     */
+    public static final class Builder {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private final Map<String, TermPostings> postings = new HashMap<>();
+        private final DocumentTable documents = new DocumentTable(INITIAL_CAPACITY);
+        private final NgramIndex.Builder ngrams = new NgramIndex.Builder();
+        private int lastId = 0;
+
+        private Builder() {
+        }
+
+        /**
+         * @param document     공고
+         * @param titleNouns   제목에서 추출한 명사 (중복 포함)
+         * @param contentNouns 본문에서 추출한 명사 (중복 포함)
+         * @throws IllegalArgumentException 직전에 추가한 공고보다 id가 작거나 같은 경우
+         */
+        public Builder add(RecruitmentDocument document, List<String> titleNouns, List<String> contentNouns) {
+            int id = checkOrder(Math.toIntExact(document.id()));
+            TermVector termVector = TermVector.of(titleNouns, contentNouns);
+            documents.put(id, document, termVector);
+            addPostings(id, termVector);
+            ngrams.add(id, NgramIndex.grams(document.title(), document.content()));
+            return this;
+        }
+
+        // 스냅샷 복원용. n-gram은 원문 없이 ngram()으로 bitmap을 따로 넣는다.
+        Builder add(int id, RecruitmentCategory category, RecruitmentStatus status,
+                    long createdAtEpochSecond, int viewCount, TermVector termVector) {
+            checkOrder(id);
+            documents.put(id, category, status, createdAtEpochSecond, viewCount, termVector);
+            addPostings(id, termVector);
+            return this;
+        }
+
+        // 스냅샷 복원용
+        Builder ngram(String gram, RoaringBitmap bitmap) {
+            ngrams.put(gram, bitmap);
+            return this;
+        }
+
+        public InvertedIndex build() {
+            Map<String, PostingList> encoded = new HashMap<>(postings.size() * 4 / 3 + 1);
+            postings.forEach((term, list) -> encoded.put(term, list.encode()));
+
+            return new InvertedIndex(Collections.unmodifiableMap(encoded), documents.trim(lastId + 1), ngrams.build());
+        }
+
+        private int checkOrder(int id) {
+            if (id <= lastId) {
+                throw new IllegalArgumentException("공고는 id 오름차순으로 추가해야 합니다 : " + id);
+            }
+            lastId = id;
+            return id;
+        }
+
+        private void addPostings(int id, TermVector termVector) {
+            for (int i = 0; i < termVector.size(); i++) {
+                postings.computeIfAbsent(termVector.term(i), key -> new TermPostings())
+                        .add(id, termVector.titleFrequency(i), termVector.contentFrequency(i));
+            }
+        }
+    }
+
+    /**
+     * 현재 색인에 반영할 공고 추가/수정({@link #upsert})과 삭제({@link #remove}) 묶음.
+     *
+     * <p>같은 공고를 여러 번 넣으면 마지막 값만 반영된다.</p>
+     *
+     * <p>posting list는 바뀐 검색어만 다시 만들지만, {@link #apply()}는 검색어 맵과 공고 속성 배열 전체를 복사한다.
+     * 변경을 되도록 한 묶음에 모아 적용 횟수를 줄인다.</p>
+     */
+    public final class Delta {
+        private final TreeMap<Integer, Upsert> upserts = new TreeMap<>();
+        private final TreeSet<Integer> removals = new TreeSet<>();
+
+        private Delta() {
+        }
+
+        /**
+         * @param document     공고
+         * @param titleNouns   제목에서 추출한 명사 (중복 포함)
+         * @param contentNouns 본문에서 추출한 명사 (중복 포함)
+         */
+        public Delta upsert(RecruitmentDocument document, List<String> titleNouns, List<String> contentNouns) {
+            int id = Math.toIntExact(document.id());
+            removals.remove(id);
+            upserts.put(id, new Upsert(document, TermVector.of(titleNouns, contentNouns)));
+            return this;
+        }
+
+        public Delta remove(long recruitmentId) {
+            int id = Math.toIntExact(recruitmentId);
+            upserts.remove(id);
+            removals.add(id);
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return upserts.isEmpty() && removals.isEmpty();
+        }
+
+        public InvertedIndex apply() {
+            if (isEmpty()) {
+                return InvertedIndex.this;
+            }
+
+            TreeSet<Integer> changedSet = new TreeSet<>(removals);
+            changedSet.addAll(upserts.keySet());
+            int[] changed = changedSet.stream().mapToInt(Integer::intValue).toArray();
+
+            // 새로 들어갈 posting은 id 오름차순으로 쌓인다.
+            Map<String, TermPostings> additions = new HashMap<>();
+            upserts.forEach((id, upsert) -> {
+                TermVector termVector = upsert.termVector();
+                for (int i = 0; i < termVector.size(); i++) {
+                    additions.computeIfAbsent(termVector.term(i), key -> new TermPostings())
+                            .add(id, termVector.titleFrequency(i), termVector.contentFrequency(i));
+                }
+            });
+
+            // 새 검색어뿐 아니라 바뀐 공고가 기존에 갖고 있던 검색어도 다시 만들어야 한다.
+            Set<String> affected = new HashSet<>(additions.keySet());
+            for (int id : changed) {
+                TermVector previous = documents.termVector(id);
+                for (int i = 0; previous != null && i < previous.size(); i++) {
+                    affected.add(previous.term(i));
+                }
+            }
+
+            Map<String, PostingList> nextPostings = new HashMap<>(postings);
+            for (String term : affected) {
+                PostingList merged = merge(postings.getOrDefault(term, PostingList.EMPTY), changed, additions.get(term));
+                if (merged.size() == 0) {
+                    nextPostings.remove(term);
+                } else {
+                    nextPostings.put(term, merged);
+                }
+            }
+
+            DocumentTable nextDocuments = documents.copy(changed[changed.length - 1] + 1);
+            RoaringBitmap replaced = new RoaringBitmap();
+            Map<Integer, Set<String>> ngramUpserts = new HashMap<>();
+            for (int id : changed) {
+                if (documents.contains(id)) {
+                    replaced.add(id);
+                }
+
+                Upsert upsert = upserts.get(id);
+                if (upsert == null) {
+                    nextDocuments.remove(id);
+                } else {
+                    nextDocuments.put(id, upsert.document(), upsert.termVector());
+                    ngramUpserts.put(id, NgramIndex.grams(upsert.document().title(), upsert.document().content()));
+                }
+            }
+
+            return new InvertedIndex(Collections.unmodifiableMap(nextPostings), nextDocuments,
+                    ngrams.apply(replaced, ngramUpserts));
+        }
+
+        // 기존 목록에서 바뀐 공고를 빼고 새 posting을 끼워 넣는다. 두 목록 모두 id 오름차순이다.
+        private PostingList merge(PostingList previous, int[] changed, TermPostings additions) {
+            int previousSize = previous.size();
+            int additionCount = additions != null ? additions.size : 0;
+            TermPostings merged = new TermPostings(previousSize + additionCount);
+            int i = 0;
+            int j = 0;
+
+            while (i < previousSize || j < additionCount) {
+                if (j == additionCount || (i < previousSize && previous.id(i) < additions.ids[j])) {
+                    if (Arrays.binarySearch(changed, previous.id(i)) < 0) {
+                        merged.add(previous.id(i), previous.titleFrequency(i), previous.contentFrequency(i));
+                    }
+                    i++;
+                } else {
+                    merged.add(additions.ids[j], additions.titleFrequencies[j], additions.contentFrequencies[j]);
+                    j++;
+                }
+            }
+            return merged.encode();
+        }
+    }
+
+    private record Upsert(RecruitmentDocument document, TermVector termVector) {
+    }
+
+    // 색인 중 검색어 하나의 (id, 제목 등장 횟수, 본문 등장 횟수) 목록
+    private static final class TermPostings {
+        int[] ids;
+        int[] titleFrequencies;
+        int[] contentFrequencies;
+        int size;
+
+        TermPostings() {
+            this(4);
+        }
+
+        TermPostings(int capacity) {
+            int initial = Math.max(capacity, 1);
+            this.ids = new int[initial];
+            this.titleFrequencies = new int[initial];
+            this.contentFrequencies = new int[initial];
+        }
+
+        void add(int id, int titleFrequency, int contentFrequency) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                titleFrequencies = Arrays.copyOf(titleFrequencies, size * 2);
+                contentFrequencies = Arrays.copyOf(contentFrequencies, size * 2);
+            }
+            ids[size] = id;
+            titleFrequencies[size] = titleFrequency;
+            contentFrequencies[size++] = contentFrequency;
+        }
+
+        PostingList encode() {
+            return PostingList.encode(ids, titleFrequencies, contentFrequencies, size);
+        }
+    }
+}
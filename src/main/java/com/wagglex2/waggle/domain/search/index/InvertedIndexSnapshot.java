@@ -0,0 +1,144 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 색인을 로컬 파일로 저장하고 다시 읽는다.
+ *
+ * <p>공고별 정방향 색인({@link TermVector}), 글자 n-gram bitmap과 마지막으로 반영한 공고의 {@code updated_at}(high-water mark)을 저장한다.
+ * 재시작한 서버는 형태소 분석 없이 색인을 복원한 뒤, high-water mark 이후에 바뀐 공고만 다시 분석하면 된다.</p>
+ *
+ * <p>형식 : {@code MAGIC, VERSION, highWaterMark, documentCount,
+ * [id, category, status, createdAt, viewCount, termCount, [term, titleFrequency, contentFrequency]...]...,
+ * ngramCount, [gram, bitmap]...}</p>
+ *
+ * <p>형식이 바뀌면 VERSION을 올린다. 버전이 다른 스냅샷은 읽지 않고 색인을 새로 만든다.</p>
+ */
+final class InvertedIndexSnapshot {
+
+    private static final int MAGIC = 0x57475349; // "WGSI"
+    private static final int VERSION = 3;
+
+    private static final RecruitmentCategory[] CATEGORIES = RecruitmentCategory.values();
+    private static final RecruitmentStatus[] STATUSES = RecruitmentStatus.values();
+
+    private InvertedIndexSnapshot() {
+    }
+
+    record Loaded(InvertedIndex index, LocalDateTime highWaterMark) {
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로, 저장 중 종료되어도 기존 스냅샷은 손상되지 않는다.
+     */
+    static void write(Path path, InvertedIndex index, LocalDateTime highWaterMark) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(highWaterMark.toString());
+                out.writeInt(index.documentCount());
+
+                DocumentTable documents = index.documents();
+                for (int id = 0; id < documents.capacity(); id++) {
+                    if (!documents.contains(id)) {
+                        continue;
+                    }
+
+                    TermVector termVector = documents.termVector(id);
+                    out.writeInt(id);
+                    out.writeByte(documents.category(id).ordinal());
+                    out.writeByte(documents.status(id).ordinal());
+                    out.writeLong(documents.createdAt(id));
+                    out.writeInt(documents.viewCount(id));
+                    out.writeInt(termVector.size());
+                    for (int i = 0; i < termVector.size(); i++) {
+                        out.writeUTF(termVector.term(i));
+                        out.writeInt(termVector.titleFrequency(i));
+                        out.writeInt(termVector.contentFrequency(i));
+                    }
+                }
+
+                Map<String, RoaringBitmap> ngrams = index.ngrams().postings();
+                out.writeInt(ngrams.size());
+                for (Map.Entry<String, RoaringBitmap> entry : ngrams.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().serialize(out);
+                }
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 스냅샷 저장 실패 : " + path, e);
+        }
+    }
+
+    /**
+     * @return 스냅샷, 파일이 없거나 형식이 다르면 null
+     */
+    static Loaded read(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return null;
+            }
+
+            LocalDateTime highWaterMark = LocalDateTime.parse(in.readUTF());
+            int documentCount = in.readInt();
+            InvertedIndex.Builder builder = InvertedIndex.builder();
+
+            for (int d = 0; d < documentCount; d++) {
+                int id = in.readInt();
+                RecruitmentCategory category = CATEGORIES[in.readByte()];
+                RecruitmentStatus status = STATUSES[in.readByte()];
+                long createdAt = in.readLong();
+                int viewCount = in.readInt();
+
+                int termCount = in.readInt();
+                String[] terms = new String[termCount];
+                int[] titleFrequencies = new int[termCount];
+                int[] contentFrequencies = new int[termCount];
+                for (int i = 0; i < termCount; i++) {
+                    terms[i] = in.readUTF();
+                    titleFrequencies[i] = in.readInt();
+                    contentFrequencies[i] = in.readInt();
+                }
+                builder.add(id, category, status, createdAt, viewCount,
+                        new TermVector(terms, titleFrequencies, contentFrequencies));
+            }
+
+            int ngramCount = in.readInt();
+            for (int g = 0; g < ngramCount; g++) {
+                String gram = in.readUTF();
+                RoaringBitmap bitmap = new RoaringBitmap();
+                bitmap.deserialize(in);
+                builder.ngram(gram, bitmap);
+            }
+
+            return new Loaded(builder.build(), highWaterMark);
+        } catch (IOException e) {
+            throw new UncheckedIOException("검색 색인 스냅샷 읽기 실패 : " + path, e);
+        }
+    }
+}
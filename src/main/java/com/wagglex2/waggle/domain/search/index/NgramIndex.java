@@ -0,0 +1,220 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제목/본문의 글자 bigram, trigram 역색인 (n-gram → 공고 id bitmap).
+ *
+ * <p>형태소 분석이 놓치는 오타("스프랑부트"), 띄어쓰기 차이("스프링부트" / "스프링 부트"),
+ * 영문/한글 혼용("spring 프로젝트")을 찾기 위한 보조 색인이다. 공백과 문장 부호를 지우고 영문을 소문자로 바꾼 뒤
+ * 연속된 2글자, 3글자를 색인한다. 본문은 앞의 {@link #MAX_CONTENT_LENGTH}자까지만 색인한다.</p>
+ *
+ * <p>posting은 {@link RoaringBitmap}으로 압축해 저장하므로 공고가 늘어도 교집합/합집합이 컨테이너 단위로 빠르게 끝난다.</p>
+ *
+ * <p>검색은 검색어의 bigram 중 {@code minimumMatch} 비율 이상을 포함한 공고를 찾는다. (오타 허용)
+ * 비둘기집 원리로 일치해야 하는 개수가 k/n이면 가장 짧은 n-k+1개 bitmap의 합집합 안에 답이 모두 있으므로,
+ * 후보는 그 안에서만 센다. 점수는 일치한 bigram 비율과 trigram 비율의 합이다.</p>
+ *
+ * <p>{@link InvertedIndex}와 함께 만들어지고 교체되며, 한 번 만든 색인은 바뀌지 않는다.</p>
+ */
+final class NgramIndex {
+
+    static final int MAX_CONTENT_LENGTH = 1000;
+
+    static final NgramIndex EMPTY = new NgramIndex(Map.of());
+
+    private static final RoaringBitmap NO_DOCUMENTS = new RoaringBitmap();
+
+    private final Map<String, RoaringBitmap> postings;
+
+    NgramIndex(Map<String, RoaringBitmap> postings) {
+        this.postings = postings;
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    // 스냅샷 저장용
+    Map<String, RoaringBitmap> postings() {
+        return postings;
+    }
+
+    /**
+     * 영문 소문자로 바꾸고 글자와 숫자가 아닌 문자(공백, 문장 부호)를 지운다.
+     */
+    static String normalize(String text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 공고 하나의 색인 대상 n-gram (제목 전체, 본문 앞부분의 bigram과 trigram)
+     */
+    static Set<String> grams(String title, String content) {
+        Set<String> grams = new HashSet<>();
+        String normalizedTitle = normalize(title);
+        String normalizedContent = normalize(content.length() > MAX_CONTENT_LENGTH
+                ? content.substring(0, MAX_CONTENT_LENGTH) : content);
+        for (int n = 2; n <= 3; n++) {
+            addGrams(grams, normalizedTitle, n);
+            addGrams(grams, normalizedContent, n);
+        }
+        return grams;
+    }
+
+    private static void addGrams(Set<String> grams, String normalized, int n) {
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + n));
+        }
+    }
+
+    /**
+     * @param query        검색어 (정규화 전)
+     * @param minimumMatch 포함해야 하는 검색어 bigram의 최소 비율 (0 초과 1 이하)
+     * @return 일치한 공고 id(오름차순)와 점수
+     */
+    InvertedIndex.Matches match(String query, float minimumMatch) {
+        String normalized = normalize(query);
+        if (normalized.length() < 2) {
+            return InvertedIndex.Matches.EMPTY;
+        }
+
+        RoaringBitmap[] bigrams = lookup(normalized, 2);
+        RoaringBitmap[] trigrams = lookup(normalized, 3);
+        int required = Math.max(1, (int) Math.ceil(bigrams.length * Math.min(minimumMatch, 1f)));
+
+        Arrays.sort(bigrams, Comparator.comparingInt(RoaringBitmap::getCardinality));
+        RoaringBitmap candidates = required == bigrams.length
+                ? FastAggregation.and(bigrams)
+                : FastAggregation.or(Arrays.copyOf(bigrams, bigrams.length - required + 1));
+
+        int[] ids = new int[candidates.getCardinality()];
+        float[] scores = new float[ids.length];
+        int size = 0;
+        IntIterator iterator = candidates.getIntIterator();
+        while (iterator.hasNext()) {
+            int id = iterator.next();
+            int matched = count(bigrams, id);
+            if (matched < required) {
+                continue;
+            }
+
+            float score = (float) matched / bigrams.length;
+            if (trigrams.length > 0) {
+                score += (float) count(trigrams, id) / trigrams.length;
+            }
+            ids[size] = id;
+            scores[size++] = score;
+        }
+        return new InvertedIndex.Matches(ids, scores, size);
+    }
+
+    private RoaringBitmap[] lookup(String normalized, int n) {
+        Set<String> grams = new LinkedHashSet<>();
+        addGrams(grams, normalized, n);
+        RoaringBitmap[] bitmaps = new RoaringBitmap[grams.size()];
+        int i = 0;
+        for (String gram : grams) {
+            bitmaps[i++] = postings.getOrDefault(gram, NO_DOCUMENTS);
+        }
+        return bitmaps;
+    }
+
+    private static int count(RoaringBitmap[] bitmaps, int id) {
+        int count = 0;
+        for (RoaringBitmap bitmap : bitmaps) {
+            if (bitmap.contains(id)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 바뀐 공고를 반영한 새 색인을 만든다. 바뀌지 않은 bitmap은 이 색인과 공유한다.
+     *
+     * @param replaced 기존에 색인되어 있던 공고 중 수정/삭제된 공고
+     * @param upserts  추가/수정된 공고 id → n-gram
+     */
+    NgramIndex apply(RoaringBitmap replaced, Map<Integer, Set<String>> upserts) {
+        Map<String, RoaringBitmap> next = new HashMap<>(postings);
+        Set<String> copied = new HashSet<>();
+
+        // 기존 n-gram 목록은 따로 저장하지 않으므로, 수정/삭제가 있을 때만 모든 bitmap에서 해당 공고를 뺀다.
+        if (!replaced.isEmpty()) {
+            for (Map.Entry<String, RoaringBitmap> entry : postings.entrySet()) {
+                if (RoaringBitmap.intersects(entry.getValue(), replaced)) {
+                    RoaringBitmap removed = RoaringBitmap.andNot(entry.getValue(), replaced);
+                    next.put(entry.getKey(), removed);
+                    copied.add(entry.getKey());
+                }
+            }
+        }
+
+        upserts.forEach((id, grams) -> {
+            for (String gram : grams) {
+                RoaringBitmap bitmap = next.get(gram);
+                if (bitmap == null) {
+                    bitmap = new RoaringBitmap();
+                    next.put(gram, bitmap);
+                    copied.add(gram);
+                } else if (copied.add(gram)) {
+                    bitmap = bitmap.clone();
+                    next.put(gram, bitmap);
+                }
+                bitmap.add(id);
+            }
+        });
+
+        for (String gram : copied) {
+            RoaringBitmap bitmap = next.get(gram);
+            if (bitmap.isEmpty()) {
+                next.remove(gram);
+            } else {
+                bitmap.runOptimize();
+            }
+        }
+        return new NgramIndex(Collections.unmodifiableMap(next));
+    }
+
+    /**
+     * 공고를 id 오름차순으로 추가해 색인을 만든다. bitmap 끝에 덧붙이기만 하므로 추가 비용이 작다.
+     */
+    static final class Builder {
+        private final Map<String, RoaringBitmap> postings = new HashMap<>();
+
+        void add(int id, Set<String> grams) {
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        // 스냅샷 복원용
+        void put(String gram, RoaringBitmap bitmap) {
+            postings.put(gram, bitmap);
+        }
+
+        NgramIndex build() {
+            postings.values().forEach(RoaringBitmap::runOptimize);
+            return new NgramIndex(Collections.unmodifiableMap(postings));
+        }
+    }
+}
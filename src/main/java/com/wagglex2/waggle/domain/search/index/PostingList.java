@@ -0,0 +1,74 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 한 검색어가 등장한 공고 id 목록 (posting list).
+ *
+ * <p>id는 오름차순으로 {@code int[]}에 그대로 저장하고, 같은 위치의 {@code titleFrequencies}, {@code contentFrequencies}에는
+ * 해당 공고의 제목과 본문에서 검색어가 등장한 횟수를 저장한다. 압축하지 않으므로 검색할 때 {@link #id(int)}로
+ * 복원이나 복사 없이 바로 읽는다. 생성 후에는 바뀌지 않으므로 여러 검색 스레드가 동시에 읽어도 안전하다.</p>
+ */
+public final class PostingList {
+
+    static final PostingList EMPTY = new PostingList(new int[0], new int[0], new int[0]);
+
+    private final int[] ids;
+    private final int[] titleFrequencies;
+    private final int[] contentFrequencies;
+
+    private PostingList(int[] ids, int[] titleFrequencies, int[] contentFrequencies) {
+        this.ids = ids;
+        this.titleFrequencies = titleFrequencies;
+        this.contentFrequencies = contentFrequencies;
+    }
+
+    /**
+     * @param ids                오름차순으로 정렬된 공고 id
+     * @param titleFrequencies   ids와 같은 순서의 제목 등장 횟수
+     * @param contentFrequencies ids와 같은 순서의 본문 등장 횟수
+     * @param length             앞에서부터 사용할 원소 수
+     * @throws IllegalArgumentException id가 오름차순이 아니거나 중복된 경우
+     */
+    static PostingList encode(int[] ids, int[] titleFrequencies, int[] contentFrequencies, int length) {
+        if (length == 0) {
+            return EMPTY;
+        }
+
+        for (int i = 1; i < length; i++) {
+            if (ids[i] <= ids[i - 1]) {
+                throw new IllegalArgumentException("posting id는 오름차순이어야 합니다 : " + ids[i]);
+            }
+        }
+        return new PostingList(Arrays.copyOf(ids, length),
+                Arrays.copyOf(titleFrequencies, length), Arrays.copyOf(contentFrequencies, length));
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * @param index 0부터 {@link #size()} - 1까지의 위치
+     * @return 해당 위치의 공고 id (위치가 커질수록 id도 커진다)
+     */
+    public int id(int index) {
+        return ids[index];
+    }
+
+    /**
+     * @param index {@link #id(int)}에서의 위치
+     * @return 제목과 본문 등장 횟수의 합
+     */
+    public int termFrequency(int index) {
+        return titleFrequencies[index] + contentFrequencies[index];
+    }
+
+    public int titleFrequency(int index) {
+        return titleFrequencies[index];
+    }
+
+    public int contentFrequency(int index) {
+        return contentFrequencies[index];
+    }
+}
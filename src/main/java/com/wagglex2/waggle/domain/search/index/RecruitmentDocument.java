@@ -0,0 +1,24 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인에 필요한 공고 필드만 담은 조회 결과.
+ *
+ * <p>색인은 모든 공고를 읽어야 하므로 엔티티 대신 이 record로 바로 조회(projection)해
+ * 작성자, 컬렉션 등 불필요한 연관 로딩을 피한다.</p>
+ */
+public record RecruitmentDocument(
+        Long id,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        int viewCount
+) {
+}
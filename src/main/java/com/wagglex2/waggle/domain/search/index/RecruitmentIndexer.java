@@ -0,0 +1,150 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 공고 변경 이벤트를 모아 검색 색인에 반영하는 백그라운드 색인기.
+ *
+ * <p>커밋된 변경의 공고 id만 집합에 넣고 바로 돌아오므로, 공고 등록/수정/삭제 요청은 형태소 분석을 기다리지 않는다.</p>
+ *
+ * <ul>
+ *   <li>{@code search.indexer.coalesce-millis}(기본 500ms)마다 쌓인 id를 최대 {@code search.indexer.batch-size}(기본 200)개 꺼내
+ *       한 번에 다시 읽고 분석해 색인에 반영한다. 그 사이 같은 공고가 여러 번 바뀌어도 한 번만 분석한다.</li>
+ *   <li>색인 반영은 색인 전체를 복사하므로 ({@link InvertedIndex.Delta}) 한 주기에 한 번만 반영한다.
+ *       남은 id는 다음 주기에 반영한다.</li>
+ *   <li>반영에 실패한 id는 다시 넣어 다음 주기에 재시도한다.</li>
+ *   <li>{@code search.index.snapshot-interval-millis}(기본 60초)마다, 그리고 종료 시 색인 스냅샷을 저장한다.</li>
+ * </ul>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code search.indexer.pending} : 반영을 기다리는 공고 수</li>
+ *   <li>{@code search.indexer.batch} : 한 묶음을 다시 읽고 분석해 반영한 시간</li>
+ *   <li>{@code search.indexer.failures} : 반영 실패 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class RecruitmentIndexer {
+
+    private final RecruitmentSearchIndex recruitmentSearchIndex;
+    private final long coalesceMillis;
+    private final int batchSize;
+    private final long snapshotIntervalMillis;
+
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+
+    private final Timer batchTimer;
+    private final Counter failureCounter;
+
+    public RecruitmentIndexer(RecruitmentSearchIndex recruitmentSearchIndex,
+                              MeterRegistry meterRegistry,
+                              @Value("${search.indexer.coalesce-millis:500}") long coalesceMillis,
+                              @Value("${search.indexer.batch-size:200}") int batchSize,
+                              @Value("${search.index.snapshot-interval-millis:60000}") long snapshotIntervalMillis) {
+        this.recruitmentSearchIndex = recruitmentSearchIndex;
+        this.coalesceMillis = coalesceMillis;
+        this.batchSize = batchSize;
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.batchTimer = Timer.builder("search.indexer.batch")
+                .description("변경된 공고 한 묶음을 색인에 반영한 시간")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("search.indexer.failures")
+                .description("변경된 공고를 색인에 반영하지 못한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("search.indexer.pending", pending, Set::size)
+                .description("색인 반영을 기다리는 공고 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, coalesceMillis, coalesceMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(recruitmentSearchIndex::saveSnapshot,
+                snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        recruitmentSearchIndex.saveSnapshot();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecruitmentChanged(RecruitmentChangedEvent event) {
+        pending.add(event.recruitmentId());
+    }
+
+    // 반영 대기 중인 공고 수 (테스트용)
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * 쌓인 변경 중 한 묶음을 색인에 반영한다. 색인이 아직 준비되지 않았으면 다음 주기로 미룬다.
+     */
+    void flush() {
+        if (!recruitmentSearchIndex.isReady()) {
+            return;
+        }
+
+        List<Long> batch = drain();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            batchTimer.record(() -> recruitmentSearchIndex.refresh(batch));
+        } catch (RuntimeException e) {
+            pending.addAll(batch);
+            failureCounter.increment();
+            log.warn("공고 검색 색인 반영 실패, 다음 주기에 재시도 : count = {}, 오류 : {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private List<Long> drain() {
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Iterator<Long> iterator = pending.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,310 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.util.KomoranUtil;
+import com.wagglex2.waggle.domain.search.repository.RecruitmentSearchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 현재 사용 중인 공고 역색인을 보관하고 갱신한다.
+ *
+ * <p>기동 시</p>
+ * <ul>
+ *   <li>애플리케이션 기동이 끝나면 백그라운드 스레드에서 색인을 준비한다.
+ *       준비되기 전 검색은 ANALYZER_NOT_READY(503)로 응답한다.</li>
+ *   <li>스냅샷({@code search.index.snapshot-path})이 있으면 형태소 분석 없이 복원한 뒤,
+ *       스냅샷의 high-water mark({@code updated_at})보다 {@code search.index.catch-up-overlap-seconds}(기본 60초)
+ *       앞선 시점부터 바뀐 공고만 다시 분석한다. 커밋이 {@code updated_at}보다 늦게 끝난 공고를 놓치지 않기 위한 여유이며,
+ *       같은 공고를 다시 반영해도 결과는 같다.</li>
+ *   <li>스냅샷이 없으면 모든 공고를 {@code search.index.batch-size}(기본 500)개씩 id 순서로 읽어 새로 만든다.</li>
+ * </ul>
+ *
+ * <p>갱신은 {@link #refresh(Collection)}로 바뀐 공고만 다시 읽어 {@link InvertedIndex.Delta}로 반영하며,
+ * 취소(CANCELED)되었거나 더 이상 없는 공고는 색인에서 뺀다.</p>
+ *
+ * <p>색인은 volatile 필드 하나로 교체하므로 검색 스레드는 잠금 없이 항상 완전한 색인 하나를 본다.
+ * 색인을 바꾸는 작업(전체 생성, 따라잡기, 갱신)끼리만 잠금으로 순서를 맞춘다.</p>
+ */
+@Slf4j
+@Component
+public class RecruitmentSearchIndex {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+    private static final LocalDateTime NO_HIGH_WATER_MARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final RecruitmentSearchRepository recruitmentSearchRepository;
+    private final KomoranUtil komoranUtil;
+    private final int batchSize;
+    private final Path snapshotPath;
+    private final Duration catchUpOverlap;
+
+    private final Object writeLock = new Object();
+    private volatile InvertedIndex index;
+
+    // writeLock으로 보호
+    private LocalDateTime highWaterMark = NO_HIGH_WATER_MARK;
+    private boolean dirty;
+
+    public RecruitmentSearchIndex(RecruitmentSearchRepository recruitmentSearchRepository,
+                                  KomoranUtil komoranUtil,
+                                  @Value("${search.index.batch-size:500}") int batchSize,
+                                  @Value("${search.index.snapshot-path:}") String snapshotPath,
+                                  @Value("${search.index.catch-up-overlap-seconds:60}") long catchUpOverlapSeconds) {
+        this.recruitmentSearchRepository = recruitmentSearchRepository;
+        this.komoranUtil = komoranUtil;
+        this.batchSize = batchSize;
+        this.snapshotPath = StringUtils.hasText(snapshotPath) ? Path.of(snapshotPath) : null;
+        this.catchUpOverlap = Duration.ofSeconds(catchUpOverlapSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(() -> {
+            try {
+                initialize();
+            } catch (RuntimeException e) {
+                log.error("공고 검색 색인 준비 실패", e);
+            }
+        }, "search-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 스냅샷이 있으면 복원 후 따라잡고, 없으면 전체를 새로 만든다.
+     */
+    public void initialize() {
+        synchronized (writeLock) {
+            InvertedIndexSnapshot.Loaded snapshot = readSnapshot();
+            if (snapshot == null) {
+                rebuildLocked();
+            } else {
+                index = snapshot.index();
+                highWaterMark = snapshot.highWaterMark();
+                log.info("공고 검색 색인 스냅샷 복원 : documents = {}, highWaterMark = {}",
+                        snapshot.index().documentCount(), highWaterMark);
+
+                catchUpLocked(highWaterMark.minus(catchUpOverlap));
+            }
+        }
+        saveSnapshot();
+    }
+
+    /**
+     * 모든 공고를 다시 읽어 색인을 새로 만들고 교체한다.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            rebuildLocked();
+        }
+    }
+
+    /**
+     * 주어진 공고들을 DB에서 다시 읽어 색인에 반영한다.
+     *
+     * @param recruitmentIds 바뀐 공고 id
+     */
+    public void refresh(Collection<Long> recruitmentIds) {
+        if (recruitmentIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            List<RecruitmentDocument> documents = recruitmentSearchRepository.findDocumentsByIdIn(recruitmentIds);
+
+            Set<Long> missing = new HashSet<>(recruitmentIds);
+            documents.forEach(document -> missing.remove(document.id()));
+
+            applyLocked(documents, missing);
+        }
+    }
+
+    /**
+     * 마지막 저장 이후 바뀐 내용이 있으면 스냅샷을 저장한다.
+     */
+    public void saveSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+
+        InvertedIndex snapshotIndex;
+        LocalDateTime mark;
+        synchronized (writeLock) {
+            if (!dirty || index == null) {
+                return;
+            }
+            snapshotIndex = index;
+            mark = highWaterMark;
+            dirty = false;
+        }
+
+        try {
+            InvertedIndexSnapshot.write(snapshotPath, snapshotIndex, mark);
+            log.debug("공고 검색 색인 스냅샷 저장 : documents = {}, highWaterMark = {}", snapshotIndex.documentCount(), mark);
+        } catch (UncheckedIOException e) {
+            synchronized (writeLock) {
+                dirty = true;
+            }
+            log.warn("공고 검색 색인 스냅샷 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /**
+     * @return 현재 색인
+     */
+    public InvertedIndex current() {
+        InvertedIndex current = index;
+        if (current == null) {
+            throw new RetryableBusinessException(ErrorCode.ANALYZER_NOT_READY, RETRY_AFTER);
+        }
+        return current;
+    }
+
+    private void rebuildLocked() {
+        long start = System.currentTimeMillis();
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        LocalDateTime mark = NO_HIGH_WATER_MARK;
+        long lastId = 0L;
+
+        while (true) {
+            List<RecruitmentDocument> documents =
+                    recruitmentSearchRepository.findDocumentsAfter(lastId, PageRequest.of(0, batchSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+
+            List<RecruitmentDocument> indexable = indexable(documents);
+            List<List<String>> nouns = analyze(indexable);
+            for (int i = 0; i < indexable.size(); i++) {
+                builder.add(indexable.get(i), nouns.get(i), nouns.get(indexable.size() + i));
+            }
+
+            mark = latest(mark, documents);
+            lastId = documents.get(documents.size() - 1).id();
+        }
+
+        InvertedIndex built = builder.build();
+        index = built;
+        highWaterMark = mark;
+        dirty = true;
+        log.info("공고 검색 색인 생성 완료 : documents = {}, terms = {}, ngrams = {}, {}ms",
+                built.documentCount(), built.termCount(), built.ngramCount(), System.currentTimeMillis() - start);
+    }
+
+    // 색인 반영은 색인 전체를 복사하므로 모든 페이지를 한 Delta에 모아 한 번만 반영한다.
+    private void catchUpLocked(LocalDateTime since) {
+        long start = System.currentTimeMillis();
+        LocalDateTime updatedAt = since;
+        long lastId = 0L;
+        int count = 0;
+        InvertedIndex.Delta delta = index.delta();
+        LocalDateTime mark = highWaterMark;
+
+        while (true) {
+            List<RecruitmentDocument> documents = recruitmentSearchRepository.findDocumentsUpdatedAfter(
+                    updatedAt, lastId, PageRequest.of(0, batchSize));
+            if (documents.isEmpty()) {
+                break;
+            }
+
+            stage(delta, documents, List.of());
+            mark = latest(mark, documents);
+
+            RecruitmentDocument last = documents.get(documents.size() - 1);
+            updatedAt = last.updatedAt();
+            lastId = last.id();
+            count += documents.size();
+        }
+
+        if (count > 0) {
+            index = delta.apply();
+            highWaterMark = mark;
+            dirty = true;
+        }
+        log.info("공고 검색 색인 따라잡기 완료 : since = {}, documents = {}, {}ms",
+                since, count, System.currentTimeMillis() - start);
+    }
+
+    private void applyLocked(List<RecruitmentDocument> documents, Collection<Long> removedIds) {
+        InvertedIndex.Delta delta = index.delta();
+        stage(delta, documents, removedIds);
+
+        index = delta.apply();
+        highWaterMark = latest(highWaterMark, documents);
+        dirty = true;
+    }
+
+    private void stage(InvertedIndex.Delta delta, List<RecruitmentDocument> documents, Collection<Long> removedIds) {
+        List<RecruitmentDocument> indexable = indexable(documents);
+        List<List<String>> nouns = analyze(indexable);
+
+        for (RecruitmentDocument document : documents) {
+            if (document.status() == RecruitmentStatus.CANCELED) {
+                delta.remove(document.id());
+            }
+        }
+        for (int i = 0; i < indexable.size(); i++) {
+            delta.upsert(indexable.get(i), nouns.get(i), nouns.get(indexable.size() + i));
+        }
+        removedIds.forEach(delta::remove);
+    }
+
+    // 취소된 공고는 논리적으로 삭제된 것이므로 색인하지 않는다.
+    private List<RecruitmentDocument> indexable(List<RecruitmentDocument> documents) {
+        return documents.stream()
+                .filter(document -> document.status() != RecruitmentStatus.CANCELED)
+                .toList();
+    }
+
+    // 제목과 본문을 한 번에 병렬 분석한다. 결과는 [제목 0..n-1, 본문 0..n-1] 순서이다.
+    private List<List<String>> analyze(List<RecruitmentDocument> documents) {
+        List<String> texts = new ArrayList<>(documents.size() * 2);
+        documents.forEach(document -> texts.add(document.title()));
+        documents.forEach(document -> texts.add(document.content()));
+        return komoranUtil.getNouns(texts);
+    }
+
+    private LocalDateTime latest(LocalDateTime mark, List<RecruitmentDocument> documents) {
+        for (RecruitmentDocument document : documents) {
+            if (document.updatedAt() != null && document.updatedAt().isAfter(mark)) {
+                mark = document.updatedAt();
+            }
+        }
+        return mark;
+    }
+
+    private InvertedIndexSnapshot.Loaded readSnapshot() {
+        if (snapshotPath == null) {
+            return null;
+        }
+
+        try {
+            return InvertedIndexSnapshot.read(snapshotPath);
+        } catch (RuntimeException e) {
+            log.warn("공고 검색 색인 스냅샷을 읽을 수 없어 새로 만듭니다 : {}, 오류 : {}", snapshotPath, e.getMessage());
+            return null;
+        }
+    }
+}
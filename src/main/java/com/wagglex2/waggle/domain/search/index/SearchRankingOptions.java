@@ -0,0 +1,53 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 정렬(BM25)과 n-gram 보조 검색 설정.
+ *
+ * <ul>
+ *   <li>{@code search.ranking.title-boost}(기본 2.0), {@code search.ranking.content-boost}(기본 1.0) :
+ *       제목과 본문 등장 횟수에 곱하는 가중치. 제목에 나온 검색어가 본문보다 관련도에 크게 반영된다.</li>
+ *   <li>{@code search.ranking.k1}(기본 1.2) : 등장 횟수가 늘어날수록 점수가 포화되는 정도</li>
+ *   <li>{@code search.ranking.b}(기본 0.75) : 길이 정규화 정도 (0 = 길이 무시, 1 = 길이에 완전히 비례)</li>
+ *   <li>{@code search.ranking.view-count-weight}(기본 0.1) : 관련도에 더하는 {@code ln(1 + 조회수)}의 가중치.
+ *       관련도가 비슷한 공고 중 많이 본 공고가 앞서며, 0이면 조회수를 반영하지 않는다.</li>
+ *   <li>{@code search.ngram.minimum-match}(기본 0.6) : n-gram 검색에서 공고가 포함해야 하는 검색어 bigram의 최소 비율.
+ *       1이면 오타를 허용하지 않는다.</li>
+ *   <li>{@code search.ngram.fallback-threshold}(기본 10) : 형태소 검색 결과가 이보다 적으면 n-gram 검색 결과를 뒤에 덧붙인다.</li>
+ * </ul>
+ */
+@Getter
+@Component
+public class SearchRankingOptions {
+
+    private final float titleBoost;
+    private final float contentBoost;
+    private final float k1;
+    private final float b;
+    private final float viewCountWeight;
+    private final float ngramMinimumMatch;
+    private final int ngramFallbackThreshold;
+
+    public SearchRankingOptions(@Value("${search.ranking.title-boost:2.0}") float titleBoost,
+                                @Value("${search.ranking.content-boost:1.0}") float contentBoost,
+                                @Value("${search.ranking.k1:1.2}") float k1,
+                                @Value("${search.ranking.b:0.75}") float b,
+                                @Value("${search.ranking.view-count-weight:0.1}") float viewCountWeight,
+                                @Value("${search.ngram.minimum-match:0.6}") float ngramMinimumMatch,
+                                @Value("${search.ngram.fallback-threshold:10}") int ngramFallbackThreshold) {
+        this.titleBoost = titleBoost;
+        this.contentBoost = contentBoost;
+        this.k1 = k1;
+        this.b = b;
+        this.viewCountWeight = viewCountWeight;
+        this.ngramMinimumMatch = ngramMinimumMatch;
+        this.ngramFallbackThreshold = ngramFallbackThreshold;
+    }
+
+    public static SearchRankingOptions defaults() {
+        return new SearchRankingOptions(2.0f, 1.0f, 1.2f, 0.75f, 0.1f, 0.6f, 10);
+    }
+}
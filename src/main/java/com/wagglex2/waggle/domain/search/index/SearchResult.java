@@ -0,0 +1,23 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * 색인 검색 결과.
+ *
+ * @param ids       관련도 순 상위 공고 id (요청한 개수 이하)
+ * @param totalHits 검색 조건에 맞는 전체 공고 수
+ */
+public record SearchResult(int[] ids, int totalHits) {
+
+    static final SearchResult EMPTY = new SearchResult(new int[0], 0);
+
+    /**
+     * 이 결과 뒤에 다른 결과를 이어 붙인다. 두 결과에 같은 공고가 없어야 한다.
+     */
+    public SearchResult append(SearchResult next) {
+        int[] merged = Arrays.copyOf(ids, ids.length + next.ids.length);
+        System.arraycopy(next.ids, 0, merged, ids.length, next.ids.length);
+        return new SearchResult(merged, totalHits + next.totalHits);
+    }
+}
@@ -0,0 +1,84 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 공고 하나의 정규화된 명사와 제목/본문별 등장 횟수 (정방향 색인).
+ *
+ * <p>공고가 수정되거나 삭제될 때 기존에 어떤 posting list에 들어 있었는지 찾는 데 쓰이며,
+ * 색인 스냅샷에도 이 값을 저장해 재시작 시 형태소 분석 없이 색인을 복원한다.</p>
+ */
+final class TermVector {
+
+    private final String[] terms;
+    private final int[] titleFrequencies;
+    private final int[] contentFrequencies;
+
+    TermVector(String[] terms, int[] titleFrequencies, int[] contentFrequencies) {
+        this.terms = terms;
+        this.titleFrequencies = titleFrequencies;
+        this.contentFrequencies = contentFrequencies;
+    }
+
+    static TermVector of(Collection<String> titleNouns, Collection<String> contentNouns) {
+        Map<String, int[]> counted = new TreeMap<>();
+        count(counted, titleNouns, 0);
+        count(counted, contentNouns, 1);
+
+        String[] terms = new String[counted.size()];
+        int[] titleFrequencies = new int[counted.size()];
+        int[] contentFrequencies = new int[counted.size()];
+        int i = 0;
+        for (Map.Entry<String, int[]> entry : counted.entrySet()) {
+            terms[i] = entry.getKey();
+            titleFrequencies[i] = entry.getValue()[0];
+            contentFrequencies[i++] = entry.getValue()[1];
+        }
+        return new TermVector(terms, titleFrequencies, contentFrequencies);
+    }
+
+    private static void count(Map<String, int[]> counted, Collection<String> nouns, int field) {
+        for (String noun : nouns) {
+            String normalized = InvertedIndex.normalize(noun);
+            if (!normalized.isEmpty()) {
+                counted.computeIfAbsent(normalized, key -> new int[2])[field]++;
+            }
+        }
+    }
+
+    int size() {
+        return terms.length;
+    }
+
+    String term(int index) {
+        return terms[index];
+    }
+
+    int titleFrequency(int index) {
+        return titleFrequencies[index];
+    }
+
+    int contentFrequency(int index) {
+        return contentFrequencies[index];
+    }
+
+    // 제목 명사 수
+    int titleLength() {
+        int length = 0;
+        for (int frequency : titleFrequencies) {
+            length += frequency;
+        }
+        return length;
+    }
+
+    // 본문 명사 수
+    int contentLength() {
+        int length = 0;
+        for (int frequency : contentFrequencies) {
+            length += frequency;
+        }
+        return length;
+    }
+}
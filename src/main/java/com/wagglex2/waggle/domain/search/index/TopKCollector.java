@@ -0,0 +1,121 @@
+package com.wagglex2.waggle.domain.search.index;
+
+/**
+ * 점수 상위 K개만 남기는 크기 제한 최소 힙.
+ *
+ * <p>일치한 공고 전체를 정렬하지 않고, 지금까지의 K번째(힙의 루트)보다 나은 공고만 루트와 바꿔
+ * O(N log K)로 상위 K개를 구한다. 힙은 점수, 작성 시각, id를 각각 primitive 배열로 가진다.</p>
+ *
+ * <p>순서는 점수 내림차순, 같으면 최근에 작성된 공고, 그것도 같으면 id가 큰 공고가 앞선다.</p>
+ */
+final class TopKCollector {
+
+    private final int capacity;
+    private final float[] scores;
+    private final long[] createdAt;
+    private final int[] ids;
+    private int size;
+    private int totalHits;
+
+    /**
+     * @param k             남길 개수
+     * @param expectedCount 후보 수 상한 (배열 크기를 줄이기 위함)
+     */
+    TopKCollector(int k, int expectedCount) {
+        this.capacity = Math.max(0, Math.min(k, expectedCount));
+        this.scores = new float[capacity];
+        this.createdAt = new long[capacity];
+        this.ids = new int[capacity];
+    }
+
+    void collect(int id, float score, long createdAtEpochSecond) {
+        totalHits++;
+        if (capacity == 0) {
+            return;
+        }
+
+        if (size < capacity) {
+            set(size, id, score, createdAtEpochSecond);
+            siftUp(size++);
+        } else if (isWorse(scores[0], createdAt[0], ids[0], score, createdAtEpochSecond, id)) {
+            set(0, id, score, createdAtEpochSecond);
+            siftDown(0);
+        }
+    }
+
+    int totalHits() {
+        return totalHits;
+    }
+
+    /**
+     * 남은 공고를 순위대로 꺼낸다. 호출 후 힙은 비워진다.
+     */
+    int[] drainRanked() {
+        int[] ranked = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            ranked[i] = ids[0];
+            size--;
+            if (size > 0) {
+                set(0, ids[size], scores[size], createdAt[size]);
+                siftDown(0);
+            }
+        }
+        return ranked;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(index, parent)) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && isWorse(right, left) ? right : left;
+            if (!isWorse(worst, index)) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private boolean isWorse(int i, int j) {
+        return isWorse(scores[i], createdAt[i], ids[i], scores[j], createdAt[j], ids[j]);
+    }
+
+    // a가 b보다 순위가 낮은지
+    private static boolean isWorse(float scoreA, long createdAtA, int idA, float scoreB, long createdAtB, int idB) {
+        if (scoreA != scoreB) {
+            return scoreA < scoreB;
+        }
+        if (createdAtA != createdAtB) {
+            return createdAtA < createdAtB;
+        }
+        return idA < idB;
+    }
+
+    private void set(int index, int id, float score, long createdAtEpochSecond) {
+        ids[index] = id;
+        scores[index] = score;
+        createdAt[index] = createdAtEpochSecond;
+    }
+
+    private void swap(int i, int j) {
+        int id = ids[i];
+        float score = scores[i];
+        long created = createdAt[i];
+        set(i, ids[j], scores[j], createdAt[j]);
+        set(j, id, score, created);
+    }
+}
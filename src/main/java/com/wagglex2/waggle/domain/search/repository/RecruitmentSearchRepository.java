@@ -0,0 +1,49 @@
+package com.wagglex2.waggle.domain.search.repository;
+
+import com.wagglex2.waggle.domain.common.entity.BaseRecruitment;
+import com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto;
+import com.wagglex2.waggle.domain.search.index.RecruitmentDocument;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 프로젝트, 과제, 스터디 공고를 구분 없이 조회하는 검색 전용 Repository.
+ */
+@Repository
+public interface RecruitmentSearchRepository extends JpaRepository<BaseRecruitment, Long> {
+
+    // 색인용 keyset 페이지 조회 (id > lastId)
+    @Query("SELECT new com.wagglex2.waggle.domain.search.index.RecruitmentDocument(" +
+            "r.id, r.category, r.status, r.title, r.content, r.createdAt, r.updatedAt, r.viewCount) " +
+            "FROM BaseRecruitment r WHERE r.id > :lastId ORDER BY r.id")
+    List<RecruitmentDocument> findDocumentsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 변경 이벤트로 모인 공고 재색인
+    @Query("SELECT new com.wagglex2.waggle.domain.search.index.RecruitmentDocument(" +
+            "r.id, r.category, r.status, r.title, r.content, r.createdAt, r.updatedAt, r.viewCount) " +
+            "FROM BaseRecruitment r WHERE r.id IN :ids")
+    List<RecruitmentDocument> findDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 재시작 시 따라잡기용 keyset 페이지 조회 ((updatedAt, id) > (:updatedAt, :lastId))
+    @Query("SELECT new com.wagglex2.waggle.domain.search.index.RecruitmentDocument(" +
+            "r.id, r.category, r.status, r.title, r.content, r.createdAt, r.updatedAt, r.viewCount) " +
+            "FROM BaseRecruitment r " +
+            "WHERE r.updatedAt > :updatedAt OR (r.updatedAt = :updatedAt AND r.id > :lastId) " +
+            "ORDER BY r.updatedAt, r.id")
+    List<RecruitmentDocument> findDocumentsUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+                                                        @Param("lastId") Long lastId,
+                                                        Pageable pageable);
+
+    // 검색 결과 목록
+    @Query("SELECT new com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto(" +
+            "r.id, r.category, r.status, r.title, r.deadline, r.createdAt, r.viewCount) " +
+            "FROM BaseRecruitment r WHERE r.id IN :ids")
+    List<RecruitmentSearchResponseDto> findSearchResultsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,10 @@
+package com.wagglex2.waggle.domain.search.service;
+
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.search.dto.request.RecruitmentSearchRequestDto;
+import com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto;
+import org.springframework.data.domain.Pageable;
+
+public interface RecruitmentSearchService {
+    PageResponse<RecruitmentSearchResponseDto> search(RecruitmentSearchRequestDto requestDto, Pageable pageable);
+}
@@ -0,0 +1,111 @@
+package com.wagglex2.waggle.domain.search.service.serviceImpl;
+
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.util.KomoranUtil;
+import com.wagglex2.waggle.domain.search.dto.request.RecruitmentSearchRequestDto;
+import com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto;
+import com.wagglex2.waggle.domain.search.index.InvertedIndex;
+import com.wagglex2.waggle.domain.search.index.RecruitmentSearchIndex;
+import com.wagglex2.waggle.domain.search.index.SearchRankingOptions;
+import com.wagglex2.waggle.domain.search.index.SearchResult;
+import com.wagglex2.waggle.domain.search.repository.RecruitmentSearchRepository;
+import com.wagglex2.waggle.domain.search.service.RecruitmentSearchService;
+import com.wagglex2.waggle.domain.search.type.SearchMode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class RecruitmentSearchServiceImpl implements RecruitmentSearchService {
+    private final RecruitmentSearchIndex recruitmentSearchIndex;
+    private final RecruitmentSearchRepository recruitmentSearchRepository;
+    private final SearchRankingOptions searchRankingOptions;
+    private final KomoranUtil komoranUtil;
+
+    private static final int[] NO_IDS = new int[0];
+
+    /**
+     * 검색어의 명사 또는 글자 n-gram으로 공고를 검색한다.
+     *
+     * <p><b>처리 흐름:</b></p>
+     * <ol>
+     *   <li>검색어에서 Komoran으로 명사를 추출한다. (색인과 같은 분석기)</li>
+     *   <li>역색인에서 AND/OR 조건과 카테고리, 모집 상태 필터로 공고를 찾고,
+     *       BM25 관련도 상위 (offset + size)개만 고른다. 전체 일치 수는 따로 센다.</li>
+     *   <li>AUTO 모드에서 명사 검색 결과가 {@code search.ngram.fallback-threshold}개보다 적으면,
+     *       글자 n-gram 검색 결과 중 이미 찾은 공고를 뺀 나머지를 뒤에 덧붙인다.
+     *       NGRAM 모드는 n-gram 검색만, NOUN 모드는 명사 검색만 한다.</li>
+     *   <li>요청한 페이지에 해당하는 id만 DB에서 한 번에 조회하고, 관련도 순서대로 다시 정렬한다.</li>
+     * </ol>
+     *
+     * @param requestDto 검색 조건
+     * @param pageable   페이지 정보 (정렬 조건은 무시하고 관련도 순으로 정렬)
+     * @return 검색 결과 페이지
+     */
+    @Override
+    public PageResponse<RecruitmentSearchResponseDto> search(RecruitmentSearchRequestDto requestDto, Pageable pageable) {
+        int limit = (int) Math.min(pageable.getOffset() + pageable.getPageSize(), Integer.MAX_VALUE);
+        SearchResult result = rank(recruitmentSearchIndex.current(), requestDto, limit);
+
+        // AUTO 모드는 덧붙일지 판단하려고 limit보다 많이 가져올 수 있으므로 페이지 끝에서 자른다.
+        int[] ranked = result.ids();
+        int end = Math.min(ranked.length, limit);
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize());
+        for (int i = (int) Math.min(pageable.getOffset(), end); i < end; i++) {
+            pageIds.add((long) ranked[i]);
+        }
+
+        return PageResponse.from(new PageImpl<>(findInOrder(pageIds), pageable, result.totalHits()));
+    }
+
+    private SearchResult rank(InvertedIndex index, RecruitmentSearchRequestDto requestDto, int limit) {
+        SearchMode mode = requestDto.modeOrDefault();
+        if (mode == SearchMode.NGRAM) {
+            return index.searchNgrams(requestDto.q(), requestDto.category(), requestDto.status(),
+                    searchRankingOptions, limit, NO_IDS);
+        }
+
+        // AUTO 모드는 덧붙일지 판단하려면 기준 개수까지는 명사 검색 결과를 모두 알아야 한다.
+        int threshold = searchRankingOptions.getNgramFallbackThreshold();
+        SearchResult nouns = index.search(
+                komoranUtil.getNouns(requestDto.q()),
+                requestDto.operatorOrDefault(),
+                requestDto.category(),
+                requestDto.status(),
+                searchRankingOptions,
+                mode == SearchMode.AUTO ? Math.max(limit, threshold) : limit
+        );
+        if (mode == SearchMode.NOUN || nouns.totalHits() >= threshold) {
+            return nouns;
+        }
+
+        SearchResult ngrams = index.searchNgrams(requestDto.q(), requestDto.category(), requestDto.status(),
+                searchRankingOptions, Math.max(0, limit - nouns.ids().length), nouns.ids());
+        return nouns.append(ngrams);
+    }
+
+    private List<RecruitmentSearchResponseDto> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, RecruitmentSearchResponseDto> found = recruitmentSearchRepository.findSearchResultsByIdIn(ids).stream()
+                .collect(Collectors.toMap(RecruitmentSearchResponseDto::id, Function.identity()));
+
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
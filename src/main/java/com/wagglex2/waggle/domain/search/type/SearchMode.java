@@ -0,0 +1,18 @@
+package com.wagglex2.waggle.domain.search.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SearchMode {
+    AUTO("형태소 검색 결과가 적으면 글자 n-gram 검색 결과를 덧붙임"),
+    NOUN("형태소(명사) 검색만"),
+    NGRAM("글자 n-gram 검색만 (오타, 띄어쓰기 차이 허용)");
+
+    private final String desc;
+
+    public String getName() {
+        return this.name();
+    }
+}
@@ -0,0 +1,17 @@
+package com.wagglex2.waggle.domain.search.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SearchOperator {
+    AND("모든 검색어 포함"),
+    OR("하나 이상의 검색어 포함");
+
+    private final String desc;
+
+    public String getName() {
+        return this.name();
+    }
+}
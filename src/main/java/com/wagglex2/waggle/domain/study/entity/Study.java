@@ -48,7 +48,8 @@ public class Study extends BaseRecruitment {
     @ElementCollection(fetch = FetchType.LAZY)
     @CollectionTable(
             name = "recruitment_skills",
-            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id")
+            joinColumns = @JoinColumn(name = "recruitment_id", referencedColumnName = "id"),
+            foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT)
     )
     private Set<Skill> skills = new HashSet<>();
 
@@ -62,5 +63,6 @@ public class Study extends BaseRecruitment {
         this.participants = participants;
         this.period = period;
         this.skills = skills;
+        changeSkillMask(skills);
     }
 }
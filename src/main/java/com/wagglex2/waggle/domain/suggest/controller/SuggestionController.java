@@ -0,0 +1,46 @@
+package com.wagglex2.waggle.domain.suggest.controller;
+
+import com.wagglex2.waggle.common.response.ApiResponse;
+import com.wagglex2.waggle.domain.suggest.dto.request.SuggestionRequestDto;
+import com.wagglex2.waggle.domain.suggest.dto.response.SuggestionResponseDto;
+import com.wagglex2.waggle.domain.suggest.service.SuggestionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+public class SuggestionController {
+    private final SuggestionService suggestionService;
+
+    /**
+     * 공고 제목, 과목명, 과목 코드, 기술 스택 자동완성 후보를 조회한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /api/v1/suggest?prefix=스플&size=5} → "스프링 스터디 모집", "스프링 부트 프로젝트" ...</li>
+     * </ul>
+     *
+     * @param requestDto 조회 조건
+     * @return 인기도 순 자동완성 후보를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<SuggestionResponseDto>>> suggest(
+            @ModelAttribute @Valid SuggestionRequestDto requestDto
+    ) {
+        List<SuggestionResponseDto> data = suggestionService.suggest(requestDto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok("자동완성 후보 조회에 성공했습니다.", data)
+        );
+    }
+}
@@ -0,0 +1,28 @@
+package com.wagglex2.waggle.domain.suggest.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 자동완성 조회 조건.
+ *
+ * <ul>
+ *   <li>prefix : 입력 중인 문자열 (필수, 최대 50자). 한글은 자모 단위로 비교하므로 미완성 음절도 된다.</li>
+ *   <li>size : 최대 개수 (1 ~ 10, 기본값: 10)</li>
+ * </ul>
+ */
+public record SuggestionRequestDto(
+        @NotBlank(message = "검색어를 입력해주세요.")
+        @Size(max = 50, message = "검색어는 50자 이하로 입력해주세요.")
+        String prefix,
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 10, message = "조회 개수는 10 이하여야 합니다.")
+        Integer size
+) {
+    public int sizeOrDefault() {
+        return size != null ? size : 10;
+    }
+}
@@ -0,0 +1,17 @@
+package com.wagglex2.waggle.domain.suggest.dto.response;
+
+import com.wagglex2.waggle.domain.suggest.index.Suggestion;
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+
+/**
+ * 자동완성 후보.
+ *
+ * @param text 후보 문자열
+ * @param type 후보 종류 (공고 제목, 과목명, 과목 코드, 기술 스택)
+ */
+public record SuggestionResponseDto(String text, SuggestionType type) {
+
+    public static SuggestionResponseDto from(Suggestion suggestion) {
+        return new SuggestionResponseDto(suggestion.text(), suggestion.type());
+    }
+}
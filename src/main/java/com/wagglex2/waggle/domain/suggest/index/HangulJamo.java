@@ -0,0 +1,103 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+/**
+ * 자동완성 키 정규화 (한글 자모 분해).
+ *
+ * <p>완성형 한글 음절을 초성/중성/종성 호환 자모로 풀어 쓰고, 겹받침(ㄺ → ㄹㄱ)과 이중 모음(ㅘ → ㅗㅏ)도
+ * 키보드로 입력하는 순서대로 나눈다. 덕분에 "스프링"을 입력하는 도중의 "슾", "스플" 같은 미완성 음절도
+ * "스프링"의 접두어가 된다. (ㅅㅡㅍㅡㄹ ⊂ ㅅㅡㅍㅡㄹㅣㅇ)</p>
+ *
+ * <p>영문은 소문자로 바꾸고, 앞쪽 공백은 지우며 연속된 공백은 하나로 줄인다.
+ * 뒤쪽 공백은 남겨 "spring "이 "springfield"가 아닌 "spring boot"의 접두어가 되도록 한다.</p>
+ */
+final class HangulJamo {
+
+    private static final char SYLLABLE_FIRST = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {
+    }
+
+    /**
+     * @param text 원문 (후보 문자열 또는 입력 중인 접두어)
+     * @return 자모 단위로 분해, 정규화한 키
+     */
+    static String key(String text) {
+        StringBuilder key = new StringBuilder(text.length() * 3);
+        boolean whitespace = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = key.length() > 0;
+                continue;
+            }
+            if (whitespace) {
+                key.append(' ');
+                whitespace = false;
+            }
+
+            if (c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST) {
+                int index = c - SYLLABLE_FIRST;
+                key.append(CHOSEONG[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)])
+                        .append(JUNGSEONG[index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT])
+                        .append(JONGSEONG[index % JONGSEONG_COUNT]);
+            } else {
+                String split = splitCompound(c);
+                if (split != null) {
+                    key.append(split);
+                } else {
+                    key.append(Character.toLowerCase(c));
+                }
+            }
+        }
+        if (whitespace) {
+            key.append(' ');
+        }
+        return key.toString();
+    }
+
+    // 단독으로 입력된 겹자모의 분해 결과, 겹자모가 아니면 null
+    private static String splitCompound(char c) {
+        return switch (c) {
+            case 'ㄳ' -> "ㄱㅅ";
+            case 'ㄵ' -> "ㄴㅈ";
+            case 'ㄶ' -> "ㄴㅎ";
+            case 'ㄺ' -> "ㄹㄱ";
+            case 'ㄻ' -> "ㄹㅁ";
+            case 'ㄼ' -> "ㄹㅂ";
+            case 'ㄽ' -> "ㄹㅅ";
+            case 'ㄾ' -> "ㄹㅌ";
+            case 'ㄿ' -> "ㄹㅍ";
+            case 'ㅀ' -> "ㄹㅎ";
+            case 'ㅄ' -> "ㅂㅅ";
+            case 'ㅘ' -> "ㅗㅏ";
+            case 'ㅙ' -> "ㅗㅐ";
+            case 'ㅚ' -> "ㅗㅣ";
+            case 'ㅝ' -> "ㅜㅓ";
+            case 'ㅞ' -> "ㅜㅔ";
+            case 'ㅟ' -> "ㅜㅣ";
+            case 'ㅢ' -> "ㅡㅣ";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.domain.common.type.Skill;
+
+/**
+ * 공고 하나가 요구하는 기술 스택 하나 (recruitment_skills 한 행).
+ */
+public record RecruitmentSkill(Long recruitmentId, Skill skill) {
+}
@@ -0,0 +1,13 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+
+/**
+ * 자동완성 후보 하나.
+ *
+ * @param type   후보 종류
+ * @param text   화면에 보여줄 문자열
+ * @param weight 인기도 (클수록 앞에 보인다)
+ */
+public record Suggestion(SuggestionType type, String text, long weight) {
+}
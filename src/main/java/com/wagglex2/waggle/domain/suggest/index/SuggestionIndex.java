@@ -0,0 +1,263 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.suggest.repository.SuggestionRepository;
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 현재 사용 중인 자동완성 트라이를 보관하고 갱신한다.
+ *
+ * <p>후보와 인기도</p>
+ * <ul>
+ *   <li>공고 제목 : 1 + 조회수</li>
+ *   <li>과목명, 과목 코드 : 해당 과목의 과제 공고 수</li>
+ *   <li>기술 스택 : 해당 기술을 요구하는 프로젝트/스터디 공고 수. 공고가 없어도 모든 기술 스택은 후보로 남는다.</li>
+ * </ul>
+ *
+ * <p>취소(CANCELED)된 공고는 후보에서 뺀다. 같은 후보(종류와 정규화한 키가 같은)는 공고마다의 인기도를 더해 하나로 합친다.</p>
+ *
+ * <p>애플리케이션 기동이 끝나면 백그라운드 스레드에서 모든 공고를 {@code suggest.index.batch-size}(기본 500)개씩
+ * 읽어 트라이를 만든다. 이후 {@link #refresh(Collection)}는 바뀐 공고가 기여하던 후보만 다시 계산해
+ * {@link SuggestionTrie#put}/{@link SuggestionTrie#remove}로 반영한다.</p>
+ *
+ * <p>트라이는 volatile 필드 하나로 교체하므로 조회 스레드는 잠금 없이 읽는다.
+ * 공고별 기여분과 후보별 합계는 갱신 작업끼리만 잠금으로 보호한다.</p>
+ */
+@Slf4j
+@Component
+public class SuggestionIndex {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final SuggestionRepository suggestionRepository;
+    private final int batchSize;
+    private final int topK;
+
+    private final Object writeLock = new Object();
+    private volatile SuggestionTrie trie;
+
+    // writeLock으로 보호
+    private final Map<Long, List<Contribution>> contributions = new HashMap<>();
+    private final Map<SuggestionKey, Aggregate> aggregates = new HashMap<>();
+
+    public SuggestionIndex(SuggestionRepository suggestionRepository,
+                           @Value("${suggest.index.batch-size:500}") int batchSize,
+                           @Value("${suggest.top-k:10}") int topK) {
+        this.suggestionRepository = suggestionRepository;
+        this.batchSize = batchSize;
+        this.topK = topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("자동완성 색인 준비 실패", e);
+            }
+        }, "suggestion-index-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 모든 공고를 다시 읽어 트라이를 새로 만들고 교체한다.
+     */
+    public void rebuild() {
+        synchronized (writeLock) {
+            long start = System.currentTimeMillis();
+            contributions.clear();
+            aggregates.clear();
+            seedSkills();
+
+            long lastId = 0L;
+            while (true) {
+                List<SuggestionSource> sources =
+                        suggestionRepository.findSourcesAfter(lastId, PageRequest.of(0, batchSize));
+                if (sources.isEmpty()) {
+                    break;
+                }
+
+                Map<Long, List<Skill>> skills = findSkills(sources.stream().map(SuggestionSource::id).toList());
+                for (SuggestionSource source : sources) {
+                    List<Contribution> contributed = contributionsOf(source, skills.getOrDefault(source.id(), List.of()));
+                    if (!contributed.isEmpty()) {
+                        contributions.put(source.id(), contributed);
+                        contributed.forEach(this::add);
+                    }
+                }
+                lastId = sources.get(sources.size() - 1).id();
+            }
+
+            List<Suggestion> suggestions = new ArrayList<>(aggregates.size());
+            aggregates.forEach((key, aggregate) -> suggestions.add(aggregate.toSuggestion(key.type())));
+            trie = SuggestionTrie.of(suggestions, topK);
+
+            log.info("자동완성 색인 생성 완료 : suggestions = {}, {}ms",
+                    suggestions.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * 주어진 공고들을 DB에서 다시 읽어 각 공고가 기여하는 후보를 다시 계산한다.
+     * 취소되었거나 더 이상 없는 공고의 기여분은 뺀다.
+     *
+     * @param recruitmentIds 바뀐 공고 id
+     */
+    public void refresh(Collection<Long> recruitmentIds) {
+        if (recruitmentIds.isEmpty()) {
+            return;
+        }
+
+        synchronized (writeLock) {
+            Map<Long, List<Skill>> skills = findSkills(recruitmentIds);
+            Map<Long, List<Contribution>> next = new HashMap<>();
+            for (SuggestionSource source : suggestionRepository.findSourcesByIdIn(recruitmentIds)) {
+                next.put(source.id(), contributionsOf(source, skills.getOrDefault(source.id(), List.of())));
+            }
+
+            // 인기도가 바뀐 후보 → 원문
+            Map<SuggestionKey, String> touched = new LinkedHashMap<>();
+            for (Long id : recruitmentIds) {
+                List<Contribution> previous = contributions.remove(id);
+                if (previous != null) {
+                    previous.forEach(contribution -> touched.put(remove(contribution), contribution.text()));
+                }
+
+                List<Contribution> contributed = next.getOrDefault(id, List.of());
+                if (!contributed.isEmpty()) {
+                    contributions.put(id, contributed);
+                    contributed.forEach(contribution -> touched.put(add(contribution), contribution.text()));
+                }
+            }
+
+            SuggestionTrie updated = trie;
+            for (Map.Entry<SuggestionKey, String> entry : touched.entrySet()) {
+                SuggestionKey key = entry.getKey();
+                Aggregate aggregate = aggregates.get(key);
+                updated = aggregate == null
+                        ? updated.remove(key.type(), entry.getValue())
+                        : updated.put(aggregate.toSuggestion(key.type()));
+            }
+            trie = updated;
+        }
+    }
+
+    public boolean isReady() {
+        return trie != null;
+    }
+
+    /**
+     * @return 현재 트라이
+     */
+    public SuggestionTrie current() {
+        SuggestionTrie current = trie;
+        if (current == null) {
+            throw new RetryableBusinessException(ErrorCode.SUGGESTION_NOT_READY, RETRY_AFTER);
+        }
+        return current;
+    }
+
+    // 기술 스택은 공고가 없어도 항상 후보로 남도록 기여 하나를 고정으로 둔다.
+    private void seedSkills() {
+        for (Skill skill : Skill.values()) {
+            add(new Contribution(SuggestionType.SKILL, skill.getDesc(), 0));
+        }
+    }
+
+    private List<Contribution> contributionsOf(SuggestionSource source, List<Skill> skills) {
+        if (source.status() == RecruitmentStatus.CANCELED) {
+            return List.of();
+        }
+
+        List<Contribution> contributed = new ArrayList<>(3 + skills.size());
+        if (StringUtils.hasText(source.title())) {
+            contributed.add(new Contribution(SuggestionType.TITLE, source.title(), 1L + source.viewCount()));
+        }
+        if (StringUtils.hasText(source.lecture())) {
+            contributed.add(new Contribution(SuggestionType.LECTURE, source.lecture(), 1));
+        }
+        if (StringUtils.hasText(source.lectureCode())) {
+            contributed.add(new Contribution(SuggestionType.LECTURE_CODE, source.lectureCode(), 1));
+        }
+        for (Skill skill : skills) {
+            contributed.add(new Contribution(SuggestionType.SKILL, skill.getDesc(), 1));
+        }
+        return contributed;
+    }
+
+    private Map<Long, List<Skill>> findSkills(Collection<Long> recruitmentIds) {
+        Map<Long, List<Skill>> skills = new HashMap<>();
+        List<RecruitmentSkill> rows = new ArrayList<>(suggestionRepository.findProjectSkillsByIdIn(recruitmentIds));
+        rows.addAll(suggestionRepository.findStudySkillsByIdIn(recruitmentIds));
+        for (RecruitmentSkill row : rows) {
+            skills.computeIfAbsent(row.recruitmentId(), id -> new ArrayList<>()).add(row.skill());
+        }
+        return skills;
+    }
+
+    private SuggestionKey add(Contribution contribution) {
+        SuggestionKey key = contribution.key();
+        Aggregate aggregate = aggregates.computeIfAbsent(key, k -> new Aggregate(contribution.text()));
+        aggregate.weight += contribution.weight();
+        aggregate.references++;
+        return key;
+    }
+
+    private SuggestionKey remove(Contribution contribution) {
+        SuggestionKey key = contribution.key();
+        Aggregate aggregate = aggregates.get(key);
+        if (aggregate != null) {
+            aggregate.weight -= contribution.weight();
+            if (--aggregate.references == 0) {
+                aggregates.remove(key);
+            }
+        }
+        return key;
+    }
+
+    // 공고 하나가 후보 하나에 더하는 인기도
+    private record Contribution(SuggestionType type, String text, long weight) {
+        SuggestionKey key() {
+            return new SuggestionKey(type, HangulJamo.key(text.strip()));
+        }
+    }
+
+    // 후보 식별자 (종류, 정규화한 키)
+    private record SuggestionKey(SuggestionType type, String key) {
+    }
+
+    // 같은 후보에 대한 기여분 합계. text는 처음 기여한 공고의 표기를 따른다.
+    private static final class Aggregate {
+        final String text;
+        long weight;
+        int references;
+
+        Aggregate(String text) {
+            this.text = text;
+        }
+
+        Suggestion toSuggestion(SuggestionType type) {
+            return new Suggestion(type, text, weight);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+/**
+ * 자동완성 후보를 뽑기 위한 공고 조회 결과.
+ *
+ * <p>과제 공고가 아니면 lecture, lectureCode는 null이다.</p>
+ */
+public record SuggestionSource(
+        Long id,
+        RecruitmentStatus status,
+        String title,
+        int viewCount,
+        String lecture,
+        String lectureCode
+) {
+}
@@ -0,0 +1,324 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 자동완성 후보를 담는 압축 트라이 (radix tree).
+ *
+ * <p>키는 {@link HangulJamo#key(String)}로 분해한 자모 문자열이며, 자식이 하나뿐인 경로는 간선 하나(label)로 합친다.
+ * 각 노드는 자기 아래 후보 중 인기도 상위 {@code topK}개를 미리 골라 두므로, 조회는 접두어를 따라 내려간 노드의
+ * 목록을 그대로 돌려주면 된다. 비용은 접두어 길이에만 비례하고 후보 수와는 무관하다.</p>
+ *
+ * <p>한 번 만든 트라이는 바뀌지 않는다. {@link #put}과 {@link #remove}는 루트부터 바뀐 노드까지의 경로만
+ * 복사하고(path copying) 나머지 노드는 이전 트라이와 공유한 새 트라이를 돌려준다.
+ * 따라서 조회 스레드는 잠금 없이 읽어도 항상 완전한 트라이 하나를 본다.</p>
+ *
+ * <p>같은 키에는 종류({@link SuggestionType})별로 후보 하나만 둔다.</p>
+ */
+public final class SuggestionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    // 인기도 내림차순, 같으면 짧은 후보, 그다음 사전 순
+    private static final Comparator<Suggestion> RANKING = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.text().length())
+            .thenComparing(Suggestion::text);
+
+    private final Node root;
+    private final int topK;
+
+    private SuggestionTrie(Node root, int topK) {
+        this.root = root;
+        this.topK = topK;
+    }
+
+    /**
+     * @param topK 노드마다 미리 골라 둘 후보 수 (한 번에 조회할 수 있는 최대 개수)
+     */
+    public static SuggestionTrie empty(int topK) {
+        return new SuggestionTrie(new Node("", NO_CHILDREN, NO_SUGGESTIONS, NO_SUGGESTIONS), topK);
+    }
+
+    /**
+     * 후보 전체로 트라이를 한 번에 만든다. 키 순으로 정렬한 뒤 아래에서부터 노드를 만들므로
+     * 후보마다 {@link #put}을 부르는 것보다 상위 후보 계산이 노드당 한 번으로 줄어든다.
+     */
+    public static SuggestionTrie of(Collection<Suggestion> suggestions, int topK) {
+        List<Keyed> keyed = new ArrayList<>(suggestions.size());
+        for (Suggestion suggestion : suggestions) {
+            String key = HangulJamo.key(suggestion.text().strip());
+            if (!key.isEmpty()) {
+                keyed.add(new Keyed(key, suggestion));
+            }
+        }
+        keyed.sort(Comparator.comparing(Keyed::key));
+
+        SuggestionTrie empty = empty(topK);
+        return new SuggestionTrie(empty.build("", keyed, 0, keyed.size(), 0), topK);
+    }
+
+    public int topK() {
+        return topK;
+    }
+
+    /**
+     * 후보를 추가하거나, 같은 키와 종류의 후보가 있으면 교체한 새 트라이를 만든다.
+     */
+    public SuggestionTrie put(Suggestion suggestion) {
+        String key = HangulJamo.key(suggestion.text().strip());
+        if (key.isEmpty()) {
+            return this;
+        }
+        return new SuggestionTrie(put(root, key, suggestion), topK);
+    }
+
+    /**
+     * 후보를 뺀 새 트라이를 만든다. 없으면 이 트라이를 그대로 돌려준다.
+     */
+    public SuggestionTrie remove(SuggestionType type, String text) {
+        String key = HangulJamo.key(text.strip());
+        Node next = remove(root, key, type);
+        if (next == root) {
+            return this;
+        }
+        return new SuggestionTrie(next, topK);
+    }
+
+    /**
+     * @param prefix 입력 중인 문자열
+     * @param limit  최대 개수 ({@code topK} 이하)
+     * @return 접두어로 시작하는 후보를 인기도 순으로
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = HangulJamo.key(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Node node = root;
+        int offset = 0;
+        while (offset < key.length()) {
+            int index = node.indexOf(key.charAt(offset));
+            if (index < 0) {
+                return List.of();
+            }
+
+            Node child = node.children[index];
+            int length = Math.min(key.length() - offset, child.label.length());
+            if (!key.regionMatches(offset, child.label, 0, length)) {
+                return List.of();
+            }
+            offset += length;
+            node = child;
+        }
+
+        Suggestion[] top = node.top;
+        return List.of(top).subList(0, Math.min(limit, top.length));
+    }
+
+    // keyed[from, to)는 모두 길이 depth의 같은 접두어를 가진다.
+    private Node build(String label, List<Keyed> keyed, int from, int to, int depth) {
+        Suggestion[] terminals = NO_SUGGESTIONS;
+        int i = from;
+        while (i < to && keyed.get(i).key().length() == depth) {
+            terminals = replace(terminals, keyed.get(i++).suggestion());
+        }
+
+        List<Node> children = new ArrayList<>();
+        while (i < to) {
+            char first = keyed.get(i).key().charAt(depth);
+            int end = i + 1;
+            while (end < to && keyed.get(end).key().charAt(depth) == first) {
+                end++;
+            }
+
+            // 정렬되어 있으므로 묶음의 공통 접두어는 처음과 마지막 키의 공통 접두어이다.
+            String firstKey = keyed.get(i).key();
+            int common = commonPrefixLength(firstKey, keyed.get(end - 1).key());
+            children.add(build(firstKey.substring(depth, common), keyed, i, end, common));
+            i = end;
+        }
+        return node(label, children.toArray(NO_CHILDREN), terminals);
+    }
+
+    private Node put(Node node, String rest, Suggestion suggestion) {
+        if (rest.isEmpty()) {
+            return node(node.label, node.children, replace(node.terminals, suggestion));
+        }
+
+        int index = node.indexOf(rest.charAt(0));
+        if (index < 0) {
+            Node leaf = node(rest, NO_CHILDREN, new Suggestion[]{suggestion});
+            return node(node.label, insert(node.children, -index - 1, leaf), node.terminals);
+        }
+
+        Node child = node.children[index];
+        int common = commonPrefixLength(child.label, rest);
+        if (common < child.label.length()) {
+            // 간선을 공통 부분에서 나눈다. 아래쪽 노드의 후보 목록은 바뀌지 않는다.
+            Node lower = new Node(child.label.substring(common), child.children, child.terminals, child.top);
+            child = node(child.label.substring(0, common), new Node[]{lower}, NO_SUGGESTIONS);
+        }
+        return node(node.label, replace(node.children, index, put(child, rest.substring(common), suggestion)),
+                node.terminals);
+    }
+
+    // 바뀐 것이 없으면 같은 노드를, 노드가 비면 null을 돌려준다.
+    private Node remove(Node node, String rest, SuggestionType type) {
+        if (rest.isEmpty()) {
+            Suggestion[] terminals = without(node.terminals, type);
+            return terminals == node.terminals ? node : compact(node, node.children, terminals);
+        }
+
+        int index = node.indexOf(rest.charAt(0));
+        if (index < 0) {
+            return node;
+        }
+        Node child = node.children[index];
+        if (!rest.startsWith(child.label)) {
+            return node;
+        }
+
+        Node nextChild = remove(child, rest.substring(child.label.length()), type);
+        if (nextChild == child) {
+            return node;
+        }
+        Node[] children = nextChild == null ? delete(node.children, index) : replace(node.children, index, nextChild);
+        return compact(node, children, node.terminals);
+    }
+
+    // 후보도 자식도 없는 노드는 지우고, 후보 없이 자식이 하나뿐인 노드는 자식과 합친다. 루트는 그대로 둔다.
+    private Node compact(Node node, Node[] children, Suggestion[] terminals) {
+        if (node != root && terminals.length == 0) {
+            if (children.length == 0) {
+                return null;
+            }
+            if (children.length == 1) {
+                Node child = children[0];
+                return new Node(node.label + child.label, child.children, child.terminals, child.top);
+            }
+        }
+        return node(node.label, children, terminals);
+    }
+
+    private Node node(String label, Node[] children, Suggestion[] terminals) {
+        return new Node(label, children, terminals, top(children, terminals));
+    }
+
+    // 자기 후보와 자식들의 상위 후보를 합쳐 상위 topK개를 고른다.
+    private Suggestion[] top(Node[] children, Suggestion[] terminals) {
+        int count = terminals.length;
+        for (Node child : children) {
+            count += child.top.length;
+        }
+        if (count == 0) {
+            return NO_SUGGESTIONS;
+        }
+
+        Suggestion[] candidates = Arrays.copyOf(terminals, count);
+        int n = terminals.length;
+        for (Node child : children) {
+            System.arraycopy(child.top, 0, candidates, n, child.top.length);
+            n += child.top.length;
+        }
+        Arrays.sort(candidates, RANKING);
+        return candidates.length <= topK ? candidates : Arrays.copyOf(candidates, topK);
+    }
+
+    private static int commonPrefixLength(String a, String b) {
+        int length = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < length && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static Suggestion[] replace(Suggestion[] terminals, Suggestion suggestion) {
+        for (int i = 0; i < terminals.length; i++) {
+            if (terminals[i].type() == suggestion.type()) {
+                Suggestion[] replaced = terminals.clone();
+                replaced[i] = suggestion;
+                return replaced;
+            }
+        }
+        Suggestion[] added = Arrays.copyOf(terminals, terminals.length + 1);
+        added[terminals.length] = suggestion;
+        return added;
+    }
+
+    private static Suggestion[] without(Suggestion[] terminals, SuggestionType type) {
+        for (int i = 0; i < terminals.length; i++) {
+            if (terminals[i].type() == type) {
+                Suggestion[] removed = new Suggestion[terminals.length - 1];
+                System.arraycopy(terminals, 0, removed, 0, i);
+                System.arraycopy(terminals, i + 1, removed, i, terminals.length - i - 1);
+                return removed;
+            }
+        }
+        return terminals;
+    }
+
+    private static Node[] insert(Node[] children, int index, Node child) {
+        Node[] inserted = new Node[children.length + 1];
+        System.arraycopy(children, 0, inserted, 0, index);
+        inserted[index] = child;
+        System.arraycopy(children, index, inserted, index + 1, children.length - index);
+        return inserted;
+    }
+
+    private static Node[] replace(Node[] children, int index, Node child) {
+        Node[] replaced = children.clone();
+        replaced[index] = child;
+        return replaced;
+    }
+
+    private static Node[] delete(Node[] children, int index) {
+        Node[] deleted = new Node[children.length - 1];
+        System.arraycopy(children, 0, deleted, 0, index);
+        System.arraycopy(children, index + 1, deleted, index, children.length - index - 1);
+        return deleted;
+    }
+
+    private record Keyed(String key, Suggestion suggestion) {
+    }
+
+    private static final class Node {
+        final String label;
+        final Node[] children; // label 첫 글자 오름차순
+        final Suggestion[] terminals;
+        final Suggestion[] top;
+
+        Node(String label, Node[] children, Suggestion[] terminals, Suggestion[] top) {
+            this.label = label;
+            this.children = children;
+            this.terminals = terminals;
+            this.top = top;
+        }
+
+        // 첫 글자가 c인 자식의 위치, 없으면 -(삽입 위치) - 1
+        int indexOf(char c) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char first = children[mid].label.charAt(0);
+                if (first < c) {
+                    low = mid + 1;
+                } else if (first > c) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
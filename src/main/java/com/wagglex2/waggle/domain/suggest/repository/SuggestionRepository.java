@@ -0,0 +1,42 @@
+package com.wagglex2.waggle.domain.suggest.repository;
+
+import com.wagglex2.waggle.domain.common.entity.BaseRecruitment;
+import com.wagglex2.waggle.domain.suggest.index.RecruitmentSkill;
+import com.wagglex2.waggle.domain.suggest.index.SuggestionSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 자동완성 후보(공고 제목, 과목명, 과목 코드, 기술 스택)를 읽는 Repository.
+ */
+@Repository
+public interface SuggestionRepository extends JpaRepository<BaseRecruitment, Long> {
+
+    // 전체 생성용 keyset 페이지 조회 (id > lastId), 과제 공고만 과목 정보가 채워진다.
+    @Query("SELECT new com.wagglex2.waggle.domain.suggest.index.SuggestionSource(" +
+            "r.id, r.status, r.title, r.viewCount, a.lecture, a.lectureCode) " +
+            "FROM BaseRecruitment r LEFT JOIN Assignment a ON a.id = r.id " +
+            "WHERE r.id > :lastId ORDER BY r.id")
+    List<SuggestionSource> findSourcesAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 변경 이벤트로 모인 공고 재반영
+    @Query("SELECT new com.wagglex2.waggle.domain.suggest.index.SuggestionSource(" +
+            "r.id, r.status, r.title, r.viewCount, a.lecture, a.lectureCode) " +
+            "FROM BaseRecruitment r LEFT JOIN Assignment a ON a.id = r.id " +
+            "WHERE r.id IN :ids")
+    List<SuggestionSource> findSourcesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.wagglex2.waggle.domain.suggest.index.RecruitmentSkill(p.id, s) " +
+            "FROM Project p JOIN p.skills s WHERE p.id IN :ids")
+    List<RecruitmentSkill> findProjectSkillsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.wagglex2.waggle.domain.suggest.index.RecruitmentSkill(st.id, s) " +
+            "FROM Study st JOIN st.skills s WHERE st.id IN :ids")
+    List<RecruitmentSkill> findStudySkillsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,10 @@
+package com.wagglex2.waggle.domain.suggest.service;
+
+import com.wagglex2.waggle.domain.suggest.dto.request.SuggestionRequestDto;
+import com.wagglex2.waggle.domain.suggest.dto.response.SuggestionResponseDto;
+
+import java.util.List;
+
+public interface SuggestionService {
+    List<SuggestionResponseDto> suggest(SuggestionRequestDto requestDto);
+}
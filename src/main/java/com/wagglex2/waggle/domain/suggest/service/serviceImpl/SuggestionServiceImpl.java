@@ -0,0 +1,33 @@
+package com.wagglex2.waggle.domain.suggest.service.serviceImpl;
+
+import com.wagglex2.waggle.domain.suggest.dto.request.SuggestionRequestDto;
+import com.wagglex2.waggle.domain.suggest.dto.response.SuggestionResponseDto;
+import com.wagglex2.waggle.domain.suggest.index.SuggestionIndex;
+import com.wagglex2.waggle.domain.suggest.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SuggestionServiceImpl implements SuggestionService {
+    private final SuggestionIndex suggestionIndex;
+
+    /**
+     * 입력 중인 문자열로 시작하는 자동완성 후보를 인기도 순으로 조회한다.
+     *
+     * <p>DB를 거치지 않고 메모리의 트라이만 읽는다. 트라이가 아직 준비되지 않았으면 SUGGESTION_NOT_READY(503)로 응답한다.</p>
+     *
+     * @param requestDto 조회 조건
+     * @return 자동완성 후보 목록
+     */
+    @Override
+    public List<SuggestionResponseDto> suggest(SuggestionRequestDto requestDto) {
+        return suggestionIndex.current()
+                .suggest(requestDto.prefix(), requestDto.sizeOrDefault())
+                .stream()
+                .map(SuggestionResponseDto::from)
+                .toList();
+    }
+}
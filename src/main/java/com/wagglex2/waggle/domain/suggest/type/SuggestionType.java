@@ -0,0 +1,19 @@
+package com.wagglex2.waggle.domain.suggest.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum SuggestionType {
+    TITLE("공고 제목"),
+    LECTURE("과목명"),
+    LECTURE_CODE("과목 코드"),
+    SKILL("기술 스택");
+
+    private final String desc;
+
+    public String getName() {
+        return this.name();
+    }
+}
@@ -0,0 +1,47 @@
+package com.wagglex2.waggle.domain.trending.controller;
+
+import com.wagglex2.waggle.common.response.ApiResponse;
+import com.wagglex2.waggle.domain.trending.dto.request.TrendingRequestDto;
+import com.wagglex2.waggle.domain.trending.dto.response.TrendingResponseDto;
+import com.wagglex2.waggle.domain.trending.service.TrendingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/recruitments")
+@RequiredArgsConstructor
+public class TrendingController {
+    private final TrendingService trendingService;
+
+    /**
+     * 최근 조회가 몰린 모집 중인 공고를 조회한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /api/v1/recruitments/trending} → 전체 카테고리에서 10건</li>
+     *   <li>{@code GET /api/v1/recruitments/trending?category=STUDY&size=20}</li>
+     * </ul>
+     *
+     * @param requestDto 조회 조건
+     * @return 인기 점수 순 공고를 포함한 {@link ApiResponse} (200 OK)
+     */
+    @GetMapping("/trending")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<TrendingResponseDto>>> getTrending(
+            @ModelAttribute @Valid TrendingRequestDto requestDto
+    ) {
+        List<TrendingResponseDto> data = trendingService.getTrending(requestDto);
+
+        return ResponseEntity.ok(
+                ApiResponse.ok("인기 공고 조회에 성공했습니다.", data)
+        );
+    }
+}
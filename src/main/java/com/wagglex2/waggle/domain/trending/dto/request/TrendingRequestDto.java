@@ -0,0 +1,25 @@
+package com.wagglex2.waggle.domain.trending.dto.request;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * 인기 공고 조회 조건.
+ *
+ * <ul>
+ *   <li>category : 공고 카테고리 (선택, 없으면 전체)</li>
+ *   <li>size : 최대 개수 (1 ~ 50, 기본값: 10)</li>
+ * </ul>
+ */
+public record TrendingRequestDto(
+        RecruitmentCategory category,
+
+        @Min(value = 1, message = "조회 개수는 1 이상이어야 합니다.")
+        @Max(value = 50, message = "조회 개수는 50 이하여야 합니다.")
+        Integer size
+) {
+    public int sizeOrDefault() {
+        return size != null ? size : 10;
+    }
+}
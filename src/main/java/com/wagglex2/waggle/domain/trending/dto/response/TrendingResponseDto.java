@@ -0,0 +1,33 @@
+package com.wagglex2.waggle.domain.trending.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.trending.index.TrendingRecruitment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 공고 한 건.
+ *
+ * <p>score는 스냅샷을 만든 시각 기준으로 감쇠한 인기 점수이다. (반감기마다 절반이 된다.)</p>
+ */
+public record TrendingResponseDto(
+        Long id,
+        RecruitmentCategory category,
+        String title,
+        Long authorId,
+        String authorNickname,
+
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime deadline,
+
+        int viewCount,
+        double score
+) {
+    public static TrendingResponseDto from(TrendingRecruitment recruitment) {
+        return new TrendingResponseDto(
+                recruitment.id(), recruitment.category(), recruitment.title(), recruitment.authorId(),
+                recruitment.authorNickname(), recruitment.deadline(), recruitment.viewCount(), recruitment.score()
+        );
+    }
+}
@@ -0,0 +1,137 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.trending.repository.TrendingRecruitmentRow;
+import com.wagglex2.waggle.domain.trending.repository.TrendingRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 공고 목록을 메모리 스냅샷으로 들고 있다가 {@code trending.refresh-millis}(기본 5초)마다 다시 만든다.
+ *
+ * <p>조회 요청은 Redis와 DB를 거치지 않고 {@link #current()}의 스냅샷만 읽는다. 갱신할 때는</p>
+ * <ol>
+ *   <li>카테고리별 Sorted Set에서 점수 상위 {@code trending.candidate-size}(기본 200)개를 읽고,</li>
+ *   <li>후보의 상태와 표시용 컬럼을 IN 쿼리 한 번으로 읽어,</li>
+ *   <li>모집 중이 아니거나 마감일이 지났거나 사라진 공고는 Sorted Set에서 지운다.</li>
+ * </ol>
+ * <p>상위 후보에 올라온 공고만 확인해 지우므로 전체를 훑지 않고 점진적으로 정리된다.
+ * 갱신에 실패하면 기존 스냅샷을 그대로 둔다.</p>
+ */
+@Slf4j
+@Component
+public class TrendingBoard {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TrendingRepository trendingRepository;
+    private final double timeConstant;
+    private final int candidateSize;
+    private final long refreshMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile TrendingSnapshot snapshot = TrendingSnapshot.EMPTY;
+
+    public TrendingBoard(RedisTemplate<String, String> redisTemplate,
+                         TrendingRepository trendingRepository,
+                         TrendingRecorder trendingRecorder,
+                         @Value("${trending.candidate-size:200}") int candidateSize,
+                         @Value("${trending.refresh-millis:5000}") long refreshMillis) {
+        this.redisTemplate = redisTemplate;
+        this.trendingRepository = trendingRepository;
+        this.timeConstant = trendingRecorder.timeConstant();
+        this.candidateSize = candidateSize;
+        this.refreshMillis = refreshMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trending-board");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::refresh, refreshMillis, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public TrendingSnapshot current() {
+        return snapshot;
+    }
+
+    void refresh() {
+        try {
+            snapshot = build(System.currentTimeMillis(), LocalDateTime.now());
+        } catch (DataAccessException e) {
+            log.warn("인기 공고 스냅샷 갱신 실패, 기존 스냅샷 유지 : 오류 : {}", e.getMessage());
+        }
+    }
+
+    private TrendingSnapshot build(long nowMillis, LocalDateTime now) {
+        Map<RecruitmentCategory, Set<TypedTuple<String>>> candidates = new EnumMap<>(RecruitmentCategory.class);
+        List<Long> ids = new ArrayList<>();
+        for (RecruitmentCategory category : RecruitmentCategory.values()) {
+            Set<TypedTuple<String>> top = redisTemplate.opsForZSet()
+                    .reverseRangeWithScores(TrendingRecorder.key(category), 0, candidateSize - 1);
+            if (top == null || top.isEmpty()) {
+                continue;
+            }
+            candidates.put(category, top);
+            top.forEach(tuple -> ids.add(Long.valueOf(tuple.getValue())));
+        }
+        if (ids.isEmpty()) {
+            return TrendingSnapshot.EMPTY;
+        }
+
+        Map<Long, TrendingRecruitmentRow> rows = trendingRepository.findRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TrendingRecruitmentRow::id, Function.identity()));
+
+        Map<RecruitmentCategory, List<TrendingRecruitment>> items = new EnumMap<>(RecruitmentCategory.class);
+        candidates.forEach((category, top) -> {
+            List<TrendingRecruitment> live = new ArrayList<>(top.size());
+            List<String> expired = new ArrayList<>();
+            for (TypedTuple<String> tuple : top) {
+                TrendingRecruitmentRow row = rows.get(Long.valueOf(tuple.getValue()));
+                if (row == null || row.status() != RecruitmentStatus.RECRUITING || row.deadline().isBefore(now)) {
+                    expired.add(tuple.getValue());
+                    continue;
+                }
+
+                double logScore = tuple.getScore();
+                live.add(new TrendingRecruitment(
+                        row.id(), row.category(), row.title(), row.authorId(), row.authorNickname(),
+                        row.deadline(), row.viewCount(), logScore,
+                        TrendingScore.decayed(logScore, nowMillis, timeConstant)
+                ));
+            }
+
+            if (!expired.isEmpty()) {
+                redisTemplate.opsForZSet().remove(TrendingRecorder.key(category), expired.toArray());
+            }
+            items.put(category, live);
+        });
+        return TrendingSnapshot.of(items);
+    }
+}
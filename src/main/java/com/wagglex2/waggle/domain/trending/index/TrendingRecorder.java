@@ -0,0 +1,201 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 공고 조회 이벤트를 카테고리별 Redis Sorted Set({@code TR:{category}})의 시간 감쇠 인기 점수로 쌓는다.
+ *
+ * <p>이벤트마다 Redis를 호출하지 않고 공고별 가중치를 모았다가 {@code trending.flush-millis}(기본 1초)마다
+ * 카테고리별 Lua 스크립트 호출로 한 번에 더한다. 점수는 {@link TrendingScore}의 로그 스케일로 저장하므로
+ * 감쇠를 위해 기존 점수를 주기적으로 다시 쓰지 않는다. 카테고리마다 점수 상위
+ * {@code trending.max-size}(기본 1,000)개만 남긴다.</p>
+ *
+ * <p>가중치 맵은 주기마다 새 맵으로 교체하고, 교체된 맵은 한 주기를 더 기다린 뒤 반영한다.
+ * 교체 직전에 옛 맵의 카운터를 꺼낸 스레드가 뒤늦게 더한 값도 빠지지 않게 하기 위해서다.
+ * 애플리케이션이 정상 종료될 때는 남은 가중치를 모두 반영한다.</p>
+ *
+ * <p>취소된 공고는 커밋 후 이벤트로 받아 다음 주기에 Sorted Set에서 지운다.
+ * 반영에 실패하면 실패한 호출과 그 뒤 호출의 가중치만 다음 주기에 재시도한다.</p>
+ */
+@Slf4j
+@Component
+public class TrendingRecorder {
+
+    static final String TRENDING_PREFIX = "TR:";
+    private static final int MAX_MEMBERS_PER_CALL = 500;
+
+    private static final RedisScript<Long> ADD_SCORES_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/add_trending_scores.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double timeConstant;
+    private final double viewWeight;
+    private final String maxSize;
+    private final long flushMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<Long, Pending> current = new ConcurrentHashMap<>();
+    private volatile Map<Long, Pending> retired = Map.of();
+    private final Set<RecruitmentChangedEvent> removals = ConcurrentHashMap.newKeySet();
+
+    public TrendingRecorder(RedisTemplate<String, String> redisTemplate,
+                            @Value("${trending.half-life-hours:24}") long halfLifeHours,
+                            @Value("${trending.weight.view:1.0}") double viewWeight,
+                            @Value("${trending.max-size:1000}") int maxSize,
+                            @Value("${trending.flush-millis:1000}") long flushMillis) {
+        this.redisTemplate = redisTemplate;
+        this.timeConstant = TrendingScore.timeConstant(Duration.ofHours(halfLifeHours).toMillis());
+        this.viewWeight = viewWeight;
+        this.maxSize = String.valueOf(maxSize);
+        this.flushMillis = flushMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "trending-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    static String key(RecruitmentCategory category) {
+        return TRENDING_PREFIX + category.name();
+    }
+
+    double timeConstant() {
+        return timeConstant;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flush, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 스케줄러를 멈추고 남은 가중치를 모두 반영한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdown();
+        scheduler.awaitTermination(flushMillis, TimeUnit.MILLISECONDS);
+        synchronized (this) {
+            Map<Long, Pending> remaining = current;
+            current = new ConcurrentHashMap<>();
+            write(merge(retired, remaining));
+            retired = Map.of();
+            removeCancelled();
+        }
+    }
+
+    public void recordView(RecruitmentCategory category, long recruitmentId) {
+        record(category, recruitmentId, viewWeight);
+    }
+
+    public void record(RecruitmentCategory category, long recruitmentId, double weight) {
+        current.computeIfAbsent(recruitmentId, id -> new Pending(category, new DoubleAdder())).weight().add(weight);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRecruitmentChanged(RecruitmentChangedEvent event) {
+        if (event.type() == RecruitmentChangedEvent.Type.CANCELLED) {
+            removals.add(event);
+        }
+    }
+
+    /**
+     * 한 주기 전에 교체된 맵의 가중치를 현재 시각의 로그 점수로 바꿔 더하고, 현재 맵을 새 맵으로 교체한다.
+     * 취소된 공고도 함께 지운다.
+     */
+    synchronized void flush() {
+        Map<Long, Pending> expired = retired;
+        retired = current;
+        current = new ConcurrentHashMap<>();
+        write(merge(expired, Map.of()));
+        removeCancelled();
+    }
+
+    private void write(Map<RecruitmentCategory, Map<Long, Double>> weights) {
+        long now = System.currentTimeMillis();
+        weights.forEach((category, categoryWeights) -> addScores(category, categoryWeights, now));
+    }
+
+    /**
+     * 스크립트 호출 한 번에 {@value #MAX_MEMBERS_PER_CALL}개씩 더한다. 호출이 실패하면 이미 반영된 앞 호출은 두고
+     * 실패한 호출과 남은 호출의 가중치만 다시 모아 둔다.
+     */
+    private void addScores(RecruitmentCategory category, Map<Long, Double> weights, long now) {
+        List<Map.Entry<Long, Double>> entries = new ArrayList<>(weights.entrySet());
+        for (int from = 0; from < entries.size(); from += MAX_MEMBERS_PER_CALL) {
+            List<Map.Entry<Long, Double>> chunk = entries.subList(from, Math.min(from + MAX_MEMBERS_PER_CALL, entries.size()));
+            Object[] argv = new Object[chunk.size() * 2 + 1];
+            argv[0] = maxSize;
+            int i = 1;
+            for (Map.Entry<Long, Double> entry : chunk) {
+                argv[i++] = String.valueOf(entry.getKey());
+                argv[i++] = String.valueOf(TrendingScore.of(entry.getValue(), now, timeConstant));
+            }
+            try {
+                redisTemplate.execute(ADD_SCORES_SCRIPT, List.of(key(category)), argv);
+            } catch (DataAccessException e) {
+                List<Map.Entry<Long, Double>> failed = entries.subList(from, entries.size());
+                failed.forEach(entry -> record(category, entry.getKey(), entry.getValue()));
+                log.warn("인기 점수 반영 실패, 다음 주기에 재시도 : category = {}, count = {}, 오류 : {}",
+                        category, failed.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        if (removals.isEmpty()) {
+            return;
+        }
+
+        List<RecruitmentChangedEvent> batch = new ArrayList<>(removals);
+        removals.removeAll(batch);
+        try {
+            for (RecruitmentChangedEvent event : batch) {
+                redisTemplate.opsForZSet().remove(key(event.category()), String.valueOf(event.recruitmentId()));
+            }
+        } catch (DataAccessException e) {
+            removals.addAll(batch);
+            log.warn("취소된 인기 공고 제거 실패, 다음 주기에 재시도 : count = {}, 오류 : {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private static Map<RecruitmentCategory, Map<Long, Double>> merge(Map<Long, Pending> first,
+                                                                     Map<Long, Pending> second) {
+        Map<RecruitmentCategory, Map<Long, Double>> weights = new EnumMap<>(RecruitmentCategory.class);
+        for (Map<Long, Pending> batch : List.of(first, second)) {
+            batch.forEach((id, entry) -> weights.computeIfAbsent(entry.category(), c -> new HashMap<>())
+                    .merge(id, entry.weight().sum(), Double::sum));
+        }
+        weights.values().forEach(categoryWeights -> categoryWeights.values().removeIf(weight -> weight <= 0));
+        return weights;
+    }
+
+    private record Pending(RecruitmentCategory category, DoubleAdder weight) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 공고 스냅샷의 한 항목.
+ *
+ * @param logScore 정렬용 로그 점수 (카테고리와 관계없이 비교할 수 있다.)
+ * @param score    스냅샷을 만든 시각 기준의 감쇠 점수
+ */
+public record TrendingRecruitment(
+        Long id,
+        RecruitmentCategory category,
+        String title,
+        Long authorId,
+        String authorNickname,
+        LocalDateTime deadline,
+        int viewCount,
+        double logScore,
+        double score
+) {
+}
@@ -0,0 +1,48 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+/**
+ * 시간 감쇠 인기 점수를 로그 스케일로 다루는 계산.
+ *
+ * <p>시각 t에 가중치 w로 들어온 이벤트의 현재(now) 점수는 {@code w·e^(-(now - t)/τ)}이다.
+ * 이를 {@code e^(-now/τ) · w·e^(t/τ)}로 나누면 앞의 항은 모든 공고에 같으므로, 공고마다
+ * {@code ln(Σ wᵢ·e^(tᵢ/τ))}만 저장하면 주기적으로 모든 점수를 다시 쓰지 않아도 순위가 유지된다.
+ * 지수가 커져 double 범위를 넘지 않도록 로그 값으로 저장하고, 더할 때는 log-sum-exp로 더한다.</p>
+ *
+ * <p>τ는 반감기 / ln 2이다.</p>
+ */
+public final class TrendingScore {
+
+    private TrendingScore() {
+    }
+
+    /**
+     * @param halfLifeMillis 점수가 절반이 되는 시간
+     * @return 시간 상수 τ (ms)
+     */
+    public static double timeConstant(long halfLifeMillis) {
+        return halfLifeMillis / Math.log(2);
+    }
+
+    /**
+     * @return 이벤트 하나의 로그 점수 {@code ln(w) + t/τ}
+     */
+    public static double of(double weight, long epochMillis, double timeConstant) {
+        return Math.log(weight) + epochMillis / timeConstant;
+    }
+
+    /**
+     * @return {@code ln(e^a + e^b)}
+     */
+    public static double add(double a, double b) {
+        double high = Math.max(a, b);
+        double low = Math.min(a, b);
+        return high + Math.log1p(Math.exp(low - high));
+    }
+
+    /**
+     * @return 로그 점수를 현재 시각 기준의 감쇠 점수로 바꾼 값
+     */
+    public static double decayed(double logScore, long nowMillis, double timeConstant) {
+        return Math.exp(logScore - nowMillis / timeConstant);
+    }
+}
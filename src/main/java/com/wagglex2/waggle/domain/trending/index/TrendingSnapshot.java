@@ -0,0 +1,52 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 인기 공고 목록과 전체 목록을 담은, 바뀌지 않는 스냅샷.
+ *
+ * <p>목록은 로그 점수 내림차순이며, 전체 목록은 카테고리별 목록을 합쳐 다시 정렬한 것이다.</p>
+ */
+public final class TrendingSnapshot {
+
+    static final TrendingSnapshot EMPTY = new TrendingSnapshot(Map.of(), List.of());
+
+    private static final Comparator<TrendingRecruitment> BY_SCORE =
+            Comparator.comparingDouble(TrendingRecruitment::logScore).reversed()
+                    .thenComparing(TrendingRecruitment::id, Comparator.reverseOrder());
+
+    private final Map<RecruitmentCategory, List<TrendingRecruitment>> byCategory;
+    private final List<TrendingRecruitment> all;
+
+    private TrendingSnapshot(Map<RecruitmentCategory, List<TrendingRecruitment>> byCategory,
+                             List<TrendingRecruitment> all) {
+        this.byCategory = byCategory;
+        this.all = all;
+    }
+
+    static TrendingSnapshot of(Map<RecruitmentCategory, List<TrendingRecruitment>> byCategory) {
+        Map<RecruitmentCategory, List<TrendingRecruitment>> sorted = new EnumMap<>(RecruitmentCategory.class);
+        List<TrendingRecruitment> all = new ArrayList<>();
+        byCategory.forEach((category, items) -> {
+            sorted.put(category, items.stream().sorted(BY_SCORE).toList());
+            all.addAll(items);
+        });
+        all.sort(BY_SCORE);
+        return new TrendingSnapshot(sorted, List.copyOf(all));
+    }
+
+    /**
+     * @param category 카테고리 (null이면 전체)
+     * @param size     최대 개수
+     */
+    public List<TrendingRecruitment> top(RecruitmentCategory category, int size) {
+        List<TrendingRecruitment> items = category == null ? all : byCategory.getOrDefault(category, List.of());
+        return items.subList(0, Math.min(size, items.size()));
+    }
+}
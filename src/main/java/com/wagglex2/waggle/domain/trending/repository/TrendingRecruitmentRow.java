@@ -0,0 +1,21 @@
+package com.wagglex2.waggle.domain.trending.repository;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 공고 후보의 상태 확인과 화면 표시용 단일 값 컬럼 (작성자 포함).
+ */
+public record TrendingRecruitmentRow(
+        Long id,
+        RecruitmentCategory category,
+        RecruitmentStatus status,
+        String title,
+        Long authorId,
+        String authorNickname,
+        LocalDateTime deadline,
+        int viewCount
+) {
+}
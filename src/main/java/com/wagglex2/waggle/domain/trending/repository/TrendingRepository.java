@@ -0,0 +1,20 @@
+package com.wagglex2.waggle.domain.trending.repository;
+
+import com.wagglex2.waggle.domain.common.entity.BaseRecruitment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TrendingRepository extends JpaRepository<BaseRecruitment, Long> {
+
+    @Query("SELECT new com.wagglex2.waggle.domain.trending.repository.TrendingRecruitmentRow(" +
+            "r.id, r.category, r.status, r.title, u.id, u.nickname, r.deadline, r.viewCount) " +
+            "FROM BaseRecruitment r JOIN r.user u " +
+            "WHERE r.id IN :ids")
+    List<TrendingRecruitmentRow> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+}
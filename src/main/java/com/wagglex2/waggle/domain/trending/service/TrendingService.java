@@ -0,0 +1,10 @@
+package com.wagglex2.waggle.domain.trending.service;
+
+import com.wagglex2.waggle.domain.trending.dto.request.TrendingRequestDto;
+import com.wagglex2.waggle.domain.trending.dto.response.TrendingResponseDto;
+
+import java.util.List;
+
+public interface TrendingService {
+    List<TrendingResponseDto> getTrending(TrendingRequestDto requestDto);
+}
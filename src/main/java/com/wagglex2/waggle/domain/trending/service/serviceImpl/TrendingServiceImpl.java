@@ -0,0 +1,34 @@
+package com.wagglex2.waggle.domain.trending.service.serviceImpl;
+
+import com.wagglex2.waggle.domain.trending.dto.request.TrendingRequestDto;
+import com.wagglex2.waggle.domain.trending.dto.response.TrendingResponseDto;
+import com.wagglex2.waggle.domain.trending.index.TrendingBoard;
+import com.wagglex2.waggle.domain.trending.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingServiceImpl implements TrendingService {
+    private final TrendingBoard trendingBoard;
+
+    /**
+     * 최근 조회가 몰린 모집 중인 공고를 시간 감쇠 인기 점수 순으로 조회한다.
+     *
+     * <p>Redis와 DB를 거치지 않고 몇 초마다 갱신되는 메모리 스냅샷만 읽는다.
+     * 스냅샷이 아직 만들어지지 않았으면 빈 목록을 반환한다.</p>
+     *
+     * @param requestDto 조회 조건
+     * @return 인기 점수 내림차순 공고
+     */
+    @Override
+    public List<TrendingResponseDto> getTrending(TrendingRequestDto requestDto) {
+        return trendingBoard.current()
+                .top(requestDto.category(), requestDto.sizeOrDefault())
+                .stream()
+                .map(TrendingResponseDto::from)
+                .toList();
+    }
+}
@@ -0,0 +1,86 @@
+package com.wagglex2.waggle.domain.user.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.BusinessException;
+import com.wagglex2.waggle.domain.common.cache.CacheInvalidationBus;
+import com.wagglex2.waggle.domain.user.dto.response.UserAuthInfo;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * 토큰 재발급 시 사용하는 사용자 정보({@link UserAuthInfo})의 단기 로컬 캐시.
+ *
+ * <p>Refresh 요청마다 users 테이블을 조회하지 않도록 짧은 TTL 동안 보관한다.
+ * 닉네임 변경, 회원 탈퇴 시에는 {@link #evict(Long)}로 커밋 후 제거하고,
+ * {@link CacheInvalidationBus}로 다른 노드의 캐시에서도 제거한다.</p>
+ *
+ * <ul>
+ *   <li>TTL : {@code auth.user-cache.ttl-seconds} (기본 300초)</li>
+ *   <li>최대 크기 : {@code auth.user-cache.max-size} (기본 10,000)</li>
+ * </ul>
+ */
+@Component
+public class UserAuthInfoCache {
+
+    private static final String CACHE_NAME = "user-auth-info";
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache<Long, UserAuthInfo> cache;
+
+    public UserAuthInfoCache(UserRepository userRepository,
+                             CacheInvalidationBus cacheInvalidationBus,
+                             @Value("${auth.user-cache.ttl-seconds:300}") long ttlSeconds,
+                             @Value("${auth.user-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        cacheInvalidationBus.register(CACHE_NAME, key -> cache.invalidate(Long.valueOf(key)), cache::invalidateAll);
+    }
+
+    /**
+     * 캐시에서 사용자 정보를 조회하고, 없으면 DB에서 읽어 저장한다.
+     *
+     * @param userId 사용자 ID
+     * @return 토큰 발급용 사용자 정보
+     * @throws BusinessException USER_NOT_FOUND 사용자가 존재하지 않는 경우 (캐시되지 않음)
+     */
+    public UserAuthInfo get(Long userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .map(UserAuthInfo::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    /**
+     * 트랜잭션 안에서 호출하면 커밋 후에 제거한다. 커밋 전에 지우면 그 사이의 조회가 변경 전 값을 다시 채울 수 있고,
+     * 롤백되면 지울 필요가 없기 때문이다.
+     */
+    public void evict(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    private void invalidate(Long userId) {
+        cache.invalidate(userId);
+        cacheInvalidationBus.publish(CACHE_NAME, String.valueOf(userId));
+    }
+}
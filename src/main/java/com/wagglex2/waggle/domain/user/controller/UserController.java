@@ -4,7 +4,10 @@ import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
 import com.wagglex2.waggle.common.response.ApiResponse;
 import com.wagglex2.waggle.common.security.CustomUserDetails;
+import com.wagglex2.waggle.domain.common.dto.request.CursorRequestDto;
+import com.wagglex2.waggle.domain.common.dto.response.CursorResponse;
 import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.type.PageMode;
 import com.wagglex2.waggle.domain.review.dto.response.ReviewResponseDto;
 import com.wagglex2.waggle.domain.review.service.ReviewService;
 import com.wagglex2.waggle.domain.user.dto.request.PasswordRequestDto;
@@ -230,7 +233,8 @@ public class UserController {
      * <ol>
      *   <li>요청 경로의 {@code userId}로 대상 사용자 존재 여부를 확인한다. 존재하지 않을 경우 {@link BusinessException} 발생.</li>
      *   <li>Spring MVC가 요청 파라미터({@code page}, {@code size}, {@code sort})를 {@link Pageable} 객체로 자동 변환한다.</li>
-     *   <li>{@code reviewService.getReviewsByRevieweeId()}를 호출해 해당 사용자가 받은 리뷰를 조회한다.</li>
+     *   <li>{@code reviewService.getReviewsByRevieweeId()}를 호출해 해당 사용자가 받은 리뷰를 조회한다.
+     *       전체 개수는 COUNT 쿼리 없이 캐시된 근사값({@link PageMode#APPROXIMATE})을 사용한다.</li>
      *   <li>서비스 계층에서 조회 결과를 {@link PageResponse}<{@link ReviewResponseDto}> 형태로 변환하여 반환한다.</li>
      *   <li>컨트롤러는 이를 {@link ApiResponse}로 감싸 200 OK 응답을 반환한다.</li>
      * </ol>
@@ -260,7 +264,37 @@ public class UserController {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
-        PageResponse<ReviewResponseDto> data = reviewService.getReviewsByRevieweeId(userId, pageable);
+        PageResponse<ReviewResponseDto> data = reviewService.getReviewsByRevieweeId(userId, pageable, PageMode.APPROXIMATE);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.ok("리뷰 조회에 성공했습니다.", data));
+    }
+
+    /**
+     * 특정 사용자가 <b>받은 리뷰 목록</b>을 커서 기반으로 조회한다.
+     *
+     * <p><b>요청 파라미터 예시:</b></p>
+     * <ul>
+     *   <li>{@code GET /users/3/reviews/received/cursor?size=5} (첫 페이지)</li>
+     *   <li>{@code GET /users/3/reviews/received/cursor?cursor={nextCursor}&size=5} (다음 페이지)</li>
+     * </ul>
+     *
+     * @param userId        리뷰 대상 사용자의 고유 ID (경로 변수)
+     * @param cursorRequest 커서와 조회 개수 (기본값: size=5)
+     * @return 받은 리뷰 목록과 다음 커서를 포함한 {@link ApiResponse} (200 OK)
+     * @throws BusinessException 대상 사용자가 존재하지 않을 경우 {@link ErrorCode#USER_NOT_FOUND} 발생
+     */
+    @GetMapping("/{userId}/reviews/received/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<CursorResponse<ReviewResponseDto>>> scrollReviews(
+            @PathVariable(name = "userId") Long userId,
+            @ModelAttribute @Valid CursorRequestDto cursorRequest
+    ) {
+        if (!userService.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        CursorResponse<ReviewResponseDto> data = reviewService.scrollReviewsByRevieweeId(userId, cursorRequest);
 
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.ok("리뷰 조회에 성공했습니다.", data));
@@ -0,0 +1,27 @@
+package com.wagglex2.waggle.domain.user.dto.response;
+
+import com.wagglex2.waggle.domain.user.entity.User;
+
+/**
+ * 토큰 발급에 필요한 사용자 정보만 담은 불변 객체.
+ *
+ * <p>AccessToken 클레임(uid, username, nickname, role)을 만들 때 사용하며,
+ * User 엔티티 대신 캐시에 보관된다.</p>
+ *
+ * @see com.wagglex2.waggle.domain.user.cache.UserAuthInfoCache
+ */
+public record UserAuthInfo(
+        Long userId,
+        String username,
+        String nickname,
+        String role
+) {
+    public static UserAuthInfo from(User user) {
+        return new UserAuthInfo(
+                user.getId(),
+                user.getUsername(),
+                user.getNickname(),
+                user.getRole().name()
+        );
+    }
+}
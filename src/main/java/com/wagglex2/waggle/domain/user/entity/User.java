@@ -2,6 +2,7 @@ package com.wagglex2.waggle.domain.user.entity;
 
 import com.wagglex2.waggle.domain.common.type.PositionType;
 import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMaskConverter;
 import com.wagglex2.waggle.domain.user.entity.type.University;
 import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
 import com.wagglex2.waggle.domain.user.entity.type.UserStatus;
@@ -15,6 +16,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.Set;
 
 /**
@@ -31,6 +33,7 @@ import java.util.Set;
  *     <li>grade : 학년 (예: 1 ~ 4)</li>
  *     <li>{@link PositionType} : 자신이 맡고 싶은 포지션 (백엔드, 프론트엔드 등) 1개 선택</li>
  *     <li>{@link Skill} : 자신이 가지고 있는 기술 스택 </li>
+ *     <li>skillMask : 기술 스택의 비트마스크 (skill_mask, 기술 스택 조건 검색 전용 비정규화 컬럼)</li>
  *     <li>shortIntro : 짧은 자기소개 (Markdown)</li>
  *     <li>{@link UserRoleType} : 사용자 권한 (ROLE_USER, ROLE_ADMIN 등)</li>
  *     <li>createdAt, updateAt : 생성/수정 시간 (Auditing)</li>
@@ -79,6 +82,11 @@ public class User {
     @Column(name = "skill", nullable = false)
     private Set<Skill> skills;
 
+    // skills와 항상 함께 바꾼다.
+    @Column(name = "skill_mask", nullable = false)
+    @Convert(converter = SkillMaskConverter.class)
+    private EnumSet<Skill> skillMask = EnumSet.noneOf(Skill.class);
+
     @Column(nullable = false, columnDefinition = "TEXT")
     private String shortIntro;
 
@@ -110,6 +118,7 @@ public class User {
         this.grade = grade;
         this.position = position;
         this.skills = skills;
+        changeSkillMask(skills);
         this.shortIntro = shortIntro;
         this.role = role;
     }
@@ -132,12 +141,20 @@ public class User {
 
     public void updateSkills(Set<Skill> skills) {
         this.skills = skills;
+        changeSkillMask(skills);
     }
 
     public void updateShortIntro(String shortIntro) {
         this.shortIntro = shortIntro;
     }
 
+    // 변경 감지가 동작하도록 기존 집합을 수정하지 않고 새 집합으로 바꾼다.
+    private void changeSkillMask(Set<Skill> skills) {
+        this.skillMask = skills == null || skills.isEmpty()
+                ? EnumSet.noneOf(Skill.class)
+                : EnumSet.copyOf(skills);
+    }
+
     public void withdraw() {
         this.status = UserStatus.WITHDRAWN;
     }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -24,4 +25,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.skills WHERE u.id = :id")
     Optional<User> findByIdWithSkills(@Param("id") Long id);
+
+    /**
+     * 주어진 기술 스택을 모두 가진 활동 중인 사용자를 조회한다.
+     * user_skills를 조인하지 않고 skill_mask 컬럼의 비트 연산으로 비교한다.
+     *
+     * @param mask 조건 기술 스택의 비트마스크 ({@code SkillMask.of(skills)})
+     */
+    @Query("SELECT u FROM User u WHERE u.status = com.wagglex2.waggle.domain.user.entity.type.UserStatus.ACTIVE " +
+            "AND bitand(cast(u.skillMask as Long), cast(:mask as Long)) = :mask ORDER BY u.id")
+    List<User> findAllHavingAllSkills(@Param("mask") long mask);
+
+    /**
+     * 주어진 기술 스택 중 하나라도 가진 활동 중인 사용자를 조회한다.
+     *
+     * @param mask 조건 기술 스택의 비트마스크 ({@code SkillMask.of(skills)})
+     */
+    @Query("SELECT u FROM User u WHERE u.status = com.wagglex2.waggle.domain.user.entity.type.UserStatus.ACTIVE " +
+            "AND bitand(cast(u.skillMask as Long), cast(:mask as Long)) <> 0 ORDER BY u.id")
+    List<User> findAllHavingAnySkill(@Param("mask") long mask);
 }
@@ -16,6 +16,7 @@ public interface UserService {
     boolean existsByNickname(String nickname);
     Long signUp(SignUpRequestDto dto);
     void changePassword(Long userId, PasswordRequestDto dto);
+    User upgradePassword(String username, String encodedPassword);
     UserResponseDto getUserInfo(Long userId);
     UserResponseDto updateUserInfo(Long userId, UserUpdateRequestDto dto);
     void withdraw(Long userId, String rawPassword);
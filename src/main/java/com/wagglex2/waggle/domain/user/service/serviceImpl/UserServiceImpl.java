@@ -3,6 +3,8 @@ package com.wagglex2.waggle.domain.user.service.serviceImpl;
 import com.wagglex2.waggle.common.error.ErrorCode;
 import com.wagglex2.waggle.common.exception.BusinessException;
 import com.wagglex2.waggle.domain.auth.dto.request.SignUpRequestDto;
+import com.wagglex2.waggle.domain.auth.repository.RefreshTokenRepository;
+import com.wagglex2.waggle.domain.user.cache.UserAuthInfoCache;
 import com.wagglex2.waggle.domain.user.dto.request.PasswordRequestDto;
 import com.wagglex2.waggle.domain.user.dto.request.UserUpdateRequestDto;
 import com.wagglex2.waggle.domain.user.dto.response.UserResponseDto;
@@ -12,10 +14,10 @@ import com.wagglex2.waggle.domain.user.repository.UserRepository;
 import com.wagglex2.waggle.domain.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -25,11 +27,10 @@ import org.springframework.util.StringUtils;
 @Slf4j
 public class UserServiceImpl implements UserService {
 
-    private static final String REFRESH_TOKEN_PREFIX = "RT:";
-
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserAuthInfoCache userAuthInfoCache;
 
     @Override
     public User findByUsername(String username) {
@@ -139,6 +140,26 @@ public class UserServiceImpl implements UserService {
         log.info("비밀번호 변경 성공 : userId = {}", userId);
     }
 
+    /**
+     * 로그인 성공 후 더 높은 BCrypt strength로 다시 만든 해시를 저장한다.
+     *
+     * <p>평문 비밀번호 검증은 이미 인증 과정에서 끝났으므로 해시만 교체한다.</p>
+     *
+     * <p>로그인은 읽기 전용 트랜잭션 안에서 인증하므로, 그 트랜잭션에 참여하면 변경이 flush되지 않는다.
+     * 별도 트랜잭션으로 바로 커밋한다.</p>
+     *
+     * @param username        사용자 아이디
+     * @param encodedPassword 새 strength로 암호화된 비밀번호
+     * @return 갱신된 사용자
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public User upgradePassword(String username, String encodedPassword) {
+        User user = findByUsername(username);
+        user.changePassword(encodedPassword);
+        return user;
+    }
+
     /**
      * 주어진 userId를 기반으로 사용자 정보를 조회하고 DTO로 변환한다.
      *
@@ -195,6 +216,7 @@ public class UserServiceImpl implements UserService {
                 throw new BusinessException(ErrorCode.DUPLICATED_NICKNAME);
             }
             user.updateNickname(dto.nickname());
+            userAuthInfoCache.evict(userId);
         }
 
         if (dto.grade() != null) {
@@ -227,7 +249,7 @@ public class UserServiceImpl implements UserService {
      *   <li>입력받은 비밀번호(rawPassword)와 저장된 비밀번호 해시 비교</li>
      *   <li>이미 탈퇴된 회원인지 상태 검증</li>
      *   <li>탈퇴 처리 (Soft Delete: {@link UserStatus#WITHDRAWN})</li>
-     *   <li>Redis에 저장된 Refresh Token 제거 (재로그인 차단)</li>
+     *   <li>Redis에 저장된 모든 기기의 Refresh 세션 일괄 제거 (재로그인 차단)</li>
      *   <li>로그 출력</li>
      * </ol>
      *
@@ -251,8 +273,8 @@ public class UserServiceImpl implements UserService {
 
         user.withdraw();
 
-        String redisKey = REFRESH_TOKEN_PREFIX + userId;
-        redisTemplate.delete(redisKey);
+        refreshTokenRepository.deleteAll(userId);
+        userAuthInfoCache.evict(userId);
 
         log.info("회원 탈퇴 성공 : userId = {}", userId);
     }
@@ -0,0 +1,68 @@
+-- skill_mask 컬럼을 추가하고 기존 기술 스택 컬렉션으로 값을 채운다. (MySQL)
+--
+-- 운영 환경은 spring.jpa.hibernate.ddl-auto=validate이므로 새 버전을 배포하기 전에 한 번 실행한다.
+-- 컬럼만 추가하고 채우지 않으면 기존 공고와 사용자의 마스크가 0이 되어 기술 스택 필터에서 빠진다.
+-- ALTER 문은 한 번만 실행한다. ddl-auto=update인 개발 환경처럼 컬럼이 이미 생긴 경우에는 ALTER를 건너뛰고
+-- 나머지를 실행하면 된다. 값은 매번 컬렉션에서 다시 계산하므로 채우는 부분은 여러 번 실행해도 결과가 같다.
+--
+-- 비트 위치는 Skill#getBit()과 같아야 한다. (MaskMigrationScriptTest가 확인한다.)
+
+ALTER TABLE base_recruitments ADD COLUMN skill_mask BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN skill_mask BIGINT NOT NULL DEFAULT 0;
+
+CREATE TEMPORARY TABLE skill_bits (
+    skill VARCHAR(32) PRIMARY KEY,
+    bit   INT         NOT NULL
+);
+
+INSERT INTO skill_bits (skill, bit) VALUES
+    ('HTML', 0),
+    ('CSS', 1),
+    ('JAVASCRIPT', 2),
+    ('JAVA', 3),
+    ('KOTLIN', 4),
+    ('PYTHON', 5),
+    ('SWIFT', 6),
+    ('C_CPP', 7),
+    ('CSHARP', 8),
+    ('TYPESCRIPT', 9),
+    ('REACT', 10),
+    ('NODE_JS', 11),
+    ('EXPRESS', 12),
+    ('VUE_JS', 13),
+    ('NEXT_JS', 14),
+    ('SPRING_BOOT', 15),
+    ('DJANGO', 16),
+    ('PANDAS', 17),
+    ('SCIKIT_LEARN', 18),
+    ('PYTORCH', 19),
+    ('TENSORFLOW', 20),
+    ('FLUTTER', 21),
+    ('MYSQL', 22),
+    ('REDIS', 23),
+    ('MONGODB', 24),
+    ('POSTGRESQL', 25),
+    ('GIT_GITHUB', 26),
+    ('GITHUB_ACTIONS', 27),
+    ('FIGMA', 28),
+    ('NOTION', 29),
+    ('JIRA', 30),
+    ('DOCKER', 31),
+    ('UNITY', 32),
+    ('UNREAL', 33);
+
+UPDATE base_recruitments r
+    JOIN (SELECT rs.recruitment_id, BIT_OR(1 << sb.bit) AS mask
+          FROM recruitment_skills rs
+                   JOIN skill_bits sb ON sb.skill = rs.skills
+          GROUP BY rs.recruitment_id) m ON m.recruitment_id = r.id
+SET r.skill_mask = m.mask;
+
+UPDATE users u
+    JOIN (SELECT us.user_id, BIT_OR(1 << sb.bit) AS mask
+          FROM user_skills us
+                   JOIN skill_bits sb ON sb.skill = us.skill
+          GROUP BY us.user_id) m ON m.user_id = u.id
+SET u.skill_mask = m.mask;
+
+DROP TEMPORARY TABLE skill_bits;
@@ -0,0 +1,46 @@
+-- grade_mask, open_position_mask 컬럼을 추가하고 기존 컬렉션으로 값을 채운다. (MySQL)
+--
+-- 운영 환경은 spring.jpa.hibernate.ddl-auto=validate이므로 새 버전을 배포하기 전에 한 번 실행한다.
+-- 상세 조회는 학년을 grade_mask로 다시 만들고 목록은 open_position_mask로 포지션을 필터링하므로,
+-- 채우지 않으면 기존 공고의 학년과 모집 중 포지션이 비어 보인다.
+-- ALTER 문은 한 번만 실행한다. ddl-auto=update인 개발 환경처럼 컬럼이 이미 생긴 경우에는 ALTER를 건너뛰고
+-- 나머지를 실행하면 된다. 값은 매번 컬렉션에서 다시 계산하므로 채우는 부분은 여러 번 실행해도 결과가 같다.
+--
+-- 학년 n은 n-1번째 비트(GradeMask), 포지션 비트 위치는 PositionType#getBit()과 같아야 한다.
+-- (MaskMigrationScriptTest가 확인한다.)
+
+ALTER TABLE base_recruitments ADD COLUMN grade_mask INT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN open_position_mask INT NOT NULL DEFAULT 0;
+
+UPDATE base_recruitments r
+    JOIN (SELECT recruitment_id, BIT_OR(1 << (grades - 1)) AS mask
+          FROM recruitment_grades
+          WHERE grades BETWEEN 1 AND 4
+          GROUP BY recruitment_id) m ON m.recruitment_id = r.id
+SET r.grade_mask = m.mask;
+
+CREATE TEMPORARY TABLE position_bits (
+    position VARCHAR(32) PRIMARY KEY,
+    bit      INT         NOT NULL
+);
+
+INSERT INTO position_bits (position, bit) VALUES
+    ('FULL_STACK', 0),
+    ('FRONT_END', 1),
+    ('BACK_END', 2),
+    ('DATA', 3),
+    ('AI', 4),
+    ('GAME', 5),
+    ('PLANNER', 6),
+    ('DESIGNER', 7);
+
+-- 모집 인원이 남은 포지션만 비트를 켠다. (PositionMask#openOf)
+UPDATE projects p
+    LEFT JOIN (SELECT rp.recruitment_id, BIT_OR(1 << pb.bit) AS mask
+               FROM recruitment_positions rp
+                        JOIN position_bits pb ON pb.position = rp.position
+               WHERE rp.curr_participants < rp.max_participants
+               GROUP BY rp.recruitment_id) m ON m.recruitment_id = p.id
+SET p.open_position_mask = COALESCE(m.mask, 0);
+
+DROP TEMPORARY TABLE position_bits;
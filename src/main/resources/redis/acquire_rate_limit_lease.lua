@@ -0,0 +1,39 @@
+-- 전역 토큰 버킷에서 토큰을 묶음(lease)으로 가져간다.
+--
+-- KEYS[1] : RL:{name}:{key} (Hash : tokens, ts)
+-- ARGV[1] : capacity      버킷 최대 토큰 수
+-- ARGV[2] : refillPerMs   ms당 충전되는 토큰 수
+-- ARGV[3] : now           현재 시각 (ms)
+-- ARGV[4] : requested     가져갈 토큰 수
+--
+-- 반환 : 가져간 토큰 수 (> 0), 토큰이 없으면 다음 토큰까지 남은 시간(ms)을 음수로 반환
+
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local now = tonumber(ARGV[3])
+local requested = tonumber(ARGV[4])
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+
+if tokens == nil then
+    tokens = capacity
+    ts = now
+end
+
+if now > ts then
+    tokens = math.min(capacity, tokens + (now - ts) * rate)
+end
+
+local granted = math.min(math.floor(tokens), requested)
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+
+if granted > 0 then
+    return granted
+end
+
+return -math.max(1, math.ceil((1 - tokens) / rate))
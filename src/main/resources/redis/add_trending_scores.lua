@@ -0,0 +1,22 @@
+-- 인기 공고 점수를 로그 스케일로 누적하고, 상위 공고만 남긴다.
+-- KEYS[1] : TR:{category} (Sorted Set, recruitmentId -> ln(시간 감쇠 점수 합))
+-- ARGV[1] : 카테고리별 최대 공고 수
+-- ARGV[2k], ARGV[2k+1] : recruitmentId, ln(가중치) + 이벤트 시각 / 시간 상수
+-- return  : 개수 제한으로 제거된 공고 수
+--
+-- 점수를 ln(Σ wᵢ·e^(tᵢ/τ))로 저장하므로 기존 점수 s에 x를 더하는 연산은 log-sum-exp가 된다.
+-- 모든 공고가 같은 비율로 감쇠하므로 저장된 점수를 다시 쓰지 않아도 순위가 곧 현재 감쇠 점수의 순위다.
+local maxSize = tonumber(ARGV[1])
+
+for i = 2, #ARGV, 2 do
+    local member = ARGV[i]
+    local x = tonumber(ARGV[i + 1])
+    local s = tonumber(redis.call('ZSCORE', KEYS[1], member))
+    if s then
+        local high, low = math.max(s, x), math.min(s, x)
+        x = high + math.log(1 + math.exp(low - high))
+    end
+    redis.call('ZADD', KEYS[1], x, member)
+end
+
+return redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(maxSize + 1))
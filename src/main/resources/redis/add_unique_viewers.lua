@@ -0,0 +1,22 @@
+-- 공고의 고유 조회자를 HyperLogLog에 추가하고, 마지막으로 보고한 뒤 늘어난 고유 조회자 수를 반환한다.
+-- KEYS[1] : VW:{recruitmentId}:hll      (HyperLogLog, userId)
+-- KEYS[2] : VW:{recruitmentId}:reported (String, DB에 반영하도록 보고한 고유 조회자 수)
+-- ARGV[1] : TTL (seconds)
+-- ARGV[2..] : userId
+-- return  : 새로 보고할 고유 조회자 수 (0 이상)
+--
+-- 여러 노드가 같은 공고를 동시에 보고해도 늘어난 수는 한 노드에만 돌려주므로 DB에 중복 반영되지 않는다.
+local ttl = tonumber(ARGV[1])
+
+redis.call('PFADD', KEYS[1], unpack(ARGV, 2))
+local count = redis.call('PFCOUNT', KEYS[1])
+local reported = tonumber(redis.call('GET', KEYS[2]) or '0')
+
+redis.call('EXPIRE', KEYS[1], ttl)
+if count <= reported then
+    redis.call('EXPIRE', KEYS[2], ttl)
+    return 0
+end
+
+redis.call('SET', KEYS[2], count, 'EX', ttl)
+return count - reported
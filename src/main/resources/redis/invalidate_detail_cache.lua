@@ -0,0 +1,11 @@
+-- 공고 상세 응답을 지우고 무효화 버전을 올린다.
+-- KEYS[1] : RD:{category:recruitmentId}     (String, 직렬화된 상세 응답)
+-- KEYS[2] : RD:{category:recruitmentId}:ver (String, 무효화 버전)
+-- ARGV[1] : 버전 TTL (seconds, DB 조회에 걸리는 시간보다 충분히 길어야 한다)
+-- return  : 올린 버전
+--
+-- 버전을 올리므로 무효화 전에 DB를 읽은 요청은 put_detail_cache.lua에서 저장하지 못한다.
+local version = redis.call('INCR', KEYS[2])
+redis.call('EXPIRE', KEYS[2], tonumber(ARGV[1]))
+redis.call('DEL', KEYS[1])
+return version
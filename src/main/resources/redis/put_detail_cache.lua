@@ -0,0 +1,16 @@
+-- 무효화 버전이 읽을 때와 같을 때만 공고 상세 응답을 저장한다.
+-- KEYS[1] : RD:{category:recruitmentId}     (String, 직렬화된 상세 응답)
+-- KEYS[2] : RD:{category:recruitmentId}:ver (String, 무효화 버전)
+-- ARGV[1] : DB를 읽기 전에 확인한 버전 (키가 없으면 0)
+-- ARGV[2] : 직렬화된 상세 응답
+-- ARGV[3] : TTL (seconds)
+-- return  : 저장했으면 1, 그 사이 무효화되어 버렸으면 0
+--
+-- DB를 읽은 뒤 저장하기 전에 수정/취소가 커밋되어 무효화되면, 수정 전 응답이 캐시에 남지 않도록 버린다.
+local version = redis.call('GET', KEYS[2]) or '0'
+if version ~= ARGV[1] then
+    return 0
+end
+
+redis.call('SET', KEYS[1], ARGV[2], 'EX', tonumber(ARGV[3]))
+return 1
@@ -0,0 +1,21 @@
+-- Refresh 세션 토큰 Compare-And-Swap
+-- KEYS[1] : RT:{userId}:tokens (Hash, sessionId -> Refresh Token)
+-- KEYS[2] : RT:{userId}:index  (Sorted Set, sessionId -> 마지막 사용 시각(ms))
+-- ARGV[1] : sessionId
+-- ARGV[2] : 클라이언트가 제출한 기존 Refresh Token
+-- ARGV[3] : 새로 발급한 Refresh Token
+-- ARGV[4] : 현재 시각 (ms)
+-- ARGV[5] : TTL (ms)
+-- return  : 1 = 교체 성공, 0 = 저장된 토큰과 불일치, -1 = 세션 없음(만료, 제거)
+local stored = redis.call('HGET', KEYS[1], ARGV[1])
+if not stored then
+    return -1
+end
+if stored ~= ARGV[2] then
+    return 0
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+redis.call('ZADD', KEYS[2], ARGV[4], ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[5])
+redis.call('PEXPIRE', KEYS[2], ARGV[5])
+return 1
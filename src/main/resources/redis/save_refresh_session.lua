@@ -0,0 +1,35 @@
+-- 사용자별 Refresh 세션 저장 (최대 개수 초과 시 가장 오래된 세션 제거)
+-- KEYS[1] : RT:{userId}:tokens (Hash, sessionId -> Refresh Token)
+-- KEYS[2] : RT:{userId}:index  (Sorted Set, sessionId -> 마지막 사용 시각(ms))
+-- ARGV[1] : sessionId
+-- ARGV[2] : Refresh Token
+-- ARGV[3] : 현재 시각 (ms)
+-- ARGV[4] : TTL (ms)
+-- ARGV[5] : 사용자당 최대 세션 수
+-- return  : 제거된 세션 수
+local sid, token = ARGV[1], ARGV[2]
+local now, ttl, max = tonumber(ARGV[3]), tonumber(ARGV[4]), tonumber(ARGV[5])
+
+-- TTL 동안 사용되지 않은 세션 정리
+local stale = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now - ttl)
+if #stale > 0 then
+    redis.call('HDEL', KEYS[1], unpack(stale))
+    redis.call('ZREM', KEYS[2], unpack(stale))
+end
+
+redis.call('HSET', KEYS[1], sid, token)
+redis.call('ZADD', KEYS[2], now, sid)
+
+-- 최대 개수를 넘으면 가장 오래 사용되지 않은 세션부터 제거
+local overflow = redis.call('ZCARD', KEYS[2]) - max
+if overflow > 0 then
+    local evicted = redis.call('ZRANGE', KEYS[2], 0, overflow - 1)
+    redis.call('HDEL', KEYS[1], unpack(evicted))
+    redis.call('ZREMRANGEBYRANK', KEYS[2], 0, overflow - 1)
+else
+    overflow = 0
+end
+
+redis.call('PEXPIRE', KEYS[1], ttl)
+redis.call('PEXPIRE', KEYS[2], ttl)
+return #stale + overflow
@@ -0,0 +1,183 @@
+package com.wagglex2.waggle.common.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private MailDeadLetterRepository deadLetterRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("대기열에 넣은 메일은 워커가 열어 둔 SMTP 연결로 모두 발송된다.")
+    void enqueue_deliversAllMessages() throws Exception {
+        // given
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 100, 2, 3);
+        dispatcher.start();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            dispatcher.enqueue(job("user" + i + "@waggle.com"));
+        }
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 20)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("와글와글 회원가입 이메일 인증");
+    }
+
+    @Test
+    @DisplayName("SMTP 서버에 연결할 수 없으면 재시도 후 Dead Letter로 기록한다.")
+    void enqueue_recordsDeadLetterAfterRetries() throws Exception {
+        // given
+        dispatcher = dispatcher(unusedPort(), 100, 1, 2);
+        dispatcher.start();
+
+        // when
+        dispatcher.enqueue(job("user@waggle.com"));
+
+        // then
+        verify(deadLetterRepository, timeout(5000)).save(any(MailJob.class), anyString());
+    }
+
+    @Test
+    @DisplayName("열어 둔 SMTP 연결이 끊겨 있으면 재시도로 미루지 않고 바로 다시 연결해 발송한다.")
+    void enqueue_reconnectsWhenConnectionIsDropped() throws Exception {
+        // given
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 100, 1, 3);
+        dispatcher.start();
+        dispatcher.enqueue(job("first@waggle.com"));
+        awaitCount("mail.dispatch.sent");
+
+        // when : 서버가 재시작되어 워커가 열어 둔 연결이 끊긴다.
+        greenMail.reset();
+        dispatcher.enqueue(job("second@waggle.com"));
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        assertThat(meterRegistry.counter("mail.dispatch.retried").count()).isZero();
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("종료할 때 예약된 재시도를 버리지 않고 Dead Letter로 기록한다.")
+    void stop_recordsScheduledRetriesAsDeadLetters() throws Exception {
+        // given : 연결에 실패한 메일의 재시도가 1분 뒤로 예약되어 있다.
+        dispatcher = dispatcher(unusedPort(), 100, 1, 3, 60_000);
+        dispatcher.start();
+        MailJob failed = job("failed@waggle.com");
+        dispatcher.enqueue(failed);
+        awaitCount("mail.dispatch.retried");
+
+        // when
+        dispatcher.stop();
+
+        // then
+        verify(deadLetterRepository).save(failed, "dispatcher stopped");
+    }
+
+    @Test
+    @DisplayName("종료할 때 대기열에 남은 메일을 Dead Letter로 기록한다.")
+    void stop_recordsQueuedJobsAsDeadLetters() {
+        // given : 워커를 시작하지 않아 대기열이 비워지지 않는다.
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 10, 1, 3);
+        MailJob queued = job("queued@waggle.com");
+        dispatcher.enqueue(queued);
+
+        // when
+        dispatcher.stop();
+
+        // then
+        verify(deadLetterRepository).save(queued, "dispatcher stopped");
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 EMAIL_QUEUE_FULL로 거절한다.")
+    void enqueue_rejectsWhenQueueIsFull() {
+        // given : 워커를 시작하지 않아 대기열이 비워지지 않는다.
+        dispatcher = dispatcher(ServerSetupTest.SMTP.getPort(), 1, 1, 3);
+        dispatcher.enqueue(job("first@waggle.com"));
+
+        // when & then
+        assertThatThrownBy(() -> dispatcher.enqueue(job("second@waggle.com")))
+                .isInstanceOf(RetryableBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.EMAIL_QUEUE_FULL);
+    }
+
+    private MailDispatcher dispatcher(int port, int queueCapacity, int workers, int maxAttempts) {
+        return dispatcher(port, queueCapacity, workers, maxAttempts, 10);
+    }
+
+    private MailDispatcher dispatcher(int port, int queueCapacity, int workers, int maxAttempts, long backoffMillis) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+
+        return new MailDispatcher(mailSender, deadLetterRepository, meterRegistry,
+                queueCapacity, workers, 5, maxAttempts, backoffMillis, 30_000);
+    }
+
+    private void awaitCount(String counter) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter(counter).count() == 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private MailJob job(String recipient) {
+        return MailJob.of(recipient, "와글와글 회원가입 이메일 인증", message -> {
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+            helper.setFrom("noreply@waggle.com");
+            helper.setTo(recipient);
+            helper.setSubject("와글와글 회원가입 이메일 인증");
+            helper.setText("<html><body>123456</body></html>", true);
+        });
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
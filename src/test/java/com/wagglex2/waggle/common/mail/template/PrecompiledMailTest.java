@@ -0,0 +1,78 @@
+package com.wagglex2.waggle.common.mail.template;
+
+import jakarta.mail.Message;
+import jakarta.mail.Multipart;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrecompiledMailTest {
+
+    private final Session session = Session.getInstance(new Properties());
+
+    @Test
+    @DisplayName("템플릿은 슬롯에 값을 채워 렌더링하며, 값이 없거나 고정 길이와 다르면 예외가 발생한다.")
+    void render_fillsSlots() {
+        // given
+        MailTemplate template = MailTemplate.compile("greeting", "<p>{{name}}님, 인증번호는 {{code:6}}입니다.</p>");
+
+        // when
+        String rendered = template.render(Map.of("name", "와글", "code", "012345"));
+
+        // then
+        assertThat(rendered).isEqualTo("<p>와글님, 인증번호는 012345입니다.</p>");
+        assertThatThrownBy(() -> template.render(Map.of("name", "와글")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> template.render(Map.of("name", "와글", "code", "1234")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("미리 인코딩한 인증 메일은 디코딩했을 때 템플릿 렌더링 결과와 같다.")
+    void prepare_matchesRenderedTemplate() throws Exception {
+        // given
+        MailTemplate template = new MailTemplateRegistry().get("verification-code");
+        PrecompiledMail mail = PrecompiledMail.of(template, "noreply@waggle.com", "와글와글 회원가입 이메일 인증");
+
+        for (String code : new String[]{"000000", "123456", "987654"}) {
+            // when
+            MimeMessage message = new MimeMessage(session);
+            mail.prepare(message, "student@waggle.com", Map.of("code", code));
+            MimeMessage parsed = roundTrip(message);
+
+            // then
+            Multipart multipart = (Multipart) parsed.getContent();
+            assertThat(multipart.getBodyPart(0).getContent())
+                    .isEqualTo(template.render(Map.of("code", code)));
+            assertThat(parsed.getSubject()).isEqualTo("와글와글 회원가입 이메일 인증");
+            assertThat(parsed.getRecipients(Message.RecipientType.TO)[0].toString()).isEqualTo("student@waggle.com");
+        }
+    }
+
+    @Test
+    @DisplayName("가변 길이 슬롯이 있는 템플릿은 미리 인코딩할 수 없다.")
+    void of_rejectsVariableWidthSlot() {
+        // given
+        MailTemplate template = MailTemplate.compile("greeting", "<p>{{name}}</p>");
+
+        // when & then
+        assertThatThrownBy(() -> PrecompiledMail.of(template, "noreply@waggle.com", "제목"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MimeMessage roundTrip(MimeMessage message) throws Exception {
+        message.saveChanges();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return new MimeMessage(session, new ByteArrayInputStream(out.toByteArray()));
+    }
+}
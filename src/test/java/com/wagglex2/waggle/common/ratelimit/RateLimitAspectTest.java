@@ -0,0 +1,84 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitAspectTest {
+
+    @Mock
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private RateLimitAspect aspect;
+
+    @RateLimit(name = "sign-in:ip", key = "'127.0.0.1'", capacity = 20, periodSeconds = 60)
+    @RateLimit(name = "sign-in:username", key = "'user1'", capacity = 5, periodSeconds = 60)
+    private static void signIn() {
+    }
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        aspect = new RateLimitAspect(rateLimiter);
+        Method method = RateLimitAspectTest.class.getDeclaredMethod("signIn");
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(signature.getMethod()).willReturn(method);
+        given(joinPoint.getArgs()).willReturn(new Object[0]);
+    }
+
+    @Test
+    @DisplayName("이미 거절 중인 제한이 있으면 다른 제한의 토큰을 소비하지 않는다.")
+    void checkRateLimit_checksAllLimitsBeforeSpending() throws Throwable {
+        // given
+        given(rateLimiter.blockedFor(any(), anyString())).willAnswer(invocation ->
+                invocation.<RateLimit>getArgument(0).name().equals("sign-in:username") ? 3000L : 0L);
+
+        // when & then
+        assertThatThrownBy(() -> aspect.checkRateLimit(joinPoint)).isInstanceOf(RetryableBusinessException.class);
+        verify(rateLimiter, never()).tryAcquire(any(), anyString());
+        verify(joinPoint, never()).proceed();
+    }
+
+    @Test
+    @DisplayName("뒤쪽 제한에서 거절되면 앞서 소비한 토큰을 돌려준다.")
+    void checkRateLimit_releasesSpentTokensOnRejection() throws Throwable {
+        // given
+        given(rateLimiter.tryAcquire(named("sign-in:ip"), eq("127.0.0.1")))
+                .willReturn(0L);
+        given(rateLimiter.tryAcquire(named("sign-in:username"), eq("user1")))
+                .willReturn(3000L);
+
+        // when & then
+        assertThatThrownBy(() -> aspect.checkRateLimit(joinPoint)).isInstanceOf(RetryableBusinessException.class);
+        verify(rateLimiter).release(named("sign-in:ip"), eq("127.0.0.1"));
+        verify(rateLimiter, never()).release(named("sign-in:username"), anyString());
+        verify(joinPoint, never()).proceed();
+    }
+
+    private static RateLimit named(String name) {
+        return argThat(limit -> limit != null && limit.name().equals(name));
+    }
+}
@@ -0,0 +1,126 @@
+package com.wagglex2.waggle.common.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBucketRateLimiterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    // capacity 20 / divisor 10 → lease 2개
+    @RateLimit(name = "test", capacity = 20, periodSeconds = 60)
+    private static void limited() {
+    }
+
+    private final RateLimit limit = limitOf("limited");
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter(redisTemplate, new SimpleMeterRegistry(), 10, 1000);
+    }
+
+    @Test
+    @DisplayName("lease로 가져온 토큰은 Redis 호출 없이 로컬에서 소비한다.")
+    void tryAcquire_consumesLeasedTokensLocally() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), eq("2")))
+                .thenReturn(2L);
+
+        // when
+        long first = rateLimiter.tryAcquire(limit, "127.0.0.1");
+        long second = rateLimiter.tryAcquire(limit, "127.0.0.1");
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        verify(redisTemplate, times(1))
+                .execute(any(RedisScript.class), eq(List.of("RL:test:127.0.0.1")),
+                        anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("전역 버킷이 비어 있으면 거절하고, 다음 토큰 충전 전까지는 Redis 호출 없이 로컬에서 거절한다.")
+    void tryAcquire_rejectsLocallyAfterGlobalBucketIsEmpty() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(-3000L);
+
+        // when
+        long first = rateLimiter.tryAcquire(limit, "user1");
+        long second = rateLimiter.tryAcquire(limit, "user1");
+
+        // then
+        assertThat(first).isEqualTo(3000L);
+        assertThat(second).isPositive().isLessThanOrEqualTo(3000L);
+        verify(redisTemplate, times(1))
+                .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 요청을 허용한다.")
+    void tryAcquire_allowsWhenRedisIsUnavailable() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        long result = rateLimiter.tryAcquire(limit, "user1");
+
+        // then
+        assertThat(result).isZero();
+    }
+
+    @Test
+    @DisplayName("거절 중인 버킷은 토큰을 소비하지 않고 확인할 수 있고, 돌려준 토큰은 다음 요청이 Redis 호출 없이 쓴다.")
+    void blockedForAndRelease() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString()))
+                .thenReturn(1L, -3000L);
+
+        // when
+        long acquired = rateLimiter.tryAcquire(limit, "user1");
+        rateLimiter.release(limit, "user1");
+        long reused = rateLimiter.tryAcquire(limit, "user1");
+        long rejected = rateLimiter.tryAcquire(limit, "user1");
+
+        // then
+        assertThat(acquired).isZero();
+        assertThat(reused).isZero();
+        assertThat(rejected).isEqualTo(3000L);
+        assertThat(rateLimiter.blockedFor(limit, "user1")).isPositive().isLessThanOrEqualTo(3000L);
+        assertThat(rateLimiter.blockedFor(limit, "user2")).isZero();
+        verify(redisTemplate, times(2))
+                .execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString(), anyString());
+    }
+
+    private static RateLimit limitOf(String methodName) {
+        try {
+            return TokenBucketRateLimiterTest.class.getDeclaredMethod(methodName).getAnnotation(RateLimit.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wagglex2.waggle.common.security;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.auth.repository.RefreshTokenRepository;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.user.cache.UserAuthInfoCache;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import com.wagglex2.waggle.domain.user.service.serviceImpl.UserServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인({@code AuthServiceImpl.login})과 같이 읽기 전용 트랜잭션 안에서 인증할 때도 갱신한 해시가 저장되는지 확인한다.
+ * 테스트 트랜잭션이 감싸면 문제가 가려지므로 테스트 트랜잭션을 쓰지 않는다.
+ */
+@Import({JpaAuditingConfig.class, UserServiceImpl.class, CustomUserDetailsService.class,
+        CustomUserDetailsServiceTest.EncoderConfig.class})
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CustomUserDetailsServiceTest {
+
+    private static final String RAW_PASSWORD = "password1!";
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @MockitoBean
+    private UserAuthInfoCache userAuthInfoCache;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("낮은 strength의 해시로 로그인하면 읽기 전용 트랜잭션 안에서도 현재 strength의 해시로 갱신해 저장한다.")
+    void login_upgradesLegacyHash() {
+        // given
+        String legacyHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+        userRepository.save(createUser("legacy", legacyHash));
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(customUserDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserDetailsPasswordService(customUserDetailsService);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        readOnly.executeWithoutResult(status ->
+                provider.authenticate(new UsernamePasswordAuthenticationToken("legacy", RAW_PASSWORD)));
+
+        // then
+        String stored = userRepository.findByUsername("legacy").orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(legacyHash).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches(RAW_PASSWORD, stored)).isTrue();
+    }
+
+    private User createUser(String username, String encodedPassword) {
+        return User.builder()
+                .username(username)
+                .password(encodedPassword)
+                .nickname(username)
+                .email(username + "@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA))
+                .build();
+    }
+
+    @TestConfiguration
+    static class EncoderConfig {
+
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(5);
+        }
+    }
+}
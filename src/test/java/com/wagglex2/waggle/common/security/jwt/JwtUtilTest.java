@@ -0,0 +1,69 @@
+package com.wagglex2.waggle.common.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-test-secret-key-test-secret-key-0123";
+
+    JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000L, 120_000L, 100L);
+
+    @Test
+    @DisplayName("AccessToken을 한 번 검증하여 모든 클레임을 담은 토큰 뷰를 반환한다.")
+    void verifyAccessToken() {
+        // given
+        String token = jwtUtil.createAccessToken(7L, "waggle", "와글", "ROLE_USER");
+
+        // when
+        VerifiedToken verified = jwtUtil.verify(token);
+
+        // then
+        assertThat(verified.userId()).isEqualTo(7L);
+        assertThat(verified.username()).isEqualTo("waggle");
+        assertThat(verified.nickname()).isEqualTo("와글");
+        assertThat(verified.role()).isEqualTo("ROLE_USER");
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.isRefreshToken()).isFalse();
+        assertThat(verified.timeToExpirationMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("캐시된 AccessToken은 같은 토큰 뷰를 반환하고, RefreshToken은 캐시하지 않는다.")
+    void verifyAccessTokenWithCache() {
+        // given
+        String accessToken = jwtUtil.createAccessToken(1L, "waggle", "와글", "ROLE_USER");
+        String refreshToken = jwtUtil.createRefreshToken(1L, "session-1");
+
+        // when
+        VerifiedToken first = jwtUtil.verifyAccessToken(accessToken);
+        VerifiedToken second = jwtUtil.verifyAccessToken(accessToken);
+        VerifiedToken refresh = jwtUtil.verifyAccessToken(refreshToken);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(refresh.isRefreshToken()).isTrue();
+        assertThat(refresh.sessionId()).isEqualTo("session-1");
+        assertThat(jwtUtil.verifyAccessToken(refreshToken)).isNotSameAs(refresh);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 ExpiredJwtException, 위조된 토큰은 JwtException을 던진다.")
+    void verifyInvalidToken() {
+        // given
+        JwtUtil expiredUtil = new JwtUtil(SECRET, -1_000L, -1_000L, 100L);
+        String expired = expiredUtil.createAccessToken(1L, "waggle", "와글", "ROLE_USER");
+        JwtUtil otherKeyUtil = new JwtUtil(SECRET.replace('t', 'T'), 60_000L, 60_000L, 100L);
+        String tampered = otherKeyUtil.createAccessToken(1L, "waggle", "와글", "ROLE_USER");
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verifyAccessToken(expired))
+                .isInstanceOf(ExpiredJwtException.class);
+        assertThatThrownBy(() -> jwtUtil.verifyAccessToken(tampered))
+                .isInstanceOf(JwtException.class);
+    }
+}
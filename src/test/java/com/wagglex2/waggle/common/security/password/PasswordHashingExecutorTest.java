@@ -0,0 +1,96 @@
+package com.wagglex2.waggle.common.security.password;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 1000, 2, meterRegistry);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 즉시 PASSWORD_HASHING_BUSY로 거절한다.")
+    void execute_rejectsWhenQueueIsFull() throws Exception {
+        // given : 스레드 1개를 점유하고 대기열 1칸을 채운다.
+        CountDownLatch started = new CountDownLatch(1);
+        Thread running = new Thread(() -> executor.execute("encode", () -> {
+            started.countDown();
+            await(release);
+            return "done";
+        }));
+        running.start();
+        started.await(1, TimeUnit.SECONDS);
+        Thread queued = new Thread(() -> executor.execute("encode", () -> "queued"));
+        queued.start();
+        waitUntilQueued();
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute("encode", () -> "rejected"))
+                .isInstanceOf(RetryableBusinessException.class)
+                .satisfies(e -> {
+                    RetryableBusinessException ex = (RetryableBusinessException) e;
+                    assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.PASSWORD_HASHING_BUSY);
+                    assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(2));
+                });
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.queue.size").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        running.join();
+        queued.join();
+    }
+
+    @Test
+    @DisplayName("BoundedPasswordEncoder는 해시 풀에서 BCrypt를 수행하고, 낮은 strength의 해시는 갱신 대상으로 판단한다.")
+    void boundedEncoder_encodesOnPoolAndDetectsUpgrade() {
+        // given
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), executor);
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password1!");
+
+        // when
+        String encoded = encoder.encode("password1!");
+
+        // then
+        assertThat(encoder.matches("password1!", encoded)).isTrue();
+        assertThat(encoder.matches("password1!", legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(legacyHash)).isTrue();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
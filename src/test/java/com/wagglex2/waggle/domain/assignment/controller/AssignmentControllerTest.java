@@ -1,6 +1,7 @@
 package com.wagglex2.waggle.domain.assignment.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wagglex2.waggle.common.security.CustomUserDetails;
 import com.wagglex2.waggle.common.security.jwt.JwtUtil;
 import com.wagglex2.waggle.domain.assignment.dto.response.AssignmentResponseDto;
 import com.wagglex2.waggle.domain.assignment.entity.Assignment;
@@ -12,6 +13,8 @@ import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
 import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.entity.type.University;
 import com.wagglex2.waggle.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +23,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -53,13 +58,26 @@ class AssignmentControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    // Security 필터를 제거했으므로 @AuthenticationPrincipal로 받을 사용자를 직접 넣는다.
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails userDetails = new CustomUserDetails(2L, "username", "nickname", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("과제 공고 상세 조회 성공")
     void getAssignment() throws Exception {
         // given
         Assignment assignment = createAssignment();
         AssignmentResponseDto responseDto = AssignmentResponseDto.fromEntity(assignment);
-        given(assignmentService.getAssignment(1L)).willReturn(responseDto);
+        given(assignmentService.getAssignment(1L, 2L)).willReturn(responseDto);
 
         // when
         String responseJson = mockMvc.perform(
@@ -77,22 +77,6 @@ class AssignmentRepositoryTest {
         assertThat(found.get().getLecture()).isEqualTo("데이터베이스");
     }
 
-    @Test
-    @DisplayName("조회수 증가 쿼리가 정상적으로 반영되어야 한다.")
-    void increaseViewCount() {
-        // given
-        Assignment assignment = createAssignment();
-        assignmentRepository.save(assignment);
-
-        //when
-        assignmentRepository.increaseViewCount(assignment.getId());
-        assignmentRepository.increaseViewCount(assignment.getId());
-
-        // then
-        Assignment updated = assignmentRepository.findById(assignment.getId()).get();
-        assertThat(updated.getViewCount()).isEqualTo(2);
-    }
-
     private Assignment createAssignment() {
         User user = createUser();
         userRepository.save(user);
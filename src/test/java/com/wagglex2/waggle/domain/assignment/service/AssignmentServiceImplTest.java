@@ -4,10 +4,13 @@ import com.wagglex2.waggle.domain.assignment.dto.response.AssignmentResponseDto;
 import com.wagglex2.waggle.domain.assignment.entity.Assignment;
 import com.wagglex2.waggle.domain.assignment.repository.AssignmentRepository;
 import com.wagglex2.waggle.domain.assignment.service.serviceImpl.AssignmentServiceImpl;
+import com.wagglex2.waggle.domain.common.cache.RecruitmentDetailCache;
 import com.wagglex2.waggle.domain.common.dto.response.ParticipantInfoResponseDto;
 import com.wagglex2.waggle.domain.common.type.ParticipantInfo;
 import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
 import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.util.UniqueViewCounter;
+import com.wagglex2.waggle.domain.trending.index.TrendingRecorder;
 import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.entity.type.University;
 import org.junit.jupiter.api.DisplayName;
@@ -20,6 +23,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -31,6 +35,15 @@ class AssignmentServiceImplTest {
     @Mock
     private AssignmentRepository assignmentRepository;
 
+    @Mock
+    private RecruitmentDetailCache recruitmentDetailCache;
+
+    @Mock
+    private UniqueViewCounter uniqueViewCounter;
+
+    @Mock
+    private TrendingRecorder trendingRecorder;
+
     @InjectMocks
     private AssignmentServiceImpl assignmentService;
 
@@ -40,19 +53,22 @@ class AssignmentServiceImplTest {
         // given
         Assignment assignment = createAssignment();
         given(assignmentRepository.findById(1L)).willReturn(Optional.of(assignment));
-        given(assignmentRepository.increaseViewCount(1L)).willReturn(1);
+        given(recruitmentDetailCache.get(eq(RecruitmentCategory.ASSIGNMENT), eq(1L), eq(AssignmentResponseDto.class), any()))
+                .willAnswer(invocation -> invocation.<Supplier<AssignmentResponseDto>>getArgument(3).get());
+        given(uniqueViewCounter.record(2L, 1L)).willReturn(true);
+        given(uniqueViewCounter.viewCount(1L)).willReturn(3);
 
         // when
-        AssignmentResponseDto actual = assignmentService.getAssignment(1L);
+        AssignmentResponseDto actual = assignmentService.getAssignment(1L, 2L);
 
         // then
-        AssignmentResponseDto expected = AssignmentResponseDto.fromEntity(assignment);
-        assertThat(actual).usingRecursiveComparison()
-                .ignoringFields("viewCount")
-                .isEqualTo(expected);
+        AssignmentResponseDto expected = AssignmentResponseDto.fromEntity(assignment, 3);
+        assertThat(actual.getViewCount()).isEqualTo(3);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
 
         verify(assignmentRepository, times(1)).findById(1L);
-        verify(assignmentRepository, times(1)).increaseViewCount(1L);
+        verify(uniqueViewCounter, times(1)).record(2L, 1L);
+        verify(trendingRecorder, times(1)).recordView(RecruitmentCategory.ASSIGNMENT, 1L);
     }
 
     private Assignment createAssignment() {
@@ -0,0 +1,127 @@
+package com.wagglex2.waggle.domain.auth.repository;
+
+import com.wagglex2.waggle.domain.auth.repository.RefreshTokenRepository.RotationResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 저장과 교체 Lua 스크립트를 실제 Redis(내장 서버)에서 실행해 확인한다.
+ */
+class RefreshTokenRepositoryTest {
+
+    private static final long USER_ID = 1L;
+    private static final long TTL_MILLIS = 60_000;
+    private static final String TOKENS_KEY = "RT:{1}:tokens";
+    private static final String INDEX_KEY = "RT:{1}:index";
+
+    private static RedisServer redisServer;
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        int port = unusedPort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+        ReflectionTestUtils.setField(refreshTokenRepository, "maxSessionsPerUser", 2);
+    }
+
+    @Test
+    @DisplayName("최대 세션 수를 넘으면 가장 오래 사용되지 않은 세션을 제거한다.")
+    void save_evictsLeastRecentlyUsedSession() throws InterruptedException {
+        // given : s1이 s2보다 먼저 저장되었지만 나중에 사용되었다.
+        refreshTokenRepository.save(USER_ID, "s1", "token-1", TTL_MILLIS);
+        Thread.sleep(5);
+        refreshTokenRepository.save(USER_ID, "s2", "token-2", TTL_MILLIS);
+        Thread.sleep(5);
+        refreshTokenRepository.rotate(USER_ID, "s1", "token-1", "token-1b", TTL_MILLIS);
+        Thread.sleep(5);
+
+        // when
+        long evicted = refreshTokenRepository.save(USER_ID, "s3", "token-3", TTL_MILLIS);
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(redisTemplate.<String, String>opsForHash().keys(TOKENS_KEY)).containsExactlyInAnyOrder("s1", "s3");
+        assertThat(redisTemplate.opsForZSet().size(INDEX_KEY)).isEqualTo(2);
+        assertThat(refreshTokenRepository.rotate(USER_ID, "s2", "token-2", "token-2b", TTL_MILLIS))
+                .isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redisTemplate.getExpire(TOKENS_KEY)).isPositive();
+    }
+
+    @Test
+    @DisplayName("한 번 교체된 이전 토큰으로 다시 교체하면 거절하고, 저장된 토큰은 그대로 둔다.")
+    void rotate_rejectsReusedToken() {
+        // given
+        refreshTokenRepository.save(USER_ID, "s1", "token-1", TTL_MILLIS);
+
+        // when
+        RotationResult first = refreshTokenRepository.rotate(USER_ID, "s1", "token-1", "token-2", TTL_MILLIS);
+        RotationResult reused = refreshTokenRepository.rotate(USER_ID, "s1", "token-1", "token-3", TTL_MILLIS);
+        RotationResult unknown = refreshTokenRepository.rotate(USER_ID, "s9", "token-1", "token-3", TTL_MILLIS);
+
+        // then
+        assertThat(first).isEqualTo(RotationResult.ROTATED);
+        assertThat(reused).isEqualTo(RotationResult.MISMATCH);
+        assertThat(unknown).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redisTemplate.opsForHash().get(TOKENS_KEY, "s1")).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("deleteAll은 세션 Key와 함께 이전 형식의 RT:{userId} Key도 제거한다.")
+    void deleteAll_removesLegacyKey() {
+        // given
+        refreshTokenRepository.save(USER_ID, "s1", "token-1", TTL_MILLIS);
+        redisTemplate.opsForValue().set("RT:" + USER_ID, "legacy-token");
+
+        // when
+        refreshTokenRepository.deleteAll(USER_ID);
+
+        // then
+        assertThat(redisTemplate.hasKey(TOKENS_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey(INDEX_KEY)).isFalse();
+        assertThat(redisTemplate.hasKey("RT:" + USER_ID)).isFalse();
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
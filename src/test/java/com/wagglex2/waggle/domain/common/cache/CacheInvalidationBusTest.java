@@ -0,0 +1,101 @@
+package com.wagglex2.waggle.domain.common.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private CacheInvalidationBus bus;
+    private final List<String> evicted = new ArrayList<>();
+    private final AtomicInteger clears = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(redisTemplate, redisConnectionFactory, CHANNEL, 50);
+        bus.register("detail", evicted::add, clears::incrementAndGet);
+    }
+
+    @Test
+    @DisplayName("한 주기 동안 모인 키는 캐시별 메시지 하나로 보내고, 다른 노드가 받으면 해당 키만 지운다.")
+    void flush_coalescesKeysIntoOneMessage() {
+        // given
+        bus.publish("detail", "PROJECT:1");
+        bus.publish("detail", "PROJECT:1");
+        bus.publish("detail", "ASSIGNMENT:2");
+
+        // when
+        bus.flush();
+        bus.flush();
+
+        // then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL), message.capture());
+        String body = message.getValue().substring(message.getValue().indexOf('|'));
+
+        CacheInvalidationBus otherNode = new CacheInvalidationBus(redisTemplate, redisConnectionFactory, CHANNEL, 50);
+        List<String> otherEvicted = new ArrayList<>();
+        otherNode.register("detail", otherEvicted::add, () -> {
+        });
+        otherNode.onMessage("other-node" + body);
+        bus.onMessage(message.getValue());
+
+        assertThat(otherEvicted).containsExactlyInAnyOrder("PROJECT:1", "ASSIGNMENT:2");
+        assertThat(evicted).isEmpty();
+    }
+
+    @Test
+    @DisplayName("보내지 못한 키는 다음 주기에 다시 보낸다.")
+    void flush_retriesOnFailure() {
+        // given
+        given(redisTemplate.convertAndSend(eq(CHANNEL), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"))
+                .willReturn(1L);
+        bus.publish("detail", "PROJECT:1");
+
+        // when
+        bus.flush();
+        bus.flush();
+
+        // then
+        verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    @Test
+    @DisplayName("채널을 다시 구독하면 끊긴 동안 놓친 무효화가 있을 수 있으므로 로컬 캐시를 모두 비운다.")
+    void onSubscribed_clearsLocalCaches() {
+        // when
+        bus.onSubscribed();
+        bus.onSubscribed();
+
+        // then
+        assertThat(clears).hasValue(2);
+    }
+}
@@ -0,0 +1,169 @@
+package com.wagglex2.waggle.domain.common.cache;
+
+import com.wagglex2.waggle.domain.assignment.dto.response.AssignmentResponseDto;
+import com.wagglex2.waggle.domain.assignment.entity.Assignment;
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.ParticipantInfo;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecruitmentDetailCacheTest {
+
+    private static final List<String> KEYS = List.of("RD:{ASSIGNMENT:1}", "RD:{ASSIGNMENT:1}:ver");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecruitmentDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RecruitmentDetailCache(redisTemplate, cacheInvalidationBus, meterRegistry, 60, 100, 1_000_000, 600);
+    }
+
+    @Test
+    @DisplayName("두 단계 모두 없으면 DB에서 읽어 읽기 전 버전과 함께 Redis에 저장하고, 다음 조회는 로컬 캐시에서 응답한다.")
+    void get_loadsOnceAndStoresWithVersion() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(null, "3"));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<AssignmentResponseDto> loader = () -> {
+            loads.incrementAndGet();
+            return createResponse();
+        };
+
+        // when
+        AssignmentResponseDto first = cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, loader);
+        AssignmentResponseDto second = cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, loader);
+
+        // then
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("3"), anyString(), eq("600"));
+        assertThat(meterRegistry.get("recruitment.detail.cache.load").tag("source", "db").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 저장한 Redis 값이 있으면 DB를 읽지 않고 역직렬화해 응답한다.")
+    void get_readsSharedRedisEntry() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(null, null));
+        cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, this::createResponse);
+
+        ArgumentCaptor<Object> stored = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("0"), stored.capture(), eq("600"));
+        String payload = (String) stored.getValue();
+
+        RecruitmentDetailCache otherNode = new RecruitmentDetailCache(
+                redisTemplate, cacheInvalidationBus, new SimpleMeterRegistry(), 60, 100, 1_000_000, 600);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(payload, "0"));
+
+        // when
+        AssignmentResponseDto actual = otherNode.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class,
+                () -> {
+                    throw new AssertionError("DB를 읽으면 안 된다.");
+                });
+
+        // then
+        assertThat(actual).usingRecursiveComparison().isEqualTo(createResponse());
+    }
+
+    @Test
+    @DisplayName("수정이 커밋되면 Redis 키와 로컬 항목을 지워 다음 조회가 DB에서 다시 읽고, 다른 노드에도 알린다.")
+    void onRecruitmentChanged_invalidatesBothLevels() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willReturn(Arrays.asList(null, null));
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<AssignmentResponseDto> loader = () -> {
+            loads.incrementAndGet();
+            return createResponse();
+        };
+        cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, loader);
+
+        // when
+        cache.onRecruitmentChanged(RecruitmentChangedEvent.updated(1L, RecruitmentCategory.ASSIGNMENT));
+        cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, loader);
+
+        // then
+        assertThat(loads).hasValue(2);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("600"));
+        verify(cacheInvalidationBus).publish(RecruitmentDetailCache.CACHE_NAME, "ASSIGNMENT:1");
+    }
+
+    @Test
+    @DisplayName("Redis를 읽지 못하면 DB 값으로 응답하고 Redis에는 쓰지 않는다.")
+    void get_fallsBackToDbOnRedisFailure() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.multiGet(KEYS)).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        AssignmentResponseDto actual =
+                cache.get(RecruitmentCategory.ASSIGNMENT, 1L, AssignmentResponseDto.class, this::createResponse);
+
+        // then
+        assertThat(actual.getLecture()).isEqualTo("컴퓨터 네트워크");
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(), any(Object[].class));
+    }
+
+    private AssignmentResponseDto createResponse() {
+        User author = mock(User.class);
+        given(author.getId()).willReturn(1L);
+        given(author.getNickname()).willReturn("박대형");
+        given(author.getUniversity()).willReturn(University.YOUNGNAM_UNIV);
+
+        Assignment assignment = Assignment.builder()
+                .user(author)
+                .title("네트워크 과제 같이 하실 분 구합니다.")
+                .content("TCP/IP 정리 ppt 같이 만들 분 구해요.")
+                .department("컴퓨터공학과")
+                .lecture("컴퓨터 네트워크")
+                .lectureCode("CSE302")
+                .participants(new ParticipantInfo(4))
+                .grades(Set.of(3, 4))
+                .deadline(LocalDateTime.of(2025, 12, 1, 18, 0))
+                .build();
+        return AssignmentResponseDto.fromEntity(assignment);
+    }
+}
@@ -0,0 +1,133 @@
+package com.wagglex2.waggle.domain.common.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.assignment.entity.Assignment;
+import com.wagglex2.waggle.domain.assignment.repository.AssignmentRepository;
+import com.wagglex2.waggle.domain.common.type.ParticipantInfo;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Import({JpaAuditingConfig.class, ViewCountRepository.class})
+@DataJpaTest(properties = "view-count.chunk-size=2")
+class ViewCountRepositoryTest {
+
+    @Autowired
+    private ViewCountRepository viewCountRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("공고별 조회수를 청크 단위 UPDATE로 더하며, 없는 공고는 건너뛴다.")
+    void addViewCounts() {
+        // given
+        User user = userRepository.save(createUser());
+        Assignment first = assignmentRepository.save(createAssignment(user));
+        Assignment second = assignmentRepository.save(createAssignment(user));
+        Assignment third = assignmentRepository.save(createAssignment(user));
+        entityManager.flush();
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(first.getId(), 3L);
+        deltas.put(second.getId(), 1L);
+        deltas.put(third.getId(), 7L);
+        deltas.put(third.getId() + 100, 5L);
+
+        // when
+        int updated = viewCountRepository.addViewCounts(deltas);
+        viewCountRepository.addViewCounts(Map.of(first.getId(), 2L));
+        entityManager.clear();
+
+        // then
+        assertThat(updated).isEqualTo(3);
+        assertThat(assignmentRepository.findById(first.getId()).get().getViewCount()).isEqualTo(5);
+        assertThat(assignmentRepository.findById(second.getId()).get().getViewCount()).isEqualTo(1);
+        assertThat(assignmentRepository.findById(third.getId()).get().getViewCount()).isEqualTo(7);
+        assertThat(viewCountRepository.findViewCount(first.getId())).isEqualTo(5);
+        assertThat(viewCountRepository.findViewCount(third.getId() + 100)).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("뒤 청크의 UPDATE가 실패하면 앞서 반영한 청크도 롤백한다.")
+    void addViewCounts_rollsBackAllChunksOnFailure() {
+        // given
+        User user = userRepository.save(createUser());
+        Assignment first = assignmentRepository.save(createAssignment(user));
+        Assignment second = assignmentRepository.save(createAssignment(user));
+        Assignment third = assignmentRepository.save(createAssignment(user));
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        deltas.put(first.getId(), 3L);
+        deltas.put(second.getId(), 1L);
+        // view_count 범위를 넘는 값으로 두 번째 청크를 실패시킨다.
+        deltas.put(third.getId(), Long.MAX_VALUE);
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> viewCountRepository.addViewCounts(deltas))
+                    .isInstanceOf(DataAccessException.class);
+            assertThat(assignmentRepository.findById(first.getId()).get().getViewCount()).isZero();
+            assertThat(assignmentRepository.findById(second.getId()).get().getViewCount()).isZero();
+        } finally {
+            assignmentRepository.deleteAll();
+            userRepository.deleteAll();
+        }
+    }
+
+    private Assignment createAssignment(User user) {
+        return Assignment.builder()
+                .user(user)
+                .title("데이터베이스 팀플 모집")
+                .content("DB 과제 같이 하실 분 구합니다.")
+                .deadline(LocalDateTime.now().plusDays(7))
+                .department("컴퓨터공학과")
+                .lecture("데이터베이스")
+                .lectureCode("DB101")
+                .participants(new ParticipantInfo(5))
+                .grades(Set.of(2, 3))
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .nickname("nickname")
+                .email("email@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("짧은 소개글")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA))
+                .build();
+    }
+}
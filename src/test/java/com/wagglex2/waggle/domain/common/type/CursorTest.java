@@ -0,0 +1,39 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    @DisplayName("커서를 토큰으로 바꿨다가 복원하면 작성 시각(나노초 포함)과 id가 그대로 나온다.")
+    void encodeAndDecode() {
+        // given
+        Cursor cursor = new Cursor(LocalDateTime.of(2025, 10, 1, 12, 30, 15, 123_456_000), 42L);
+
+        // when
+        String token = cursor.encode();
+
+        // then
+        assertThat(token).doesNotContain("+", "/", "=");
+        assertThat(Cursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰은 INVALID_CURSOR 예외가 발생한다.")
+    void decode_invalidToken() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor!"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.INVALID_CURSOR);
+        assertThatThrownBy(() -> Cursor.decode("AAAA"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
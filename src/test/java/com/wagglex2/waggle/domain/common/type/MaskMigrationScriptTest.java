@@ -0,0 +1,63 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션 스크립트의 이름-비트 대응표가 enum의 비트 위치와 같은지 확인한다.
+ * 대응표가 어긋나면 기존 데이터가 다른 값으로 채워지므로 enum이 바뀌면 스크립트도 함께 고쳐야 한다.
+ */
+class MaskMigrationScriptTest {
+
+    private static final Pattern BIT_ROW = Pattern.compile("\\('([A-Z_]+)', (\\d+)\\)");
+
+    @Test
+    @DisplayName("skill_mask 스크립트의 비트 대응표는 Skill의 비트 위치와 같다.")
+    void skillMaskScript_matchesSkillBits() throws IOException {
+        // given
+        Map<String, Integer> expected = Arrays.stream(Skill.values())
+                .collect(Collectors.toMap(Enum::name, Skill::getBit));
+
+        // when
+        Map<String, Integer> actual = readBitRows("db/V018__skill_mask.sql");
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("open_position_mask 스크립트의 비트 대응표는 PositionType의 비트 위치와 같다.")
+    void openPositionMaskScript_matchesPositionBits() throws IOException {
+        // given
+        Map<String, Integer> expected = Arrays.stream(PositionType.values())
+                .collect(Collectors.toMap(Enum::name, PositionType::getBit));
+
+        // when
+        Map<String, Integer> actual = readBitRows("db/V019__grade_and_open_position_mask.sql");
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private Map<String, Integer> readBitRows(String path) throws IOException {
+        String script = new ClassPathResource(path).getContentAsString(StandardCharsets.UTF_8);
+        Map<String, Integer> rows = new HashMap<>();
+        Matcher matcher = BIT_ROW.matcher(script);
+        while (matcher.find()) {
+            rows.put(matcher.group(1), Integer.parseInt(matcher.group(2)));
+        }
+        return rows;
+    }
+}
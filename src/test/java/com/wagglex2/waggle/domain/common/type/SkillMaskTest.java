@@ -0,0 +1,40 @@
+package com.wagglex2.waggle.domain.common.type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SkillMaskTest {
+
+    @Test
+    @DisplayName("기술 스택마다 서로 다른 비트를 가지며, 64비트 안에 들어간다.")
+    void bits_uniqueAndInRange() {
+        assertThat(Arrays.stream(Skill.values()).map(Skill::getBit).distinct().count())
+                .isEqualTo(Skill.values().length);
+        assertThat(Skill.values()).allSatisfy(skill -> assertThat(skill.getBit()).isBetween(0, 63));
+    }
+
+    @Test
+    @DisplayName("집합과 비트마스크는 서로 손실 없이 변환되며, 비트 연산으로 포함 관계를 판단한다.")
+    void ofAndToSet_roundTrip() {
+        // given
+        long mask = SkillMask.of(Set.of(Skill.JAVA, Skill.SPRING_BOOT, Skill.UNREAL));
+
+        // when
+        EnumSet<Skill> skills = SkillMask.toSet(mask);
+
+        // then
+        assertThat(skills).containsExactlyInAnyOrder(Skill.JAVA, Skill.SPRING_BOOT, Skill.UNREAL);
+        assertThat(SkillMask.of(EnumSet.allOf(Skill.class))).isEqualTo((1L << Skill.values().length) - 1);
+        assertThat(SkillMask.of(null)).isEqualTo(SkillMask.EMPTY);
+        assertThat(SkillMask.containsAll(mask, SkillMask.of(Set.of(Skill.JAVA, Skill.UNREAL)))).isTrue();
+        assertThat(SkillMask.containsAll(mask, SkillMask.of(Set.of(Skill.JAVA, Skill.REACT)))).isFalse();
+        assertThat(SkillMask.containsAny(mask, SkillMask.of(Set.of(Skill.JAVA, Skill.REACT)))).isTrue();
+        assertThat(SkillMask.containsAny(mask, SkillMask.of(Set.of(Skill.REACT)))).isFalse();
+    }
+}
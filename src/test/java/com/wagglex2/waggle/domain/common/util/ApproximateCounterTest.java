@@ -0,0 +1,78 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApproximateCounterTest {
+
+    private ApproximateCounter counter;
+
+    @AfterEach
+    void tearDown() {
+        counter.stop();
+    }
+
+    @Test
+    @DisplayName("처음 조회하는 키만 그 자리에서 세고, 이후에는 갱신 주기 전까지 캐시 값을 반환한다.")
+    void get_countsOnlyOnFirstAccess() {
+        // given
+        counter = new ApproximateCounter(60, 100);
+        AtomicInteger calls = new AtomicInteger();
+
+        // when
+        long first = counter.get("reviews:reviewee:1", () -> 10 + calls.incrementAndGet());
+        long second = counter.get("reviews:reviewee:1", () -> 10 + calls.incrementAndGet());
+
+        // then
+        assertThat(first).isEqualTo(11);
+        assertThat(second).isEqualTo(11);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지난 키는 기존 값을 바로 반환하고, 백그라운드에서 다시 센 값으로 바꾼다.")
+    void get_refreshesStaleCountInBackground() throws InterruptedException {
+        // given
+        counter = new ApproximateCounter(0, 100);
+        counter.get("reviews:reviewer:1", () -> 3);
+        CountDownLatch refreshed = new CountDownLatch(1);
+
+        // when
+        long stale = counter.get("reviews:reviewer:1", () -> {
+            refreshed.countDown();
+            return 7;
+        });
+
+        // then
+        assertThat(stale).isEqualTo(3);
+        assertThat(refreshed.await(5, TimeUnit.SECONDS)).isTrue();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (counter.get("reviews:reviewer:1", () -> 7) != 7 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(counter.get("reviews:reviewer:1", () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("add는 이미 센 키의 값만 보정한다.")
+    void add_adjustsCachedCount() {
+        // given
+        counter = new ApproximateCounter(60, 100);
+        counter.get("reviews:reviewee:1", () -> 5);
+
+        // when
+        counter.add("reviews:reviewee:1", 1);
+        counter.add("reviews:reviewee:2", 1);
+
+        // then
+        assertThat(counter.get("reviews:reviewee:1", () -> 0)).isEqualTo(6);
+        assertThat(counter.get("reviews:reviewee:2", () -> 0)).isZero();
+    }
+}
@@ -1,8 +1,12 @@
 package com.wagglex2.waggle.domain.common.util;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -27,4 +31,45 @@ class KomoranUtilTest {
         assertThat(res1).containsExactlyInAnyOrder("소공", "웹", "백엔드", "자바", "스프링");
         assertThat(res2).containsExactlyInAnyOrder("운영체제", "과제", "3학년");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 문자열의 명사를 병렬로 추출하고, 입력 순서대로 반환한다.")
+    void extractNounsInBatch() {
+        // given
+        List<String> inputs = List.of("소공 웹 백엔드", "", "자바 스프링");
+
+        // when
+        List<List<String>> res = komoranUtil.getNouns(inputs);
+
+        // then
+        assertThat(res).hasSize(3);
+        assertThat(res.get(0)).containsExactlyInAnyOrder("소공", "웹", "백엔드");
+        assertThat(res.get(1)).isEmpty();
+        assertThat(res.get(2)).containsExactlyInAnyOrder("자바", "스프링");
+    }
+
+    @Test
+    @DisplayName("외부 사용자 사전 파일이 바뀌면 새 분석기로 교체하고, 교체 후에도 분석할 수 있다.")
+    void reloadsWhenExternalDictionaryChanges(@TempDir Path dir) throws Exception {
+        // given
+        Path dictionary = dir.resolve("dic.user");
+        Files.writeString(dictionary, "소공\tNNP\n");
+        KomoranUtil reloadable = new KomoranUtil(1, dictionary.toUri().toString(), true, 30_000, new SimpleMeterRegistry());
+        // 사전에 없는 합성어는 한 명사로 추출되지 않는다.
+        assertThat(reloadable.getNouns("와글와글팀플 모집")).doesNotContain("와글와글팀플");
+        int before = reloadable.generation();
+
+        // when
+        Files.writeString(dictionary, "소공\tNNP\n와글와글팀플\tNNP\n");
+
+        // then
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (reloadable.generation() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(reloadable.generation()).isEqualTo(before + 1);
+        assertThat(reloadable.getNouns("와글와글팀플 모집")).contains("와글와글팀플");
+
+        reloadable.shutdown();
+    }
+}
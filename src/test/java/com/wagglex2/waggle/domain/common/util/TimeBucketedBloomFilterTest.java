@@ -0,0 +1,53 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeBucketedBloomFilterTest {
+
+    @Test
+    @DisplayName("같은 쌍은 현재/직전 구간 동안 걸러지고, 두 번 교체되면 다시 처음 보는 쌍이 된다.")
+    void add_dedupWithinTwoWindows() {
+        // given
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(1000, 0.01);
+
+        // when & then
+        assertThat(filter.add(1L, 10L)).isTrue();
+        assertThat(filter.add(1L, 10L)).isFalse();
+        assertThat(filter.add(1L, 11L)).isTrue();
+        assertThat(filter.add(2L, 10L)).isTrue();
+
+        filter.rotate();
+        assertThat(filter.add(1L, 10L)).isFalse();
+
+        filter.rotate();
+        assertThat(filter.add(1L, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣으면 실제 오탐률과 추정 오탐률이 목표 오탐률 근처에 머문다.")
+    void expectedFpp_tracksActualFalsePositives() {
+        // given
+        int n = 20_000;
+        TimeBucketedBloomFilter filter = new TimeBucketedBloomFilter(n, 0.01);
+        for (int i = 0; i < n; i++) {
+            filter.add(i, i * 7L);
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < n; i++) {
+            if (filter.mightContain(n + i, i * 7L + 1)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        double actual = (double) falsePositives / n;
+        assertThat(filter.hashCount()).isEqualTo(7);
+        assertThat(actual).isLessThan(0.02);
+        assertThat(filter.expectedFpp()).isBetween(0.005, 0.03);
+    }
+}
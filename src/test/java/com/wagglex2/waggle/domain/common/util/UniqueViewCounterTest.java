@@ -0,0 +1,84 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UniqueViewCounterTest {
+
+    private static final List<String> KEYS = List.of("VW:1:hll", "VW:1:reported");
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    private UniqueViewCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new UniqueViewCounter(redisTemplate, viewCountBuffer, new SimpleMeterRegistry(),
+                60, 10_000, 0.01, 60_000, 30);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 조회는 로컬에서 버리고, 처음 본 조회자만 한 주기 뒤 HyperLogLog로 보고해 늘어난 수를 더한다.")
+    void reconcile_reportsOnlyNewViewers() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("2592000"), anyString(), anyString()))
+                .willReturn(1L);
+        given(viewCountBuffer.viewCount(1L)).willReturn(5);
+
+        // when
+        boolean first = counter.record(7L, 1L);
+        boolean repeated = counter.record(7L, 1L);
+        counter.record(8L, 1L);
+        int beforeReport = counter.viewCount(1L);
+        counter.reconcile();
+        counter.reconcile();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(repeated).isFalse();
+        // 보고 전에는 Redis가 새 조회자로 확인하지 않은 두 조회자를 더하지 않는다. (확인된 수는 1)
+        assertThat(beforeReport).isEqualTo(5);
+        verify(viewCountBuffer).add(1L, 1L);
+    }
+
+    @Test
+    @DisplayName("Redis에 보고하지 못하면 로컬에서 걸러낸 조회자 수를 그대로 더한다.")
+    void reconcile_fallsBackOnRedisFailure() {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("2592000"), anyString()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        counter.record(7L, 1L);
+        counter.reconcile();
+        verify(viewCountBuffer, never()).add(1L, 1L);
+        counter.reconcile();
+
+        // then
+        verify(viewCountBuffer).add(1L, 1L);
+        assertThat(counter.expectedFpp()).isLessThan(0.01);
+    }
+}
@@ -0,0 +1,67 @@
+package com.wagglex2.waggle.domain.common.util;
+
+import com.wagglex2.waggle.domain.common.repository.ViewCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCountBufferTest {
+
+    @Mock
+    private ViewCountRepository viewCountRepository;
+
+    @Test
+    @DisplayName("조회수는 한 주기 뒤에 모아서 반영하며, 반영 전까지 DB 값에 더해 응답한다.")
+    void flush_writesRetiredCounters() {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(viewCountRepository, 60_000, 60);
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+        given(viewCountRepository.findViewCount(1L)).willReturn(10L);
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+
+        // then
+        verify(viewCountRepository, never()).addViewCounts(anyMap());
+        assertThat(buffer.viewCount(1L)).isEqualTo(13);
+
+        buffer.flush();
+        verify(viewCountRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+        assertThat(buffer.pending(1L)).isEqualTo(1);
+        assertThat(buffer.pending(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 다음 주기에 다시 반영하고, 종료할 때 남은 조회수를 모두 반영한다.")
+    void flush_retriesFailedAndFlushesOnStop() throws InterruptedException {
+        // given
+        ViewCountBuffer buffer = new ViewCountBuffer(viewCountRepository, 10, 60);
+        given(viewCountRepository.addViewCounts(Map.of(1L, 2L))).willThrow(new IllegalStateException("db down"));
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.flush();
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+        buffer.stop();
+
+        // then
+        assertThat(buffer.pending(1L)).isZero();
+        verify(viewCountRepository).addViewCounts(Map.of(1L, 3L));
+    }
+}
@@ -1,6 +1,7 @@
 package com.wagglex2.waggle.domain.project.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wagglex2.waggle.common.security.CustomUserDetails;
 import com.wagglex2.waggle.common.security.jwt.JwtUtil;
 import com.wagglex2.waggle.domain.common.type.*;
 import com.wagglex2.waggle.domain.project.dto.response.ProjectResponseDto;
@@ -10,6 +11,8 @@ import com.wagglex2.waggle.domain.project.type.MeetingType;
 import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
 import com.wagglex2.waggle.domain.user.entity.User;
 import com.wagglex2.waggle.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +21,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -57,13 +62,26 @@ class ProjectControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    // Security 필터를 제거했으므로 @AuthenticationPrincipal로 받을 사용자를 직접 넣는다.
+    @BeforeEach
+    void setUp() {
+        CustomUserDetails userDetails = new CustomUserDetails(2L, "username", "nickname", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     @DisplayName("프로젝트 공고 조회 성공")
     void getProject() throws Exception {
         // given
         Project project = createProject();
         ProjectResponseDto responseDto = ProjectResponseDto.fromEntity(project);
-        given(projectService.getProject(1L)).willReturn(responseDto);
+        given(projectService.getProject(2L, 1L)).willReturn(responseDto);
 
         // when
         String responseJson = mockMvc.perform(
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
@@ -65,4 +66,63 @@ class ProjectTest {
         assertThat(project.getStatus()).isEqualTo(RecruitmentStatus.RECRUITING);
         assertThat(project.getViewCount()).isEqualTo(0);
     }
+
+    @Test
+    @DisplayName("기술 스택, 학년, 모집 인원이 남은 포지션을 비트마스크 컬럼에도 함께 저장한다.")
+    void createProject_masks() {
+        // given
+        Set<PositionParticipantInfo> positions = Set.of(
+                new PositionParticipantInfo(PositionType.FRONT_END, new ParticipantInfo(3)),
+                new PositionParticipantInfo(PositionType.BACK_END, new ParticipantInfo(2, 2))
+        );
+
+        // when
+        Project project = Project.builder()
+                .title("해커톤 팀원 구합니다.")
+                .content("카카오에서 개최하는 해커톤 같이 할 사람 구해요.")
+                .purpose(ProjectPurpose.HACKATHON)
+                .meetingType(MeetingType.HYBRID)
+                .positions(positions)
+                .skills(Set.of(Skill.REACT, Skill.SPRING_BOOT))
+                .grades(Set.of(1, 4))
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(10)))
+                .deadline(LocalDateTime.now().plusDays(3))
+                .build();
+
+        // then
+        assertThat(project.getSkillMask()).containsExactlyInAnyOrder(Skill.REACT, Skill.SPRING_BOOT);
+        assertThat(project.getGradeMask()).isEqualTo(0b1001);
+        assertThat(GradeMask.toSet(project.getGradeMask())).containsExactly(1, 4);
+        assertThat(PositionMask.toSet(project.getOpenPositionMask())).containsExactly(PositionType.FRONT_END);
+    }
+
+    @Test
+    @DisplayName("포지션별 모집 인원을 바꾸면 모집 인원이 남은 포지션 비트마스크도 함께 바뀐다.")
+    void changePositions_updatesOpenPositionMask() {
+        // given
+        Project project = Project.builder()
+                .title("해커톤 팀원 구합니다.")
+                .content("카카오에서 개최하는 해커톤 같이 할 사람 구해요.")
+                .purpose(ProjectPurpose.HACKATHON)
+                .meetingType(MeetingType.HYBRID)
+                .positions(new HashSet<>(Set.of(
+                        new PositionParticipantInfo(PositionType.FRONT_END, new ParticipantInfo(3)),
+                        new PositionParticipantInfo(PositionType.BACK_END, new ParticipantInfo(2))
+                )))
+                .skills(Set.of(Skill.REACT))
+                .grades(Set.of(3))
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(10)))
+                .deadline(LocalDateTime.now().plusDays(3))
+                .build();
+
+        // when
+        project.changePositions(Set.of(
+                new PositionParticipantInfo(PositionType.FRONT_END, new ParticipantInfo(3, 1)),
+                new PositionParticipantInfo(PositionType.BACK_END, new ParticipantInfo(2, 2))
+        ));
+
+        // then
+        assertThat(project.getPositions()).hasSize(2);
+        assertThat(PositionMask.toSet(project.getOpenPositionMask())).containsExactly(PositionType.FRONT_END);
+    }
 }
@@ -0,0 +1,200 @@
+package com.wagglex2.waggle.domain.project.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.common.config.QueryDslConfig;
+import com.wagglex2.waggle.domain.common.type.*;
+import com.wagglex2.waggle.domain.project.dto.request.ProjectSearchRequestDto;
+import com.wagglex2.waggle.domain.project.dto.response.ProjectSummaryResponseDto;
+import com.wagglex2.waggle.domain.project.entity.Project;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.project.type.SkillMatchType;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({JpaAuditingConfig.class, QueryDslConfig.class, ProjectQueryRepository.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProjectQueryRepositoryTest {
+
+    private static final LocalDateTime BASE_DEADLINE = LocalDateTime.now().plusDays(10).withNano(0);
+    private static final Sort BY_DEADLINE = Sort.by(Sort.Direction.ASC, "deadline");
+
+    @Autowired
+    private ProjectQueryRepository projectQueryRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(createUser());
+    }
+
+    @Test
+    @DisplayName("기술 스택은 ANY/ALL로, 포지션과 학년은 하나라도 일치하면 걸러내며, 상태 조건이 없으면 취소된 공고를 뺀다.")
+    void findProjects_filters() {
+        // given
+        Project springReact = save(ProjectPurpose.CONTEST, MeetingType.ONLINE, Set.of(Skill.SPRING_BOOT, Skill.REACT),
+                PositionType.BACK_END, Set.of(3, 4), 1);
+        Project spring = save(ProjectPurpose.HACKATHON, MeetingType.OFFLINE, Set.of(Skill.SPRING_BOOT),
+                PositionType.BACK_END, Set.of(1, 2), 2);
+        Project react = save(ProjectPurpose.CONTEST, MeetingType.ONLINE, Set.of(Skill.REACT),
+                PositionType.FRONT_END, Set.of(2), 3);
+        Project canceled = save(ProjectPurpose.CONTEST, MeetingType.ONLINE, Set.of(Skill.SPRING_BOOT),
+                PositionType.BACK_END, Set.of(3), 4);
+        canceled.cancel();
+        flushAndClear();
+
+        // when & then
+        assertThat(ids(condition(Set.of(Skill.SPRING_BOOT, Skill.REACT), SkillMatchType.ANY, null, null, null)))
+                .containsExactly(springReact.getId(), spring.getId(), react.getId());
+        assertThat(ids(condition(Set.of(Skill.SPRING_BOOT, Skill.REACT), SkillMatchType.ALL, null, null, null)))
+                .containsExactly(springReact.getId());
+        assertThat(ids(condition(null, null, Set.of(PositionType.BACK_END), Set.of(2), null)))
+                .containsExactly(spring.getId());
+        assertThat(ids(condition(null, null, null, null, ProjectPurpose.CONTEST)))
+                .containsExactly(springReact.getId(), react.getId());
+        assertThat(ids(new ProjectSearchRequestDto(null, null, null, null, null, MeetingType.ONLINE,
+                RecruitmentStatus.CANCELED, null, null)))
+                .containsExactly(canceled.getId());
+        assertThat(ids(new ProjectSearchRequestDto(null, null, null, null, null, null, null,
+                BASE_DEADLINE.plusDays(2), BASE_DEADLINE.plusDays(3))))
+                .containsExactly(spring.getId(), react.getId());
+    }
+
+    @Test
+    @DisplayName("공고와 작성자, 포지션, 기술 스택, 학년을 평면 DTO로 조회한다.")
+    void findProjects_projection() {
+        // given
+        Project project = save(ProjectPurpose.SIDE_PROJECT, MeetingType.HYBRID, Set.of(Skill.JAVA, Skill.MYSQL),
+                PositionType.BACK_END, Set.of(2, 3), 1);
+        flushAndClear();
+
+        // when
+        Page<ProjectSummaryResponseDto> page = projectQueryRepository.findProjects(
+                condition(null, null, null, null, null), PageRequest.of(0, 10));
+
+        // then
+        ProjectSummaryResponseDto dto = page.getContent().get(0);
+        assertThat(dto.id()).isEqualTo(project.getId());
+        assertThat(dto.authorNickname()).isEqualTo("nickname");
+        assertThat(dto.university()).isEqualTo(University.YOUNGNAM_UNIV);
+        assertThat(dto.purpose()).isEqualTo(ProjectPurpose.SIDE_PROJECT);
+        assertThat(dto.openPositions()).containsExactly(PositionType.BACK_END);
+        assertThat(dto.skills()).containsExactlyInAnyOrder(Skill.JAVA, Skill.MYSQL);
+        assertThat(dto.grades()).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 관계없이 한 페이지를 목록 1개, 개수 1개의 SQL로 조회하며 컬렉션 테이블은 조회하지 않는다.")
+    void findProjects_boundedQueryCount() {
+        // given
+        for (int i = 0; i < 12; i++) {
+            save(ProjectPurpose.CONTEST, MeetingType.ONLINE, Set.of(Skill.JAVA, Skill.REACT),
+                    PositionType.BACK_END, Set.of(1, 2, 3), i);
+        }
+        flushAndClear();
+        ProjectSearchRequestDto condition = condition(Set.of(Skill.JAVA), SkillMatchType.ALL,
+                Set.of(PositionType.BACK_END), Set.of(2), ProjectPurpose.CONTEST);
+
+        // when & then
+        assertThat(countStatements(condition, PageRequest.of(0, 3, BY_DEADLINE))).isEqualTo(2);
+        assertThat(countStatements(condition, PageRequest.of(0, 10, BY_DEADLINE))).isEqualTo(2);
+        // 첫 페이지에 모두 담기면 개수 쿼리를 생략한다.
+        assertThat(countStatements(condition, PageRequest.of(0, 20, BY_DEADLINE))).isEqualTo(1);
+    }
+
+    private long countStatements(ProjectSearchRequestDto condition, PageRequest pageable) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        Page<ProjectSummaryResponseDto> page = projectQueryRepository.findProjects(condition, pageable);
+
+        assertThat(page.getTotalElements()).isEqualTo(12);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.openPositions()).hasSize(1);
+            assertThat(dto.skills()).hasSize(2);
+            assertThat(dto.grades()).hasSize(3);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    private List<Long> ids(ProjectSearchRequestDto condition) {
+        return projectQueryRepository.findProjects(condition, PageRequest.of(0, 10, BY_DEADLINE))
+                .map(ProjectSummaryResponseDto::id)
+                .getContent();
+    }
+
+    private ProjectSearchRequestDto condition(Set<Skill> skills, SkillMatchType skillMatch,
+                                              Set<PositionType> positions, Set<Integer> grades,
+                                              ProjectPurpose purpose) {
+        return new ProjectSearchRequestDto(skills, skillMatch, positions, grades, purpose, null, null, null, null);
+    }
+
+    private Project save(ProjectPurpose purpose, MeetingType meetingType, Set<Skill> skills,
+                         PositionType position, Set<Integer> grades, int deadlineDays) {
+        return projectRepository.save(Project.builder()
+                .user(user)
+                .title("프로젝트 팀원 모집")
+                .content("같이 하실 분 구합니다.")
+                .purpose(purpose)
+                .meetingType(meetingType)
+                .positions(Set.of(new PositionParticipantInfo(position, new ParticipantInfo(3))))
+                .skills(skills)
+                .grades(grades)
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(60)))
+                .deadline(BASE_DEADLINE.plusDays(deadlineDays))
+                .build());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .nickname("nickname")
+                .email("email@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA, Skill.SPRING_BOOT))
+                .build();
+    }
+}
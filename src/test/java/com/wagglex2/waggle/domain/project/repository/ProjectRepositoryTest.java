@@ -95,23 +95,6 @@ class ProjectRepositoryTest {
         assertThat(found.get()).usingRecursiveComparison().isEqualTo(project);
     }
 
-    @Test
-    @DisplayName("조회수 증가 쿼리가 정상적으로 반영되어야 한다.")
-    void increaseViewCount() throws InterruptedException {
-        // given
-        Project project = createProject();
-        projectRepository.save(project);
-
-        // when
-        projectRepository.increaseViewCount(project.getId());
-        projectRepository.increaseViewCount(project.getId());
-
-
-        // then
-        Project updated = projectRepository.findById(project.getId()).get();
-        assertThat(updated.getViewCount()).isEqualTo(2);
-    }
-
     private Project createProject() {
         User user = createUser();
         userRepository.save(user);
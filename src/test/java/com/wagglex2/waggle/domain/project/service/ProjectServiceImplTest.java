@@ -1,11 +1,16 @@
 package com.wagglex2.waggle.domain.project.service;
 
+import com.wagglex2.waggle.domain.common.cache.RecruitmentDetailCache;
 import com.wagglex2.waggle.domain.common.dto.response.PositionInfoResponseDto;
+import com.wagglex2.waggle.domain.common.repository.ViewCountRepository;
 import com.wagglex2.waggle.domain.common.type.*;
+import com.wagglex2.waggle.domain.common.util.UniqueViewCounter;
+import com.wagglex2.waggle.domain.common.util.ViewCountBuffer;
 import com.wagglex2.waggle.domain.project.dto.response.ProjectResponseDto;
 import com.wagglex2.waggle.domain.project.entity.Project;
 import com.wagglex2.waggle.domain.project.repository.ProjectRepository;
 import com.wagglex2.waggle.domain.project.service.serviceImpl.ProjectServiceImpl;
+import com.wagglex2.waggle.domain.trending.index.TrendingRecorder;
 import com.wagglex2.waggle.domain.project.type.MeetingType;
 import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
 import com.wagglex2.waggle.domain.user.entity.User;
@@ -19,11 +24,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +41,15 @@ class ProjectServiceImplTest {
     @Mock
     private ProjectRepository projectRepository;
 
+    @Mock
+    private RecruitmentDetailCache recruitmentDetailCache;
+
+    @Mock
+    private UniqueViewCounter uniqueViewCounter;
+
+    @Mock
+    private TrendingRecorder trendingRecorder;
+
     @InjectMocks
     private ProjectServiceImpl projectService;
 
@@ -42,29 +60,58 @@ class ProjectServiceImplTest {
         Project project = createProject();
         given(projectRepository.findByIdWithUser(1L)).willReturn(Optional.of(project));
         given(projectRepository.findPositionsByProjectId(1L)).willReturn(project.getPositions());
-        given(projectRepository.findSkillsByProjectId(1L)).willReturn(project.getSkills());
-        given(projectRepository.findGradesByProjectId(1L)).willReturn(project.getGrades());
-        given(projectRepository.increaseViewCount(1L)).willReturn(1);
+        given(recruitmentDetailCache.get(eq(RecruitmentCategory.PROJECT), eq(1L), eq(ProjectResponseDto.class), any()))
+                .willAnswer(invocation -> invocation.<Supplier<ProjectResponseDto>>getArgument(3).get());
+        given(uniqueViewCounter.record(2L, 1L)).willReturn(true);
+        given(uniqueViewCounter.viewCount(1L)).willReturn(3);
 
         // when
-        ProjectResponseDto actual = projectService.getProject(1L);
+        ProjectResponseDto actual = projectService.getProject(2L, 1L);
 
         // then
-        ProjectResponseDto expected = ProjectResponseDto.fromEntity(project);
+        ProjectResponseDto expected = ProjectResponseDto.fromEntity(project, 3);
         expected.setPositions(project.getPositions().stream()
                 .map(PositionInfoResponseDto::from).collect(Collectors.toSet()));
-        expected.setSkills(project.getSkills());
-        expected.setGrades(project.getGrades());
 
-        assertThat(actual).usingRecursiveComparison()
-                .ignoringFields("viewCount")
-                .isEqualTo(expected);
+        assertThat(actual.getSkills()).containsExactlyInAnyOrder(Skill.REACT, Skill.SPRING_BOOT);
+        assertThat(actual.getGrades()).containsExactly(3, 4);
+        assertThat(actual.getViewCount()).isEqualTo(3);
+        assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
 
         verify(projectRepository, times(1)).findByIdWithUser(1L);
         verify(projectRepository, times(1)).findPositionsByProjectId(1L);
-        verify(projectRepository, times(1)).findSkillsByProjectId(1L);
-        verify(projectRepository, times(1)).findGradesByProjectId(1L);
-        verify(projectRepository, times(1)).increaseViewCount(1L);
+        verify(uniqueViewCounter, times(1)).record(2L, 1L);
+        verify(trendingRecorder, times(1)).recordView(RecruitmentCategory.PROJECT, 1L);
+    }
+
+    @Test
+    @DisplayName("캐시된 상세 응답을 돌려주는 사이에 조회수가 DB에 반영되어도 응답하는 조회수는 줄어들지 않는다.")
+    void getProject_viewCountNeverDecreasesAcrossFlush() throws InterruptedException {
+        // given : 캐시에는 조회수가 0일 때 조립한 응답이 남아 있고, 아직 반영되지 않은 조회수가 2이다.
+        AtomicLong persisted = new AtomicLong();
+        ViewCountRepository viewCountRepository = mock(ViewCountRepository.class);
+        given(viewCountRepository.findViewCount(1L)).willAnswer(invocation -> persisted.get());
+        given(viewCountRepository.addViewCounts(anyMap())).willAnswer(invocation -> {
+            persisted.addAndGet(invocation.<Map<Long, Long>>getArgument(0).get(1L));
+            return 1;
+        });
+        ViewCountBuffer viewCountBuffer = new ViewCountBuffer(viewCountRepository, 60_000, 60);
+        viewCountBuffer.add(1L, 2);
+
+        ProjectResponseDto cached = ProjectResponseDto.fromEntity(createProject());
+        given(recruitmentDetailCache.get(eq(RecruitmentCategory.PROJECT), eq(1L), eq(ProjectResponseDto.class), any()))
+                .willReturn(cached);
+        given(uniqueViewCounter.viewCount(1L)).willAnswer(invocation -> viewCountBuffer.viewCount(1L));
+
+        // when
+        int beforeFlush = projectService.getProject(2L, 1L).getViewCount();
+        viewCountBuffer.stop();
+        int afterFlush = projectService.getProject(3L, 1L).getViewCount();
+
+        // then
+        assertThat(persisted.get()).isEqualTo(2);
+        assertThat(beforeFlush).isEqualTo(2);
+        assertThat(afterFlush).isGreaterThanOrEqualTo(beforeFlush);
     }
 
     private Project createProject() {
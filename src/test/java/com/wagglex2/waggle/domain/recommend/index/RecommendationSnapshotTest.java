@@ -0,0 +1,133 @@
+package com.wagglex2.waggle.domain.recommend.index;
+
+import com.wagglex2.waggle.domain.common.type.GradeMask;
+import com.wagglex2.waggle.domain.common.type.PositionMask;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class RecommendationSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private static final long USER_SKILLS = SkillMask.of(Set.of(Skill.JAVA, Skill.SPRING_BOOT, Skill.MYSQL));
+    private static final int USER_POSITION = PositionType.BACK_END.mask();
+    private static final int USER_GRADE = GradeMask.of(3);
+
+    @Test
+    @DisplayName("겹치는 기술 스택 수, 포지션 일치, 대상 학년으로 점수를 매기고, 지원할 수 없는 학년과 마감된 공고는 제외한다.")
+    void recommend_scoresAndFilters() {
+        // given
+        RecommendationSnapshot snapshot = new RecommendationSnapshot.Builder(8)
+                .add(project(1, Set.of(Skill.JAVA, Skill.SPRING_BOOT), Set.of(PositionType.BACK_END), Set.of()))
+                .add(project(2, Set.of(Skill.JAVA, Skill.SPRING_BOOT, Skill.MYSQL), Set.of(PositionType.FRONT_END), Set.of(3, 4)))
+                .add(project(3, Set.of(Skill.JAVA), Set.of(PositionType.BACK_END), Set.of(1, 2)))
+                .add(project(4, Set.of(Skill.REACT), Set.of(PositionType.FRONT_END), Set.of()))
+                .add(source(5, RecruitmentCategory.STUDY, Set.of(Skill.MYSQL), 0, Set.of(), NOW.minusDays(1)))
+                .add(source(6, RecruitmentCategory.STUDY, Set.of(Skill.SPRING_BOOT), 0, Set.of(3), NOW.plusDays(1)))
+                .build();
+
+        // when
+        List<Recommendation> all = snapshot.recommend(USER_SKILLS, USER_POSITION, USER_GRADE, null, NOW, 10);
+        List<Recommendation> studies = snapshot.recommend(USER_SKILLS, USER_POSITION, USER_GRADE,
+                RecruitmentCategory.STUDY, NOW, 10);
+
+        // then
+        // 2: 3개 x 2 + 1 = 7, 1: 2개 x 2 + 3 = 7 (같은 점수는 id가 큰 공고가 앞선다), 6: 1개 x 2 + 1 = 3
+        // 3은 학년 조건, 4는 점수 0, 5는 마감으로 제외
+        assertThat(all).extracting(Recommendation::id).containsExactly(2L, 1L, 6L);
+        assertThat(all).extracting(Recommendation::score).containsExactly(7, 7, 3);
+        assertThat(SkillMask.toSet(all.get(1).matchedSkills())).containsExactlyInAnyOrder(Skill.JAVA, Skill.SPRING_BOOT);
+        assertThat(all.get(1).positionMatched()).isTrue();
+        assertThat(studies).extracting(Recommendation::id).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("기술 스택과 포지션이 없는 과제 공고도 사용자의 학년을 모집하면 추천한다.")
+    void recommend_assignmentsByGrade() {
+        // given
+        RecommendationSnapshot snapshot = new RecommendationSnapshot.Builder(4)
+                .add(source(1, RecruitmentCategory.ASSIGNMENT, Set.of(), 0, Set.of(3, 4), NOW.plusDays(1)))
+                .add(source(2, RecruitmentCategory.ASSIGNMENT, Set.of(), 0, Set.of(1), NOW.plusDays(1)))
+                .build();
+
+        // when
+        List<Recommendation> assignments = snapshot.recommend(USER_SKILLS, USER_POSITION, USER_GRADE,
+                RecruitmentCategory.ASSIGNMENT, NOW, 10);
+
+        // then
+        assertThat(assignments).extracting(Recommendation::id, Recommendation::score)
+                .containsExactly(tuple(1L, RecommendationSnapshot.GRADE_WEIGHT));
+    }
+
+    @Test
+    @DisplayName("힙으로 상위 K개만 고르며, 점수가 같으면 최근에 등록된 공고가 앞선다.")
+    void recommend_topK() {
+        // given
+        RecommendationSnapshot.Builder builder = new RecommendationSnapshot.Builder(4);
+        for (int id = 1; id <= 100; id++) {
+            Set<Skill> skills = id % 10 == 0 ? Set.of(Skill.JAVA, Skill.SPRING_BOOT) : Set.of(Skill.JAVA);
+            builder.add(project(id, skills, Set.of(PositionType.DESIGNER), Set.of()));
+        }
+        RecommendationSnapshot snapshot = builder.build();
+
+        // when
+        List<Recommendation> top = snapshot.recommend(USER_SKILLS, USER_POSITION, USER_GRADE, null, NOW, 12);
+
+        // then
+        assertThat(top).extracting(Recommendation::id)
+                .containsExactly(100L, 90L, 80L, 70L, 60L, 50L, 40L, 30L, 20L, 10L, 99L, 98L);
+    }
+
+    @Test
+    @DisplayName("apply는 바뀐 공고만 병합한 새 스냅샷을 만들고, 모집 중이 아니거나 사라진 공고는 빼며, 기존 스냅샷은 그대로 남는다.")
+    void apply_mergesChanges() {
+        // given
+        RecommendationSnapshot snapshot = new RecommendationSnapshot.Builder(4)
+                .add(project(1, Set.of(Skill.JAVA), Set.of(), Set.of()))
+                .add(project(3, Set.of(Skill.JAVA), Set.of(), Set.of()))
+                .add(project(5, Set.of(Skill.JAVA), Set.of(), Set.of()))
+                .build();
+
+        // when
+        RecommendationSnapshot updated = snapshot.apply(List.of(4L, 3L, 5L, 6L), List.of(
+                project(4, Set.of(Skill.JAVA), Set.of(PositionType.BACK_END), Set.of()),
+                project(3, Set.of(Skill.SPRING_BOOT, Skill.MYSQL), Set.of(), Set.of()),
+                new RecommendationSource(5L, RecruitmentCategory.PROJECT, RecruitmentStatus.CANCELED,
+                        Skill.JAVA.mask(), 0, 0, NOW.plusDays(1))
+        ));
+
+        // then
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.recommend(USER_SKILLS, USER_POSITION, USER_GRADE, null, NOW, 10))
+                .extracting(Recommendation::id, Recommendation::score)
+                .containsExactly(
+                        tuple(4L, 5),
+                        tuple(3L, 4),
+                        tuple(1L, 2)
+                );
+        assertThat(snapshot.recommend(USER_SKILLS, USER_POSITION, USER_GRADE, null, NOW, 10))
+                .extracting(Recommendation::id).containsExactly(5L, 3L, 1L);
+    }
+
+    private RecommendationSource project(long id, Set<Skill> skills, Set<PositionType> positions, Set<Integer> grades) {
+        return source(id, RecruitmentCategory.PROJECT, skills, PositionMask.of(positions), grades, NOW.plusDays(7));
+    }
+
+    private RecommendationSource source(long id, RecruitmentCategory category, Set<Skill> skills, int positionMask,
+                                        Set<Integer> grades, LocalDateTime deadline) {
+        return new RecommendationSource(id, category, RecruitmentStatus.RECRUITING,
+                SkillMask.of(skills), GradeMask.of(grades), positionMask, deadline);
+    }
+}
@@ -0,0 +1,130 @@
+package com.wagglex2.waggle.domain.recommend.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.assignment.entity.Assignment;
+import com.wagglex2.waggle.domain.assignment.repository.AssignmentRepository;
+import com.wagglex2.waggle.domain.common.type.*;
+import com.wagglex2.waggle.domain.project.entity.Project;
+import com.wagglex2.waggle.domain.project.repository.ProjectRepository;
+import com.wagglex2.waggle.domain.project.type.MeetingType;
+import com.wagglex2.waggle.domain.project.type.ProjectPurpose;
+import com.wagglex2.waggle.domain.recommend.index.RecommendationSource;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class RecommendationRepositoryTest {
+
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("모집 중인 공고의 비트마스크를 id 순서로 읽으며, 포지션이 없는 공고는 0으로 읽는다.")
+    void findSourcesAfter() {
+        // given
+        User user = userRepository.save(createUser());
+        Project project = projectRepository.save(createProject(user));
+        Assignment assignment = assignmentRepository.save(createAssignment(user));
+        Project canceled = projectRepository.save(createProject(user));
+        canceled.cancel();
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<RecommendationSource> sources = recommendationRepository.findSourcesAfter(0L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(sources)
+                .extracting(RecommendationSource::id, RecommendationSource::category, RecommendationSource::skillMask,
+                        RecommendationSource::gradeMask, RecommendationSource::openPositionMask)
+                .containsExactly(
+                        tuple(project.getId(), RecruitmentCategory.PROJECT,
+                                SkillMask.of(Set.of(Skill.JAVA, Skill.SPRING_BOOT)),
+                                GradeMask.of(Set.of(3, 4)), PositionType.BACK_END.mask()),
+                        tuple(assignment.getId(), RecruitmentCategory.ASSIGNMENT, SkillMask.EMPTY,
+                                GradeMask.of(Set.of(2, 3)), PositionMask.EMPTY));
+        assertThat(recommendationRepository.findSourcesByIdIn(List.of(canceled.getId())))
+                .extracting(RecommendationSource::status)
+                .containsExactly(RecruitmentStatus.CANCELED);
+        assertThat(recommendationRepository.findRowsByIdIn(List.of(project.getId())))
+                .extracting(RecommendedRecruitmentRow::title, RecommendedRecruitmentRow::authorNickname)
+                .containsExactly(tuple("백엔드 개발자 구합니다.", "nickname"));
+    }
+
+    private Project createProject(User user) {
+        return Project.builder()
+                .user(user)
+                .title("백엔드 개발자 구합니다.")
+                .content("스프링 부트로 서비스를 만듭니다.")
+                .purpose(ProjectPurpose.SIDE_PROJECT)
+                .meetingType(MeetingType.ONLINE)
+                .positions(Set.of(
+                        new PositionParticipantInfo(PositionType.BACK_END, new ParticipantInfo(2)),
+                        new PositionParticipantInfo(PositionType.FRONT_END, new ParticipantInfo(1, 1))
+                ))
+                .skills(Set.of(Skill.JAVA, Skill.SPRING_BOOT))
+                .grades(Set.of(3, 4))
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(60)))
+                .deadline(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+
+    private Assignment createAssignment(User user) {
+        return Assignment.builder()
+                .user(user)
+                .title("데이터베이스 팀플 모집")
+                .content("DB 과제 같이 하실 분 구합니다.")
+                .deadline(LocalDateTime.now().plusDays(7))
+                .department("컴퓨터공학과")
+                .lecture("데이터베이스")
+                .lectureCode("DB101")
+                .participants(new ParticipantInfo(5))
+                .grades(Set.of(2, 3))
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .nickname("nickname")
+                .email("email@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA, Skill.SPRING_BOOT))
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.wagglex2.waggle.domain.review.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.common.dto.response.CursorResponse;
+import com.wagglex2.waggle.domain.common.type.Cursor;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.review.entity.Review;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class ReviewRepositoryTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("커서 조회는 (작성 시각, id) 역순으로 이어서 읽으며, 작성 시각이 같은 리뷰도 빠짐없이 한 번씩 반환한다.")
+    void findByRevieweeIdBefore_seeksByCreatedAtAndId() {
+        // given
+        User reviewer = userRepository.save(createUser("reviewer"));
+        User reviewee = userRepository.save(createUser("reviewee"));
+        User other = userRepository.save(createUser("other"));
+
+        List<Long> ids = new ArrayList<>();
+        int[] minutes = {0, 1, 1, 1, 2};
+        for (int minute : minutes) {
+            Long id = reviewRepository.save(createReview(reviewer, reviewee)).getId();
+            setCreatedAt(id, BASE_TIME.plusMinutes(minute));
+            ids.add(id);
+        }
+        Long otherId = reviewRepository.save(createReview(reviewer, other)).getId();
+        setCreatedAt(otherId, BASE_TIME.plusMinutes(1));
+        entityManager.clear();
+
+        // when
+        List<Long> scrolled = new ArrayList<>();
+        List<Boolean> hasNext = new ArrayList<>();
+        CursorResponse<Review> page = scroll(reviewee.getId(), null);
+        while (true) {
+            page.content().forEach(review -> scrolled.add(review.getId()));
+            hasNext.add(page.hasNext());
+            if (!page.hasNext()) {
+                break;
+            }
+            page = scroll(reviewee.getId(), Cursor.decode(page.nextCursor()));
+        }
+
+        // then
+        assertThat(scrolled).containsExactly(ids.get(4), ids.get(3), ids.get(2), ids.get(1), ids.get(0));
+        assertThat(hasNext).containsExactly(true, true, false);
+    }
+
+    private CursorResponse<Review> scroll(Long revieweeId, Cursor cursor) {
+        List<Review> rows = cursor == null
+                ? reviewRepository.findByRevieweeIdOrderByCreatedAtDescIdDesc(revieweeId, Limit.of(3))
+                : reviewRepository.findByRevieweeIdBefore(revieweeId, cursor.createdAt(), cursor.id(), Limit.of(3));
+        return CursorResponse.of(rows, 2, review -> new Cursor(review.getCreatedAt(), review.getId()));
+    }
+
+    private void setCreatedAt(Long reviewId, LocalDateTime createdAt) {
+        entityManager.flush();
+        entityManager.createNativeQuery("UPDATE reviews SET created_at = ? WHERE id = ?")
+                .setParameter(1, createdAt)
+                .setParameter(2, reviewId)
+                .executeUpdate();
+    }
+
+    private Review createReview(User reviewer, User reviewee) {
+        return Review.builder()
+                .reviewer(reviewer)
+                .reviewee(reviewee)
+                .content("함께해서 즐거웠습니다.")
+                .build();
+    }
+
+    private User createUser(String name) {
+        return User.builder()
+                .username(name)
+                .password("password")
+                .nickname(name)
+                .email(name + "@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.wagglex2.waggle.domain.review.service;
+
+import com.wagglex2.waggle.domain.common.dto.response.PageResponse;
+import com.wagglex2.waggle.domain.common.type.PageMode;
+import com.wagglex2.waggle.domain.common.util.ApproximateCounter;
+import com.wagglex2.waggle.domain.review.dto.request.ReviewCreationRequestDto;
+import com.wagglex2.waggle.domain.review.dto.response.ReviewResponseDto;
+import com.wagglex2.waggle.domain.review.entity.Review;
+import com.wagglex2.waggle.domain.review.repository.ReviewRepository;
+import com.wagglex2.waggle.domain.review.service.serviceImpl.ReviewServiceImpl;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewServiceImplTest {
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private UserService userService;
+
+    private ApproximateCounter approximateCounter;
+    private ReviewServiceImpl reviewService;
+
+    @BeforeEach
+    void setUp() {
+        approximateCounter = new ApproximateCounter(60, 100);
+        reviewService = new ReviewServiceImpl(reviewRepository, userService, approximateCounter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        approximateCounter.stop();
+    }
+
+    @Test
+    @DisplayName("SLICE 모드는 COUNT 쿼리 없이 조회하고 전체 개수를 응답하지 않는다.")
+    void getReviews_slice() {
+        // given
+        PageRequest pageable = PageRequest.of(0, 2);
+        given(reviewRepository.findSliceByRevieweeId(1L, pageable))
+                .willReturn(new SliceImpl<>(List.of(review("좋아요"), review("최고예요")), pageable, true));
+
+        // when
+        PageResponse<ReviewResponseDto> response = reviewService.getReviewsByRevieweeId(1L, pageable, PageMode.SLICE);
+
+        // then
+        assertThat(response.content()).extracting(ReviewResponseDto::content).containsExactly("좋아요", "최고예요");
+        assertThat(response.totalElements()).isNull();
+        assertThat(response.last()).isFalse();
+        verify(reviewRepository, never()).findByRevieweeId(any(), any());
+        verify(reviewRepository, never()).countByRevieweeId(any());
+    }
+
+    @Test
+    @DisplayName("APPROXIMATE 모드는 처음 한 번만 개수를 세고, 이후 요청은 목록 쿼리만 실행한다.")
+    void getReviews_approximate() {
+        // given
+        given(reviewRepository.findSliceByReviewerId(eq(1L), any()))
+                .willAnswer(invocation -> new SliceImpl<>(List.of(review("좋아요")), invocation.getArgument(1), true));
+        given(reviewRepository.countByReviewerId(1L)).willReturn(12L);
+
+        // when
+        reviewService.getReviewsByReviewerId(1L, PageRequest.of(0, 5), PageMode.APPROXIMATE);
+        PageResponse<ReviewResponseDto> response =
+                reviewService.getReviewsByReviewerId(1L, PageRequest.of(1, 5), PageMode.APPROXIMATE);
+
+        // then
+        assertThat(response.totalElements()).isEqualTo(12L);
+        assertThat(response.totalPages()).isEqualTo(3);
+        assertThat(response.mode()).isEqualTo(PageMode.APPROXIMATE);
+        verify(reviewRepository, times(1)).countByReviewerId(1L);
+        verify(reviewRepository, times(2)).findSliceByReviewerId(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("리뷰를 작성하면 트랜잭션이 커밋된 뒤에 근사 개수를 보정한다.")
+    void createReview_addsCountsAfterCommit() {
+        // given
+        approximateCounter.get("reviews:reviewer:1", () -> 3L);
+        approximateCounter.get("reviews:reviewee:2", () -> 5L);
+        given(userService.findById(1L)).willReturn(mock(User.class));
+        given(userService.findById(2L)).willReturn(mock(User.class));
+        given(reviewRepository.save(any(Review.class))).willAnswer(invocation -> invocation.getArgument(0));
+        TransactionSynchronizationManager.initSynchronization();
+
+        try {
+            // when
+            reviewService.createReview(1L, new ReviewCreationRequestDto(2L, "좋아요"));
+
+            // then
+            assertThat(approximateCounter.get("reviews:reviewer:1", () -> 0L)).isEqualTo(3L);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(approximateCounter.get("reviews:reviewer:1", () -> 0L)).isEqualTo(4L);
+            assertThat(approximateCounter.get("reviews:reviewee:2", () -> 0L)).isEqualTo(6L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Review review(String content) {
+        return Review.builder().content(content).build();
+    }
+}
@@ -0,0 +1,191 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.search.type.SearchOperator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvertedIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    @DisplayName("posting list는 오름차순 id와 위치별 등장 횟수를 그대로 돌려주고, 정렬되지 않은 id는 거절한다.")
+    void postingList_roundTrip() {
+        // given
+        int[] ids = {3, 7, 8, 15, 100_000};
+        int[] titleFrequencies = {1, 0, 1, 2, 0};
+        int[] contentFrequencies = {0, 2, 0, 3, 3};
+
+        // when
+        PostingList list = PostingList.encode(ids, titleFrequencies, contentFrequencies, ids.length);
+
+        // then
+        assertThat(list.size()).isEqualTo(5);
+        assertThat(IntStream.range(0, list.size()).map(list::id).toArray()).containsExactly(3, 7, 8, 15, 100_000);
+        assertThat(list.titleFrequency(3)).isEqualTo(2);
+        assertThat(list.contentFrequency(3)).isEqualTo(3);
+        assertThat(list.termFrequency(3)).isEqualTo(5);
+        assertThatThrownBy(() -> PostingList.encode(new int[]{5, 5}, new int[]{1, 1}, new int[]{0, 0}, 2))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("AND 검색은 모든 검색어를 포함한 공고만, OR 검색은 하나라도 포함한 공고를 관련도 순으로 반환한다.")
+    void search_andOr() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of(), List.of("스프링", "백엔드"))
+                .add(document(2, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING), List.of(), List.of("스프링", "스터디"))
+                .add(document(5, RecruitmentCategory.ASSIGNMENT, RecruitmentStatus.CLOSED), List.of(), List.of("백엔드", "과제"))
+                .build();
+
+        // when
+        SearchResult and = search(index, List.of("스프링", "백엔드"), SearchOperator.AND, null, null);
+        SearchResult or = search(index, List.of("스프링", "백엔드"), SearchOperator.OR, null, null);
+        SearchResult missing = search(index, List.of("스프링", "프론트엔드"), SearchOperator.AND, null, null);
+
+        // then
+        assertThat(and.ids()).containsExactly(1);
+        // 1번은 두 검색어 모두 일치 → 가장 앞, 2번과 5번은 점수와 작성 시각이 같으므로 id가 큰 공고가 먼저
+        assertThat(or.ids()).containsExactly(1, 5, 2);
+        assertThat(or.totalHits()).isEqualTo(3);
+        assertThat(missing.ids()).isEmpty();
+        assertThat(missing.totalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("제목에 등장한 검색어는 본문보다 높은 점수를 받고, 같은 등장 횟수라면 짧은 본문이 앞선다.")
+    void search_titleBoostAndLengthNorm() {
+        // given
+        List<String> longContent = List.of("스프링", "자바", "데이터베이스", "배포", "테스트", "설계", "리뷰", "문서");
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("모집"), List.of("스프링", "자바", "배포"))
+                .add(document(2, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("스프링"), List.of("모집", "자바", "배포"))
+                .add(document(3, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("모집"), longContent)
+                .build();
+
+        // when
+        SearchResult boosted = search(index, List.of("스프링"), SearchOperator.AND, null, null);
+        SearchResult contentOnly = index.search(List.of("스프링"), SearchOperator.AND, null, null,
+                new SearchRankingOptions(0f, 1f, 1.2f, 0.75f, 0f, 0.6f, 10), 10);
+
+        // then
+        assertThat(boosted.ids()).containsExactly(2, 1, 3);
+        // 제목 가중치가 0이면 제목에만 등장한 공고는 점수가 0이 되어 맨 뒤로 간다.
+        assertThat(contentOnly.ids()).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    @DisplayName("상위 limit개만 반환하고, 관련도가 같으면 조회수가 많은 공고, 그 다음 최근에 작성된 공고가 앞선다.")
+    void search_topKAndTieBreak() {
+        // given
+        InvertedIndex.Builder builder = InvertedIndex.builder();
+        for (int id = 1; id <= 20; id++) {
+            // 5번마다 조회수가 높은 공고, 그 외에는 id가 작을수록 최근 공고
+            int viewCount = id % 5 == 0 ? 1000 : 0;
+            LocalDateTime createdAt = BASE_TIME.minusDays(id);
+            builder.add(new RecruitmentDocument((long) id, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING,
+                    "제목", "본문", createdAt, createdAt, viewCount), List.of(), List.of("알고리즘"));
+        }
+        InvertedIndex index = builder.build();
+
+        // when
+        SearchResult result = search(index, List.of("알고리즘"), SearchOperator.AND, null, null, 6);
+        SearchResult withoutViewCount = index.search(List.of("알고리즘"), SearchOperator.AND, null, null,
+                new SearchRankingOptions(2f, 1f, 1.2f, 0.75f, 0f, 0.6f, 10), 3);
+
+        // then
+        assertThat(result.ids()).containsExactly(5, 10, 15, 20, 1, 2);
+        assertThat(result.totalHits()).isEqualTo(20);
+        assertThat(withoutViewCount.ids()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("카테고리와 모집 상태로 검색 결과를 걸러내며, 검색어는 대소문자와 앞뒤 공백을 구분하지 않는다.")
+    void search_filters() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("Spring"), List.of())
+                .add(document(2, RecruitmentCategory.PROJECT, RecruitmentStatus.CLOSED), List.of("spring"), List.of())
+                .add(document(3, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING), List.of("SPRING"), List.of())
+                .build();
+
+        // when
+        SearchResult projects = search(index, List.of(" spring "), SearchOperator.AND, RecruitmentCategory.PROJECT, null);
+        SearchResult recruitingProjects = search(index,
+                List.of("Spring"), SearchOperator.AND, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING);
+
+        // then
+        assertThat(projects.ids()).containsExactly(2, 1);
+        assertThat(projects.totalHits()).isEqualTo(2);
+        assertThat(recruitingProjects.ids()).containsExactly(1);
+        assertThat(index.category(3)).isEqualTo(RecruitmentCategory.STUDY);
+        assertThat(index.contains(4)).isFalse();
+    }
+
+    @Test
+    @DisplayName("공고를 id 오름차순이 아닌 순서로 추가하면 예외가 발생한다.")
+    void builder_rejectsUnorderedIds() {
+        // given
+        InvertedIndex.Builder builder = InvertedIndex.builder()
+                .add(document(10, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("스프링"), List.of());
+
+        // when & then
+        assertThatThrownBy(() -> builder.add(
+                document(9, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of(), List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("delta는 수정된 공고의 기존 검색어를 지우고 새 검색어를 넣으며, 삭제된 공고를 색인에서 뺀다.")
+    void delta_upsertAndRemove() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING), List.of("스프링"), List.of("백엔드"))
+                .add(document(2, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING), List.of("스프링"), List.of())
+                .add(document(3, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING), List.of("알고리즘"), List.of())
+                .build();
+
+        // when
+        InvertedIndex updated = index.delta()
+                .upsert(document(1, RecruitmentCategory.PROJECT, RecruitmentStatus.CLOSED), List.of("리액트"), List.of("프론트엔드"))
+                .remove(3)
+                .upsert(document(2000, RecruitmentCategory.ASSIGNMENT, RecruitmentStatus.RECRUITING), List.of("스프링"), List.of())
+                .apply();
+
+        // then
+        assertThat(search(updated, List.of("스프링"), SearchOperator.AND, null, null).ids()).containsExactly(2000, 2);
+        assertThat(search(updated, List.of("리액트"), SearchOperator.AND, null, RecruitmentStatus.CLOSED).ids())
+                .containsExactly(1);
+        assertThat(updated.postings("백엔드").size()).isZero();
+        assertThat(updated.postings("알고리즘").size()).isZero();
+        assertThat(updated.documentCount()).isEqualTo(3);
+
+        // 기존 색인은 그대로 남는다.
+        assertThat(search(index, List.of("스프링"), SearchOperator.AND, null, null).ids()).containsExactly(2, 1);
+        assertThat(index.documentCount()).isEqualTo(3);
+    }
+
+    private SearchResult search(InvertedIndex index, List<String> terms, SearchOperator operator,
+                                RecruitmentCategory category, RecruitmentStatus status) {
+        return search(index, terms, operator, category, status, 10);
+    }
+
+    private SearchResult search(InvertedIndex index, List<String> terms, SearchOperator operator,
+                                RecruitmentCategory category, RecruitmentStatus status, int limit) {
+        return index.search(terms, operator, category, status, SearchRankingOptions.defaults(), limit);
+    }
+
+    private RecruitmentDocument document(long id, RecruitmentCategory category, RecruitmentStatus status) {
+        return new RecruitmentDocument(id, category, status, "제목", "본문", BASE_TIME, BASE_TIME, 0);
+    }
+}
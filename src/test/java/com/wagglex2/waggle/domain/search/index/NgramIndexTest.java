@@ -0,0 +1,108 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Test
+    @DisplayName("공백, 문장 부호, 대소문자를 무시하므로 띄어쓰기가 다르거나 영문/한글이 섞인 검색어도 일치한다.")
+    void searchNgrams_normalizesSpacingAndCase() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, "스프링부트 프로젝트 팀원 모집", "백엔드 개발자를 구합니다."), List.of(), List.of())
+                .add(document(2, "React 스터디", "Spring 프로젝트 경험자 환영!"), List.of(), List.of())
+                .add(document(3, "알고리즘 스터디", "백준 골드 문제를 풉니다."), List.of(), List.of())
+                .build();
+
+        // when & then
+        assertThat(search(index, "스프링 부트").ids()).containsExactly(1);
+        assertThat(search(index, "spring프로젝트").ids()).containsExactly(2);
+        assertThat(search(index, "REACT-스터디").ids()).containsExactly(2);
+        assertThat(search(index, "가").ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어 bigram 중 최소 비율 이상을 포함하면 오타가 있어도 일치하고, 정확히 일치한 공고가 앞선다.")
+    void searchNgrams_toleratesTypo() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, "스프링부트 프로젝트", ""), List.of(), List.of())
+                .add(document(2, "스프랑부트 프로젝트", ""), List.of(), List.of())
+                .add(document(3, "파이썬 데이터 분석", ""), List.of(), List.of())
+                .build();
+
+        // when
+        SearchResult fuzzy = search(index, "스프링부트 프로젝트");
+        SearchResult typo = search(index, "스프링부트 프로잭트");
+        InvertedIndex.Matches strict = index.ngrams().match("스프링부트 프로젝트", 1f);
+
+        // then
+        assertThat(fuzzy.ids()).containsExactly(1, 2);
+        assertThat(fuzzy.totalHits()).isEqualTo(2);
+        assertThat(typo.ids()).containsExactly(1);
+        assertThat(strict.size).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("제외한 공고와 필터에 맞지 않는 공고는 결과와 전체 일치 수에서 빠진다.")
+    void searchNgrams_excludesAndFilters() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, "데이터베이스 팀플", ""), List.of(), List.of())
+                .add(document(2, "데이터베이스 스터디", ""), List.of(), List.of())
+                .add(new RecruitmentDocument(3L, RecruitmentCategory.PROJECT, RecruitmentStatus.CLOSED,
+                        "데이터베이스 프로젝트", "", BASE_TIME, BASE_TIME, 0), List.of(), List.of())
+                .build();
+
+        // when
+        SearchResult result = index.searchNgrams("데이터베이스", null, RecruitmentStatus.RECRUITING,
+                SearchRankingOptions.defaults(), 10, new int[]{1});
+
+        // then
+        assertThat(result.ids()).containsExactly(2);
+        assertThat(result.totalHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("delta는 수정/삭제된 공고의 기존 n-gram을 지우고 새 n-gram을 넣으며, 기존 색인은 그대로 남는다.")
+    void delta_replacesNgrams() {
+        // given
+        InvertedIndex index = InvertedIndex.builder()
+                .add(document(1, "운영체제 스터디", ""), List.of(), List.of())
+                .add(document(2, "네트워크 스터디", ""), List.of(), List.of())
+                .build();
+
+        // when
+        InvertedIndex updated = index.delta()
+                .upsert(document(1, "컴파일러 스터디", ""), List.of(), List.of())
+                .remove(2)
+                .upsert(document(3, "운영체제 과제", ""), List.of(), List.of())
+                .apply();
+
+        // then
+        assertThat(search(updated, "운영체제").ids()).containsExactly(3);
+        assertThat(search(updated, "컴파일러").ids()).containsExactly(1);
+        assertThat(search(updated, "네트워크").ids()).isEmpty();
+        assertThat(updated.ngrams().postings()).doesNotContainKey("네트");
+        assertThat(search(index, "운영체제").ids()).containsExactly(1);
+    }
+
+    private SearchResult search(InvertedIndex index, String query) {
+        return index.searchNgrams(query, null, null, SearchRankingOptions.defaults(), 10, new int[0]);
+    }
+
+    private RecruitmentDocument document(long id, String title, String content) {
+        return new RecruitmentDocument(id, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING,
+                title, content, BASE_TIME, BASE_TIME, 0);
+    }
+}
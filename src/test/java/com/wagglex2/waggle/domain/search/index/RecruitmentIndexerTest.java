@@ -0,0 +1,95 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.event.RecruitmentChangedEvent;
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecruitmentIndexerTest {
+
+    @Mock
+    private RecruitmentSearchIndex recruitmentSearchIndex;
+
+    @Test
+    @DisplayName("같은 공고의 변경 이벤트는 하나로 합쳐 한 번에 반영한다.")
+    void flush_coalescesEvents() {
+        // given
+        RecruitmentIndexer indexer = createIndexer();
+        given(recruitmentSearchIndex.isReady()).willReturn(true);
+
+        indexer.onRecruitmentChanged(RecruitmentChangedEvent.created(1L, RecruitmentCategory.PROJECT));
+        indexer.onRecruitmentChanged(RecruitmentChangedEvent.updated(1L, RecruitmentCategory.PROJECT));
+        indexer.onRecruitmentChanged(RecruitmentChangedEvent.cancelled(1L, RecruitmentCategory.PROJECT));
+        indexer.onRecruitmentChanged(RecruitmentChangedEvent.created(2L, RecruitmentCategory.ASSIGNMENT));
+
+        // when
+        indexer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(recruitmentSearchIndex, times(1)).refresh(captor.capture());
+        assertThat(captor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(indexer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("색인이 준비되지 않았거나 반영에 실패하면 변경을 남겨 두고 다음 주기에 다시 시도한다.")
+    void flush_keepsPendingOnFailure() {
+        // given
+        RecruitmentIndexer indexer = createIndexer();
+        indexer.onRecruitmentChanged(RecruitmentChangedEvent.created(1L, RecruitmentCategory.PROJECT));
+
+        // when
+        given(recruitmentSearchIndex.isReady()).willReturn(false);
+        indexer.flush();
+
+        given(recruitmentSearchIndex.isReady()).willReturn(true);
+        willThrow(new IllegalStateException("DB 연결 실패")).given(recruitmentSearchIndex).refresh(anyCollection());
+        indexer.flush();
+
+        // then
+        verify(recruitmentSearchIndex, times(1)).refresh(anyCollection());
+        assertThat(indexer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("색인 반영은 한 주기에 한 묶음만 하고, 남은 변경은 다음 주기에 반영한다.")
+    void flush_appliesOneBatchPerCycle() {
+        // given
+        RecruitmentIndexer indexer = new RecruitmentIndexer(recruitmentSearchIndex, new SimpleMeterRegistry(), 500, 2, 60_000);
+        given(recruitmentSearchIndex.isReady()).willReturn(true);
+        for (long id = 1; id <= 3; id++) {
+            indexer.onRecruitmentChanged(RecruitmentChangedEvent.created(id, RecruitmentCategory.PROJECT));
+        }
+
+        // when
+        indexer.flush();
+
+        // then
+        verify(recruitmentSearchIndex, times(1)).refresh(anyCollection());
+        assertThat(indexer.pendingCount()).isEqualTo(1);
+
+        indexer.flush();
+        verify(recruitmentSearchIndex, times(2)).refresh(anyCollection());
+        assertThat(indexer.pendingCount()).isZero();
+    }
+
+    private RecruitmentIndexer createIndexer() {
+        return new RecruitmentIndexer(recruitmentSearchIndex, new SimpleMeterRegistry(), 500, 200, 60_000);
+    }
+}
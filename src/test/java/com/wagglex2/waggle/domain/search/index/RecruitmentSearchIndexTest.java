@@ -0,0 +1,119 @@
+package com.wagglex2.waggle.domain.search.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.util.KomoranUtil;
+import com.wagglex2.waggle.domain.search.repository.RecruitmentSearchRepository;
+import com.wagglex2.waggle.domain.search.type.SearchOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecruitmentSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Mock
+    private RecruitmentSearchRepository recruitmentSearchRepository;
+
+    @Mock
+    private KomoranUtil komoranUtil;
+
+    @TempDir
+    private Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        // 공백 단위로 명사를 추출하는 것으로 대신한다.
+        lenient().when(komoranUtil.getNouns(anyList())).thenAnswer(invocation -> {
+            List<String> texts = invocation.getArgument(0);
+            return texts.stream().map(text -> Arrays.asList(text.split("\\s+"))).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("변경된 공고를 다시 읽어 반영하며, 취소되었거나 없어진 공고는 색인에서 뺀다.")
+    void refresh_appliesChanges() {
+        // given
+        RecruitmentSearchIndex searchIndex = createIndex(null);
+        given(recruitmentSearchRepository.findDocumentsAfter(eq(0L), any()))
+                .willReturn(List.of(
+                        document(1, RecruitmentStatus.RECRUITING, "스프링 백엔드", 0),
+                        document(2, RecruitmentStatus.RECRUITING, "스프링 스터디", 0),
+                        document(3, RecruitmentStatus.RECRUITING, "스프링 과제", 0)));
+        searchIndex.rebuild();
+
+        given(recruitmentSearchRepository.findDocumentsByIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(
+                        document(1, RecruitmentStatus.RECRUITING, "리액트 프론트엔드", 1),
+                        document(2, RecruitmentStatus.CANCELED, "스프링 스터디", 1)));
+
+        // when
+        searchIndex.refresh(List.of(1L, 2L, 3L));
+
+        // then
+        InvertedIndex index = searchIndex.current();
+        assertThat(search(index, "스프링")).isEmpty();
+        assertThat(search(index, "리액트")).containsExactly(1);
+        assertThat(index.documentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 색인을 복원하면 전체를 다시 만들지 않고 high-water mark 이후 바뀐 공고만 다시 읽는다.")
+    void initialize_restoresSnapshotAndCatchesUp() {
+        // given
+        Path snapshot = tempDir.resolve("search-index.bin");
+        RecruitmentSearchIndex first = createIndex(snapshot);
+        given(recruitmentSearchRepository.findDocumentsAfter(eq(0L), any()))
+                .willReturn(List.of(
+                        document(1, RecruitmentStatus.RECRUITING, "스프링 백엔드", 0),
+                        document(2, RecruitmentStatus.RECRUITING, "알고리즘 스터디", 5)));
+        first.initialize();
+        clearInvocations(recruitmentSearchRepository);
+
+        given(recruitmentSearchRepository.findDocumentsUpdatedAfter(any(), anyLong(), any()))
+                .willReturn(List.of(document(3, RecruitmentStatus.RECRUITING, "스프링 과제", 10)))
+                .willReturn(List.of());
+
+        // when
+        RecruitmentSearchIndex restarted = createIndex(snapshot);
+        restarted.initialize();
+
+        // then
+        assertThat(search(restarted.current(), "스프링")).containsExactly(3, 1);
+        assertThat(restarted.current().searchNgrams("알고리즘스터디", null, null,
+                SearchRankingOptions.defaults(), 10, new int[0]).ids()).containsExactly(2);
+        verify(recruitmentSearchRepository, never()).findDocumentsAfter(anyLong(), any());
+        // high-water mark(5분) - 여유(60초)부터 따라잡는다.
+        verify(recruitmentSearchRepository).findDocumentsUpdatedAfter(eq(BASE_TIME.plusMinutes(4)), eq(0L), any());
+    }
+
+    private int[] search(InvertedIndex index, String term) {
+        return index.search(List.of(term), SearchOperator.AND, null, null, SearchRankingOptions.defaults(), 10).ids();
+    }
+
+    private RecruitmentSearchIndex createIndex(Path snapshot) {
+        return new RecruitmentSearchIndex(recruitmentSearchRepository, komoranUtil, 500,
+                snapshot != null ? snapshot.toString() : "", 60);
+    }
+
+    private RecruitmentDocument document(long id, RecruitmentStatus status, String title, int updatedMinutes) {
+        return new RecruitmentDocument(id, RecruitmentCategory.PROJECT, status, title, "",
+                BASE_TIME, BASE_TIME.plusMinutes(updatedMinutes), 0);
+    }
+}
@@ -0,0 +1,105 @@
+package com.wagglex2.waggle.domain.search.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.common.type.*;
+import com.wagglex2.waggle.domain.search.dto.response.RecruitmentSearchResponseDto;
+import com.wagglex2.waggle.domain.search.index.RecruitmentDocument;
+import com.wagglex2.waggle.domain.study.entity.Study;
+import com.wagglex2.waggle.domain.study.repository.StudyRepository;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class RecruitmentSearchRepositoryTest {
+
+    @Autowired
+    private RecruitmentSearchRepository recruitmentSearchRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("색인용 조회는 id가 lastId보다 큰 공고를 id 순서로 페이지 크기만큼 반환한다.")
+    void findDocumentsAfter() {
+        // given
+        User user = userRepository.save(createUser());
+        Study first = studyRepository.save(createStudy(user, "알고리즘 스터디"));
+        Study second = studyRepository.save(createStudy(user, "운영체제 스터디"));
+        Study third = studyRepository.save(createStudy(user, "네트워크 스터디"));
+
+        // when
+        List<RecruitmentDocument> documents =
+                recruitmentSearchRepository.findDocumentsAfter(first.getId(), PageRequest.of(0, 1));
+
+        // then
+        assertThat(documents).hasSize(1);
+        assertThat(documents.get(0).id()).isEqualTo(second.getId());
+        assertThat(documents.get(0).category()).isEqualTo(RecruitmentCategory.STUDY);
+        assertThat(documents.get(0).title()).isEqualTo("운영체제 스터디");
+        assertThat(documents.get(0).content()).contains("백준");
+        assertThat(recruitmentSearchRepository.findDocumentsAfter(third.getId(), PageRequest.of(0, 10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색 결과 조회는 주어진 id의 공고 목록 정보를 반환한다.")
+    void findSearchResultsByIdIn() {
+        // given
+        User user = userRepository.save(createUser());
+        Study study = studyRepository.save(createStudy(user, "알고리즘 스터디"));
+
+        // when
+        List<RecruitmentSearchResponseDto> results =
+                recruitmentSearchRepository.findSearchResultsByIdIn(List.of(study.getId(), -1L));
+
+        // then
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).title()).isEqualTo("알고리즘 스터디");
+        assertThat(results.get(0).status()).isEqualTo(RecruitmentStatus.RECRUITING);
+    }
+
+    private Study createStudy(User user, String title) {
+        return Study.builder()
+                .user(user)
+                .title(title)
+                .content("백준 골드 난이도 문제 풉니다!")
+                .participants(new ParticipantInfo(5))
+                .skills(Set.of(Skill.JAVA))
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(30)))
+                .deadline(LocalDateTime.now().plusDays(5))
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .nickname("nickname")
+                .email("email@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA, Skill.SPRING_BOOT))
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.wagglex2.waggle.domain.search.service;
+
+import com.wagglex2.waggle.domain.common.util.KomoranUtil;
+import com.wagglex2.waggle.domain.search.dto.request.RecruitmentSearchRequestDto;
+import com.wagglex2.waggle.domain.search.index.InvertedIndex;
+import com.wagglex2.waggle.domain.search.index.RecruitmentSearchIndex;
+import com.wagglex2.waggle.domain.search.index.SearchRankingOptions;
+import com.wagglex2.waggle.domain.search.index.SearchResult;
+import com.wagglex2.waggle.domain.search.repository.RecruitmentSearchRepository;
+import com.wagglex2.waggle.domain.search.service.serviceImpl.RecruitmentSearchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RecruitmentSearchServiceImplTest {
+
+    @Mock
+    private RecruitmentSearchIndex recruitmentSearchIndex;
+
+    @Mock
+    private RecruitmentSearchRepository recruitmentSearchRepository;
+
+    @Mock
+    private KomoranUtil komoranUtil;
+
+    @Mock
+    private InvertedIndex index;
+
+    private RecruitmentSearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new RecruitmentSearchServiceImpl(
+                recruitmentSearchIndex, recruitmentSearchRepository, SearchRankingOptions.defaults(), komoranUtil);
+    }
+
+    @Test
+    @DisplayName("AUTO 모드에서 페이지 크기가 덧붙이기 기준보다 작아도 요청한 페이지 크기만큼만 응답한다.")
+    void search_autoModeRespectsPageSize() {
+        // given : 기준(10개)보다 적은 명사 결과 8개와 n-gram 결과 2개
+        given(recruitmentSearchIndex.current()).willReturn(index);
+        given(komoranUtil.getNouns("스프링")).willReturn(List.of("스프링"));
+        given(index.search(any(), any(), any(), any(), any(), eq(10)))
+                .willReturn(new SearchResult(new int[]{1, 2, 3, 4, 5, 6, 7, 8}, 8));
+        given(index.searchNgrams(eq("스프링"), any(), any(), any(), anyInt(), any()))
+                .willReturn(new SearchResult(new int[]{9, 10}, 2));
+        RecruitmentSearchRequestDto request = new RecruitmentSearchRequestDto("스프링", null, null, null, null);
+
+        // when
+        searchService.search(request, PageRequest.of(0, 5));
+        searchService.search(request, PageRequest.of(1, 5));
+
+        // then
+        verify(recruitmentSearchRepository).findSearchResultsByIdIn(List.of(1L, 2L, 3L, 4L, 5L));
+        verify(recruitmentSearchRepository).findSearchResultsByIdIn(List.of(6L, 7L, 8L, 9L, 10L));
+    }
+}
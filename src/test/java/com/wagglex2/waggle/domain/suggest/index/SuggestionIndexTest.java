@@ -0,0 +1,106 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.common.error.ErrorCode;
+import com.wagglex2.waggle.common.exception.RetryableBusinessException;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.suggest.repository.SuggestionRepository;
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    @Mock
+    private SuggestionRepository suggestionRepository;
+
+    @Test
+    @DisplayName("같은 과목과 기술 스택은 공고 수만큼 인기도를 더하고, 공고가 없는 기술 스택도 후보로 남는다.")
+    void rebuild_aggregatesPopularity() {
+        // given
+        SuggestionIndex suggestionIndex = new SuggestionIndex(suggestionRepository, 500, 10);
+        given(suggestionRepository.findSourcesAfter(eq(0L), any()))
+                .willReturn(List.of(
+                        assignment(1, "데이터베이스 팀플", "데이터베이스", "DB101"),
+                        assignment(2, "DB 과제 같이 하실 분", "데이터베이스", "DB101"),
+                        assignment(3, "자료구조 과제", "자료구조", "DS201")));
+        given(suggestionRepository.findProjectSkillsByIdIn(anyCollection()))
+                .willReturn(List.of(new RecruitmentSkill(1L, Skill.MYSQL), new RecruitmentSkill(2L, Skill.MYSQL)));
+        given(suggestionRepository.findStudySkillsByIdIn(anyCollection())).willReturn(List.of());
+
+        // when
+        suggestionIndex.rebuild();
+
+        // then
+        SuggestionTrie trie = suggestionIndex.current();
+        assertThat(trie.suggest("데이터", 10)).containsExactly(
+                new Suggestion(SuggestionType.LECTURE, "데이터베이스", 2),
+                new Suggestion(SuggestionType.TITLE, "데이터베이스 팀플", 1));
+        assertThat(trie.suggest("db", 10)).containsExactly(
+                new Suggestion(SuggestionType.LECTURE_CODE, "DB101", 2),
+                new Suggestion(SuggestionType.TITLE, "DB 과제 같이 하실 분", 1));
+        assertThat(trie.suggest("my", 10)).containsExactly(new Suggestion(SuggestionType.SKILL, "MySQL", 2));
+        assertThat(trie.suggest("doc", 10)).containsExactly(new Suggestion(SuggestionType.SKILL, "Docker", 0));
+    }
+
+    @Test
+    @DisplayName("트라이가 준비되기 전에는 SUGGESTION_NOT_READY로 응답한다.")
+    void current_throwsBeforeReady() {
+        // given
+        SuggestionIndex suggestionIndex = new SuggestionIndex(suggestionRepository, 500, 10);
+
+        // when & then
+        assertThatThrownBy(suggestionIndex::current)
+                .isInstanceOf(RetryableBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SUGGESTION_NOT_READY);
+    }
+
+    @Test
+    @DisplayName("변경된 공고의 이전 기여분을 빼고 새 기여분을 더하며, 취소되었거나 없어진 공고의 후보는 사라진다.")
+    void refresh_appliesChanges() {
+        // given
+        SuggestionIndex suggestionIndex = new SuggestionIndex(suggestionRepository, 500, 10);
+        given(suggestionRepository.findSourcesAfter(eq(0L), any()))
+                .willReturn(List.of(
+                        assignment(1, "운영체제 팀플", "운영체제", "OS301"),
+                        assignment(2, "운영체제 과제", "운영체제", "OS301"),
+                        assignment(3, "네트워크 과제", "네트워크", "NW401")));
+        given(suggestionRepository.findProjectSkillsByIdIn(anyCollection())).willReturn(List.of());
+        given(suggestionRepository.findStudySkillsByIdIn(anyCollection())).willReturn(List.of());
+        suggestionIndex.rebuild();
+
+        given(suggestionRepository.findSourcesByIdIn(List.of(1L, 2L, 3L)))
+                .willReturn(List.of(
+                        assignment(1, "운영체제 스터디", "운영체제", "OS301"),
+                        new SuggestionSource(2L, RecruitmentStatus.CANCELED, "운영체제 과제", 0, "운영체제", "OS301")));
+
+        // when
+        suggestionIndex.refresh(List.of(1L, 2L, 3L));
+
+        // then
+        SuggestionTrie trie = suggestionIndex.current();
+        assertThat(trie.suggest("운영", 10)).containsExactly(
+                new Suggestion(SuggestionType.LECTURE, "운영체제", 1),
+                new Suggestion(SuggestionType.TITLE, "운영체제 스터디", 1));
+        assertThat(trie.suggest("네", 10)).isEmpty();
+        assertThat(trie.suggest("nw", 10)).isEmpty();
+    }
+
+    private SuggestionSource assignment(long id, String title, String lecture, String lectureCode) {
+        return new SuggestionSource(id, RecruitmentStatus.RECRUITING, title, 0, lecture, lectureCode);
+    }
+}
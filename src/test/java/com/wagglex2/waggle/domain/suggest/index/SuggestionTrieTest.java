@@ -0,0 +1,105 @@
+package com.wagglex2.waggle.domain.suggest.index;
+
+import com.wagglex2.waggle.domain.suggest.type.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+
+    @Test
+    @DisplayName("한글은 자모 단위로 비교하므로 입력 중인 미완성 음절과 겹받침도 접두어로 일치한다.")
+    void suggest_hangulJamo() {
+        // given
+        SuggestionTrie trie = SuggestionTrie.of(List.of(
+                new Suggestion(SuggestionType.TITLE, "스프링 스터디 모집", 3),
+                new Suggestion(SuggestionType.LECTURE, "닭고기 요리", 1),
+                new Suggestion(SuggestionType.SKILL, "Spring Boot", 5)
+        ), 10);
+
+        // when & then
+        assertThat(texts(trie.suggest("슾", 10))).containsExactly("스프링 스터디 모집");
+        assertThat(texts(trie.suggest("스플", 10))).containsExactly("스프링 스터디 모집");
+        assertThat(texts(trie.suggest("ㅅ", 10))).containsExactly("스프링 스터디 모집");
+        assertThat(texts(trie.suggest("닭", 10))).containsExactly("닭고기 요리");
+        assertThat(texts(trie.suggest("달ㄱ", 10))).containsExactly("닭고기 요리");
+        assertThat(texts(trie.suggest("  SPRING   b", 10))).containsExactly("Spring Boot");
+        assertThat(trie.suggest("스프링스", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어 아래 후보 중 인기도 상위 K개만 인기도 순으로 반환한다.")
+    void suggest_topKByWeight() {
+        // given
+        SuggestionTrie trie = SuggestionTrie.of(List.of(
+                new Suggestion(SuggestionType.TITLE, "자바 스터디", 10),
+                new Suggestion(SuggestionType.TITLE, "자바스크립트 프로젝트", 30),
+                new Suggestion(SuggestionType.LECTURE, "자료구조", 20),
+                new Suggestion(SuggestionType.LECTURE_CODE, "자바101", 5)
+        ), 3);
+
+        // when
+        List<Suggestion> top = trie.suggest("자", 10);
+        List<Suggestion> limited = trie.suggest("자바", 1);
+
+        // then
+        assertThat(texts(top)).containsExactly("자바스크립트 프로젝트", "자료구조", "자바 스터디");
+        assertThat(texts(limited)).containsExactly("자바스크립트 프로젝트");
+    }
+
+    @Test
+    @DisplayName("put과 remove는 바뀐 경로만 복사한 새 트라이를 만들고, 기존 트라이는 그대로 남는다.")
+    void putAndRemove_pathCopying() {
+        // given
+        SuggestionTrie original = SuggestionTrie.empty(10)
+                .put(new Suggestion(SuggestionType.TITLE, "리액트 스터디", 1))
+                .put(new Suggestion(SuggestionType.TITLE, "리눅스 세미나", 2));
+
+        // when
+        SuggestionTrie updated = original
+                .put(new Suggestion(SuggestionType.TITLE, "리액트 스터디", 5))
+                .put(new Suggestion(SuggestionType.SKILL, "React", 1))
+                .remove(SuggestionType.TITLE, "리눅스 세미나");
+
+        // then
+        assertThat(updated.suggest("리", 10))
+                .containsExactly(new Suggestion(SuggestionType.TITLE, "리액트 스터디", 5));
+        assertThat(texts(updated.suggest("re", 10))).containsExactly("React");
+        assertThat(texts(original.suggest("리", 10))).containsExactly("리눅스 세미나", "리액트 스터디");
+        assertThat(updated.remove(SuggestionType.TITLE, "없는 후보")).isSameAs(updated);
+    }
+
+    @Test
+    @DisplayName("put으로 하나씩 넣은 트라이와 of로 한 번에 만든 트라이는 같은 결과를 반환한다.")
+    void of_matchesIncrementalPut() {
+        // given
+        List<Suggestion> suggestions = List.of(
+                new Suggestion(SuggestionType.TITLE, "데이터베이스 팀플", 4),
+                new Suggestion(SuggestionType.LECTURE, "데이터베이스", 2),
+                new Suggestion(SuggestionType.TITLE, "데이터 분석 스터디", 3),
+                new Suggestion(SuggestionType.LECTURE_CODE, "DB101", 1),
+                new Suggestion(SuggestionType.TITLE, "디자인 프로젝트", 6)
+        );
+        SuggestionTrie incremental = SuggestionTrie.empty(10);
+        for (Suggestion suggestion : suggestions) {
+            incremental = incremental.put(suggestion);
+        }
+
+        // when
+        SuggestionTrie bulk = SuggestionTrie.of(suggestions, 10);
+
+        // then
+        for (String prefix : List.of("ㄷ", "데", "데이터", "데이터베", "db", "디")) {
+            assertThat(bulk.suggest(prefix, 10)).isEqualTo(incremental.suggest(prefix, 10));
+        }
+        assertThat(texts(bulk.suggest("데이터", 10)))
+                .containsExactly("데이터베이스 팀플", "데이터 분석 스터디", "데이터베이스");
+    }
+
+    private List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
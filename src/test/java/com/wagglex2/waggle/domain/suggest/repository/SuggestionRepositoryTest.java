@@ -0,0 +1,126 @@
+package com.wagglex2.waggle.domain.suggest.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.assignment.entity.Assignment;
+import com.wagglex2.waggle.domain.assignment.repository.AssignmentRepository;
+import com.wagglex2.waggle.domain.common.type.*;
+import com.wagglex2.waggle.domain.study.entity.Study;
+import com.wagglex2.waggle.domain.study.repository.StudyRepository;
+import com.wagglex2.waggle.domain.suggest.index.RecruitmentSkill;
+import com.wagglex2.waggle.domain.suggest.index.SuggestionSource;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import com.wagglex2.waggle.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class SuggestionRepositoryTest {
+
+    @Autowired
+    private SuggestionRepository suggestionRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private StudyRepository studyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("자동완성 후보 조회는 모든 공고의 제목을 id 순서로 반환하고, 과제 공고만 과목명과 과목 코드를 채운다.")
+    void findSourcesAfter() {
+        // given
+        User user = userRepository.save(createUser());
+        Study study = studyRepository.save(createStudy(user));
+        Assignment assignment = assignmentRepository.save(createAssignment(user));
+
+        // when
+        List<SuggestionSource> sources = suggestionRepository.findSourcesAfter(0L, PageRequest.of(0, 10));
+
+        // then
+        assertThat(sources)
+                .extracting(SuggestionSource::id, SuggestionSource::title,
+                        SuggestionSource::lecture, SuggestionSource::lectureCode)
+                .containsExactly(
+                        tuple(study.getId(), "알고리즘 스터디", null, null),
+                        tuple(assignment.getId(), "데이터베이스 팀플 모집", "데이터베이스", "DB101"));
+        assertThat(suggestionRepository.findSourcesByIdIn(List.of(assignment.getId())))
+                .extracting(SuggestionSource::lecture)
+                .containsExactly("데이터베이스");
+    }
+
+    @Test
+    @DisplayName("기술 스택 조회는 주어진 공고가 요구하는 기술 스택을 공고 id와 함께 반환한다.")
+    void findStudySkillsByIdIn() {
+        // given
+        User user = userRepository.save(createUser());
+        Study study = studyRepository.save(createStudy(user));
+
+        // when
+        List<RecruitmentSkill> skills = suggestionRepository.findStudySkillsByIdIn(List.of(study.getId()));
+
+        // then
+        assertThat(skills).containsExactlyInAnyOrder(
+                new RecruitmentSkill(study.getId(), Skill.JAVA),
+                new RecruitmentSkill(study.getId(), Skill.PYTHON));
+        assertThat(suggestionRepository.findProjectSkillsByIdIn(List.of(study.getId()))).isEmpty();
+    }
+
+    private Study createStudy(User user) {
+        return Study.builder()
+                .user(user)
+                .title("알고리즘 스터디")
+                .content("백준 골드 난이도 문제 풉니다!")
+                .participants(new ParticipantInfo(5))
+                .skills(Set.of(Skill.JAVA, Skill.PYTHON))
+                .period(new Period(LocalDate.now(), LocalDate.now().plusDays(30)))
+                .deadline(LocalDateTime.now().plusDays(5))
+                .build();
+    }
+
+    private Assignment createAssignment(User user) {
+        return Assignment.builder()
+                .user(user)
+                .title("데이터베이스 팀플 모집")
+                .content("DB 과제 같이 하실 분 구합니다.")
+                .deadline(LocalDateTime.now().plusDays(7))
+                .department("컴퓨터공학과")
+                .lecture("데이터베이스")
+                .lectureCode("DB101")
+                .participants(new ParticipantInfo(5))
+                .grades(Set.of(2, 3, 4))
+                .build();
+    }
+
+    private User createUser() {
+        return User.builder()
+                .username("username")
+                .password("password")
+                .nickname("nickname")
+                .email("email@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(Set.of(Skill.JAVA, Skill.SPRING_BOOT))
+                .build();
+    }
+}
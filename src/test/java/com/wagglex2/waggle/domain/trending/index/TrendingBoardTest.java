@@ -0,0 +1,92 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import com.wagglex2.waggle.domain.common.type.RecruitmentStatus;
+import com.wagglex2.waggle.domain.trending.repository.TrendingRecruitmentRow;
+import com.wagglex2.waggle.domain.trending.repository.TrendingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingBoardTest {
+
+    private static final LocalDateTime OPEN = LocalDateTime.now().plusDays(7);
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private TrendingRepository trendingRepository;
+
+    private TrendingBoard board;
+
+    @BeforeEach
+    void setUp() {
+        TrendingRecorder recorder = new TrendingRecorder(redisTemplate, 24, 1.0, 1000, 1000);
+        board = new TrendingBoard(redisTemplate, trendingRepository, recorder, 200, 5000);
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("카테고리별 상위 후보를 합쳐 점수 순 스냅샷을 만들고, 마감/취소/삭제된 공고는 Sorted Set에서 지운다.")
+    void refresh_buildsSnapshotAndPrunesExpired() {
+        // given
+        given(zSetOperations.reverseRangeWithScores(eq("TR:PROJECT"), anyLong(), anyLong()))
+                .willReturn(tuples(TypedTuple.of("1", 10.0), TypedTuple.of("2", 9.8), TypedTuple.of("3", 9.6)));
+        given(zSetOperations.reverseRangeWithScores(eq("TR:STUDY"), anyLong(), anyLong()))
+                .willReturn(tuples(TypedTuple.of("4", 9.9), TypedTuple.of("5", 9.0)));
+        given(zSetOperations.reverseRangeWithScores(eq("TR:ASSIGNMENT"), anyLong(), anyLong()))
+                .willReturn(Set.of());
+        given(trendingRepository.findRowsByIdIn(anyCollection())).willReturn(List.of(
+                row(1L, RecruitmentCategory.PROJECT, RecruitmentStatus.RECRUITING, OPEN),
+                row(2L, RecruitmentCategory.PROJECT, RecruitmentStatus.CLOSED, OPEN),
+                row(4L, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING, OPEN),
+                row(5L, RecruitmentCategory.STUDY, RecruitmentStatus.RECRUITING, LocalDateTime.now().minusDays(1))
+        ));
+
+        // when
+        board.refresh();
+
+        // then
+        TrendingSnapshot snapshot = board.current();
+        assertThat(snapshot.top(null, 10)).extracting(TrendingRecruitment::id).containsExactly(1L, 4L);
+        assertThat(snapshot.top(RecruitmentCategory.STUDY, 10)).extracting(TrendingRecruitment::id).containsExactly(4L);
+        assertThat(snapshot.top(null, 1)).extracting(TrendingRecruitment::id).containsExactly(1L);
+        assertThat(snapshot.top(RecruitmentCategory.ASSIGNMENT, 10)).isEmpty();
+
+        verify(zSetOperations).remove("TR:PROJECT", "2", "3");
+        verify(zSetOperations).remove("TR:STUDY", "5");
+    }
+
+    @SafeVarargs
+    private static Set<TypedTuple<String>> tuples(TypedTuple<String>... tuples) {
+        return new LinkedHashSet<>(List.of(tuples));
+    }
+
+    private static TrendingRecruitmentRow row(Long id, RecruitmentCategory category, RecruitmentStatus status,
+                                              LocalDateTime deadline) {
+        return new TrendingRecruitmentRow(id, category, status, "공고 " + id, 1L, "nickname", deadline, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import com.wagglex2.waggle.domain.common.type.RecruitmentCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingRecorderTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    private TrendingRecorder recorder;
+
+    // 스크립트 호출마다 넘긴 공고 수
+    private final List<Integer> calls = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        recorder = new TrendingRecorder(redisTemplate, 24, 1.0, 1000, 60_000);
+    }
+
+    @Test
+    @DisplayName("가중치는 한 주기 뒤에 반영하고, 중간 호출이 실패하면 실패한 호출의 공고만 다음 주기에 재시도한다.")
+    void flush_retriesOnlyFailedChunk() {
+        // given : 호출 두 번으로 나뉘는 501개 공고, 두 번째 호출만 실패
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(invocation -> {
+            calls.add(members(invocation.getRawArguments()[2]));
+            if (calls.size() == 2) {
+                throw new RedisConnectionFailureException("down");
+            }
+            return 1L;
+        });
+        for (long id = 1; id <= 501; id++) {
+            recorder.recordView(RecruitmentCategory.PROJECT, id);
+        }
+
+        // when
+        recorder.flush();
+        assertThat(calls).isEmpty();
+        recorder.flush();
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        assertThat(calls).containsExactly(500, 1, 1);
+    }
+
+    @Test
+    @DisplayName("종료할 때 교체된 맵과 현재 맵에 남은 가중치를 모두 반영한다.")
+    void stop_flushesRemainingWeights() throws InterruptedException {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willAnswer(invocation -> {
+            calls.add(members(invocation.getRawArguments()[2]));
+            return 1L;
+        });
+        recorder.recordView(RecruitmentCategory.PROJECT, 1L);
+        recorder.flush();
+        recorder.recordView(RecruitmentCategory.PROJECT, 1L);
+        recorder.recordView(RecruitmentCategory.PROJECT, 2L);
+
+        // when
+        recorder.stop();
+
+        // then
+        assertThat(calls).containsExactly(2);
+    }
+
+    private static int members(Object argv) {
+        return (((Object[]) argv).length - 1) / 2;
+    }
+}
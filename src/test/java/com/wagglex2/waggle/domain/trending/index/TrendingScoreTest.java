@@ -0,0 +1,45 @@
+package com.wagglex2.waggle.domain.trending.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingScoreTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long NOW = Instant.parse("2026-10-01T00:00:00Z").toEpochMilli();
+    private static final double TAU = TrendingScore.timeConstant(HOUR);
+
+    @Test
+    @DisplayName("로그 점수를 더한 뒤 감쇠하면 이벤트별로 반감기만큼 감쇠한 점수의 합과 같다.")
+    void add_matchesDecayedSum() {
+        // given
+        double old = TrendingScore.of(4, NOW - 2 * HOUR, TAU);
+        double recent = TrendingScore.of(1, NOW - HOUR, TAU);
+
+        // when
+        double sum = TrendingScore.add(old, recent);
+
+        // then
+        assertThat(TrendingScore.decayed(old, NOW, TAU)).isCloseTo(1.0, within(1e-9));
+        assertThat(TrendingScore.decayed(recent, NOW, TAU)).isCloseTo(0.5, within(1e-9));
+        assertThat(TrendingScore.decayed(sum, NOW, TAU)).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("저장된 점수를 다시 쓰지 않아도 최근 이벤트가 오래된 큰 이벤트를 앞지른다.")
+    void of_recentEventsOvertakeOldOnes() {
+        // given
+        double burstYesterday = TrendingScore.of(100, NOW - 24 * HOUR, TAU);
+        double steadyToday = TrendingScore.add(TrendingScore.of(1, NOW - HOUR, TAU), TrendingScore.of(1, NOW, TAU));
+
+        // when & then
+        assertThat(steadyToday).isGreaterThan(burstYesterday);
+        assertThat(Double.isFinite(TrendingScore.decayed(steadyToday, NOW, TAU))).isTrue();
+    }
+}
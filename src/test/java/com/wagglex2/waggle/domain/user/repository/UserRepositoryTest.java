@@ -0,0 +1,90 @@
+package com.wagglex2.waggle.domain.user.repository;
+
+import com.wagglex2.waggle.common.config.JpaAuditingConfig;
+import com.wagglex2.waggle.domain.common.type.PositionType;
+import com.wagglex2.waggle.domain.common.type.Skill;
+import com.wagglex2.waggle.domain.common.type.SkillMask;
+import com.wagglex2.waggle.domain.user.entity.User;
+import com.wagglex2.waggle.domain.user.entity.type.University;
+import com.wagglex2.waggle.domain.user.entity.type.UserRoleType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(JpaAuditingConfig.class)
+@DataJpaTest
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("skill_mask 비트 연산으로 기술 스택을 모두/하나라도 가진 활동 중인 사용자를 조회한다.")
+    void findAllHavingSkills_bitwise() {
+        // given
+        User springReact = userRepository.save(createUser("spring-react", Set.of(Skill.SPRING_BOOT, Skill.REACT)));
+        User spring = userRepository.save(createUser("spring", Set.of(Skill.SPRING_BOOT, Skill.MYSQL)));
+        User react = userRepository.save(createUser("react", Set.of(Skill.REACT)));
+        User withdrawn = userRepository.save(createUser("withdrawn", Set.of(Skill.SPRING_BOOT, Skill.REACT)));
+        withdrawn.withdraw();
+        flushAndClear();
+        long mask = SkillMask.of(Set.of(Skill.SPRING_BOOT, Skill.REACT));
+
+        // when & then
+        assertThat(ids(userRepository.findAllHavingAllSkills(mask))).containsExactly(springReact.getId());
+        assertThat(ids(userRepository.findAllHavingAnySkill(mask)))
+                .containsExactly(springReact.getId(), spring.getId(), react.getId());
+    }
+
+    @Test
+    @DisplayName("기술 스택을 바꾸면 skill_mask도 함께 바뀐다.")
+    void updateSkills_syncsSkillMask() {
+        // given
+        User user = userRepository.save(createUser("user", Set.of(Skill.JAVA)));
+        flushAndClear();
+
+        // when
+        userRepository.findById(user.getId()).orElseThrow().updateSkills(Set.of(Skill.KOTLIN, Skill.SPRING_BOOT));
+        flushAndClear();
+
+        // then
+        User found = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(found.getSkillMask()).containsExactlyInAnyOrder(Skill.KOTLIN, Skill.SPRING_BOOT);
+        assertThat(userRepository.findAllHavingAnySkill(Skill.JAVA.mask())).isEmpty();
+    }
+
+    private List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private User createUser(String username, Set<Skill> skills) {
+        return User.builder()
+                .username(username)
+                .password("password")
+                .nickname(username)
+                .email(username + "@email.com")
+                .university(University.YOUNGNAM_UNIV)
+                .grade(3)
+                .role(UserRoleType.ROLE_USER)
+                .shortIntro("short intro")
+                .position(PositionType.BACK_END)
+                .skills(skills)
+                .build();
+    }
+}